@@ -3,10 +3,11 @@ CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
 -- ユーザーグループテーブル
 CREATE TABLE user_group (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     group_name VARCHAR(255) NOT NULL,
     month_start_day INTEGER NOT NULL DEFAULT 1 CHECK (month_start_day >= 1 AND month_start_day <= 31),
-    created_by_user_id VARCHAR(36),
+    created_by_user_id UUID,
+    member_count INTEGER NOT NULL DEFAULT 0 CHECK (member_count >= 0),
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
     version INTEGER DEFAULT 0
@@ -14,10 +15,10 @@ CREATE TABLE user_group (
 
 -- ユーザーテーブル
 CREATE TABLE "users" (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     username VARCHAR(255) UNIQUE NOT NULL,
     password_hash VARCHAR(255) NOT NULL,
-    user_group_id VARCHAR(36) REFERENCES user_group(id) ON DELETE SET NULL,
+    user_group_id UUID REFERENCES user_group(id) ON DELETE SET NULL,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
     enabled boolean,
@@ -36,22 +37,23 @@ CREATE UNIQUE INDEX ix_auth_username ON authorities (username,authority);
 
 -- グループ招待テーブル
 CREATE TABLE group_invitation (
-    id VARCHAR(36) PRIMARY KEY,
-    user_group_id VARCHAR(36) NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
-    invited_user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
-    invited_by_user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    id UUID PRIMARY KEY,
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    invited_user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    invited_by_user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'ACCEPTED', 'REJECTED')),
     invited_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     responded_at TIMESTAMP WITH TIME ZONE,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
+    version INTEGER DEFAULT 0,
     UNIQUE (user_group_id, invited_user_id)
 );
 
 -- 金融口座テーブル
 CREATE TABLE financial_account (
     id VARCHAR(8) PRIMARY KEY CHECK (id ~ '^[0-9]{6,8}$'),
-    user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
     bank_name VARCHAR(255) NOT NULL,
     account_name VARCHAR(255),
     balance INTEGER NOT NULL DEFAULT 0,
@@ -63,24 +65,24 @@ CREATE TABLE financial_account (
 
 -- 預金残高編集履歴テーブル
 CREATE TABLE balance_edit_history (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     financial_account_id VARCHAR(8) NOT NULL REFERENCES financial_account(id) ON DELETE CASCADE,
     old_balance INTEGER NOT NULL,
     new_balance INTEGER NOT NULL,
     edit_reason TEXT,
     edited_at DATE NOT NULL,
-    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
     version INTEGER DEFAULT 0
 );
 
 -- 月次予算テーブル
 CREATE TABLE monthly_budget (
-    id VARCHAR(36) PRIMARY KEY,
-    user_group_id VARCHAR(36) NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    id UUID PRIMARY KEY,
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
     year INTEGER NOT NULL,
     month INTEGER NOT NULL CHECK (month >= 1 AND month <= 12),
     budget_amount INTEGER NOT NULL,
-    set_by_user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    set_by_user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
     version INTEGER DEFAULT 0,
@@ -89,8 +91,8 @@ CREATE TABLE monthly_budget (
 
 -- 生活費分類テーブル
 CREATE TABLE living_expense_category (
-    id VARCHAR(36) PRIMARY KEY,
-    user_group_id VARCHAR(36) REFERENCES user_group(id) ON DELETE CASCADE,
+    id UUID PRIMARY KEY,
+    user_group_id UUID REFERENCES user_group(id) ON DELETE CASCADE,
     category_name VARCHAR(255) NOT NULL,
     description TEXT,
     is_default BOOLEAN NOT NULL DEFAULT FALSE,
@@ -99,58 +101,73 @@ CREATE TABLE living_expense_category (
     version INTEGER DEFAULT 0
 );
 
--- 日次グループ収支テーブル
+-- 日次グループ収支テーブル（transaction_date の年ごとにレンジパーティション化）
+-- パーティションキーを含める必要があるため、主キー・一意制約は transaction_date を含む
+-- total_living_expense はその日の生活費明細の合計で、明細の保存と同じトランザクションで更新する
 CREATE TABLE daily_group_transaction (
-    id VARCHAR(36) PRIMARY KEY,
-    user_group_id VARCHAR(36) NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    id UUID NOT NULL,
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
     transaction_date DATE NOT NULL,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
     version INTEGER DEFAULT 0,
+    total_living_expense INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
     UNIQUE (user_group_id, transaction_date)
-);
+) PARTITION BY RANGE (transaction_date);
 
--- 日次生活費テーブル
+-- 日次生活費テーブル（親の transaction_date を持ち、親と同じ年のパーティションに入る）
 CREATE TABLE daily_living_expense (
-    id VARCHAR(36) PRIMARY KEY,
-    daily_group_transaction_id VARCHAR(36) NOT NULL REFERENCES daily_group_transaction(id) ON DELETE CASCADE,
-    user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
-    living_expense_category_id VARCHAR(36) NOT NULL REFERENCES living_expense_category(id) ON DELETE CASCADE,
+    id UUID NOT NULL,
+    daily_group_transaction_id UUID NOT NULL,
+    transaction_date DATE NOT NULL,
+    user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    living_expense_category_id UUID NOT NULL REFERENCES living_expense_category(id) ON DELETE CASCADE,
     amount INTEGER NOT NULL,
     memo TEXT,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
-    version INTEGER DEFAULT 0
-);
+    version INTEGER DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
+    FOREIGN KEY (daily_group_transaction_id, transaction_date)
+        REFERENCES daily_group_transaction(id, transaction_date) ON DELETE CASCADE
+) PARTITION BY RANGE (transaction_date);
 
--- 日次個人収支テーブル
+-- 日次個人収支テーブル（transaction_date の年ごとにレンジパーティション化）
+-- total_personal_expense はその日の個人支出明細の合計で、明細の保存と同じトランザクションで更新する
 CREATE TABLE daily_personal_transaction (
-    id VARCHAR(36) PRIMARY KEY,
-    user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    id UUID NOT NULL,
+    user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
     transaction_date DATE NOT NULL,
     income INTEGER NOT NULL DEFAULT 0,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
     version INTEGER DEFAULT 0,
+    total_personal_expense INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
     UNIQUE (user_id, transaction_date)
-);
+) PARTITION BY RANGE (transaction_date);
 
--- 日次個人支出テーブル
+-- 日次個人支出テーブル（親の transaction_date を持ち、親と同じ年のパーティションに入る）
 CREATE TABLE daily_personal_expense (
-    id VARCHAR(36) PRIMARY KEY,
-    daily_personal_transaction_id VARCHAR(36) NOT NULL REFERENCES daily_personal_transaction(id) ON DELETE CASCADE,
+    id UUID NOT NULL,
+    daily_personal_transaction_id UUID NOT NULL,
+    transaction_date DATE NOT NULL,
     daily_personal_transaction_key INTEGER NOT NULL,
     amount INTEGER NOT NULL,
     memo TEXT NOT NULL,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE,
-    version INTEGER DEFAULT 0
-);
+    version INTEGER DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
+    FOREIGN KEY (daily_personal_transaction_id, transaction_date)
+        REFERENCES daily_personal_transaction(id, transaction_date) ON DELETE CASCADE
+) PARTITION BY RANGE (transaction_date);
 
 -- 固定費分類テーブル
 CREATE TABLE fixed_expense_category (
-    id VARCHAR(36) PRIMARY KEY,
-    user_group_id VARCHAR(36) NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    id UUID PRIMARY KEY,
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
     category_name VARCHAR(255) NOT NULL,
     description TEXT,
     default_amount INTEGER DEFAULT 0,
@@ -161,8 +178,8 @@ CREATE TABLE fixed_expense_category (
 
 -- 固定費履歴テーブル
 CREATE TABLE fixed_expense_history (
-    id VARCHAR(36) PRIMARY KEY,
-    fixed_expense_category_id VARCHAR(36) NOT NULL REFERENCES fixed_expense_category(id) ON DELETE CASCADE,
+    id UUID PRIMARY KEY,
+    fixed_expense_category_id UUID NOT NULL REFERENCES fixed_expense_category(id) ON DELETE CASCADE,
     year INTEGER NOT NULL,
     month INTEGER NOT NULL CHECK (month >= 1 AND month <= 12),
     amount INTEGER NOT NULL,
@@ -175,8 +192,8 @@ CREATE TABLE fixed_expense_history (
 
 -- 月次貯金テーブル
 CREATE TABLE monthly_saving (
-    id VARCHAR(36) PRIMARY KEY,
-    user_id VARCHAR(36) NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
     year INTEGER NOT NULL,
     month INTEGER NOT NULL CHECK (month >= 1 AND month <= 12),
     saving_amount INTEGER NOT NULL,
@@ -188,21 +205,86 @@ CREATE TABLE monthly_saving (
     UNIQUE (user_id, year, month)
 );
 
+-- 予算期間テーブル（月始日から求めた各期間の開始日・終了日と予算額）
+CREATE TABLE budget_period (
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL CHECK (month >= 1 AND month <= 12),
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    budget_amount INTEGER,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_group_id, year, month),
+    UNIQUE (user_group_id, start_date)
+);
+
+-- 予算期間別生活費支出台帳テーブル
+CREATE TABLE budget_spend_ledger (
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    transaction_date DATE NOT NULL,
+    daily_amount INTEGER NOT NULL DEFAULT 0,
+    cumulative_amount INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_group_id, transaction_date)
+);
+
+-- 生活費分類別の月次集計テーブル（日次生活費の記録時に差分を加算して維持する）
+CREATE TABLE living_expense_category_rollup (
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    period_month DATE NOT NULL,
+    living_expense_category_id UUID NOT NULL REFERENCES living_expense_category(id) ON DELETE CASCADE,
+    total_amount INTEGER NOT NULL DEFAULT 0,
+    expense_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_group_id, period_month, living_expense_category_id)
+);
+
+-- 口座残高の増減台帳テーブル
+CREATE TABLE account_ledger_entry (
+    source_type VARCHAR(32) NOT NULL,
+    source_id VARCHAR(80) NOT NULL,
+    financial_account_id VARCHAR(8) NOT NULL REFERENCES financial_account(id) ON DELETE CASCADE,
+    amount INTEGER NOT NULL,
+    effective_date DATE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (source_type, source_id)
+);
+
+-- 口座残高のチェックポイントテーブル（予算期間の開始日時点の残高）
+CREATE TABLE balance_checkpoint (
+    financial_account_id VARCHAR(8) NOT NULL REFERENCES financial_account(id) ON DELETE CASCADE,
+    checkpoint_date DATE NOT NULL,
+    balance INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (financial_account_id, checkpoint_date)
+);
+
 -- インデックスの作成（パフォーマンス向上のため）
 CREATE INDEX idx_user_username ON "users"(username);
 CREATE INDEX idx_user_group_id ON "users"(user_group_id);
+CREATE INDEX idx_group_invitation_invited_user_pending ON group_invitation(invited_user_id, invited_at) WHERE status = 'PENDING';
 CREATE INDEX idx_financial_account_user_id ON financial_account(user_id);
 CREATE INDEX idx_financial_account_main ON financial_account(user_id, is_main_account) WHERE is_main_account = TRUE;
+CREATE INDEX idx_balance_edit_history_account_created ON balance_edit_history(financial_account_id, created_at DESC, id DESC);
 CREATE INDEX idx_daily_group_transaction_date ON daily_group_transaction(transaction_date);
 CREATE INDEX idx_daily_group_transaction_user_group ON daily_group_transaction(user_group_id, transaction_date);
-CREATE INDEX idx_daily_living_expense_group_transaction ON daily_living_expense(daily_group_transaction_id);
+CREATE INDEX idx_daily_living_expense_group_transaction ON daily_living_expense(daily_group_transaction_id, transaction_date, user_id);
 CREATE INDEX idx_daily_living_expense_user ON daily_living_expense(user_id);
 CREATE INDEX idx_daily_personal_transaction_date ON daily_personal_transaction(transaction_date);
 CREATE INDEX idx_daily_personal_transaction_user ON daily_personal_transaction(user_id, transaction_date);
-CREATE INDEX idx_daily_personal_expense_transaction ON daily_personal_expense(daily_personal_transaction_id);
+CREATE INDEX idx_daily_personal_expense_transaction ON daily_personal_expense(daily_personal_transaction_id, transaction_date);
 CREATE INDEX idx_monthly_budget_year_month ON monthly_budget(year, month);
 CREATE INDEX idx_fixed_expense_history_year_month ON fixed_expense_history(year, month);
+CREATE UNIQUE INDEX idx_fixed_expense_history_category_year_month ON fixed_expense_history(fixed_expense_category_id, year, month);
 CREATE INDEX idx_monthly_saving_year_month ON monthly_saving(year, month);
+CREATE INDEX idx_budget_spend_ledger_period ON budget_spend_ledger(user_group_id, period_start, transaction_date);
+CREATE INDEX idx_account_ledger_entry_account ON account_ledger_entry(financial_account_id, effective_date);
 
 -- 更新日時の自動更新のためのトリガー関数
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -227,6 +309,118 @@ CREATE TRIGGER update_daily_personal_expense_updated_at BEFORE UPDATE ON daily_p
 CREATE TRIGGER update_fixed_expense_category_updated_at BEFORE UPDATE ON fixed_expense_category FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 CREATE TRIGGER update_fixed_expense_history_updated_at BEFORE UPDATE ON fixed_expense_history FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 CREATE TRIGGER update_monthly_saving_updated_at BEFORE UPDATE ON monthly_saving FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_budget_period_updated_at BEFORE UPDATE ON budget_period FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_budget_spend_ledger_updated_at BEFORE UPDATE ON budget_spend_ledger FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_living_expense_category_rollup_updated_at BEFORE UPDATE ON living_expense_category_rollup FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_account_ledger_entry_updated_at BEFORE UPDATE ON account_ledger_entry FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_balance_checkpoint_updated_at BEFORE UPDATE ON balance_checkpoint FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- 日次収支テーブルの年単位パーティションを作成する関数
+-- 指定年のパーティションが未作成のテーブルにだけ作成し、作成した数を返す。
+-- アプリケーションの定期ジョブが翌年分を前もって作成するため、書き込み先のパーティションが不足しない。
+-- 作成前にその年の行が DEFAULT パーティションに入っていた場合は、同じトランザクションで新しいパーティションへ移す。
+CREATE OR REPLACE FUNCTION create_transaction_partitions(partition_year INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    table_pair TEXT[];
+    parent_table TEXT;
+    year_start DATE := make_date(partition_year, 1, 1);
+    year_end DATE := make_date(partition_year + 1, 1, 1);
+    move_header BOOLEAN;
+    move_expense BOOLEAN;
+    moved_rows BIGINT;
+    created INTEGER := 0;
+BEGIN
+    -- 複数のインスタンスから同時に呼ばれても同じパーティションを二重に作成しない
+    PERFORM pg_advisory_xact_lock(hashtext('create_transaction_partitions'));
+    -- ヘッダと、ヘッダを外部キーで参照する明細の組ごとに、ヘッダを先に作成する
+    FOREACH table_pair SLICE 1 IN ARRAY ARRAY[
+        ['daily_group_transaction', 'daily_living_expense'],
+        ['daily_personal_transaction', 'daily_personal_expense']
+    ] LOOP
+        -- DEFAULT パーティションに同じ年の行があるとパーティションを作成できないため、作成の間だけ
+        -- 一時テーブルへ退避し、作成後に親テーブルへ戻して新しいパーティションへ入れる
+        EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_date >= %L AND transaction_date < %L)',
+            table_pair[1] || '_default',
+            year_start,
+            year_end
+        ) INTO move_header;
+        move_header := move_header AND to_regclass(table_pair[1] || '_' || partition_year) IS NULL;
+        EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_date >= %L AND transaction_date < %L)',
+            table_pair[2] || '_default',
+            year_start,
+            year_end
+        ) INTO move_expense;
+        move_expense := move_expense AND to_regclass(table_pair[2] || '_' || partition_year) IS NULL;
+        -- ヘッダを消すと ON DELETE CASCADE で明細も消えるため、ヘッダを退避するときはその年の明細も退避する
+        IF move_header OR move_expense THEN
+            EXECUTE format(
+                'CREATE TEMP TABLE moving_expense ON COMMIT DROP AS SELECT * FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[2],
+                year_start,
+                year_end
+            );
+            EXECUTE format(
+                'DELETE FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[2],
+                year_start,
+                year_end
+            );
+        END IF;
+        IF move_header THEN
+            EXECUTE format(
+                'CREATE TEMP TABLE moving_header ON COMMIT DROP AS SELECT * FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[1],
+                year_start,
+                year_end
+            );
+            EXECUTE format(
+                'DELETE FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[1],
+                year_start,
+                year_end
+            );
+        END IF;
+
+        FOREACH parent_table IN ARRAY table_pair LOOP
+            CONTINUE WHEN to_regclass(parent_table || '_' || partition_year) IS NOT NULL;
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent_table || '_' || partition_year,
+                parent_table,
+                year_start,
+                year_end
+            );
+            created := created + 1;
+        END LOOP;
+
+        IF move_header THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM moving_header', table_pair[1]);
+            GET DIAGNOSTICS moved_rows = ROW_COUNT;
+            RAISE NOTICE 'moved % rows of % from % to %', moved_rows, partition_year, table_pair[1] || '_default', table_pair[1] || '_' || partition_year;
+            DROP TABLE moving_header;
+        END IF;
+        IF move_header OR move_expense THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM moving_expense', table_pair[2]);
+            GET DIAGNOSTICS moved_rows = ROW_COUNT;
+            RAISE NOTICE 'moved % rows of % to %', moved_rows, partition_year, table_pair[2] || '_' || partition_year;
+            DROP TABLE moving_expense;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ language 'plpgsql';
+
+-- 日次収支のパーティションを 2020 年から翌年まで作成する
+-- 範囲外の日付（2019 年以前の取り込みデータなど）は DEFAULT パーティションに入る
+CREATE TABLE daily_group_transaction_default PARTITION OF daily_group_transaction DEFAULT;
+CREATE TABLE daily_living_expense_default PARTITION OF daily_living_expense DEFAULT;
+CREATE TABLE daily_personal_transaction_default PARTITION OF daily_personal_transaction DEFAULT;
+CREATE TABLE daily_personal_expense_default PARTITION OF daily_personal_expense DEFAULT;
+SELECT create_transaction_partitions(partition_year)
+FROM generate_series(2020, EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER + 1) AS partition_year;
 
 -- デフォルト生活費分類データの挿入（グローバル設定として）
 INSERT INTO living_expense_category (id, user_group_id, category_name, description, is_default) VALUES
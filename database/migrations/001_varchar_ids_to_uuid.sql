@@ -0,0 +1,52 @@
+-- ID列を VARCHAR(36) からネイティブの UUID 型へ移行する
+-- 既存のデータベースに対して一度だけ実行する（新規環境は init.sql が UUID で作成する）
+--
+-- 外部キーは型変更中に参照元と参照先の型が一致しなくなるため、
+-- 定義を退避して削除し、全列を変換した後に同じ定義で作り直す。
+-- 不正な UUID 文字列が残っている場合は USING のキャストで失敗し、全体がロールバックされる。
+
+BEGIN;
+
+-- 変換対象: public スキーマの VARCHAR(36) 列（口座番号 VARCHAR(8) や台帳の source_id は対象外）
+CREATE TEMP TABLE uuid_migration_column ON COMMIT DROP AS
+SELECT table_name, column_name
+FROM information_schema.columns
+WHERE table_schema = 'public'
+  AND data_type = 'character varying'
+  AND character_maximum_length = 36;
+
+-- 変換対象の列を含む外部キーを退避
+CREATE TEMP TABLE uuid_migration_foreign_key ON COMMIT DROP AS
+SELECT DISTINCT c.conrelid::regclass AS table_name, c.conname, pg_get_constraintdef(c.oid) AS definition
+FROM pg_constraint c
+JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+JOIN uuid_migration_column m ON m.table_name = c.conrelid::regclass::text AND m.column_name = a.attname
+WHERE c.contype = 'f';
+
+DO $$
+DECLARE
+    r RECORD;
+BEGIN
+    FOR r IN SELECT table_name, conname FROM uuid_migration_foreign_key LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', r.table_name, r.conname);
+    END LOOP;
+
+    FOR r IN SELECT table_name, column_name FROM uuid_migration_column LOOP
+        EXECUTE format(
+            'ALTER TABLE %I ALTER COLUMN %I TYPE uuid USING %I::uuid',
+            r.table_name,
+            r.column_name,
+            r.column_name
+        );
+    END LOOP;
+
+    FOR r IN SELECT table_name, conname, definition FROM uuid_migration_foreign_key LOOP
+        EXECUTE format('ALTER TABLE %s ADD CONSTRAINT %I %s', r.table_name, r.conname, r.definition);
+    END LOOP;
+END
+$$;
+
+COMMIT;
+
+-- 型変更でテーブルが書き換わるため統計情報を取り直す
+ANALYZE;
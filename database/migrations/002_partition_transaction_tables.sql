@@ -0,0 +1,190 @@
+-- 日次収支の4テーブルを transaction_date の年ごとのレンジパーティションへ移行する
+-- 既存のデータベースに対して一度だけ実行する（新規環境は init.sql がパーティション化して作成する）
+--
+-- 既存のテーブルはパーティションテーブルへ変換できないため、行を一時テーブルへ退避してから
+-- init.sql と同じ定義で作り直し、明細行には親の transaction_date を補って戻す。
+-- 他のテーブルからこれらのテーブルへの外部キーはないため、作り直しの影響は4テーブル内に収まる。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は元のテーブルのまま残る。
+
+BEGIN;
+
+CREATE TEMP TABLE migration_daily_group_transaction ON COMMIT DROP AS
+SELECT * FROM daily_group_transaction;
+
+CREATE TEMP TABLE migration_daily_living_expense ON COMMIT DROP AS
+SELECT e.*, t.transaction_date
+FROM daily_living_expense e
+JOIN daily_group_transaction t ON t.id = e.daily_group_transaction_id;
+
+CREATE TEMP TABLE migration_daily_personal_transaction ON COMMIT DROP AS
+SELECT * FROM daily_personal_transaction;
+
+CREATE TEMP TABLE migration_daily_personal_expense ON COMMIT DROP AS
+SELECT e.*, t.transaction_date
+FROM daily_personal_expense e
+JOIN daily_personal_transaction t ON t.id = e.daily_personal_transaction_id;
+
+DROP TABLE daily_living_expense, daily_group_transaction, daily_personal_expense, daily_personal_transaction;
+
+-- 日次グループ収支テーブル（transaction_date の年ごとにレンジパーティション化）
+-- パーティションキーを含める必要があるため、主キー・一意制約は transaction_date を含む
+CREATE TABLE daily_group_transaction (
+    id UUID NOT NULL,
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    transaction_date DATE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    version INTEGER DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
+    UNIQUE (user_group_id, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+-- 日次生活費テーブル（親の transaction_date を持ち、親と同じ年のパーティションに入る）
+CREATE TABLE daily_living_expense (
+    id UUID NOT NULL,
+    daily_group_transaction_id UUID NOT NULL,
+    transaction_date DATE NOT NULL,
+    user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    living_expense_category_id UUID NOT NULL REFERENCES living_expense_category(id) ON DELETE CASCADE,
+    amount INTEGER NOT NULL,
+    memo TEXT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    version INTEGER DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
+    FOREIGN KEY (daily_group_transaction_id, transaction_date)
+        REFERENCES daily_group_transaction(id, transaction_date) ON DELETE CASCADE
+) PARTITION BY RANGE (transaction_date);
+
+-- 日次個人収支テーブル（transaction_date の年ごとにレンジパーティション化）
+CREATE TABLE daily_personal_transaction (
+    id UUID NOT NULL,
+    user_id UUID NOT NULL REFERENCES "users"(id) ON DELETE CASCADE,
+    transaction_date DATE NOT NULL,
+    income INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    version INTEGER DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
+    UNIQUE (user_id, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+-- 日次個人支出テーブル（親の transaction_date を持ち、親と同じ年のパーティションに入る）
+CREATE TABLE daily_personal_expense (
+    id UUID NOT NULL,
+    daily_personal_transaction_id UUID NOT NULL,
+    transaction_date DATE NOT NULL,
+    daily_personal_transaction_key INTEGER NOT NULL,
+    amount INTEGER NOT NULL,
+    memo TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    version INTEGER DEFAULT 0,
+    PRIMARY KEY (id, transaction_date),
+    FOREIGN KEY (daily_personal_transaction_id, transaction_date)
+        REFERENCES daily_personal_transaction(id, transaction_date) ON DELETE CASCADE
+) PARTITION BY RANGE (transaction_date);
+
+CREATE INDEX idx_daily_group_transaction_date ON daily_group_transaction(transaction_date);
+CREATE INDEX idx_daily_group_transaction_user_group ON daily_group_transaction(user_group_id, transaction_date);
+CREATE INDEX idx_daily_living_expense_group_transaction ON daily_living_expense(daily_group_transaction_id, transaction_date, user_id);
+CREATE INDEX idx_daily_living_expense_user ON daily_living_expense(user_id);
+CREATE INDEX idx_daily_personal_transaction_date ON daily_personal_transaction(transaction_date);
+CREATE INDEX idx_daily_personal_transaction_user ON daily_personal_transaction(user_id, transaction_date);
+CREATE INDEX idx_daily_personal_expense_transaction ON daily_personal_expense(daily_personal_transaction_id, transaction_date);
+
+CREATE TRIGGER update_daily_group_transaction_updated_at BEFORE UPDATE ON daily_group_transaction FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_daily_living_expense_updated_at BEFORE UPDATE ON daily_living_expense FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_daily_personal_transaction_updated_at BEFORE UPDATE ON daily_personal_transaction FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_daily_personal_expense_updated_at BEFORE UPDATE ON daily_personal_expense FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- 日次収支テーブルの年単位パーティションを作成する関数（init.sql と同じ定義）
+CREATE OR REPLACE FUNCTION create_transaction_partitions(partition_year INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    parent_table TEXT;
+    partition_table TEXT;
+    has_default_rows BOOLEAN;
+    created INTEGER := 0;
+BEGIN
+    -- 複数のインスタンスから同時に呼ばれても同じパーティションを二重に作成しない
+    PERFORM pg_advisory_xact_lock(hashtext('create_transaction_partitions'));
+    -- 外部キーの参照先（ヘッダ）を先に作成する
+    FOREACH parent_table IN ARRAY ARRAY[
+        'daily_group_transaction',
+        'daily_living_expense',
+        'daily_personal_transaction',
+        'daily_personal_expense'
+    ] LOOP
+        partition_table := parent_table || '_' || partition_year;
+        CONTINUE WHEN to_regclass(partition_table) IS NOT NULL;
+        -- DEFAULT パーティションに同じ年の行があると作成に失敗するため、行を移すまでは作成しない
+        EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_date >= %L AND transaction_date < %L)',
+            parent_table || '_default',
+            make_date(partition_year, 1, 1),
+            make_date(partition_year + 1, 1, 1)
+        ) INTO has_default_rows;
+        IF has_default_rows THEN
+            RAISE WARNING '% has rows for %, skipped creating %', parent_table || '_default', partition_year, partition_table;
+            CONTINUE;
+        END IF;
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+            partition_table,
+            parent_table,
+            make_date(partition_year, 1, 1),
+            make_date(partition_year + 1, 1, 1)
+        );
+        created := created + 1;
+    END LOOP;
+    RETURN created;
+END;
+$$ language 'plpgsql';
+
+-- 既存データの年をすべて含むよう、2020 年（より古いデータがあればその年）から翌年（より新しいデータがあればその年）まで
+-- のパーティションを作成する
+CREATE TABLE daily_group_transaction_default PARTITION OF daily_group_transaction DEFAULT;
+CREATE TABLE daily_living_expense_default PARTITION OF daily_living_expense DEFAULT;
+CREATE TABLE daily_personal_transaction_default PARTITION OF daily_personal_transaction DEFAULT;
+CREATE TABLE daily_personal_expense_default PARTITION OF daily_personal_expense DEFAULT;
+SELECT create_transaction_partitions(partition_year)
+FROM generate_series(
+    LEAST(
+        2020,
+        (SELECT EXTRACT(YEAR FROM MIN(transaction_date))::INTEGER FROM migration_daily_group_transaction),
+        (SELECT EXTRACT(YEAR FROM MIN(transaction_date))::INTEGER FROM migration_daily_personal_transaction)
+    ),
+    GREATEST(
+        EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER + 1,
+        (SELECT EXTRACT(YEAR FROM MAX(transaction_date))::INTEGER FROM migration_daily_group_transaction),
+        (SELECT EXTRACT(YEAR FROM MAX(transaction_date))::INTEGER FROM migration_daily_personal_transaction)
+    )
+) AS partition_year;
+
+INSERT INTO daily_group_transaction (id, user_group_id, transaction_date, created_at, updated_at, version)
+SELECT id, user_group_id, transaction_date, created_at, updated_at, version
+FROM migration_daily_group_transaction;
+
+INSERT INTO daily_living_expense
+    (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount, memo,
+     created_at, updated_at, version)
+SELECT id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount, memo,
+    created_at, updated_at, version
+FROM migration_daily_living_expense;
+
+INSERT INTO daily_personal_transaction (id, user_id, transaction_date, income, created_at, updated_at, version)
+SELECT id, user_id, transaction_date, income, created_at, updated_at, version
+FROM migration_daily_personal_transaction;
+
+INSERT INTO daily_personal_expense
+    (id, daily_personal_transaction_id, transaction_date, daily_personal_transaction_key, amount, memo,
+     created_at, updated_at, version)
+SELECT id, daily_personal_transaction_id, transaction_date, daily_personal_transaction_key, amount, memo,
+    created_at, updated_at, version
+FROM migration_daily_personal_expense;
+
+COMMIT;
+
+-- 作り直したテーブルの統計情報を取り直す
+ANALYZE daily_group_transaction, daily_living_expense, daily_personal_transaction, daily_personal_expense;
@@ -0,0 +1,33 @@
+-- 日次グループ収支・日次個人収支のヘッダにその日の支出合計の列を追加する
+-- 既存のデータベースに対して一度だけ実行する（新規環境は init.sql が列を含めて作成する）
+--
+-- 合計はアプリケーションが明細の保存と同じトランザクションで更新する。ここでは既存の明細から一度だけ集計して埋める。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は列の追加も取り消される。
+
+BEGIN;
+
+ALTER TABLE daily_group_transaction ADD COLUMN total_living_expense INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE daily_personal_transaction ADD COLUMN total_personal_expense INTEGER NOT NULL DEFAULT 0;
+
+UPDATE daily_group_transaction t
+SET total_living_expense = e.total
+FROM (
+    SELECT daily_group_transaction_id, transaction_date, SUM(amount) AS total
+    FROM daily_living_expense
+    GROUP BY daily_group_transaction_id, transaction_date
+) e
+WHERE e.daily_group_transaction_id = t.id AND e.transaction_date = t.transaction_date;
+
+UPDATE daily_personal_transaction t
+SET total_personal_expense = e.total
+FROM (
+    SELECT daily_personal_transaction_id, transaction_date, SUM(amount) AS total
+    FROM daily_personal_expense
+    GROUP BY daily_personal_transaction_id, transaction_date
+) e
+WHERE e.daily_personal_transaction_id = t.id AND e.transaction_date = t.transaction_date;
+
+COMMIT;
+
+-- 全行を更新したテーブルの統計情報を取り直す
+ANALYZE daily_group_transaction, daily_personal_transaction;
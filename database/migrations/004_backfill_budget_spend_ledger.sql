@@ -0,0 +1,60 @@
+-- 予算期間の支出台帳（budget_spend_ledger）を既存の日次グループ収支から作り直す
+-- 既存のデータベースに対して一度だけ実行する（新規環境は記録のたびに台帳が維持される）
+--
+-- 台帳は生活費の記録時の差分でのみ維持されるため、導入前に記録された生活費は台帳に含まれず、
+-- 予算残金が実際より多く表示される。ここでは全グループの台帳を消して、日次グループ収支の生活費合計から
+-- BudgetSpendLedgerRepository#rebuild と同じ規則で作り直す。
+-- 003_store_daily_expense_totals.sql の実行後に実行すること。
+
+BEGIN;
+
+-- 台帳の導入前のデータベースにはテーブルがないため、init.sql と同じ定義で作成する
+CREATE TABLE IF NOT EXISTS budget_spend_ledger (
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    transaction_date DATE NOT NULL,
+    daily_amount INTEGER NOT NULL DEFAULT 0,
+    cumulative_amount INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_group_id, transaction_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_budget_spend_ledger_period ON budget_spend_ledger(user_group_id, period_start, transaction_date);
+CREATE OR REPLACE TRIGGER update_budget_spend_ledger_updated_at BEFORE UPDATE ON budget_spend_ledger FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- 作り直しの間にアプリケーションからの差分の加算が混ざらないようにする
+LOCK TABLE budget_spend_ledger IN EXCLUSIVE MODE;
+
+DELETE FROM budget_spend_ledger;
+
+INSERT INTO budget_spend_ledger (user_group_id, period_start, transaction_date, daily_amount, cumulative_amount)
+SELECT user_group_id, period_start, transaction_date, daily_amount,
+    SUM(daily_amount) OVER (PARTITION BY user_group_id, period_start ORDER BY transaction_date)
+FROM (
+    SELECT t.user_group_id, t.transaction_date, t.total_living_expense AS daily_amount,
+        CASE
+            WHEN t.transaction_date >= s.current_start THEN s.current_start
+            ELSE s.previous_start
+        END AS period_start
+    FROM daily_group_transaction t
+    JOIN user_group g ON g.id = t.user_group_id
+    CROSS JOIN LATERAL (
+        SELECT
+            date_trunc('month', t.transaction_date::timestamp)::date
+                + LEAST(
+                    g.month_start_day,
+                    EXTRACT(DAY FROM date_trunc('month', t.transaction_date::timestamp) + INTERVAL '1 month - 1 day')::int
+                ) - 1 AS current_start,
+            (date_trunc('month', t.transaction_date::timestamp) - INTERVAL '1 month')::date
+                + LEAST(
+                    g.month_start_day,
+                    EXTRACT(DAY FROM date_trunc('month', t.transaction_date::timestamp) - INTERVAL '1 day')::int
+                ) - 1 AS previous_start
+    ) s
+    WHERE t.total_living_expense > 0
+) daily;
+
+COMMIT;
+
+ANALYZE budget_spend_ledger;
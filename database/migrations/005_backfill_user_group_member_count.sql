@@ -0,0 +1,19 @@
+-- グループの所属人数の列（user_group.member_count）を追加し、既存のグループの値を users テーブルから埋める
+-- 既存のデータベースに対して一度だけ実行する（新規環境は init.sql が列を含めて作成し、参加・脱退のたびに維持される）
+--
+-- 列の既定値は 0 のため、埋めるまでは既存のグループの所属人数が 0 と読まれる。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は列の追加も取り消される。
+
+BEGIN;
+
+-- 参加・脱退処理中のトランザクションが確定してから集計し、集計中の加減算が混ざらないようにする
+LOCK TABLE user_group IN SHARE ROW EXCLUSIVE MODE;
+
+ALTER TABLE user_group ADD COLUMN IF NOT EXISTS member_count INTEGER NOT NULL DEFAULT 0 CHECK (member_count >= 0);
+
+UPDATE user_group g
+SET member_count = (SELECT COUNT(*) FROM users u WHERE u.user_group_id = g.id);
+
+COMMIT;
+
+ANALYZE user_group;
@@ -0,0 +1,130 @@
+-- 口座残高の増減台帳（account_ledger_entry）を既存の口座・収支から作る
+-- 既存のデータベースに対して一度だけ実行する（新規環境は記録のたびに台帳が維持される）
+--
+-- 台帳は記録・更新・削除のたびに前回との差分だけを口座残高へ加算するため、導入前の収支・貯金・固定費に
+-- 台帳行がないと、それらを初めて編集したときに金額の全額が残高へ計上される。また導入前の口座は
+-- 口座登録時の残高の行を持たず、残高と台帳行の合計が一致しない。
+-- ここでは発生元ごとの台帳行を、アプリケーションと同じ規則で所有者の現在のメイン口座に作り、
+-- 最後に口座ごとの現在の残高との差を口座登録時の残高（OPENING_BALANCE）の行で埋める。
+-- 口座残高は変えずに「残高 = 口座の台帳行の合計」が成り立つようにし、チェックポイントも台帳から計算し直す。
+--
+-- 日次グループ収支の生活費と固定費は、アプリケーションと同じくグループの現在のメンバーで割った負担分を
+-- 記録・設定したメンバーに限らず各メンバーのメイン口座に計上する。
+-- 003_store_daily_expense_totals.sql の実行後に実行すること。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は元のまま残る。
+
+BEGIN;
+
+-- 台帳の導入前のデータベースにはテーブルがないため、init.sql と同じ定義で作成する
+CREATE TABLE IF NOT EXISTS account_ledger_entry (
+    source_type VARCHAR(32) NOT NULL,
+    source_id VARCHAR(80) NOT NULL,
+    financial_account_id VARCHAR(8) NOT NULL REFERENCES financial_account(id) ON DELETE CASCADE,
+    amount INTEGER NOT NULL,
+    effective_date DATE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (source_type, source_id)
+);
+
+CREATE TABLE IF NOT EXISTS balance_checkpoint (
+    financial_account_id VARCHAR(8) NOT NULL REFERENCES financial_account(id) ON DELETE CASCADE,
+    checkpoint_date DATE NOT NULL,
+    balance INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (financial_account_id, checkpoint_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_ledger_entry_account ON account_ledger_entry(financial_account_id, effective_date);
+CREATE OR REPLACE TRIGGER update_account_ledger_entry_updated_at BEFORE UPDATE ON account_ledger_entry FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE OR REPLACE TRIGGER update_balance_checkpoint_updated_at BEFORE UPDATE ON balance_checkpoint FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- 作成の間にアプリケーションからの計上が混ざらないようにする
+LOCK TABLE financial_account, account_ledger_entry, balance_checkpoint IN SHARE ROW EXCLUSIVE MODE;
+
+-- 日次個人収支（収入 - 個人支出）
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'DAILY_PERSONAL_TRANSACTION', t.id::text, a.id, t.income - t.total_personal_expense, t.transaction_date
+FROM daily_personal_transaction t
+JOIN financial_account a ON a.user_id = t.user_id AND a.is_main_account
+WHERE t.income - t.total_personal_expense <> 0
+ON CONFLICT (source_type, source_id) DO NOTHING;
+
+-- 日次グループ収支の生活費のうち、メンバーごとの負担分（生活費合計 ÷ グループ人数、端数切り上げ）
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'DAILY_LIVING_EXPENSE', h.id || ':' || u.id, a.id,
+    -((h.total_living_expense + c.n - 1) / c.n)::integer, h.transaction_date
+FROM daily_group_transaction h
+JOIN users u ON u.user_group_id = h.user_group_id
+JOIN financial_account a ON a.user_id = u.id AND a.is_main_account
+CROSS JOIN LATERAL (SELECT COUNT(*) AS n FROM users m WHERE m.user_group_id = h.user_group_id) c
+WHERE h.total_living_expense > 0
+ON CONFLICT (source_type, source_id) DO NOTHING;
+
+-- 月の貯金額（その月の1日に計上）。メイン口座から出金し、貯金先の口座へ入金する。
+-- 貯金先がメイン口座の場合は残高が変わらないため、どちらも作らない
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'MONTHLY_SAVING', s.id::text, a.id, -s.saving_amount, make_date(s.year, s.month, 1)
+FROM monthly_saving s
+JOIN financial_account a ON a.user_id = s.user_id AND a.is_main_account
+WHERE s.saving_amount <> 0 AND s.financial_account_id <> a.id
+ON CONFLICT (source_type, source_id) DO NOTHING;
+
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'MONTHLY_SAVING_DEPOSIT', s.id::text, s.financial_account_id, s.saving_amount, make_date(s.year, s.month, 1)
+FROM monthly_saving s
+JOIN financial_account a ON a.user_id = s.user_id AND a.is_main_account
+WHERE s.saving_amount <> 0 AND s.financial_account_id <> a.id
+ON CONFLICT (source_type, source_id) DO NOTHING;
+
+-- 月の固定費のうち、メンバーごとの負担分（金額 ÷ グループ人数、端数切り上げ）
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'FIXED_EXPENSE', h.id || ':' || u.id, a.id,
+    -((h.amount + n.n - 1) / n.n)::integer, COALESCE(h.effective_date, make_date(h.year, h.month, 1))
+FROM fixed_expense_history h
+JOIN fixed_expense_category c ON c.id = h.fixed_expense_category_id
+JOIN users u ON u.user_group_id = c.user_group_id
+JOIN financial_account a ON a.user_id = u.id AND a.is_main_account
+CROSS JOIN LATERAL (SELECT COUNT(*) AS n FROM users m WHERE m.user_group_id = c.user_group_id) n
+WHERE h.amount <> 0
+ON CONFLICT (source_type, source_id) DO NOTHING;
+
+-- 残高の手動編集
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'BALANCE_EDIT', h.id::text, h.financial_account_id, h.new_balance - h.old_balance, h.edited_at
+FROM balance_edit_history h
+WHERE h.new_balance <> h.old_balance
+ON CONFLICT (source_type, source_id) DO NOTHING;
+
+-- 現在の残高と台帳行の合計の差を口座登録時の残高の行で埋める。計上日は口座の最も古い台帳行以前とする
+INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+SELECT 'OPENING_BALANCE', a.id, a.id, a.balance - COALESCE(l.total, 0),
+    LEAST(COALESCE(a.created_at::date, CURRENT_DATE), COALESCE(l.earliest, CURRENT_DATE))
+FROM financial_account a
+LEFT JOIN (
+    SELECT financial_account_id, SUM(amount) AS total, MIN(effective_date) AS earliest
+    FROM account_ledger_entry
+    GROUP BY financial_account_id
+) l ON l.financial_account_id = a.id
+WHERE a.balance <> COALESCE(l.total, 0)
+ON CONFLICT (source_type, source_id) DO UPDATE
+SET amount = account_ledger_entry.amount + EXCLUDED.amount,
+    effective_date = LEAST(account_ledger_entry.effective_date, EXCLUDED.effective_date);
+
+-- 差の行を足した結果 0 になった口座登録時の残高の行は、アプリケーションと同じく持たない
+DELETE FROM account_ledger_entry WHERE source_type = 'OPENING_BALANCE' AND amount = 0;
+
+-- チェックポイント = 計上日がチェックポイントの日付より前の台帳行の合計
+UPDATE balance_checkpoint c
+SET balance = COALESCE(
+    (
+        SELECT SUM(l.amount) FROM account_ledger_entry l
+        WHERE l.financial_account_id = c.financial_account_id AND l.effective_date < c.checkpoint_date
+    ),
+    0
+);
+
+COMMIT;
+
+ANALYZE account_ledger_entry, balance_checkpoint;
@@ -0,0 +1,41 @@
+-- 生活費分類別の月次集計（living_expense_category_rollup）を既存の日次生活費から作り直す
+-- 既存のデータベースに対して一度だけ実行する（新規環境は記録のたびに集計が維持される）
+--
+-- 集計は生活費の記録時の差分でのみ維持されるため、導入前に記録された生活費は集計に含まれず、
+-- 分類別の内訳で過去の月が 0 と表示される。ここでは全グループの集計を消して、日次生活費から
+-- (グループ, 月, 生活費分類) ごとの合計と明細件数を作り直す。
+-- 明細行の transaction_date を使うため、002_partition_transaction_tables.sql の実行後に実行すること。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は元のまま残る。
+
+BEGIN;
+
+-- 集計の導入前のデータベースにはテーブルがないため、init.sql と同じ定義で作成する
+CREATE TABLE IF NOT EXISTS living_expense_category_rollup (
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    period_month DATE NOT NULL,
+    living_expense_category_id UUID NOT NULL REFERENCES living_expense_category(id) ON DELETE CASCADE,
+    total_amount INTEGER NOT NULL DEFAULT 0,
+    expense_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_group_id, period_month, living_expense_category_id)
+);
+
+CREATE OR REPLACE TRIGGER update_living_expense_category_rollup_updated_at BEFORE UPDATE ON living_expense_category_rollup FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- 作り直しの間にアプリケーションからの差分の加算が混ざらないようにする
+LOCK TABLE living_expense_category_rollup IN EXCLUSIVE MODE;
+
+DELETE FROM living_expense_category_rollup;
+
+INSERT INTO living_expense_category_rollup
+    (user_group_id, period_month, living_expense_category_id, total_amount, expense_count)
+SELECT t.user_group_id, date_trunc('month', e.transaction_date::timestamp)::date, e.living_expense_category_id,
+    SUM(e.amount), COUNT(*)
+FROM daily_living_expense e
+JOIN daily_group_transaction t ON t.id = e.daily_group_transaction_id AND t.transaction_date = e.transaction_date
+GROUP BY t.user_group_id, date_trunc('month', e.transaction_date::timestamp)::date, e.living_expense_category_id;
+
+COMMIT;
+
+ANALYZE living_expense_category_rollup;
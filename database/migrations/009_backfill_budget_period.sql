@@ -0,0 +1,69 @@
+-- 予算期間（budget_period）を作成し、既存のグループの期間を生成する
+-- 既存のデータベースに対して一度だけ実行する（新規環境はグループの作成時に期間が生成される）
+--
+-- 日付から予算期間と予算額を求める処理は budget_period だけを参照するため、導入前からあるグループは
+-- 期間が1件もなく、予算残金や支出台帳の期間を求められない。ここではグループごとに
+-- BudgetPeriodRepository#regenerate と同じ規則で、記録済みの日次グループ収支・月次予算のうち最も古い日
+-- （それらがなければ今日）を含む期間から、今日の12か月後を含む期間までを月始日に合わせて生成する。
+-- 予算額は同じ年月の月次予算から写す。生成済みの期間はそのまま残す。
+-- 001_varchar_ids_to_uuid.sql の実行後に実行すること。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は元のまま残る。
+
+BEGIN;
+
+-- 予算期間の導入前のデータベースにはテーブルがないため、init.sql と同じ定義で作成する
+CREATE TABLE IF NOT EXISTS budget_period (
+    user_group_id UUID NOT NULL REFERENCES user_group(id) ON DELETE CASCADE,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL CHECK (month >= 1 AND month <= 12),
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    budget_amount INTEGER,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_group_id, year, month),
+    UNIQUE (user_group_id, start_date)
+);
+
+CREATE OR REPLACE TRIGGER update_budget_period_updated_at BEFORE UPDATE ON budget_period FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- 生成の間にアプリケーションからの月始日の変更による作り直しが混ざらないようにする
+LOCK TABLE user_group, budget_period IN SHARE ROW EXCLUSIVE MODE;
+
+INSERT INTO budget_period (user_group_id, year, month, start_date, end_date, budget_amount)
+SELECT g.id, EXTRACT(YEAR FROM m.month_start)::int, EXTRACT(MONTH FROM m.month_start)::int,
+    p.start_date, p.end_date, b.budget_amount
+FROM user_group g
+CROSS JOIN LATERAL (
+    SELECT LEAST(
+        CURRENT_DATE,
+        (SELECT MIN(t.transaction_date) FROM daily_group_transaction t WHERE t.user_group_id = g.id),
+        (SELECT MIN(make_date(mb.year, mb.month, 1)) FROM monthly_budget mb WHERE mb.user_group_id = g.id)
+    ) AS earliest
+) e
+-- 最も古い日の前月から始め、その日を含む期間（月始日より前の日は前月の期間に入る）を漏らさない
+CROSS JOIN LATERAL generate_series(
+    date_trunc('month', e.earliest::timestamp) - INTERVAL '1 month',
+    date_trunc('month', (CURRENT_DATE + INTERVAL '12 months')::timestamp),
+    INTERVAL '1 month'
+) AS m(month_start)
+-- 月始日が月の日数を超える場合は月末日に丸める（BudgetPeriod#of と同じ）
+CROSS JOIN LATERAL (
+    SELECT
+        m.month_start::date
+            + LEAST(g.month_start_day, EXTRACT(DAY FROM m.month_start + INTERVAL '1 month - 1 day')::int)
+            - 1 AS start_date,
+        (m.month_start + INTERVAL '1 month')::date
+            + LEAST(g.month_start_day, EXTRACT(DAY FROM m.month_start + INTERVAL '2 months - 1 day')::int)
+            - 2 AS end_date
+) p
+LEFT JOIN monthly_budget b
+    ON b.user_group_id = g.id
+    AND b.year = EXTRACT(YEAR FROM m.month_start)::int
+    AND b.month = EXTRACT(MONTH FROM m.month_start)::int
+WHERE p.end_date >= e.earliest AND p.start_date <= (CURRENT_DATE + INTERVAL '12 months')::date
+ON CONFLICT DO NOTHING;
+
+COMMIT;
+
+ANALYZE budget_period;
@@ -0,0 +1,69 @@
+-- 固定費の履歴（fixed_expense_history）の重複を除き、分類・年月の一意索引を作成する
+-- 既存のデータベースに対して一度だけ実行する（新規環境は init.sql で一意索引が作成される）
+--
+-- 固定費の金額の設定は (分類, 年, 月) の一意索引を衝突対象とした upsert で行うため、索引がないと失敗する。
+-- 一意索引の導入前は読み込んでから挿入していたため、同時に設定すると同じ年月の履歴が複数できている場合がある。
+-- ここでは (分類, 年, 月) ごとに最後に更新した履歴だけを残し、それ以外を削除してから索引を作成する。
+-- 削除する履歴の負担分の台帳行も取り消し、口座残高とチェックポイントから同じ額を差し引く。
+-- 006_seed_account_ledger.sql の実行後に実行すること。
+-- 全体を1トランザクションで行うため、途中で失敗した場合は元のまま残る。
+
+BEGIN;
+
+-- 重複の削除から索引の作成までの間にアプリケーションからの設定・計上が混ざらないようにする
+LOCK TABLE fixed_expense_history, account_ledger_entry, financial_account, balance_checkpoint
+    IN SHARE ROW EXCLUSIVE MODE;
+
+CREATE TEMPORARY TABLE duplicate_fixed_expense_history ON COMMIT DROP AS
+SELECT id
+FROM (
+    SELECT id,
+        ROW_NUMBER() OVER (
+            PARTITION BY fixed_expense_category_id, year, month
+            ORDER BY COALESCE(updated_at, created_at) DESC NULLS LAST, version DESC NULLS LAST, id
+        ) AS rn
+    FROM fixed_expense_history
+) ranked
+WHERE rn > 1;
+
+-- 削除する履歴の負担分（発生元は「履歴ID:ユーザーID」）
+CREATE TEMPORARY TABLE removed_fixed_expense_entry ON COMMIT DROP AS
+SELECT l.source_id, l.financial_account_id, l.amount, l.effective_date
+FROM account_ledger_entry l
+JOIN duplicate_fixed_expense_history d ON split_part(l.source_id, ':', 1) = d.id::text
+WHERE l.source_type = 'FIXED_EXPENSE';
+
+DELETE FROM account_ledger_entry l
+USING removed_fixed_expense_entry r
+WHERE l.source_type = 'FIXED_EXPENSE' AND l.source_id = r.source_id;
+
+UPDATE financial_account a
+SET balance = a.balance - r.amount, version = a.version + 1
+FROM (
+    SELECT financial_account_id, SUM(amount) AS amount FROM removed_fixed_expense_entry
+    GROUP BY financial_account_id
+) r
+WHERE a.id = r.financial_account_id;
+
+-- チェックポイント = 計上日がチェックポイントの日付より前の台帳行の合計
+UPDATE balance_checkpoint c
+SET balance = c.balance - r.amount
+FROM (
+    SELECT p.financial_account_id, p.checkpoint_date, SUM(e.amount) AS amount
+    FROM balance_checkpoint p
+    JOIN removed_fixed_expense_entry e
+        ON e.financial_account_id = p.financial_account_id AND e.effective_date < p.checkpoint_date
+    GROUP BY p.financial_account_id, p.checkpoint_date
+) r
+WHERE c.financial_account_id = r.financial_account_id AND c.checkpoint_date = r.checkpoint_date;
+
+DELETE FROM fixed_expense_history h
+USING duplicate_fixed_expense_history d
+WHERE h.id = d.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_fixed_expense_history_category_year_month
+    ON fixed_expense_history(fixed_expense_category_id, year, month);
+
+COMMIT;
+
+ANALYZE fixed_expense_history, account_ledger_entry;
@@ -0,0 +1,16 @@
+package com.takata_kento.household_expenses.application.account;
+
+import com.takata_kento.household_expenses.domain.account.AccountBalanceDrift;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerEntryDrift;
+import java.util.List;
+
+/**
+ * 口座残高の台帳検証の結果。
+ *
+ * @param entryDrifts 再計算値とずれていた台帳行（検証時に修復済み）
+ * @param balanceDrifts 残高が台帳の合計と一致しない口座（修復していない）
+ */
+public record AccountLedgerCheckResult(
+    List<AccountLedgerEntryDrift> entryDrifts,
+    List<AccountBalanceDrift> balanceDrifts
+) {}
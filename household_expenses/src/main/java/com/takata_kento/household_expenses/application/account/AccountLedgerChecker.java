@@ -0,0 +1,72 @@
+package com.takata_kento.household_expenses.application.account;
+
+import com.takata_kento.household_expenses.domain.account.AccountBalanceDrift;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerEntryDrift;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 口座残高の増減台帳を発生元のデータから再計算し、差分計算で維持している状態と突き合わせる。
+ *
+ * <p>台帳行の増減額が再計算値とずれていれば再計算値で計上し直す（残高にも差分が反映される）。
+ * その後も残高が台帳の合計と一致しない口座は、どちらが正しいかを判断できないため修復せずに報告のみ行う。
+ * 検出したずれはログと件数メトリクスに残す。
+ */
+@Component
+public class AccountLedgerChecker {
+
+    static final String ENTRY_DRIFT_METRIC = "household.account_ledger.entry.drift";
+    static final String BALANCE_DRIFT_METRIC = "household.account_ledger.balance.drift";
+
+    private static final Logger log = LoggerFactory.getLogger(AccountLedgerChecker.class);
+
+    private final AccountLedgerRepository accountLedgerRepository;
+    private final MeterRegistry meterRegistry;
+
+    public AccountLedgerChecker(AccountLedgerRepository accountLedgerRepository, MeterRegistry meterRegistry) {
+        this.accountLedgerRepository = accountLedgerRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${app.account-ledger-check.cron:0 30 4 * * *}")
+    @Transactional
+    public AccountLedgerCheckResult checkAndRepair() {
+        List<AccountLedgerEntryDrift> entryDrifts = accountLedgerRepository.findEntryDrifts();
+        for (AccountLedgerEntryDrift drift : entryDrifts) {
+            log.warn(
+                "account ledger entry drift detected: sourceType={}, sourceId={}, financialAccountId={}, stored={}, expected={}",
+                drift.sourceType(),
+                drift.sourceId(),
+                drift.financialAccountId(),
+                drift.storedAmount(),
+                drift.expectedAmount()
+            );
+            accountLedgerRepository.post(
+                drift.sourceType(),
+                drift.sourceId(),
+                drift.financialAccountId(),
+                drift.expectedAmount(),
+                drift.effectiveDate()
+            );
+        }
+        meterRegistry.counter(ENTRY_DRIFT_METRIC).increment(entryDrifts.size());
+
+        List<AccountBalanceDrift> balanceDrifts = accountLedgerRepository.findBalanceDrifts();
+        for (AccountBalanceDrift drift : balanceDrifts) {
+            log.warn(
+                "account balance drift detected: financialAccountId={}, stored={}, ledger={}",
+                drift.financialAccountId(),
+                drift.storedBalance(),
+                drift.ledgerBalance()
+            );
+        }
+        meterRegistry.counter(BALANCE_DRIFT_METRIC).increment(balanceDrifts.size());
+        return new AccountLedgerCheckResult(entryDrifts, balanceDrifts);
+    }
+}
@@ -3,16 +3,28 @@ package com.takata_kento.household_expenses.application.account;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerRepository;
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpoint;
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpointRepository;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistory;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryCursor;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryInfo;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryRepository;
 import com.takata_kento.household_expenses.domain.account.FinancialAccount;
 import com.takata_kento.household_expenses.domain.account.FinancialAccountRepository;
+import com.takata_kento.household_expenses.domain.account.LedgerPosting;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseHistoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
@@ -22,10 +34,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AccountService {
 
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+    static final int MAX_TIMELINE_POINTS = 1000;
+
     private final FinancialAccountRepository financialAccountRepository;
+    private final BalanceEditHistoryRepository balanceEditHistoryRepository;
+    private final AccountLedgerRepository accountLedgerRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
 
-    public AccountService(FinancialAccountRepository financialAccountRepository) {
+    public AccountService(
+        FinancialAccountRepository financialAccountRepository,
+        BalanceEditHistoryRepository balanceEditHistoryRepository,
+        AccountLedgerRepository accountLedgerRepository,
+        BalanceCheckpointRepository balanceCheckpointRepository
+    ) {
         this.financialAccountRepository = financialAccountRepository;
+        this.balanceEditHistoryRepository = balanceEditHistoryRepository;
+        this.accountLedgerRepository = accountLedgerRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
     }
 
     public FinancialAccount createAccount(
@@ -58,12 +84,19 @@ public class AccountService {
             currentUserId,
             bankName,
             accountName,
-            initialBalance,
+            new Balance(initialBalance.amount()),
             isMainAccount,
-            new HashSet<>(),
             null
         );
-        return financialAccountRepository.save(account);
+        FinancialAccount savedAccount = financialAccountRepository.save(account);
+        accountLedgerRepository.recordApplied(
+            LedgerSourceType.OPENING_BALANCE,
+            id.toString(),
+            id,
+            initialBalance.amount(),
+            LocalDate.now()
+        );
+        return savedAccount;
     }
 
     public FinancialAccount updateAccountName(UserId currentUserId, FinancialAccountId id, AccountName accountName) {
@@ -74,8 +107,8 @@ public class AccountService {
 
     public FinancialAccount updateBalance(UserId currentUserId, FinancialAccountId id, Money newBalance) {
         FinancialAccount account = findOwnedAccount(id, currentUserId);
-        account.updateBalance(newBalance, LocalDate.now());
-        return financialAccountRepository.save(account);
+        BalanceEditHistory history = account.updateBalance(newBalance, LocalDate.now());
+        return saveBalanceEdit(account, history);
     }
 
     public FinancialAccount updateBalance(
@@ -85,11 +118,177 @@ public class AccountService {
         Description reason
     ) {
         FinancialAccount account = findOwnedAccount(id, currentUserId);
-        account.updateBalance(newBalance, reason, LocalDate.now());
-        return financialAccountRepository.save(account);
+        BalanceEditHistory history = account.updateBalance(newBalance, reason, LocalDate.now());
+        return saveBalanceEdit(account, history);
+    }
+
+    private FinancialAccount saveBalanceEdit(FinancialAccount account, BalanceEditHistory history) {
+        FinancialAccount savedAccount = financialAccountRepository.save(account);
+        balanceEditHistoryRepository.save(history);
+        accountLedgerRepository.recordApplied(
+            LedgerSourceType.BALANCE_EDIT,
+            history.id().toString(),
+            account.id(),
+            history.newBalance().amount() - history.oldBalance().amount(),
+            history.editedAt()
+        );
+        return savedAccount;
+    }
+
+    /**
+     * 発生元の増減額を userId のメイン口座の残高へ反映する（預金残高を計算する機能）。
+     *
+     * <p>同じ発生元を以前に反映していれば、その差分だけを残高に加算する。メイン口座が登録されていない場合は
+     * 以前の反映分を取り消すのみとする。収支・貯金・固定費の記録と同一トランザクション内で呼び出すこと。
+     *
+     * @param amount 残高に対する増減額（収入は正、支出は負）
+     * @param effectiveDate 増減が残高に反映される日。日付指定の残高照会で使用する
+     */
+    public void postToMainAccount(
+        UserId userId,
+        LedgerSourceType sourceType,
+        String sourceId,
+        int amount,
+        LocalDate effectiveDate
+    ) {
+        financialAccountRepository
+            .findMainAccountByUserId(userId)
+            .ifPresentOrElse(
+                mainAccount ->
+                    accountLedgerRepository.post(sourceType, sourceId, mainAccount.id(), amount, effectiveDate),
+                () -> accountLedgerRepository.cancel(sourceType, sourceId)
+            );
+    }
+
+    /**
+     * userId のメイン口座から toAccountId へ amount を移す増減を残高へ反映する（貯金など）。
+     * メイン口座の出金は sourceType、移動先の入金は depositSourceType の台帳行として同じ sourceId で記録する。
+     *
+     * <p>移動先がメイン口座の場合は残高が変わらないため、メイン口座が登録されていない場合は移動元がないため、
+     * どちらも以前の反映分を取り消すのみとする。2つの口座は ID の順にロックしてから計上する。
+     */
+    public void postTransferFromMainAccount(
+        UserId userId,
+        LedgerSourceType sourceType,
+        LedgerSourceType depositSourceType,
+        String sourceId,
+        FinancialAccountId toAccountId,
+        int amount,
+        LocalDate effectiveDate
+    ) {
+        Optional<FinancialAccount> mainAccount = financialAccountRepository
+            .findMainAccountByUserId(userId)
+            .filter(account -> !account.id().equals(toAccountId));
+        if (mainAccount.isEmpty()) {
+            accountLedgerRepository.cancel(sourceType, sourceId);
+            accountLedgerRepository.cancel(depositSourceType, sourceId);
+            return;
+        }
+        FinancialAccountId fromAccountId = mainAccount.get().id();
+        accountLedgerRepository.lockAccounts(List.of(fromAccountId, toAccountId));
+        accountLedgerRepository.post(sourceType, sourceId, fromAccountId, -amount, effectiveDate);
+        accountLedgerRepository.post(depositSourceType, sourceId, toAccountId, amount, effectiveDate);
+    }
+
+    /**
+     * 台帳に未記録の発生元の増減をまとめて userId のメイン口座の残高へ反映する。
+     * メイン口座が登録されていない場合は何もしない。収支の一括取り込みと同一トランザクション内で呼び出すこと。
+     */
+    public void postNewToMainAccount(UserId userId, List<LedgerPosting> postings) {
+        financialAccountRepository
+            .findMainAccountByUserId(userId)
+            .ifPresent(mainAccount -> accountLedgerRepository.postNew(mainAccount.id(), postings));
+    }
+
+    /**
+     * グループの from〜to の生活費を、1人分の負担額（生活費合計 ÷ グループ人数、端数切り上げ）として
+     * 各メンバーのメイン口座の残高へ反映し直す。収支の記録と同一トランザクション内で、個人収支の反映より前に
+     * 呼び出すこと（口座のロック順をそろえるため）。
+     */
+    public void postLivingExpenseShares(UserGroupId userGroupId, LocalDate from, LocalDate to) {
+        accountLedgerRepository.postLivingExpenseShares(userGroupId, from, to);
+    }
+
+    /**
+     * 日次グループ収支の削除に合わせて、メンバーの負担分の反映を取り消す。
+     */
+    public void cancelLivingExpenseShares(UserGroupId userGroupId, DailyGroupTransactionId groupTransactionId) {
+        accountLedgerRepository.cancelLivingExpenseShares(userGroupId, groupTransactionId);
+    }
+
+    /**
+     * 固定費の履歴の金額を、1人分の負担額（金額 ÷ グループ人数、端数切り上げ）として各メンバーの
+     * メイン口座の残高へ反映し直す。固定費の記録と同一トランザクション内で呼び出すこと。
+     */
+    public void postFixedExpenseShares(UserGroupId userGroupId, FixedExpenseHistoryId historyId) {
+        accountLedgerRepository.postFixedExpenseShares(userGroupId, historyId);
     }
 
-    public Money calculateNewBalance(
+    /**
+     * グループへの参加・脱退に合わせて、生活費と固定費のメンバーの負担分を現在の人数で割り直して反映し直す。
+     * departedUserId にはグループを抜けたユーザーを渡す。
+     */
+    public void reallocateGroupShares(UserGroupId userGroupId, Optional<UserId> departedUserId) {
+        accountLedgerRepository.reallocateGroupShares(userGroupId, departedUserId);
+    }
+
+    /**
+     * 発生元の削除に合わせて、残高へ反映していた増減額を取り消す。
+     */
+    public void cancelLedgerEntry(LedgerSourceType sourceType, String sourceId) {
+        accountLedgerRepository.cancel(sourceType, sourceId);
+    }
+
+    /**
+     * asOf の終了時点の口座残高を返す。
+     *
+     * <p>asOf 以前で最も新しいチェックポイントに、その日付から asOf までに計上された増減だけを加算して求める。
+     * チェックポイントは予算期間ごとに記録されるため、集計する増減はおおむね1期間分で済む。
+     * チェックポイントがない場合は asOf までのすべての増減を合計する。過去の日付の収支を後から記録した場合、
+     * 当時の残高は負になりうる。
+     */
+    public int getBalanceAsOf(UserId currentUserId, FinancialAccountId id, LocalDate asOf) {
+        findOwnedAccount(id, currentUserId);
+        return balanceAsOf(id, asOf);
+    }
+
+    /**
+     * from から to までの日ごとの残高推移を、最大 points 点に間引いて返す。
+     *
+     * <p>from 時点の残高をチェックポイントから求めたうえで、それ以降の増減を日ごとに集計した行を1度だけ読み進めて
+     * 間引く。残高編集・収支・貯金・固定費の増減はすべて口座の台帳に計上されているため、台帳だけから求められる。
+     */
+    public List<BalancePoint> getBalanceTimeline(
+        UserId currentUserId,
+        FinancialAccountId id,
+        LocalDate from,
+        LocalDate to,
+        int points
+    ) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (points < 3 || points > MAX_TIMELINE_POINTS) {
+            throw new IllegalArgumentException("points must be between 3 and " + MAX_TIMELINE_POINTS);
+        }
+        findOwnedAccount(id, currentUserId);
+        BalanceTimelineSampler sampler = new BalanceTimelineSampler(from, to, points, balanceAsOf(id, from));
+        accountLedgerRepository.forEachDailyAmount(id, from, to, sampler::accept);
+        return sampler.finish();
+    }
+
+    private int balanceAsOf(FinancialAccountId id, LocalDate asOf) {
+        Optional<BalanceCheckpoint> checkpoint = balanceCheckpointRepository.findLatestOnOrBefore(id, asOf);
+        if (checkpoint.isEmpty()) {
+            return accountLedgerRepository.sumAmountsUntil(id, asOf);
+        }
+        return (
+            checkpoint.get().balance() +
+            accountLedgerRepository.sumAmountsBetween(id, checkpoint.get().checkpointDate(), asOf)
+        );
+    }
+
+    public Balance calculateNewBalance(
         UserId currentUserId,
         FinancialAccountId id,
         Money income,
@@ -105,6 +304,38 @@ public class AccountService {
         return financialAccountRepository.findByUserId(currentUserId);
     }
 
+    /**
+     * 残高編集履歴を新しい順に最大 limit 件返す。cursor を指定した場合はその位置より古い履歴から返す。
+     */
+    public BalanceEditHistoryPage getEditHistory(
+        UserId currentUserId,
+        FinancialAccountId id,
+        Optional<BalanceEditHistoryCursor> cursor,
+        int limit
+    ) {
+        if (limit < 1 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        findOwnedAccount(id, currentUserId);
+        // 1件多く読み、次のページがあるかを判定する
+        List<BalanceEditHistoryInfo> histories = cursor
+            .map(position -> balanceEditHistoryRepository.findPageBefore(id, position, limit + 1))
+            .orElseGet(() -> balanceEditHistoryRepository.findFirstPage(id, limit + 1))
+            .stream()
+            .map(BalanceEditHistoryInfo::from)
+            .toList();
+        if (histories.size() <= limit) {
+            return new BalanceEditHistoryPage(histories, Optional.empty());
+        }
+        List<BalanceEditHistoryInfo> page = histories.subList(0, limit);
+        return new BalanceEditHistoryPage(page, Optional.of(BalanceEditHistoryCursor.from(page.getLast())));
+    }
+
+    public Optional<BalanceEditHistoryInfo> getLatestEditHistory(UserId currentUserId, FinancialAccountId id) {
+        findOwnedAccount(id, currentUserId);
+        return balanceEditHistoryRepository.findLatestByFinancialAccountId(id).map(BalanceEditHistoryInfo::from);
+    }
+
     private FinancialAccount findOwnedAccount(FinancialAccountId id, UserId userId) {
         FinancialAccount account = financialAccountRepository
             .findById(id)
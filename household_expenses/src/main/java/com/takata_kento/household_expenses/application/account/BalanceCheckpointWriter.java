@@ -0,0 +1,62 @@
+package com.takata_kento.household_expenses.application.account;
+
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpointRepository;
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpointTarget;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 各口座について、所有者のグループの月始日で区切った現在の予算期間の開始日に残高のチェックポイントを記録する。
+ *
+ * <p>毎日実行し、開始日のチェックポイントが未作成の口座だけに作成する。期間の切り替わり当日に実行されなかった
+ * 場合も、その期間中の次回の実行で作成される。
+ */
+@Component
+public class BalanceCheckpointWriter {
+
+    static final String CREATED_METRIC = "household.balance_checkpoint.created";
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointWriter.class);
+
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final MeterRegistry meterRegistry;
+
+    public BalanceCheckpointWriter(
+        BalanceCheckpointRepository balanceCheckpointRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${app.balance-checkpoint.cron:0 10 0 * * *}")
+    @Transactional
+    public int writeCheckpoints() {
+        return writeCheckpoints(LocalDate.now());
+    }
+
+    /**
+     * today を含む予算期間の開始日のチェックポイントを作成し、新たに作成した件数を返す。
+     */
+    @Transactional
+    public int writeCheckpoints(LocalDate today) {
+        int created = 0;
+        for (BalanceCheckpointTarget target : balanceCheckpointRepository.findTargets()) {
+            LocalDate periodStart = BudgetPeriod.containing(today, target.monthStartDay()).startDate();
+            if (balanceCheckpointRepository.createIfAbsent(target.financialAccountId(), periodStart)) {
+                created++;
+            }
+        }
+        if (created > 0) {
+            log.info("balance checkpoints created: count={}, date={}", created, today);
+        }
+        meterRegistry.counter(CREATED_METRIC).increment(created);
+        return created;
+    }
+}
@@ -0,0 +1,17 @@
+package com.takata_kento.household_expenses.application.account;
+
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryCursor;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryInfo;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 残高編集履歴の1ページ分。
+ *
+ * @param histories 新しい順に並んだ履歴
+ * @param nextCursor 次のページの取得位置（最後のページの場合は空）
+ */
+public record BalanceEditHistoryPage(
+    List<BalanceEditHistoryInfo> histories,
+    Optional<BalanceEditHistoryCursor> nextCursor
+) {}
@@ -0,0 +1,11 @@
+package com.takata_kento.household_expenses.application.account;
+
+import java.time.LocalDate;
+
+/**
+ * 残高推移の1点。
+ *
+ * @param date 日付
+ * @param balance その日の終了時点の残高
+ */
+public record BalancePoint(LocalDate date, int balance) {}
@@ -0,0 +1,119 @@
+package com.takata_kento.household_expenses.application.account;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 日ごとの増減を先頭から1度だけ受け取り、残高推移を Largest-Triangle-Three-Buckets で最大 maxPoints 点に間引く。
+ *
+ * <p>from と to の点は常に残し、その間の期間を maxPoints - 2 個の等しい日数のバケットに分ける。
+ * 各バケットからは、直前に選んだ点と次のバケットの平均点とで作る三角形の面積が最大になる点を1つ選ぶ。
+ * 点のないバケットは出力に含めない。保持するのは処理中と次のバケットの点のみで、系列全体は読み込まない。
+ */
+final class BalanceTimelineSampler {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int bucketCount;
+    private final List<BalancePoint> sampled = new ArrayList<>();
+
+    private int balance;
+    private List<BalancePoint> currentBucket = new ArrayList<>();
+    private long currentBucketIndex = -1;
+    private List<BalancePoint> nextBucket = new ArrayList<>();
+    private long nextBucketIndex = -1;
+
+    /**
+     * @param openingBalance from の終了時点の残高
+     */
+    BalanceTimelineSampler(LocalDate from, LocalDate to, int maxPoints, int openingBalance) {
+        if (maxPoints < 3) {
+            throw new IllegalArgumentException("maxPoints must be at least 3");
+        }
+        this.from = from;
+        this.to = to;
+        this.bucketCount = maxPoints - 2;
+        this.balance = openingBalance;
+        sampled.add(new BalancePoint(from, openingBalance));
+    }
+
+    /**
+     * date の増減を加算する。date は from より後 to 以前で、呼び出しごとに昇順であること。
+     */
+    void accept(LocalDate date, int amount) {
+        balance += amount;
+        if (!date.isBefore(to)) {
+            return;
+        }
+        BalancePoint point = new BalancePoint(date, balance);
+        long bucketIndex = bucketIndexOf(date);
+        if (currentBucket.isEmpty() || bucketIndex == currentBucketIndex) {
+            currentBucket.add(point);
+            currentBucketIndex = bucketIndex;
+            return;
+        }
+        if (!nextBucket.isEmpty() && bucketIndex != nextBucketIndex) {
+            // 次のバケットの点がそろったので、処理中のバケットから1点を選べる
+            selectFromCurrentBucket(average(nextBucket));
+            currentBucket = nextBucket;
+            currentBucketIndex = nextBucketIndex;
+            nextBucket = new ArrayList<>();
+        }
+        nextBucket.add(point);
+        nextBucketIndex = bucketIndex;
+    }
+
+    /**
+     * 残りのバケットから点を選び、to の点を加えた間引き後の系列を返す。
+     */
+    List<BalancePoint> finish() {
+        BalancePoint last = new BalancePoint(to, balance);
+        if (!nextBucket.isEmpty()) {
+            selectFromCurrentBucket(average(nextBucket));
+            currentBucket = nextBucket;
+        }
+        if (!currentBucket.isEmpty()) {
+            selectFromCurrentBucket(new double[] { last.date().toEpochDay(), last.balance() });
+        }
+        if (to.isAfter(from)) {
+            sampled.add(last);
+        }
+        return sampled;
+    }
+
+    private long bucketIndexOf(LocalDate date) {
+        long innerDays = to.toEpochDay() - from.toEpochDay() - 1;
+        long offset = date.toEpochDay() - from.toEpochDay() - 1;
+        return (offset * bucketCount) / innerDays;
+    }
+
+    private void selectFromCurrentBucket(double[] following) {
+        BalancePoint previous = sampled.getLast();
+        double previousX = previous.date().toEpochDay();
+        double previousY = previous.balance();
+        BalancePoint selected = null;
+        double maxArea = -1;
+        for (BalancePoint candidate : currentBucket) {
+            double area = Math.abs(
+                (previousX - following[0]) * (candidate.balance() - previousY) -
+                    (previousX - candidate.date().toEpochDay()) * (following[1] - previousY)
+            );
+            if (area > maxArea) {
+                maxArea = area;
+                selected = candidate;
+            }
+        }
+        sampled.add(selected);
+    }
+
+    private static double[] average(List<BalancePoint> points) {
+        double sumX = 0;
+        double sumY = 0;
+        for (BalancePoint point : points) {
+            sumX += point.date().toEpochDay();
+            sumY += point.balance();
+        }
+        return new double[] { sumX / points.size(), sumY / points.size() };
+    }
+}
@@ -0,0 +1,26 @@
+package com.takata_kento.household_expenses.application.budget;
+
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriod;
+import com.takata_kento.household_expenses.domain.budget.MonthlyBudget;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.util.Optional;
+
+/**
+ * 1予算期間分の予算と生活費の集計結果。
+ *
+ * @param period 月始日で区切った予算期間
+ * @param budget 期間の月次予算（未設定の場合は空）
+ * @param spent 期間内の生活費の合計
+ */
+public record BudgetPeriodReport(BudgetPeriod period, Optional<MonthlyBudget> budget, Money spent) {
+    /**
+     * 予算残金を返す。予算を超過している場合は負の値になる。予算が未設定の場合は空。
+     */
+    public Optional<Integer> remainingAmount() {
+        return budget.map(monthlyBudget -> monthlyBudget.budgetAmount().amount() - spent.amount());
+    }
+
+    public boolean isOverBudget() {
+        return budget.map(monthlyBudget -> monthlyBudget.isOverBudget(spent)).orElse(false);
+    }
+}
@@ -2,21 +2,34 @@ package com.takata_kento.household_expenses.application.budget;
 
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriod;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriodRepository;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriodSpendRepository;
+import com.takata_kento.household_expenses.domain.budget.BudgetSpendLedgerRepository;
+import com.takata_kento.household_expenses.domain.budget.GroupBudgetPeriod;
 import com.takata_kento.household_expenses.domain.budget.MonthlyBudget;
 import com.takata_kento.household_expenses.domain.budget.MonthlyBudgetRepository;
-import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransaction;
-import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransactionRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.budget.PeriodSpent;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseDailyTotal;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseSummaryRepository;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroup;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroupRepository;
+import com.takata_kento.household_expenses.domain.valueobject.Day;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,52 +37,62 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class BudgetService {
 
-    private final UserRepository userRepository;
+    /** 予算期間を事前に生成しておく月数（当月以降） */
+    static final int PERIOD_MONTHS_AHEAD = 12;
+
+    private final UserMembershipCache userMembershipCache;
     private final UserGroupRepository userGroupRepository;
     private final MonthlyBudgetRepository monthlyBudgetRepository;
-    private final DailyGroupTransactionRepository dailyGroupTransactionRepository;
+    private final BudgetSpendLedgerRepository budgetSpendLedgerRepository;
+    private final BudgetPeriodSpendRepository budgetPeriodSpendRepository;
+    private final BudgetPeriodRepository budgetPeriodRepository;
+    private final LivingExpenseSummaryRepository livingExpenseSummaryRepository;
 
     public BudgetService(
-        UserRepository userRepository,
+        UserMembershipCache userMembershipCache,
         UserGroupRepository userGroupRepository,
         MonthlyBudgetRepository monthlyBudgetRepository,
-        DailyGroupTransactionRepository dailyGroupTransactionRepository
+        BudgetSpendLedgerRepository budgetSpendLedgerRepository,
+        BudgetPeriodSpendRepository budgetPeriodSpendRepository,
+        BudgetPeriodRepository budgetPeriodRepository,
+        LivingExpenseSummaryRepository livingExpenseSummaryRepository
     ) {
-        this.userRepository = userRepository;
+        this.userMembershipCache = userMembershipCache;
         this.userGroupRepository = userGroupRepository;
         this.monthlyBudgetRepository = monthlyBudgetRepository;
-        this.dailyGroupTransactionRepository = dailyGroupTransactionRepository;
+        this.budgetSpendLedgerRepository = budgetSpendLedgerRepository;
+        this.budgetPeriodSpendRepository = budgetPeriodSpendRepository;
+        this.budgetPeriodRepository = budgetPeriodRepository;
+        this.livingExpenseSummaryRepository = livingExpenseSummaryRepository;
     }
 
-    private User getCurrentUser(UserId userId) {
-        return userRepository
-            .findById(userId)
-            .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
+    private UserMembership getCurrentUser(UserId userId) {
+        return userMembershipCache.get(userId);
     }
 
-    private UserGroupId currentUserGroupId(User currentUser) {
+    private UserGroupId currentUserGroupId(UserMembership currentUser) {
         return currentUser
             .userGroupId()
             .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
     }
 
+    private UserGroup getUserGroup(UserGroupId userGroupId) {
+        return userGroupRepository
+            .findById(userGroupId)
+            .orElseThrow(() -> new IllegalStateException("UserGroup not found: " + userGroupId));
+    }
+
     public SetMonthlyBudgetResult setMonthlyBudget(UserId currentUserId, Year year, Month month, Money budgetAmount) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
-        return monthlyBudgetRepository
-            .findByUserGroupIdAndYearAndMonth(userGroupId, year, month)
-            .map(existing -> {
-                existing.updateBudgetAmount(budgetAmount, currentUser.id());
-                return new SetMonthlyBudgetResult(monthlyBudgetRepository.save(existing), false);
-            })
-            .orElseGet(() -> {
-                MonthlyBudget created = MonthlyBudget.create(userGroupId, year, month, budgetAmount, currentUser.id());
-                return new SetMonthlyBudgetResult(monthlyBudgetRepository.save(created), true);
-            });
+        MonthlyBudget candidate = MonthlyBudget.create(userGroupId, year, month, budgetAmount, currentUser.id());
+        MonthlyBudget budget = monthlyBudgetRepository.upsert(candidate);
+        budgetPeriodRepository.updateBudgetAmount(userGroupId, year, month, budgetAmount);
+        return new SetMonthlyBudgetResult(budget, budget.id().equals(candidate.id()));
     }
 
     public MonthlyBudget getMonthlyBudget(UserId currentUserId, Year year, Month month) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
         return monthlyBudgetRepository
             .findByUserGroupIdAndYearAndMonth(userGroupId, year, month)
@@ -79,43 +102,140 @@ public class BudgetService {
     }
 
     public List<MonthlyBudget> getMonthlyBudgetsByYear(UserId currentUserId, Year year) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
         return monthlyBudgetRepository.findByUserGroupIdAndYear(userGroupId, year);
     }
 
+    /**
+     * year の1月〜12月の予算期間それぞれについて、予算・生活費・残金・予算超過の有無をまとめて返す。
+     *
+     * <p>月次予算は1年分を1回で読み込み、生活費は期間ごとに GROUP BY した1回の集計で求める。
+     */
+    public List<BudgetPeriodReport> getYearlyBudgetReport(UserId currentUserId, Year year) {
+        UserMembership currentUser = getCurrentUser(currentUserId);
+        UserGroupId userGroupId = currentUserGroupId(currentUser);
+        Day monthStartDay = getUserGroup(userGroupId).monthStartDay();
+        Map<Integer, MonthlyBudget> budgets = monthlyBudgetRepository
+            .findByUserGroupIdAndYear(userGroupId, year)
+            .stream()
+            .collect(Collectors.toMap(budget -> budget.month().value(), Function.identity()));
+        Map<Integer, Money> spentByMonth = budgetPeriodSpendRepository
+            .sumLivingExpensesByPeriod(userGroupId, year, monthStartDay)
+            .stream()
+            .collect(Collectors.toMap(periodSpent -> periodSpent.month().value(), PeriodSpent::spent));
+        return IntStream.rangeClosed(1, 12)
+            .mapToObj(month ->
+                new BudgetPeriodReport(
+                    BudgetPeriod.of(year, new Month(month), monthStartDay),
+                    Optional.ofNullable(budgets.get(month)),
+                    spentByMonth.getOrDefault(month, new Money(0))
+                )
+            )
+            .toList();
+    }
+
     public Money calculateBudgetBalance(UserId currentUserId, LocalDate targetDate) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
-        UserGroup userGroup = userGroupRepository
-            .findById(userGroupId)
-            .orElseThrow(() -> new IllegalStateException("UserGroup not found: " + userGroupId));
-        LocalDate periodStart = resolvePeriodStart(targetDate, userGroup.monthStartDay().value());
-        Year periodYear = new Year(periodStart.getYear());
-        Month periodMonth = new Month(periodStart.getMonthValue());
-        MonthlyBudget budget = monthlyBudgetRepository
-            .findByUserGroupIdAndYearAndMonth(userGroupId, periodYear, periodMonth)
+        GroupBudgetPeriod groupBudgetPeriod = resolvePeriod(userGroupId, targetDate);
+        Money budgetAmount = getPeriodBudgetAmount(groupBudgetPeriod);
+        Money totalSpent = budgetSpendLedgerRepository.findCumulativeSpent(
+            userGroupId,
+            groupBudgetPeriod.period(),
+            targetDate
+        );
+        return budgetAmount.subtract(totalSpent);
+    }
+
+    /**
+     * from〜to の各日の予算残金をまとめて求める。
+     *
+     * <p>from〜to の日ごとの生活費合計を SQL で集計して1回で取得し、期間ごとに前日までの累計を台帳から
+     * 1回だけ取得して、以降は日ごとの合計を順に加算する。生活費の記録がない日は 0 として扱う。
+     */
+    public Map<LocalDate, Money> calculateBudgetBalances(UserGroupId userGroupId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Money> dailyLivingExpenses = livingExpenseSummaryRepository
+            .sumByDay(userGroupId, from, to)
+            .stream()
+            .collect(Collectors.toMap(LivingExpenseDailyTotal::transactionDate, LivingExpenseDailyTotal::amount));
+        Map<LocalDate, Money> balances = new LinkedHashMap<>();
+        BudgetPeriod period = null;
+        Money budgetAmount = null;
+        Money spent = new Money(0);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (period == null || !period.contains(date)) {
+                GroupBudgetPeriod groupBudgetPeriod = resolvePeriod(userGroupId, date);
+                period = groupBudgetPeriod.period();
+                budgetAmount = getPeriodBudgetAmount(groupBudgetPeriod);
+                spent = date.equals(period.startDate())
+                    ? new Money(0)
+                    : budgetSpendLedgerRepository.findCumulativeSpent(userGroupId, period, date.minusDays(1));
+            }
+            spent = spent.add(dailyLivingExpenses.getOrDefault(date, new Money(0)));
+            balances.put(date, budgetAmount.subtract(spent));
+        }
+        return balances;
+    }
+
+    /**
+     * 指定日を含む予算期間を budget_period から求める。
+     * 未生成の場合に限りグループの月始日から期間を求めて生成する。
+     */
+    private GroupBudgetPeriod resolvePeriod(UserGroupId userGroupId, LocalDate date) {
+        return budgetPeriodRepository
+            .findContaining(userGroupId, date)
+            .orElseGet(() ->
+                budgetPeriodRepository.generate(
+                    userGroupId,
+                    BudgetPeriod.containing(date, getUserGroup(userGroupId).monthStartDay())
+                )
+            );
+    }
+
+    private Money getPeriodBudgetAmount(GroupBudgetPeriod groupBudgetPeriod) {
+        Year periodYear = groupBudgetPeriod.period().year();
+        Month periodMonth = groupBudgetPeriod.period().month();
+        return groupBudgetPeriod
+            .budgetAmount()
             .orElseThrow(() ->
                 new ResourceNotFoundException(
                     "MonthlyBudget not found: " + periodYear.value() + "-" + periodMonth.value()
                 )
             );
-        Money totalSpent = dailyGroupTransactionRepository
-            .findByUserGroupIdAndTransactionDateBetween(userGroupId, periodStart, targetDate)
-            .stream()
-            .map(DailyGroupTransaction::calculateTotalLivingExpense)
-            .reduce(new Money(0), Money::add);
-        return budget.calculateRemainingBudget(totalSpent);
     }
 
-    // monthStartDay が当月の日数を超える場合は当月末日に丸める (例: 月始日=31 で 2月の場合は2月末日)
-    private LocalDate resolvePeriodStart(LocalDate targetDate, int monthStartDay) {
-        int targetMonthEffectiveStartDay = Math.min(monthStartDay, targetDate.lengthOfMonth());
-        if (targetDate.getDayOfMonth() >= targetMonthEffectiveStartDay) {
-            return LocalDate.of(targetDate.getYear(), targetDate.getMonth(), targetMonthEffectiveStartDay);
+    /**
+     * 指定日の生活費合計の変化を予算期間の支出台帳へ反映する。
+     * 日次収支の記録・更新・削除と同一トランザクション内で呼び出すこと。
+     */
+    public void recordLivingExpenseChange(
+        UserGroupId userGroupId,
+        LocalDate transactionDate,
+        Money previousTotal,
+        Money currentTotal
+    ) {
+        int delta = currentTotal.amount() - previousTotal.amount();
+        if (delta == 0) {
+            return;
         }
-        LocalDate previousMonth = targetDate.minusMonths(1);
-        int previousMonthEffectiveStartDay = Math.min(monthStartDay, previousMonth.lengthOfMonth());
-        return LocalDate.of(previousMonth.getYear(), previousMonth.getMonth(), previousMonthEffectiveStartDay);
+        BudgetPeriod period = resolvePeriod(userGroupId, transactionDate).period();
+        budgetSpendLedgerRepository.applyDelta(userGroupId, period, transactionDate, delta);
+    }
+
+    /**
+     * 月始日の変更により期間の区切りが変わった場合に、グループの支出台帳を再構築する。
+     */
+    public void rebuildSpendLedger(UserGroupId userGroupId, Day monthStartDay) {
+        budgetSpendLedgerRepository.rebuild(userGroupId, monthStartDay);
+    }
+
+    /**
+     * グループの予算期間を月始日から作り直す。グループの作成時と月始日の変更時に呼び出す。
+     * 当月から {@value #PERIOD_MONTHS_AHEAD} か月先までと、記録済みの日次収支・月次予算を含む期間を生成する。
+     */
+    public void regenerateBudgetPeriods(UserGroupId userGroupId, Day monthStartDay) {
+        LocalDate today = LocalDate.now();
+        budgetPeriodRepository.regenerate(userGroupId, monthStartDay, today, today.plusMonths(PERIOD_MONTHS_AHEAD));
     }
 }
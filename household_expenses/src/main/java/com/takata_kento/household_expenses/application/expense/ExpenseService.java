@@ -1,16 +1,19 @@
 package com.takata_kento.household_expenses.application.expense;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
 import com.takata_kento.household_expenses.domain.expense.category.FixedExpenseCategory;
 import com.takata_kento.household_expenses.domain.expense.category.FixedExpenseCategoryRepository;
 import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategory;
 import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategoryRepository;
 import com.takata_kento.household_expenses.domain.expense.history.FixedExpenseHistory;
 import com.takata_kento.household_expenses.domain.expense.history.FixedExpenseHistoryRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategoryRollupRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategorySpent;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.valueobject.CategoryName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseCategoryId;
@@ -22,7 +25,10 @@ import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,27 +36,31 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class ExpenseService {
 
-    private final UserRepository userRepository;
+    private final UserMembershipCache userMembershipCache;
     private final LivingExpenseCategoryRepository livingExpenseCategoryRepository;
     private final FixedExpenseCategoryRepository fixedExpenseCategoryRepository;
     private final FixedExpenseHistoryRepository fixedExpenseHistoryRepository;
+    private final AccountService accountService;
+    private final LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository;
 
     public ExpenseService(
-        UserRepository userRepository,
+        UserMembershipCache userMembershipCache,
         LivingExpenseCategoryRepository livingExpenseCategoryRepository,
         FixedExpenseCategoryRepository fixedExpenseCategoryRepository,
-        FixedExpenseHistoryRepository fixedExpenseHistoryRepository
+        FixedExpenseHistoryRepository fixedExpenseHistoryRepository,
+        AccountService accountService,
+        LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository
     ) {
-        this.userRepository = userRepository;
+        this.userMembershipCache = userMembershipCache;
         this.livingExpenseCategoryRepository = livingExpenseCategoryRepository;
         this.fixedExpenseCategoryRepository = fixedExpenseCategoryRepository;
         this.fixedExpenseHistoryRepository = fixedExpenseHistoryRepository;
+        this.accountService = accountService;
+        this.livingExpenseCategoryRollupRepository = livingExpenseCategoryRollupRepository;
     }
 
-    private User getCurrentUser(UserId userId) {
-        return userRepository
-            .findById(userId)
-            .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
+    private UserMembership getCurrentUser(UserId userId) {
+        return userMembershipCache.get(userId);
     }
 
     private UserGroupId getCurrentUserGroupId(UserId userId) {
@@ -125,16 +135,12 @@ public class ExpenseService {
         if (!category.belongsTo(userGroupId)) {
             throw new ForbiddenException("Cannot set amount for category from another group: " + categoryId);
         }
-        FixedExpenseHistory history = fixedExpenseHistoryRepository
-            .findByFixedExpenseCategoryIdAndYearAndMonth(categoryId, year, month)
-            .map(existing -> {
-                existing.updateAmount(amount);
-                existing.updateEffectiveDate(effectiveDate);
-                existing.updateMemo(memo);
-                return existing;
-            })
-            .orElseGet(() -> FixedExpenseHistory.create(categoryId, year, month, amount, effectiveDate, memo));
-        return fixedExpenseHistoryRepository.save(history);
+        FixedExpenseHistory history = fixedExpenseHistoryRepository.upsert(
+            FixedExpenseHistory.create(categoryId, year, month, amount, effectiveDate, memo)
+        );
+        // 固定費はグループ単位で記録されるため、生活費と同じく金額を人数で割った負担分を各メンバーから差し引く
+        accountService.postFixedExpenseShares(userGroupId, history.id());
+        return history;
     }
 
     public List<LivingExpenseCategory> getLivingExpenseCategories(UserId currentUserId) {
@@ -142,6 +148,35 @@ public class ExpenseService {
         return livingExpenseCategoryRepository.findByUserGroupId(userGroupId);
     }
 
+    /**
+     * from〜to（両端を含む）の生活費を、グループの生活費分類ごとの合計と明細件数にまとめて返す。
+     * 期間内に明細のない分類は合計 0・件数 0 として含める。
+     */
+    public List<LivingExpenseCategoryBreakdown> getLivingExpenseCategoryBreakdown(
+        UserId currentUserId,
+        LocalDate from,
+        LocalDate to
+    ) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        UserGroupId userGroupId = getCurrentUserGroupId(currentUserId);
+        Map<LivingExpenseCategoryId, LivingExpenseCategorySpent> spentByCategory = livingExpenseCategoryRollupRepository
+            .sumByCategory(userGroupId, from, to)
+            .stream()
+            .collect(Collectors.toMap(LivingExpenseCategorySpent::livingExpenseCategoryId, Function.identity()));
+        return livingExpenseCategoryRepository
+            .findByUserGroupId(userGroupId)
+            .stream()
+            .map(category -> {
+                LivingExpenseCategorySpent spent = spentByCategory.get(category.id());
+                return spent != null
+                    ? new LivingExpenseCategoryBreakdown(category, spent.amount(), spent.count())
+                    : new LivingExpenseCategoryBreakdown(category, new Money(0), 0);
+            })
+            .toList();
+    }
+
     public List<FixedExpenseCategory> getFixedExpenseCategories(UserId currentUserId) {
         UserGroupId userGroupId = getCurrentUserGroupId(currentUserId);
         return fixedExpenseCategoryRepository.findByUserGroupId(userGroupId);
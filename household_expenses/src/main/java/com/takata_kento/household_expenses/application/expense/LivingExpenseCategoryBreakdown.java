@@ -0,0 +1,13 @@
+package com.takata_kento.household_expenses.application.expense;
+
+import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategory;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+
+/**
+ * 生活費分類ごとの期間内の生活費合計と明細件数。
+ *
+ * @param category 生活費分類
+ * @param totalAmount 期間内の生活費の合計
+ * @param count 期間内の明細件数
+ */
+public record LivingExpenseCategoryBreakdown(LivingExpenseCategory category, Money totalAmount, int count) {}
@@ -1,20 +1,23 @@
 package com.takata_kento.household_expenses.application.saving;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
 import com.takata_kento.household_expenses.domain.account.FinancialAccount;
 import com.takata_kento.household_expenses.domain.account.FinancialAccountRepository;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
 import com.takata_kento.household_expenses.domain.saving.MonthlySaving;
 import com.takata_kento.household_expenses.domain.saving.MonthlySavingRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
@@ -26,22 +29,23 @@ public class SavingService {
 
     private final MonthlySavingRepository monthlySavingRepository;
     private final FinancialAccountRepository financialAccountRepository;
-    private final UserRepository userRepository;
+    private final UserMembershipCache userMembershipCache;
+    private final AccountService accountService;
 
     public SavingService(
         MonthlySavingRepository monthlySavingRepository,
         FinancialAccountRepository financialAccountRepository,
-        UserRepository userRepository
+        UserMembershipCache userMembershipCache,
+        AccountService accountService
     ) {
         this.monthlySavingRepository = monthlySavingRepository;
         this.financialAccountRepository = financialAccountRepository;
-        this.userRepository = userRepository;
+        this.userMembershipCache = userMembershipCache;
+        this.accountService = accountService;
     }
 
-    private User getCurrentUser(UserId userId) {
-        return userRepository
-            .findById(userId)
-            .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
+    private UserMembership getCurrentUser(UserId userId) {
+        return userMembershipCache.get(userId);
     }
 
     private void verifyAccountOwnedBy(FinancialAccountId financialAccountId, UserId userId) {
@@ -61,6 +65,22 @@ public class SavingService {
             );
     }
 
+    /**
+     * 貯金額をメイン口座から貯金先の口座へ移す。貯金先がメイン口座の場合は残高を変えない。
+     * 貯金は年月単位の記録のため、その月の1日に計上する。
+     */
+    private void postSaving(MonthlySaving saving) {
+        accountService.postTransferFromMainAccount(
+            saving.userId(),
+            LedgerSourceType.MONTHLY_SAVING,
+            LedgerSourceType.MONTHLY_SAVING_DEPOSIT,
+            saving.id().toString(),
+            saving.financialAccountId(),
+            saving.savingAmount().amount(),
+            LocalDate.of(saving.year().value(), saving.month().value(), 1)
+        );
+    }
+
     public MonthlySaving recordMonthlySaving(
         UserId currentUserId,
         Year year,
@@ -69,10 +89,7 @@ public class SavingService {
         FinancialAccountId financialAccountId,
         Optional<Description> memo
     ) {
-        User currentUser = getCurrentUser(currentUserId);
-        if (monthlySavingRepository.findByUserIdAndYearAndMonth(currentUser.id(), year, month).isPresent()) {
-            throw new ConflictException("MonthlySaving already exists for " + year.value() + "-" + month.value());
-        }
+        UserMembership currentUser = getCurrentUser(currentUserId);
         verifyAccountOwnedBy(financialAccountId, currentUser.id());
         MonthlySaving saving = MonthlySaving.create(
             currentUser.id(),
@@ -82,11 +99,17 @@ public class SavingService {
             financialAccountId,
             memo
         );
-        return monthlySavingRepository.save(saving);
+        MonthlySaving savedSaving = monthlySavingRepository
+            .insertIfAbsent(saving)
+            .orElseThrow(() ->
+                new ConflictException("MonthlySaving already exists for " + year.value() + "-" + month.value())
+            );
+        postSaving(savedSaving);
+        return savedSaving;
     }
 
     public MonthlySaving getMonthlySaving(UserId currentUserId, Year year, Month month) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         return loadOwnedSaving(year, month, currentUser.id());
     }
 
@@ -98,23 +121,27 @@ public class SavingService {
         FinancialAccountId financialAccountId,
         Optional<Description> memo
     ) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         MonthlySaving saving = loadOwnedSaving(year, month, currentUser.id());
         verifyAccountOwnedBy(financialAccountId, currentUser.id());
         saving.updateSavingAmount(savingAmount);
         saving.updateFinancialAccount(financialAccountId);
         saving.updateMemo(memo);
-        return monthlySavingRepository.save(saving);
+        MonthlySaving savedSaving = monthlySavingRepository.save(saving);
+        postSaving(savedSaving);
+        return savedSaving;
     }
 
     public void deleteMonthlySaving(UserId currentUserId, Year year, Month month) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         MonthlySaving saving = loadOwnedSaving(year, month, currentUser.id());
         monthlySavingRepository.delete(saving);
+        accountService.cancelLedgerEntry(LedgerSourceType.MONTHLY_SAVING, saving.id().toString());
+        accountService.cancelLedgerEntry(LedgerSourceType.MONTHLY_SAVING_DEPOSIT, saving.id().toString());
     }
 
     public List<MonthlySaving> getSavingsByYear(UserId currentUserId, Year year) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         return monthlySavingRepository.findByUserIdAndYear(currentUser.id(), year);
     }
 }
@@ -0,0 +1,12 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+
+/**
+ * 収支エクスポートの対象。
+ *
+ * @param userId 日次個人収支を出力するユーザー
+ * @param userGroupId 日次グループ収支を出力するグループ
+ */
+public record TransactionExportScope(UserId userId, UserGroupId userGroupId) {}
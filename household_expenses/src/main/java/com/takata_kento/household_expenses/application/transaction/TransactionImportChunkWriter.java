@@ -0,0 +1,189 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.application.budget.BudgetService;
+import com.takata_kento.household_expenses.domain.account.LedgerPosting;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
+import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategory;
+import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategoryRepository;
+import com.takata_kento.household_expenses.domain.transaction.TransactionImportRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.GroupTransactionLockRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.DailyLivingExpenseInfo;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategoryRollupRepository;
+import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransaction;
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyLivingExpenseId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 一括取り込みの1チャンク分の日次収支を1トランザクションで書き込む。
+ *
+ * <p>日次グループ収支・生活費・日次個人収支・個人支出はテーブルごとに JDBC バッチで挿入する。予算期間の
+ * 支出台帳・生活費分類別の月次集計・口座残高の台帳も、1日ずつ記録した場合と同じ状態になるよう同じ
+ * トランザクション内で更新する。記録済みの日・チャンク内で重複する日・グループにない生活費分類を含む日は
+ * 書き込まずにエラーとして返す。
+ *
+ * <p>1日ずつ記録する場合と同じく (グループ, 取引日) 単位のロックを取ってから記録済みの日を確かめて書き込む。
+ * ロックは取引日の昇順に取るため、チャンク同士や他のメンバーの記録・削除とデッドロックしない。ロックがないと、
+ * 他のメンバーの削除でヘッダが消えたときに取り込んだ生活費も ON DELETE CASCADE で消え、予算期間の支出台帳・
+ * 月次集計・口座残高の台帳に加えた差分だけが残る。
+ */
+@Component
+public class TransactionImportChunkWriter {
+
+    private final TransactionImportRepository transactionImportRepository;
+    private final GroupTransactionLockRepository groupTransactionLockRepository;
+    private final LivingExpenseCategoryRepository livingExpenseCategoryRepository;
+    private final LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository;
+    private final BudgetService budgetService;
+    private final AccountService accountService;
+
+    public TransactionImportChunkWriter(
+        TransactionImportRepository transactionImportRepository,
+        GroupTransactionLockRepository groupTransactionLockRepository,
+        LivingExpenseCategoryRepository livingExpenseCategoryRepository,
+        LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository,
+        BudgetService budgetService,
+        AccountService accountService
+    ) {
+        this.transactionImportRepository = transactionImportRepository;
+        this.groupTransactionLockRepository = groupTransactionLockRepository;
+        this.livingExpenseCategoryRepository = livingExpenseCategoryRepository;
+        this.livingExpenseCategoryRollupRepository = livingExpenseCategoryRollupRepository;
+        this.budgetService = budgetService;
+        this.accountService = accountService;
+    }
+
+    /**
+     * days を書き込み、書き込まなかった日のエラーを行番号の昇順に返す。
+     */
+    @Transactional
+    public List<TransactionImportError> write(UserId userId, UserGroupId userGroupId, List<TransactionImportDay> days) {
+        List<TransactionImportError> errors = new ArrayList<>();
+        days
+            .stream()
+            .map(TransactionImportDay::transactionDate)
+            .collect(Collectors.toCollection(TreeSet::new))
+            .forEach(date -> groupTransactionLockRepository.lock(userGroupId, date));
+        Set<LocalDate> recordedDates = transactionImportRepository.findRecordedDates(
+            userId,
+            userGroupId,
+            days.stream().map(TransactionImportDay::transactionDate).collect(Collectors.toSet())
+        );
+        Set<LivingExpenseCategoryId> categoryIds = livingExpenseCategoryRepository
+            .findByUserGroupId(userGroupId)
+            .stream()
+            .map(LivingExpenseCategory::id)
+            .collect(Collectors.toSet());
+
+        Set<LocalDate> seenDates = new HashSet<>();
+        List<TransactionImportDay> accepted = new ArrayList<>();
+        for (TransactionImportDay day : days) {
+            if (!seenDates.add(day.transactionDate())) {
+                errors.add(error(day, "Duplicate transaction date in import: " + day.transactionDate()));
+            } else if (recordedDates.contains(day.transactionDate())) {
+                errors.add(error(day, "DailyPersonalTransaction already exists for " + day.transactionDate()));
+            } else {
+                day
+                    .livingExpenses()
+                    .stream()
+                    .map(LivingExpenseInput::categoryId)
+                    .filter(categoryId -> !categoryIds.contains(categoryId))
+                    .findFirst()
+                    .ifPresentOrElse(
+                        categoryId -> errors.add(error(day, "Unknown living expense category: " + categoryId)),
+                        () -> accepted.add(day)
+                    );
+            }
+        }
+        if (!accepted.isEmpty()) {
+            writeAccepted(userId, userGroupId, accepted);
+        }
+        return errors;
+    }
+
+    private void writeAccepted(UserId userId, UserGroupId userGroupId, List<TransactionImportDay> days) {
+        Map<LocalDate, List<DailyLivingExpenseInfo>> livingExpensesByDate = new LinkedHashMap<>();
+        List<DailyPersonalTransaction> personalTransactions = new ArrayList<>();
+        for (TransactionImportDay day : days) {
+            if (!day.livingExpenses().isEmpty()) {
+                livingExpensesByDate.put(
+                    day.transactionDate(),
+                    day
+                        .livingExpenses()
+                        .stream()
+                        .map(input ->
+                            new DailyLivingExpenseInfo(
+                                new DailyLivingExpenseId(UUID.randomUUID()),
+                                userId,
+                                input.categoryId(),
+                                input.amount(),
+                                input.memo()
+                            )
+                        )
+                        .toList()
+                );
+            }
+            DailyPersonalTransaction personalTransaction = new DailyPersonalTransaction(
+                new DailyPersonalTransactionId(UUID.randomUUID()),
+                userId,
+                day.transactionDate(),
+                day.income(),
+                new ArrayList<>(),
+                null
+            );
+            for (PersonalExpenseInput input : day.personalExpenses()) {
+                personalTransaction.addPersonalExpense(input.amount(), input.memo());
+            }
+            personalTransactions.add(personalTransaction);
+        }
+
+        Map<LocalDate, DailyGroupTransactionId> groupTransactionIds = transactionImportRepository
+            .insertGroupTransactions(userGroupId, livingExpensesByDate.keySet());
+        transactionImportRepository.insertLivingExpenses(groupTransactionIds, livingExpensesByDate);
+        transactionImportRepository.insertPersonalTransactions(personalTransactions);
+
+        livingExpensesByDate.forEach((date, livingExpenses) -> {
+            Money total = livingExpenses.stream().map(DailyLivingExpenseInfo::amount).reduce(new Money(0), Money::add);
+            budgetService.recordLivingExpenseChange(userGroupId, date, new Money(0), total);
+        });
+        livingExpenseCategoryRollupRepository.applyAdded(userGroupId, livingExpensesByDate);
+        if (!livingExpensesByDate.isEmpty()) {
+            TreeSet<LocalDate> livingExpenseDates = new TreeSet<>(livingExpensesByDate.keySet());
+            accountService.postLivingExpenseShares(userGroupId, livingExpenseDates.first(), livingExpenseDates.last());
+        }
+        List<LedgerPosting> postings = new ArrayList<>();
+        for (DailyPersonalTransaction personalTransaction : personalTransactions) {
+            postings.add(
+                new LedgerPosting(
+                    LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+                    personalTransaction.id().toString(),
+                    personalTransaction.income().amount() -
+                        personalTransaction.calculateTotalPersonalExpense().amount(),
+                    personalTransaction.transactionDate()
+                )
+            );
+        }
+        accountService.postNewToMainAccount(userId, postings);
+    }
+
+    private static TransactionImportError error(TransactionImportDay day, String message) {
+        return new TransactionImportError(day.rowNumber(), message);
+    }
+}
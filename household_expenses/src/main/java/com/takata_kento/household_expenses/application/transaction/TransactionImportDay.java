@@ -0,0 +1,22 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 一括取り込みする1日分の収支。
+ *
+ * @param rowNumber 取り込みデータ中の行番号（エラーの報告に使用）
+ * @param transactionDate 取引日
+ * @param income 収入
+ * @param livingExpenses 生活費
+ * @param personalExpenses 個人支出
+ */
+public record TransactionImportDay(
+    int rowNumber,
+    LocalDate transactionDate,
+    Money income,
+    List<LivingExpenseInput> livingExpenses,
+    List<PersonalExpenseInput> personalExpenses
+) {}
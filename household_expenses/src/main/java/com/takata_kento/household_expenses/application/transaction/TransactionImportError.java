@@ -0,0 +1,9 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+/**
+ * 一括取り込みで取り込めなかった行。
+ *
+ * @param rowNumber 取り込みデータ中の行番号
+ * @param message 取り込めなかった理由
+ */
+public record TransactionImportError(int rowNumber, String message) {}
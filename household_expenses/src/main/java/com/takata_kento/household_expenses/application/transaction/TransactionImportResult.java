@@ -0,0 +1,11 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import java.util.List;
+
+/**
+ * 一括取り込みの結果。
+ *
+ * @param importedCount 取り込んだ日数
+ * @param errors 取り込めなかった行（行番号の昇順）
+ */
+public record TransactionImportResult(int importedCount, List<TransactionImportError> errors) {}
@@ -0,0 +1,103 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 日次収支の一括取り込み。
+ *
+ * <p>取り込む日を先頭から chunkSize 日ずつ読み込み、チャンクごとに {@link TransactionImportChunkWriter} で
+ * 別トランザクションとして書き込む。1つのチャンクの書き込みに失敗しても、そのチャンクの行をエラーとして
+ * 報告して残りの取り込みを続ける。読み込み中に保持するのは1チャンク分の日だけのため、取り込むデータの
+ * 長さに関係なくメモリ使用量は一定に保たれる。チャンクごとにコミットするため、このクラスの処理全体は
+ * 1つのトランザクションにはしない。
+ */
+@Service
+public class TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    private final UserMembershipCache userMembershipCache;
+    private final TransactionImportChunkWriter transactionImportChunkWriter;
+    private final int chunkSize;
+
+    public TransactionImportService(
+        UserMembershipCache userMembershipCache,
+        TransactionImportChunkWriter transactionImportChunkWriter,
+        @Value("${app.transaction-import.chunk-size:500}") int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.userMembershipCache = userMembershipCache;
+        this.transactionImportChunkWriter = transactionImportChunkWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 現在ユーザーの所属グループを確認する。取り込みデータを読み始める前に呼び出す。
+     */
+    public UserGroupId resolveImportGroup(UserId userId) {
+        UserMembership currentUser = userMembershipCache.get(userId);
+        return currentUser
+            .userGroupId()
+            .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
+    }
+
+    /**
+     * days を現在ユーザーの日次収支として取り込む。記録済みの日や不正な内容の日はエラーとして報告し、
+     * 取り込みは中断しない。
+     */
+    public TransactionImportResult importTransactions(
+        UserId userId,
+        UserGroupId userGroupId,
+        Iterator<TransactionImportDay> days
+    ) {
+        int importedCount = 0;
+        List<TransactionImportError> errors = new ArrayList<>();
+        List<TransactionImportDay> chunk = new ArrayList<>(chunkSize);
+        while (days.hasNext()) {
+            chunk.add(days.next());
+            if (chunk.size() == chunkSize || !days.hasNext()) {
+                List<TransactionImportError> chunkErrors = writeChunk(userId, userGroupId, chunk);
+                importedCount += chunk.size() - chunkErrors.size();
+                errors.addAll(chunkErrors);
+                chunk.clear();
+            }
+        }
+        errors.sort(Comparator.comparingInt(TransactionImportError::rowNumber));
+        return new TransactionImportResult(importedCount, errors);
+    }
+
+    private List<TransactionImportError> writeChunk(
+        UserId userId,
+        UserGroupId userGroupId,
+        List<TransactionImportDay> chunk
+    ) {
+        try {
+            return transactionImportChunkWriter.write(userId, userGroupId, List.copyOf(chunk));
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn(
+                "transaction import chunk failed: userId={}, firstRow={}, size={}",
+                userId,
+                chunk.getFirst().rowNumber(),
+                chunk.size(),
+                e
+            );
+            String message = e instanceof IllegalArgumentException ? e.getMessage() : "Failed to write rows";
+            return chunk.stream().map(day -> new TransactionImportError(day.rowNumber(), message)).toList();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import com.takata_kento.household_expenses.domain.transaction.TransactionPartitionRepository;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 日次収支テーブルの年単位パーティションを前もって作成する。
+ *
+ * <p>毎日実行し、今年と翌年のパーティションが未作成であれば作成する。年が替わる1年前から翌年分が用意されるため、
+ * 新しい年の記録が DEFAULT パーティションに入ることはない。
+ */
+@Component
+public class TransactionPartitionCreator {
+
+    static final String CREATED_METRIC = "household.transaction_partition.created";
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionCreator.class);
+
+    private final TransactionPartitionRepository transactionPartitionRepository;
+    private final MeterRegistry meterRegistry;
+
+    public TransactionPartitionCreator(
+        TransactionPartitionRepository transactionPartitionRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.transactionPartitionRepository = transactionPartitionRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${app.transaction-partition.cron:0 20 4 * * *}")
+    @Transactional
+    public int createPartitions() {
+        return createPartitions(LocalDate.now());
+    }
+
+    /**
+     * today の年と翌年のパーティションを作成し、新たに作成した数を返す。
+     */
+    @Transactional
+    public int createPartitions(LocalDate today) {
+        int created = 0;
+        for (int year = today.getYear(); year <= today.getYear() + 1; year++) {
+            created += transactionPartitionRepository.createPartitions(new Year(year));
+        }
+        if (created > 0) {
+            log.info("transaction partitions created: count={}, date={}", created, today);
+        }
+        meterRegistry.counter(CREATED_METRIC).increment(created);
+        return created;
+    }
+}
@@ -1,27 +1,41 @@
 package com.takata_kento.household_expenses.application.transaction;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
 import com.takata_kento.household_expenses.application.budget.BudgetService;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRepository;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRow;
 import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransaction;
 import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransactionRepository;
 import com.takata_kento.household_expenses.domain.transaction.group.DailyLivingExpenseInfo;
+import com.takata_kento.household_expenses.domain.transaction.group.GroupTransactionLockRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategoryRollupRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseEntry;
 import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalExpenseInfo;
 import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransaction;
 import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransactionRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.transaction.personal.PersonalExpenseEntry;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
 import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
 import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalTransactionId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,43 +43,114 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TransactionService {
 
+    private static final int MAX_RANGE_DAYS = 366;
+    static final String LOCK_CONTENDED_METRIC = "household.transaction.lock.contended";
+    static final String LOCK_WAIT_METRIC = "household.transaction.lock.wait";
+
     private final DailyGroupTransactionRepository dailyGroupTransactionRepository;
     private final DailyPersonalTransactionRepository dailyPersonalTransactionRepository;
-    private final UserRepository userRepository;
+    private final UserGroupMemberCountRepository userGroupMemberCountRepository;
+    private final UserMembershipCache userMembershipCache;
     private final BudgetService budgetService;
+    private final AccountService accountService;
+    private final GroupTransactionLockRepository groupTransactionLockRepository;
+    private final LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository;
+    private final TransactionExportRepository transactionExportRepository;
+    private final MeterRegistry meterRegistry;
 
     public TransactionService(
         DailyGroupTransactionRepository dailyGroupTransactionRepository,
         DailyPersonalTransactionRepository dailyPersonalTransactionRepository,
-        UserRepository userRepository,
-        BudgetService budgetService
+        UserGroupMemberCountRepository userGroupMemberCountRepository,
+        UserMembershipCache userMembershipCache,
+        BudgetService budgetService,
+        AccountService accountService,
+        GroupTransactionLockRepository groupTransactionLockRepository,
+        LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository,
+        TransactionExportRepository transactionExportRepository,
+        MeterRegistry meterRegistry
     ) {
         this.dailyGroupTransactionRepository = dailyGroupTransactionRepository;
         this.dailyPersonalTransactionRepository = dailyPersonalTransactionRepository;
-        this.userRepository = userRepository;
+        this.userGroupMemberCountRepository = userGroupMemberCountRepository;
+        this.userMembershipCache = userMembershipCache;
         this.budgetService = budgetService;
+        this.accountService = accountService;
+        this.groupTransactionLockRepository = groupTransactionLockRepository;
+        this.livingExpenseCategoryRollupRepository = livingExpenseCategoryRollupRepository;
+        this.transactionExportRepository = transactionExportRepository;
+        this.meterRegistry = meterRegistry;
     }
 
-    private User getCurrentUser(UserId userId) {
-        return userRepository
-            .findById(userId)
-            .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
+    private UserMembership getCurrentUser(UserId userId) {
+        return userMembershipCache.get(userId);
     }
 
-    private UserGroupId currentUserGroupId(User currentUser) {
+    private UserGroupId currentUserGroupId(UserMembership currentUser) {
         return currentUser
             .userGroupId()
             .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
     }
 
     private int groupMemberCount(UserGroupId userGroupId) {
-        int count = userRepository.findByUserGroupId(userGroupId).size();
+        int count = userGroupMemberCountRepository
+            .findMemberCount(userGroupId)
+            .orElseThrow(() -> new IllegalStateException("UserGroup not found: " + userGroupId));
+        if (count <= 0) {
+            // 所属人数の列を追加する前からあるグループは、移行で埋めるまで 0 のままのため users テーブルから数える
+            count = userGroupMemberCountRepository.countMembers(userGroupId);
+        }
         if (count <= 0) {
             throw new IllegalStateException("UserGroup has no members: " + userGroupId);
         }
         return count;
     }
 
+    /**
+     * (グループ, 取引日) 単位のロックを取得する。同じ日の記録を他のメンバーが書き込み中であれば、
+     * そのトランザクションが終わるまで待機する。待機が発生した回数と待機時間を記録する。
+     *
+     * <p>生活費明細はメンバーごとの行として保存するが、ロックは (グループ, 取引日, ユーザー) に絞らない。
+     * 最後の明細を消したメンバーはヘッダを削除し、その削除は他のメンバーが同時に追加した明細も
+     * ON DELETE CASCADE で消してしまう。また同じ日の書き込みは、ヘッダの生活費合計の行ロックと
+     * 予算期間の支出台帳のロックでいずれにせよ直列化される。
+     *
+     * <p>メトリクスにはグループ ID のタグを付けない。グループ数に比例して時系列が増え、メトリクスの
+     * エンドポイントから全グループの ID が読めてしまうため。
+     */
+    private void lockGroupDay(UserGroupId userGroupId, LocalDate transactionDate) {
+        if (groupTransactionLockRepository.tryLock(userGroupId, transactionDate)) {
+            return;
+        }
+        meterRegistry.counter(LOCK_CONTENDED_METRIC).increment();
+        meterRegistry
+            .timer(LOCK_WAIT_METRIC)
+            .record(() -> groupTransactionLockRepository.lock(userGroupId, transactionDate));
+    }
+
+    /**
+     * 個人収支の収入と個人支出の差額を記録者のメイン口座の残高へ反映する。
+     */
+    private void postPersonalTransaction(DailyPersonalTransaction personalTransaction) {
+        accountService.postToMainAccount(
+            personalTransaction.userId(),
+            LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+            personalTransaction.id().toString(),
+            personalTransaction.income().amount() - personalTransaction.calculateTotalPersonalExpense().amount(),
+            personalTransaction.transactionDate()
+        );
+    }
+
+    /**
+     * 取引日の生活費合計のうち1人分の負担額（{@link #calculateTotalExpense} と同じく生活費合計 ÷ グループ人数、
+     * 端数切り上げ）を、記録したメンバーに限らずグループの各メンバーのメイン口座の残高へ反映する。
+     *
+     * <p>全メンバーの口座をロックするため、個人収支の反映より前に呼び出す。
+     */
+    private void postLivingExpenseShares(UserGroupId userGroupId, LocalDate transactionDate) {
+        accountService.postLivingExpenseShares(userGroupId, transactionDate, transactionDate);
+    }
+
     public Money calculateTotalExpense(Money totalLivingExpense, Money totalPersonalExpense, int groupMemberCount) {
         if (groupMemberCount <= 0) {
             throw new IllegalArgumentException("groupMemberCount must be positive");
@@ -81,27 +166,40 @@ public class TransactionService {
         List<LivingExpenseInput> livingExpenses,
         List<PersonalExpenseInput> personalExpenses
     ) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
+        lockGroupDay(userGroupId, transactionDate);
         if (dailyPersonalTransactionRepository.existsByUserIdAndTransactionDate(currentUser.id(), transactionDate)) {
             throw new ConflictException("DailyPersonalTransaction already exists for " + transactionDate);
         }
 
-        DailyGroupTransaction groupTransaction = dailyGroupTransactionRepository
-            .findByUserGroupIdAndTransactionDate(userGroupId, transactionDate)
-            .orElseGet(() ->
-                new DailyGroupTransaction(
-                    new DailyGroupTransactionId(UUID.randomUUID()),
-                    userGroupId,
-                    transactionDate,
-                    new HashSet<>(),
-                    null
-                )
-            );
+        DailyGroupTransaction groupTransaction = dailyGroupTransactionRepository.upsertByUserGroupIdAndTransactionDate(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            userGroupId,
+            transactionDate
+        );
+        Money previousTotalLivingExpense = groupTransaction.calculateTotalLivingExpense();
+        List<DailyLivingExpenseInfo> previousLivingExpenses = groupTransaction.livingExpenses();
         for (LivingExpenseInput input : livingExpenses) {
             groupTransaction.addLivingExpense(currentUser.id(), input.categoryId(), input.amount(), input.memo());
         }
-        DailyGroupTransaction savedGroupTransaction = dailyGroupTransactionRepository.save(groupTransaction);
+        DailyGroupTransaction savedGroupTransaction = dailyGroupTransactionRepository.saveLivingExpensesOf(
+            groupTransaction,
+            currentUser.id()
+        );
+        budgetService.recordLivingExpenseChange(
+            userGroupId,
+            transactionDate,
+            previousTotalLivingExpense,
+            savedGroupTransaction.calculateTotalLivingExpense()
+        );
+        livingExpenseCategoryRollupRepository.applyChange(
+            userGroupId,
+            transactionDate,
+            previousLivingExpenses,
+            savedGroupTransaction.livingExpenses()
+        );
+        postLivingExpenseShares(userGroupId, transactionDate);
 
         DailyPersonalTransaction personalTransaction = new DailyPersonalTransaction(
             new DailyPersonalTransactionId(UUID.randomUUID()),
@@ -117,6 +215,7 @@ public class TransactionService {
         DailyPersonalTransaction savedPersonalTransaction = dailyPersonalTransactionRepository.save(
             personalTransaction
         );
+        postPersonalTransaction(savedPersonalTransaction);
 
         return buildInfo(
             currentUser.id(),
@@ -128,7 +227,7 @@ public class TransactionService {
     }
 
     public DailyTransactionInfo getDailyTransaction(UserId currentUserId, LocalDate transactionDate) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
         DailyGroupTransaction groupTransaction = dailyGroupTransactionRepository
             .findByUserGroupIdAndTransactionDate(userGroupId, transactionDate)
@@ -145,6 +244,49 @@ public class TransactionService {
         );
     }
 
+    /**
+     * from〜to の各日の収支情報をまとめて取得する。
+     *
+     * <p>範囲内の日次収支を一括で読み込み、予算残金も1回の累積計算で求めるため、
+     * 日数に比例してクエリが増えることはない。記録のない日も生活費・個人支出 0 として含める。
+     */
+    public List<DailyTransactionInfo> getDailyTransactions(UserId currentUserId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        UserMembership currentUser = getCurrentUser(currentUserId);
+        UserGroupId userGroupId = currentUserGroupId(currentUser);
+        int memberCount = groupMemberCount(userGroupId);
+
+        Map<LocalDate, DailyGroupTransaction> groupTransactions = dailyGroupTransactionRepository
+            .findByUserGroupIdAndTransactionDateBetween(userGroupId, from, to)
+            .stream()
+            .collect(Collectors.toMap(DailyGroupTransaction::transactionDate, Function.identity()));
+        Map<LocalDate, DailyPersonalTransaction> personalTransactions = dailyPersonalTransactionRepository
+            .findByUserIdAndTransactionDateBetween(currentUser.id(), from, to)
+            .stream()
+            .collect(Collectors.toMap(DailyPersonalTransaction::transactionDate, Function.identity()));
+
+        Map<LocalDate, Money> budgetBalances = budgetService.calculateBudgetBalances(userGroupId, from, to);
+
+        List<DailyTransactionInfo> infos = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            infos.add(
+                buildInfo(
+                    date,
+                    groupTransactions.get(date),
+                    personalTransactions.get(date),
+                    memberCount,
+                    budgetBalances.get(date)
+                )
+            );
+        }
+        return infos;
+    }
+
     public DailyTransactionInfo updateDailyTransaction(
         UserId currentUserId,
         LocalDate transactionDate,
@@ -152,33 +294,55 @@ public class TransactionService {
         List<LivingExpenseInput> livingExpenses,
         List<PersonalExpenseInput> personalExpenses
     ) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
+        lockGroupDay(userGroupId, transactionDate);
 
         DailyPersonalTransaction personalTransaction = dailyPersonalTransactionRepository
             .findByUserIdAndTransactionDate(currentUser.id(), transactionDate)
             .orElseThrow(() ->
                 new ResourceNotFoundException("DailyPersonalTransaction not found for " + transactionDate)
             );
+        DailyGroupTransaction groupTransaction = dailyGroupTransactionRepository
+            .findByUserGroupIdAndTransactionDate(userGroupId, transactionDate)
+            .orElseThrow(() -> new ResourceNotFoundException("DailyGroupTransaction not found for " + transactionDate));
+        Money previousTotalLivingExpense = groupTransaction.calculateTotalLivingExpense();
+        List<DailyLivingExpenseInfo> previousLivingExpenses = groupTransaction.livingExpenses();
+        groupTransaction.replaceLivingExpensesOf(
+            currentUser.id(),
+            livingExpenses
+                .stream()
+                .map(input -> new LivingExpenseEntry(input.categoryId(), input.amount(), input.memo()))
+                .toList()
+        );
+        DailyGroupTransaction savedGroupTransaction = dailyGroupTransactionRepository.saveLivingExpensesOf(
+            groupTransaction,
+            currentUser.id()
+        );
+        budgetService.recordLivingExpenseChange(
+            userGroupId,
+            transactionDate,
+            previousTotalLivingExpense,
+            savedGroupTransaction.calculateTotalLivingExpense()
+        );
+        livingExpenseCategoryRollupRepository.applyChange(
+            userGroupId,
+            transactionDate,
+            previousLivingExpenses,
+            savedGroupTransaction.livingExpenses()
+        );
+        postLivingExpenseShares(userGroupId, transactionDate);
+
         if (!personalTransaction.income().equals(income)) {
             personalTransaction.updateIncome(income);
         }
-        personalTransaction.clearPersonalExpenses();
-        for (PersonalExpenseInput input : personalExpenses) {
-            personalTransaction.addPersonalExpense(input.amount(), input.memo());
-        }
+        personalTransaction.replacePersonalExpenses(
+            personalExpenses.stream().map(input -> new PersonalExpenseEntry(input.amount(), input.memo())).toList()
+        );
         DailyPersonalTransaction savedPersonalTransaction = dailyPersonalTransactionRepository.save(
             personalTransaction
         );
-
-        DailyGroupTransaction groupTransaction = dailyGroupTransactionRepository
-            .findByUserGroupIdAndTransactionDate(userGroupId, transactionDate)
-            .orElseThrow(() -> new ResourceNotFoundException("DailyGroupTransaction not found for " + transactionDate));
-        groupTransaction.removeLivingExpensesOf(currentUser.id());
-        for (LivingExpenseInput input : livingExpenses) {
-            groupTransaction.addLivingExpense(currentUser.id(), input.categoryId(), input.amount(), input.memo());
-        }
-        DailyGroupTransaction savedGroupTransaction = dailyGroupTransactionRepository.save(groupTransaction);
+        postPersonalTransaction(savedPersonalTransaction);
 
         return buildInfo(
             currentUser.id(),
@@ -190,26 +354,70 @@ public class TransactionService {
     }
 
     public void deleteDailyTransaction(UserId currentUserId, LocalDate transactionDate) {
-        User currentUser = getCurrentUser(currentUserId);
+        UserMembership currentUser = getCurrentUser(currentUserId);
         UserGroupId userGroupId = currentUserGroupId(currentUser);
+        lockGroupDay(userGroupId, transactionDate);
 
         DailyPersonalTransaction personalTransaction = dailyPersonalTransactionRepository
             .findByUserIdAndTransactionDate(currentUser.id(), transactionDate)
             .orElseThrow(() ->
                 new ResourceNotFoundException("DailyPersonalTransaction not found for " + transactionDate)
             );
-        dailyPersonalTransactionRepository.delete(personalTransaction);
 
         dailyGroupTransactionRepository
             .findByUserGroupIdAndTransactionDate(userGroupId, transactionDate)
             .ifPresent(groupTransaction -> {
+                Money previousTotalLivingExpense = groupTransaction.calculateTotalLivingExpense();
+                List<DailyLivingExpenseInfo> previousLivingExpenses = groupTransaction.livingExpenses();
                 groupTransaction.removeLivingExpensesOf(currentUser.id());
-                if (groupTransaction.livingExpenses().isEmpty()) {
+                boolean headerDeleted = groupTransaction.livingExpenses().isEmpty();
+                if (headerDeleted) {
                     dailyGroupTransactionRepository.delete(groupTransaction);
                 } else {
-                    dailyGroupTransactionRepository.save(groupTransaction);
+                    dailyGroupTransactionRepository.saveLivingExpensesOf(groupTransaction, currentUser.id());
+                }
+                budgetService.recordLivingExpenseChange(
+                    userGroupId,
+                    transactionDate,
+                    previousTotalLivingExpense,
+                    groupTransaction.calculateTotalLivingExpense()
+                );
+                livingExpenseCategoryRollupRepository.applyChange(
+                    userGroupId,
+                    transactionDate,
+                    previousLivingExpenses,
+                    groupTransaction.livingExpenses()
+                );
+                if (headerDeleted) {
+                    accountService.cancelLivingExpenseShares(userGroupId, groupTransaction.id());
+                } else {
+                    postLivingExpenseShares(userGroupId, transactionDate);
                 }
             });
+
+        dailyPersonalTransactionRepository.delete(personalTransaction);
+        accountService.cancelLedgerEntry(
+            LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+            personalTransaction.id().toString()
+        );
+    }
+
+    /**
+     * 収支エクスポートの対象を確定する。グループ未所属の場合は出力を始める前にここで例外とする。
+     */
+    public TransactionExportScope resolveExportScope(UserId currentUserId) {
+        UserMembership currentUser = getCurrentUser(currentUserId);
+        return new TransactionExportScope(currentUser.id(), currentUserGroupId(currentUser));
+    }
+
+    /**
+     * 対象ユーザーの日次個人収支と所属グループの日次グループ収支の全明細を、取引日の昇順に action へ渡す。
+     *
+     * <p>明細はカーソルで1行ずつ読み出して渡すため、履歴の長さに関係なくメモリ使用量は一定に保たれる。
+     */
+    @Transactional(readOnly = true)
+    public void exportTransactions(TransactionExportScope scope, Consumer<TransactionExportRow> action) {
+        transactionExportRepository.forEachRow(scope.userId(), scope.userGroupId(), action);
     }
 
     private DailyTransactionInfo buildInfo(
@@ -218,6 +426,22 @@ public class TransactionService {
         DailyGroupTransaction groupTransaction,
         DailyPersonalTransaction personalTransaction,
         int groupMemberCount
+    ) {
+        return buildInfo(
+            transactionDate,
+            groupTransaction,
+            personalTransaction,
+            groupMemberCount,
+            budgetService.calculateBudgetBalance(currentUserId, transactionDate)
+        );
+    }
+
+    private DailyTransactionInfo buildInfo(
+        LocalDate transactionDate,
+        DailyGroupTransaction groupTransaction,
+        DailyPersonalTransaction personalTransaction,
+        int groupMemberCount,
+        Money budgetBalance
     ) {
         Money income = personalTransaction != null ? personalTransaction.income() : new Money(0);
         List<DailyPersonalExpenseInfo> personalExpenses = personalTransaction != null
@@ -235,7 +459,6 @@ public class TransactionService {
             : new Money(0);
 
         Money totalExpense = calculateTotalExpense(totalLivingExpense, totalPersonalExpense, groupMemberCount);
-        Money budgetBalance = budgetService.calculateBudgetBalance(currentUserId, transactionDate);
 
         return new DailyTransactionInfo(
             transactionDate,
@@ -0,0 +1,66 @@
+package com.takata_kento.household_expenses.application.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
+import com.takata_kento.household_expenses.domain.user.UserMembershipRepository;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ユーザー ID から所属グループ情報を引くためのキャッシュ。
+ *
+ * <p>件数上限と有効期限（書き込みからの経過時間）を持つ。グループの作成・脱退・招待の承諾で所属が変わった
+ * 場合は {@link #evict(UserId)} で明示的に破棄する。
+ *
+ * <p>キャッシュはプロセスごとに持ち、破棄は所属を変更したインスタンスにしか届かない。他のインスタンスは
+ * 有効期限が切れるまで変更前の所属で所属確認を行うため、有効期限は数秒に抑える。同じユーザーの
+ * 連続したリクエストでの読み込みを省ければ十分で、それより長く保持しない。
+ */
+@Component
+public class UserMembershipCache {
+
+    private final UserMembershipRepository userMembershipRepository;
+    private final Cache<UserId, UserMembership> cache;
+
+    public UserMembershipCache(
+        UserMembershipRepository userMembershipRepository,
+        @Value("${app.membership-cache.maximum-size:10000}") long maximumSize,
+        @Value("${app.membership-cache.ttl:PT5S}") Duration ttl
+    ) {
+        this.userMembershipRepository = userMembershipRepository;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+    }
+
+    public UserMembership get(UserId userId) {
+        UserMembership membership = cache.get(userId, id -> userMembershipRepository.findById(id).orElse(null));
+        if (membership == null) {
+            throw new IllegalStateException("User not found: " + userId);
+        }
+        return membership;
+    }
+
+    /**
+     * 指定ユーザーのキャッシュを破棄する。
+     *
+     * <p>トランザクション中であれば、コミット前に他のリクエストが古い所属を読み込んでキャッシュし直す
+     * ことがあるため、トランザクション終了時にもう一度破棄する。
+     */
+    public void evict(UserId userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.invalidate(userId);
+                    }
+                }
+            );
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.takata_kento.household_expenses.application.user;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.domain.user.GroupInvitation;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationInfo;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationRepository;
 import com.takata_kento.household_expenses.domain.user.User;
 import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
 import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,9 +20,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final GroupInvitationRepository groupInvitationRepository;
+    private final UserGroupMemberCountRepository userGroupMemberCountRepository;
+    private final UserMembershipCache userMembershipCache;
+    private final AccountService accountService;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(
+        UserRepository userRepository,
+        GroupInvitationRepository groupInvitationRepository,
+        UserGroupMemberCountRepository userGroupMemberCountRepository,
+        UserMembershipCache userMembershipCache,
+        AccountService accountService
+    ) {
         this.userRepository = userRepository;
+        this.groupInvitationRepository = groupInvitationRepository;
+        this.userGroupMemberCountRepository = userGroupMemberCountRepository;
+        this.userMembershipCache = userMembershipCache;
+        this.accountService = accountService;
     }
 
     private User getCurrentUser(UserId userId) {
@@ -23,15 +45,44 @@ public class UserService {
             .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
     }
 
+    private GroupInvitation getInvitation(GroupInvitationId invitationId) {
+        return groupInvitationRepository
+            .findById(invitationId)
+            .orElseThrow(() -> new IllegalArgumentException("Invitation not found"));
+    }
+
     public void acceptGroupInvitation(UserId currentUserId, GroupInvitationId invitationId) {
         User user = getCurrentUser(currentUserId);
-        user.accept(invitationId);
+        GroupInvitation invitation = getInvitation(invitationId);
+        Optional<UserGroupId> previousUserGroupId = user.userGroupId();
+        user.accept(invitation);
+        groupInvitationRepository.save(invitation);
         userRepository.save(user);
+        if (!previousUserGroupId.equals(user.userGroupId())) {
+            previousUserGroupId.ifPresent(userGroupId -> {
+                userGroupMemberCountRepository.decrement(userGroupId);
+                accountService.reallocateGroupShares(userGroupId, Optional.of(user.id()));
+            });
+            user.userGroupId().ifPresent(userGroupId -> {
+                userGroupMemberCountRepository.increment(userGroupId);
+                accountService.reallocateGroupShares(userGroupId, Optional.empty());
+            });
+        }
+        userMembershipCache.evict(user.id());
     }
 
     public void rejectGroupInvitation(UserId currentUserId, GroupInvitationId invitationId) {
         User user = getCurrentUser(currentUserId);
-        user.reject(invitationId);
-        userRepository.save(user);
+        GroupInvitation invitation = getInvitation(invitationId);
+        user.reject(invitation);
+        groupInvitationRepository.save(invitation);
+    }
+
+    public List<GroupInvitationInfo> getPendingInvitations(UserId currentUserId) {
+        return groupInvitationRepository
+            .findPendingByInvitedUserId(currentUserId)
+            .stream()
+            .map(GroupInvitationInfo::from)
+            .toList();
     }
 }
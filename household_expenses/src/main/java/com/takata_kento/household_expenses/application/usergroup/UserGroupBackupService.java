@@ -0,0 +1,150 @@
+package com.takata_kento.household_expenses.application.usergroup;
+
+import com.takata_kento.household_expenses.application.exception.ConflictException;
+import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupBackupRepository;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupRepository;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 管理者向けのグループ単位のバックアップと復元。
+ *
+ * <p>グループに属するテーブルの行を {@link UserGroupBackupRepository} の COPY でテーブルごとの CSV に書き出し、
+ * 1つの ZIP アーカイブ（エントリ名は「テーブル名.csv」）にまとめる。書き出しは1つのスナップショットから読み、
+ * テーブル間で整合した状態を保存する。復元はアーカイブ全体を1トランザクションで取り込み、途中で失敗すれば
+ * 何も残さない。同じスキーマのアーカイブだけを復元でき、復元先に同じIDのグループがあるか、いずれかの行の
+ * 主キー・一意キー（ユーザー名や口座番号など）が既存の行と重なれば何も挿入せずに復元しない。
+ */
+@Service
+public class UserGroupBackupService {
+
+    static final String ENTRY_SUFFIX = ".csv";
+
+    private static final Logger log = LoggerFactory.getLogger(UserGroupBackupService.class);
+
+    private final UserGroupBackupRepository userGroupBackupRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final UserGroupMemberCountRepository userGroupMemberCountRepository;
+    private final UserMembershipCache userMembershipCache;
+
+    public UserGroupBackupService(
+        UserGroupBackupRepository userGroupBackupRepository,
+        UserGroupRepository userGroupRepository,
+        UserGroupMemberCountRepository userGroupMemberCountRepository,
+        UserMembershipCache userMembershipCache
+    ) {
+        this.userGroupBackupRepository = userGroupBackupRepository;
+        this.userGroupRepository = userGroupRepository;
+        this.userGroupMemberCountRepository = userGroupMemberCountRepository;
+        this.userMembershipCache = userMembershipCache;
+    }
+
+    /**
+     * バックアップするグループの存在を確認する。アーカイブを書き始める前に呼び出す。
+     */
+    @Transactional(readOnly = true)
+    public void ensureUserGroupExists(UserGroupId userGroupId) {
+        if (!userGroupRepository.existsById(userGroupId)) {
+            throw new ResourceNotFoundException("UserGroup not found: " + userGroupId);
+        }
+    }
+
+    /**
+     * userGroupId のバックアップを ZIP アーカイブとして outputStream へ書き出す。outputStream は閉じない。
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void backup(UserGroupId userGroupId, OutputStream outputStream) {
+        try {
+            ZipOutputStream zip = new ZipOutputStream(outputStream);
+            long totalRows = 0;
+            for (String tableName : UserGroupBackupRepository.TABLES) {
+                zip.putNextEntry(new ZipEntry(tableName + ENTRY_SUFFIX));
+                totalRows += userGroupBackupRepository.copyOut(userGroupId, tableName, zip);
+                zip.closeEntry();
+            }
+            zip.finish();
+            log.info("user group backup written: userGroupId={}, rows={}", userGroupId, totalRows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@link #backup} で書き出したアーカイブを inputStream から読み込み、グループを復元する。
+     */
+    @Transactional
+    public UserGroupRestoreResult restore(InputStream inputStream) {
+        userGroupBackupRepository.createStagingTables();
+        Set<String> tableNames = new HashSet<>();
+        try {
+            ZipInputStream zip = new ZipInputStream(inputStream);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String tableName = tableName(entry);
+                if (!tableNames.add(tableName)) {
+                    throw new IllegalArgumentException("Duplicate backup entry: " + entry.getName());
+                }
+                userGroupBackupRepository.copyIn(tableName, zip);
+            }
+        } catch (ZipException e) {
+            throw new IllegalArgumentException("Invalid backup archive", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!tableNames.containsAll(UserGroupBackupRepository.TABLES)) {
+            throw new IllegalArgumentException("Backup archive is missing tables");
+        }
+
+        List<UserGroupId> userGroupIds = userGroupBackupRepository.findStagedUserGroupIds();
+        if (userGroupIds.size() != 1) {
+            throw new IllegalArgumentException("Backup archive must contain exactly one UserGroup");
+        }
+        UserGroupId userGroupId = userGroupIds.getFirst();
+        if (userGroupRepository.existsById(userGroupId)) {
+            throw new ConflictException("UserGroup already exists: " + userGroupId);
+        }
+        List<String> conflictingTables = userGroupBackupRepository.findConflictingTables();
+        if (!conflictingTables.isEmpty()) {
+            throw new ConflictException("Backup archive conflicts with existing rows in " + conflictingTables);
+        }
+        Map<String, Integer> restoredRows;
+        try {
+            restoredRows = userGroupBackupRepository.restoreFromStaging();
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Backup archive conflicts with existing data: " + e.getMessage());
+        }
+        userGroupMemberCountRepository.recalculate(userGroupId);
+        userGroupBackupRepository.findStagedUserIds().forEach(userMembershipCache::evict);
+        log.info("user group restored: userGroupId={}, rows={}", userGroupId, restoredRows);
+        return new UserGroupRestoreResult(userGroupId, restoredRows);
+    }
+
+    private static String tableName(ZipEntry entry) {
+        String name = entry.getName();
+        String tableName = name.endsWith(ENTRY_SUFFIX) ? name.substring(0, name.length() - ENTRY_SUFFIX.length()) : "";
+        if (!UserGroupBackupRepository.TABLES.contains(tableName)) {
+            throw new IllegalArgumentException("Unknown backup entry: " + name);
+        }
+        return tableName;
+    }
+}
@@ -0,0 +1,52 @@
+package com.takata_kento.household_expenses.application.usergroup;
+
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountDrift;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * グループの所属人数（user_group.member_count）と実際の所属ユーザー数を突き合わせ、ずれていれば修復する。
+ *
+ * <p>検出したずれはログと件数メトリクスに残す。
+ */
+@Component
+public class UserGroupMemberCountChecker {
+
+    static final String DRIFT_METRIC = "household.user_group.member_count.drift";
+
+    private static final Logger log = LoggerFactory.getLogger(UserGroupMemberCountChecker.class);
+
+    private final UserGroupMemberCountRepository userGroupMemberCountRepository;
+    private final MeterRegistry meterRegistry;
+
+    public UserGroupMemberCountChecker(
+        UserGroupMemberCountRepository userGroupMemberCountRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.userGroupMemberCountRepository = userGroupMemberCountRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${app.member-count-check.cron:0 0 4 * * *}")
+    @Transactional
+    public List<UserGroupMemberCountDrift> checkAndRepair() {
+        List<UserGroupMemberCountDrift> drifts = userGroupMemberCountRepository.findDrifts();
+        for (UserGroupMemberCountDrift drift : drifts) {
+            log.warn(
+                "member_count drift detected: userGroupId={}, stored={}, actual={}",
+                drift.userGroupId(),
+                drift.storedCount(),
+                drift.actualCount()
+            );
+            userGroupMemberCountRepository.recalculate(drift.userGroupId());
+        }
+        meterRegistry.counter(DRIFT_METRIC).increment(drifts.size());
+        return drifts;
+    }
+}
@@ -0,0 +1,12 @@
+package com.takata_kento.household_expenses.application.usergroup;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.util.Map;
+
+/**
+ * グループの復元結果。
+ *
+ * @param userGroupId 復元したグループのID
+ * @param restoredRows テーブル名ごとの挿入行数（既存の行と重なり挿入しなかった行は含まない）
+ */
+public record UserGroupRestoreResult(UserGroupId userGroupId, Map<String, Integer> restoredRows) {}
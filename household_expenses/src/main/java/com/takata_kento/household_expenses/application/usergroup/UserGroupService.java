@@ -1,12 +1,19 @@
 package com.takata_kento.household_expenses.application.usergroup;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.application.budget.BudgetService;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.user.GroupInvitation;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationRepository;
 import com.takata_kento.household_expenses.domain.user.User;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.user.UserRepository;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroup;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroupRepository;
 import com.takata_kento.household_expenses.domain.valueobject.Day;
 import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
@@ -15,6 +22,7 @@ import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,11 +31,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserGroupService {
 
     private final UserGroupRepository userGroupRepository;
+    private final UserGroupMemberCountRepository userGroupMemberCountRepository;
     private final UserRepository userRepository;
+    private final GroupInvitationRepository groupInvitationRepository;
+    private final BudgetService budgetService;
+    private final UserMembershipCache userMembershipCache;
+    private final AccountService accountService;
 
-    public UserGroupService(UserGroupRepository userGroupRepository, UserRepository userRepository) {
+    public UserGroupService(
+        UserGroupRepository userGroupRepository,
+        UserGroupMemberCountRepository userGroupMemberCountRepository,
+        UserRepository userRepository,
+        GroupInvitationRepository groupInvitationRepository,
+        BudgetService budgetService,
+        UserMembershipCache userMembershipCache,
+        AccountService accountService
+    ) {
         this.userGroupRepository = userGroupRepository;
+        this.userGroupMemberCountRepository = userGroupMemberCountRepository;
         this.userRepository = userRepository;
+        this.groupInvitationRepository = groupInvitationRepository;
+        this.budgetService = budgetService;
+        this.userMembershipCache = userMembershipCache;
+        this.accountService = accountService;
     }
 
     private User getCurrentUser(UserId userId) {
@@ -36,6 +62,12 @@ public class UserGroupService {
             .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
     }
 
+    private UserGroupId currentUserGroupId(UserMembership currentUser) {
+        return currentUser
+            .userGroupId()
+            .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
+    }
+
     public UserGroup createGroup(UserId currentUserId, GroupName groupName) {
         User currentUser = getCurrentUser(currentUserId);
         if (!currentUser.canCreateGroup()) {
@@ -45,6 +77,9 @@ public class UserGroupService {
         UserGroup savedUserGroup = userGroupRepository.save(userGroup);
         currentUser.joinGroup(savedUserGroup.id());
         userRepository.save(currentUser);
+        userGroupMemberCountRepository.increment(savedUserGroup.id());
+        budgetService.regenerateBudgetPeriods(savedUserGroup.id(), savedUserGroup.monthStartDay());
+        userMembershipCache.evict(currentUser.id());
         return savedUserGroup;
     }
 
@@ -56,33 +91,33 @@ public class UserGroupService {
         User invitee = userRepository
             .findByUsername(username)
             .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
-        GroupInvitationId invitationId = currentUser.invite(invitee);
-        userRepository.save(invitee);
-        return invitationId;
+        GroupInvitation invitation = currentUser.invite(invitee);
+        groupInvitationRepository.save(invitation);
+        return invitation.id();
     }
 
     public void leaveGroup(UserId currentUserId) {
         User currentUser = getCurrentUser(currentUserId);
-        if (!currentUser.canLeaveGroup()) {
-            throw new GroupMembershipRequiredException("User does not belong to any group");
-        }
+        UserGroupId userGroupId = currentUser
+            .userGroupId()
+            .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
         currentUser.leaveGroup();
         userRepository.save(currentUser);
+        userGroupMemberCountRepository.decrement(userGroupId);
+        // 残るメンバーの人数で生活費を割り直し、抜けたメンバーの負担分は取り消す
+        accountService.reallocateGroupShares(userGroupId, Optional.of(currentUser.id()));
+        userMembershipCache.evict(currentUser.id());
     }
 
     public List<User> getGroupMembers(UserId currentUserId) {
-        User currentUser = getCurrentUser(currentUserId);
-        UserGroupId userGroupId = currentUser
-            .userGroupId()
-            .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
+        UserMembership currentUser = userMembershipCache.get(currentUserId);
+        UserGroupId userGroupId = currentUserGroupId(currentUser);
         return userRepository.findByUserGroupId(userGroupId);
     }
 
     public UserGroup updateGroupName(UserId currentUserId, GroupName groupName) {
-        User currentUser = getCurrentUser(currentUserId);
-        UserGroupId userGroupId = currentUser
-            .userGroupId()
-            .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
+        UserMembership currentUser = userMembershipCache.get(currentUserId);
+        UserGroupId userGroupId = currentUserGroupId(currentUser);
         UserGroup userGroup = userGroupRepository
             .findById(userGroupId)
             .orElseThrow(() -> new IllegalStateException("UserGroup not found: " + userGroupId));
@@ -94,14 +129,18 @@ public class UserGroupService {
     }
 
     public UserGroup updateMonthStartDay(UserId currentUserId, Day day) {
-        User currentUser = getCurrentUser(currentUserId);
-        UserGroupId userGroupId = currentUser
-            .userGroupId()
-            .orElseThrow(() -> new GroupMembershipRequiredException("User does not belong to any group"));
+        UserMembership currentUser = userMembershipCache.get(currentUserId);
+        UserGroupId userGroupId = currentUserGroupId(currentUser);
         UserGroup userGroup = userGroupRepository
             .findById(userGroupId)
             .orElseThrow(() -> new IllegalStateException("UserGroup not found: " + userGroupId));
+        boolean periodChanged = !userGroup.monthStartDay().equals(day);
         userGroup.updateMonthStartDay(day);
-        return userGroupRepository.save(userGroup);
+        UserGroup savedUserGroup = userGroupRepository.save(userGroup);
+        if (periodChanged) {
+            budgetService.regenerateBudgetPeriods(userGroupId, day);
+            budgetService.rebuildSpendLedger(userGroupId, day);
+        }
+        return savedUserGroup;
     }
 }
@@ -0,0 +1,8 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+
+/**
+ * financial_account.balance と台帳の合計が一致しない口座。
+ */
+public record AccountBalanceDrift(FinancialAccountId financialAccountId, int storedBalance, int ledgerBalance) {}
@@ -0,0 +1,18 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import java.time.LocalDate;
+
+/**
+ * 台帳に記録した増減額と、発生元のデータから再計算した増減額が一致しない台帳行。
+ *
+ * @param effectiveDate 台帳行に記録されている計上日
+ */
+public record AccountLedgerEntryDrift(
+    LedgerSourceType sourceType,
+    String sourceId,
+    FinancialAccountId financialAccountId,
+    int storedAmount,
+    int expectedAmount,
+    LocalDate effectiveDate
+) {}
@@ -0,0 +1,712 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 口座残高の増減台帳（account_ledger_entry）へのアクセス。
+ *
+ * <p>台帳は発生元（収支・貯金・固定費など）ごとに1行を持ち、その発生元が口座残高に与えている増減額を保持する。
+ * 発生元が変わるたびに前回の増減額との差分だけを financial_account.balance に加算するため、
+ * 残高の更新は履歴の件数に関係なく行単位の加算で済む。常に balance = 口座の台帳行の合計 が成り立つ。
+ *
+ * <p>台帳行は計上日（effective_date）を持ち、計上日より後の日付の {@code balance_checkpoint} にも同じ差分を加算する。
+ * これにより checkpoint.balance = 口座の台帳行のうち計上日が checkpoint_date より前のものの合計 も常に成り立つ。
+ */
+@Repository
+public class AccountLedgerRepository {
+
+    private static final int DAILY_AMOUNT_FETCH_SIZE = 500;
+
+    /**
+     * グループの発生元ごとのメンバーの負担分。%s は発生元・負担額・計上日を選ぶ SELECT で、members と
+     * member_count を参照する。端数の切り上げは {@code TransactionService#calculateTotalExpense} と同じ。
+     */
+    private static final String MEMBER_SHARES = """
+        members AS (
+            SELECT u.id AS user_id, a.id AS financial_account_id
+            FROM users u
+            LEFT JOIN financial_account a ON a.user_id = u.id AND a.is_main_account
+            WHERE u.user_group_id = :userGroupId
+        ),
+        member_count AS (
+            SELECT COUNT(*) AS n FROM users WHERE user_group_id = :userGroupId
+        ),
+        shares AS (
+            %s
+        ),
+        candidate AS (
+            SELECT source_id FROM shares
+        ),
+        target AS (
+            SELECT source_id, financial_account_id, amount, effective_date FROM shares
+            WHERE financial_account_id IS NOT NULL AND amount <> 0
+        )
+        """;
+
+    /**
+     * 日次グループ収支ごとの生活費の負担分（%s は日次グループ収支の絞り込み条件）。
+     */
+    private static final String LIVING_EXPENSE_SHARES = """
+        SELECT h.id || ':' || m.user_id AS source_id, m.financial_account_id,
+            -((h.total_living_expense + c.n - 1) / c.n)::integer AS amount, h.transaction_date AS effective_date
+        FROM daily_group_transaction h
+        CROSS JOIN members m
+        CROSS JOIN member_count c
+        WHERE h.user_group_id = :userGroupId %s
+        """;
+
+    /**
+     * 固定費の履歴ごとの負担分（%s は履歴の絞り込み条件）。計上日が未設定の履歴はその月の1日に計上する。
+     */
+    private static final String FIXED_EXPENSE_SHARES = """
+        SELECT h.id || ':' || m.user_id AS source_id, m.financial_account_id,
+            -((h.amount + c.n - 1) / c.n)::integer AS amount,
+            COALESCE(h.effective_date, make_date(h.year, h.month, 1)) AS effective_date
+        FROM fixed_expense_history h
+        JOIN fixed_expense_category f ON f.id = h.fixed_expense_category_id
+        CROSS JOIN members m
+        CROSS JOIN member_count c
+        WHERE f.user_group_id = :userGroupId %s
+        """;
+
+    /**
+     * グループを抜けたユーザーの負担分の発生元（%s は発生元の ID を id 列で返す SELECT）。すべて取り消す。
+     */
+    private static final String DEPARTED_SHARES = """
+        candidate AS (
+            SELECT s.id || ':' || CAST(:departedUserId AS text) AS source_id FROM (%s) s
+        ),
+        target AS (
+            SELECT source_id, NULL::varchar AS financial_account_id, 0 AS amount, NULL::date AS effective_date
+            FROM candidate WHERE FALSE
+        )
+        """;
+
+    private final JdbcClient jdbcClient;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public AccountLedgerRepository(JdbcClient jdbcClient, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * 発生元の増減額を amount に置き換え、前回との差分を口座残高へ反映する。
+     * amount が 0 の場合は台帳行を削除する。
+     *
+     * <p>同じ発生元が別の口座に記録されていた場合は、その口座から取り消してから account へ計上する。
+     *
+     * @param effectiveDate 増減が残高に反映される日（収支の取引日など）
+     */
+    public void post(
+        LedgerSourceType sourceType,
+        String sourceId,
+        FinancialAccountId accountId,
+        int amount,
+        LocalDate effectiveDate
+    ) {
+        Optional<Entry> stored = findEntryForUpdate(sourceType, sourceId);
+        int delta = amount;
+        int checkpointDelta = amount;
+        if (stored.isPresent()) {
+            Entry entry = stored.get();
+            if (entry.financialAccountId().equals(accountId)) {
+                delta -= entry.amount();
+            } else {
+                applyBalanceDelta(entry.financialAccountId(), -entry.amount());
+            }
+            if (entry.financialAccountId().equals(accountId) && entry.effectiveDate().equals(effectiveDate)) {
+                checkpointDelta -= entry.amount();
+            } else {
+                shiftCheckpointsAfter(entry.financialAccountId(), entry.effectiveDate(), -entry.amount());
+            }
+        }
+        if (amount == 0) {
+            deleteEntry(sourceType, sourceId);
+        } else {
+            upsertEntry(sourceType, sourceId, accountId, amount, effectiveDate);
+        }
+        applyBalanceDelta(accountId, delta);
+        shiftCheckpointsAfter(accountId, effectiveDate, checkpointDelta);
+    }
+
+    /**
+     * 台帳に未記録の発生元の増減をまとめて計上する。収支の一括取り込みのように発生元がすべて新規の場合に使用する。
+     *
+     * <p>台帳行は JDBC バッチで挿入し、口座残高へは合計を1回で加算する。チェックポイントへは、
+     * 計上日がそのチェックポイントより前の増減の合計をチェックポイントごとに1回で加算する。
+     */
+    public void postNew(FinancialAccountId accountId, List<LedgerPosting> postings) {
+        List<LedgerPosting> nonZeroPostings = postings.stream().filter(posting -> posting.amount() != 0).toList();
+        if (nonZeroPostings.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = nonZeroPostings
+            .stream()
+            .map(posting ->
+                new MapSqlParameterSource()
+                    .addValue("sourceType", posting.sourceType().name())
+                    .addValue("sourceId", posting.sourceId())
+                    .addValue("accountId", accountId.toString())
+                    .addValue("amount", posting.amount())
+                    .addValue("effectiveDate", posting.effectiveDate())
+            )
+            .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(
+            """
+            INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+            VALUES (:sourceType, :sourceId, :accountId, :amount, :effectiveDate)
+            """,
+            batch
+        );
+        applyBalanceDelta(accountId, nonZeroPostings.stream().mapToInt(LedgerPosting::amount).sum());
+        LocalDate earliest = nonZeroPostings
+            .stream()
+            .map(LedgerPosting::effectiveDate)
+            .min(LocalDate::compareTo)
+            .orElseThrow();
+        List<LocalDate> checkpointDates = jdbcClient
+            .sql(
+                """
+                SELECT checkpoint_date FROM balance_checkpoint
+                WHERE financial_account_id = :accountId AND checkpoint_date > :earliest
+                """
+            )
+            .param("accountId", accountId.toString())
+            .param("earliest", earliest)
+            .query(LocalDate.class)
+            .list();
+        for (LocalDate checkpointDate : checkpointDates) {
+            int delta = nonZeroPostings
+                .stream()
+                .filter(posting -> posting.effectiveDate().isBefore(checkpointDate))
+                .mapToInt(LedgerPosting::amount)
+                .sum();
+            if (delta != 0) {
+                jdbcClient
+                    .sql(
+                        """
+                        UPDATE balance_checkpoint SET balance = balance + :delta
+                        WHERE financial_account_id = :accountId AND checkpoint_date = :checkpointDate
+                        """
+                    )
+                    .param("delta", delta)
+                    .param("accountId", accountId.toString())
+                    .param("checkpointDate", checkpointDate)
+                    .update();
+            }
+        }
+    }
+
+    /**
+     * 発生元の増減額を取り消し、台帳行を削除する。記録がなければ何もしない。
+     */
+    public void cancel(LedgerSourceType sourceType, String sourceId) {
+        findEntryForUpdate(sourceType, sourceId).ifPresent(stored -> {
+            applyBalanceDelta(stored.financialAccountId(), -stored.amount());
+            shiftCheckpointsAfter(stored.financialAccountId(), stored.effectiveDate(), -stored.amount());
+            deleteEntry(sourceType, sourceId);
+        });
+    }
+
+    /**
+     * グループの from〜to の日次グループ収支の生活費合計を現在のメンバーで割り、1人分の負担額
+     * （生活費合計 ÷ グループ人数、端数切り上げ）を各メンバーのメイン口座に計上し直す。
+     * 発生元はメンバーごとに「日次グループ収支ID:ユーザーID」とする。
+     *
+     * <p>人数は users テーブルから数える。メイン口座のないメンバーの負担分は計上せず、以前の計上分を取り消す。
+     * 負担額が変わらない行は更新しない。
+     */
+    public void postLivingExpenseShares(UserGroupId userGroupId, LocalDate from, LocalDate to) {
+        replaceGroupShares(
+            userGroupId,
+            null,
+            LedgerSourceType.DAILY_LIVING_EXPENSE,
+            MEMBER_SHARES.formatted(
+                LIVING_EXPENSE_SHARES.formatted("AND h.transaction_date BETWEEN :from AND :to")
+            ),
+            new MapSqlParameterSource().addValue("from", from).addValue("to", to)
+        );
+    }
+
+    /**
+     * 削除した日次グループ収支について、メンバーの負担分の計上を取り消す。
+     */
+    public void cancelLivingExpenseShares(UserGroupId userGroupId, DailyGroupTransactionId groupTransactionId) {
+        replaceGroupShares(
+            userGroupId,
+            null,
+            LedgerSourceType.DAILY_LIVING_EXPENSE,
+            """
+            candidate AS (
+                SELECT CAST(:groupTransactionId AS text) || ':' || u.id AS source_id
+                FROM users u WHERE u.user_group_id = :userGroupId
+            ),
+            target AS (
+                SELECT source_id, NULL::varchar AS financial_account_id, 0 AS amount, NULL::date AS effective_date
+                FROM candidate WHERE FALSE
+            )
+            """,
+            new MapSqlParameterSource().addValue("groupTransactionId", groupTransactionId.toString())
+        );
+    }
+
+    /**
+     * 固定費の履歴の金額を現在のメンバーで割り、1人分の負担額を各メンバーのメイン口座に計上し直す。
+     * 発生元はメンバーごとに「固定費の履歴ID:ユーザーID」とし、金額を設定したメンバーには依存しない。
+     */
+    public void postFixedExpenseShares(UserGroupId userGroupId, FixedExpenseHistoryId historyId) {
+        replaceGroupShares(
+            userGroupId,
+            null,
+            LedgerSourceType.FIXED_EXPENSE,
+            MEMBER_SHARES.formatted(FIXED_EXPENSE_SHARES.formatted("AND h.id = :historyId")),
+            new MapSqlParameterSource().addValue("historyId", historyId.value())
+        );
+    }
+
+    /**
+     * グループの人数が変わった後に、すべての日の生活費と固定費の負担分を現在のメンバーで割り直して計上し直す。
+     * departedUserId にはグループを抜けたユーザーを渡し、そのユーザーの負担分の計上を取り消す。
+     * 参加・脱退と同じトランザクション内で、所属人数を更新した後に呼び出すこと。
+     */
+    public void reallocateGroupShares(UserGroupId userGroupId, Optional<UserId> departedUserId) {
+        departedUserId.ifPresent(userId -> {
+            replaceGroupShares(
+                userGroupId,
+                userId,
+                LedgerSourceType.DAILY_LIVING_EXPENSE,
+                DEPARTED_SHARES.formatted("SELECT id FROM daily_group_transaction WHERE user_group_id = :userGroupId"),
+                new MapSqlParameterSource()
+            );
+            replaceGroupShares(
+                userGroupId,
+                userId,
+                LedgerSourceType.FIXED_EXPENSE,
+                DEPARTED_SHARES.formatted(
+                    """
+                    SELECT h.id FROM fixed_expense_history h
+                    JOIN fixed_expense_category f ON f.id = h.fixed_expense_category_id
+                    WHERE f.user_group_id = :userGroupId
+                    """
+                ),
+                new MapSqlParameterSource()
+            );
+        });
+        replaceGroupShares(
+            userGroupId,
+            null,
+            LedgerSourceType.DAILY_LIVING_EXPENSE,
+            MEMBER_SHARES.formatted(LIVING_EXPENSE_SHARES.formatted("")),
+            new MapSqlParameterSource()
+        );
+        replaceGroupShares(
+            userGroupId,
+            null,
+            LedgerSourceType.FIXED_EXPENSE,
+            MEMBER_SHARES.formatted(FIXED_EXPENSE_SHARES.formatted("")),
+            new MapSqlParameterSource()
+        );
+    }
+
+    /**
+     * 口座を ID の順にロックする。複数の口座へ計上する処理は、先にこれを呼び出してロックの順序をそろえる。
+     */
+    public void lockAccounts(List<FinancialAccountId> accountIds) {
+        jdbcClient
+            .sql("SELECT id FROM financial_account WHERE id IN (:accountIds) ORDER BY id FOR UPDATE")
+            .param("accountIds", accountIds.stream().map(FinancialAccountId::toString).toList())
+            .query(String.class)
+            .list();
+    }
+
+    /**
+     * 口座残高へ反映済みの増減を台帳に記録する。口座登録や残高の手動編集のように、
+     * {@link FinancialAccount} の保存で残高を書き換えた場合に使用する。
+     */
+    public void recordApplied(
+        LedgerSourceType sourceType,
+        String sourceId,
+        FinancialAccountId accountId,
+        int amount,
+        LocalDate effectiveDate
+    ) {
+        if (amount == 0) {
+            return;
+        }
+        upsertEntry(sourceType, sourceId, accountId, amount, effectiveDate);
+        shiftCheckpointsAfter(accountId, effectiveDate, amount);
+    }
+
+    /**
+     * 計上日が from 以降 to 以前の台帳行の増減額の合計を返す。
+     */
+    public int sumAmountsBetween(FinancialAccountId accountId, LocalDate from, LocalDate to) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT COALESCE(SUM(amount), 0) FROM account_ledger_entry
+                WHERE financial_account_id = :accountId AND effective_date BETWEEN :from AND :to
+                """
+            )
+            .param("accountId", accountId.toString())
+            .param("from", from)
+            .param("to", to)
+            .query(Integer.class)
+            .single();
+    }
+
+    /**
+     * 計上日が to 以前の台帳行の増減額の合計を返す。
+     */
+    public int sumAmountsUntil(FinancialAccountId accountId, LocalDate to) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT COALESCE(SUM(amount), 0) FROM account_ledger_entry
+                WHERE financial_account_id = :accountId AND effective_date <= :to
+                """
+            )
+            .param("accountId", accountId.toString())
+            .param("to", to)
+            .query(Integer.class)
+            .single();
+    }
+
+    /**
+     * 計上日が from より後 to 以前の増減額を日ごとに合計し、日付の昇順に handler へ渡す。
+     * 結果をリストに読み込まず、カーソルで1行ずつ処理する。
+     */
+    public void forEachDailyAmount(
+        FinancialAccountId accountId,
+        LocalDate from,
+        LocalDate to,
+        ObjIntConsumer<LocalDate> handler
+    ) {
+        jdbcClient
+            .sql(
+                """
+                SELECT effective_date, SUM(amount) AS amount FROM account_ledger_entry
+                WHERE financial_account_id = :accountId AND effective_date > :from AND effective_date <= :to
+                GROUP BY effective_date
+                ORDER BY effective_date
+                """
+            )
+            .param("accountId", accountId.toString())
+            .param("from", from)
+            .param("to", to)
+            .withFetchSize(DAILY_AMOUNT_FETCH_SIZE)
+            .query(rs -> {
+                handler.accept(rs.getObject("effective_date", LocalDate.class), rs.getInt("amount"));
+            });
+    }
+
+    /**
+     * 台帳に記録した増減額が、発生元のデータから再計算した値と一致しない行を返す。
+     * 発生元が削除されている場合や、生活費・固定費の負担分でユーザーがすでにグループを抜けている場合の再計算値は 0 とする。
+     * 口座登録時の残高は発生元がないため対象外。
+     * 日次収支は取引日で分割しているため、台帳の計上日（= 取引日）も条件に加えて該当する年の分割表だけを参照させる。
+     */
+    public List<AccountLedgerEntryDrift> findEntryDrifts() {
+        return jdbcClient
+            .sql(
+                """
+                SELECT source_type, source_id, financial_account_id, amount, effective_date, expected_amount
+                FROM (
+                    SELECT l.source_type, l.source_id, l.financial_account_id, l.amount, l.effective_date,
+                        COALESCE(
+                            CASE l.source_type
+                                WHEN 'BALANCE_EDIT' THEN
+                                    (SELECT h.new_balance - h.old_balance FROM balance_edit_history h WHERE h.id = l.source_id::uuid)
+                                WHEN 'DAILY_PERSONAL_TRANSACTION' THEN
+                                    (SELECT t.income - t.total_personal_expense
+                                     FROM daily_personal_transaction t
+                                     WHERE t.id = l.source_id::uuid AND t.transaction_date = l.effective_date)
+                                WHEN 'DAILY_LIVING_EXPENSE' THEN
+                                    (SELECT -((h.total_living_expense + c.n - 1) / c.n)::integer
+                                     FROM daily_group_transaction h
+                                     JOIN users u ON u.user_group_id = h.user_group_id
+                                     CROSS JOIN LATERAL (
+                                         SELECT COUNT(*) AS n FROM users m WHERE m.user_group_id = h.user_group_id
+                                     ) c
+                                     WHERE h.id = split_part(l.source_id, ':', 1)::uuid
+                                     AND h.transaction_date = l.effective_date
+                                     AND u.id = split_part(l.source_id, ':', 2)::uuid)
+                                WHEN 'MONTHLY_SAVING' THEN
+                                    (SELECT -s.saving_amount FROM monthly_saving s
+                                     WHERE s.id = l.source_id::uuid
+                                     AND s.financial_account_id <> l.financial_account_id)
+                                WHEN 'MONTHLY_SAVING_DEPOSIT' THEN
+                                    (SELECT s.saving_amount FROM monthly_saving s
+                                     WHERE s.id = l.source_id::uuid
+                                     AND s.financial_account_id = l.financial_account_id)
+                                WHEN 'FIXED_EXPENSE' THEN
+                                    (SELECT -((h.amount + c.n - 1) / c.n)::integer
+                                     FROM fixed_expense_history h
+                                     JOIN fixed_expense_category f ON f.id = h.fixed_expense_category_id
+                                     JOIN users u ON u.user_group_id = f.user_group_id
+                                     CROSS JOIN LATERAL (
+                                         SELECT COUNT(*) AS n FROM users m WHERE m.user_group_id = f.user_group_id
+                                     ) c
+                                     WHERE h.id = split_part(l.source_id, ':', 1)::uuid
+                                     AND u.id = split_part(l.source_id, ':', 2)::uuid)
+                                ELSE l.amount
+                            END,
+                            0
+                        ) AS expected_amount
+                    FROM account_ledger_entry l
+                ) recalculated
+                WHERE amount <> expected_amount
+                ORDER BY source_type, source_id
+                """
+            )
+            .query((rs, rowNum) ->
+                new AccountLedgerEntryDrift(
+                    LedgerSourceType.valueOf(rs.getString("source_type")),
+                    rs.getString("source_id"),
+                    new FinancialAccountId(rs.getString("financial_account_id")),
+                    rs.getInt("amount"),
+                    rs.getInt("expected_amount"),
+                    rs.getObject("effective_date", LocalDate.class)
+                )
+            )
+            .list();
+    }
+
+    /**
+     * 残高が台帳行の合計と一致しない口座を返す。
+     */
+    public List<AccountBalanceDrift> findBalanceDrifts() {
+        return jdbcClient
+            .sql(
+                """
+                SELECT a.id, a.balance, COALESCE(SUM(l.amount), 0) AS ledger_balance
+                FROM financial_account a
+                LEFT JOIN account_ledger_entry l ON l.financial_account_id = a.id
+                GROUP BY a.id, a.balance
+                HAVING a.balance <> COALESCE(SUM(l.amount), 0)
+                ORDER BY a.id
+                """
+            )
+            .query((rs, rowNum) ->
+                new AccountBalanceDrift(
+                    new FinancialAccountId(rs.getString("id")),
+                    rs.getInt("balance"),
+                    rs.getInt("ledger_balance")
+                )
+            )
+            .list();
+    }
+
+    /**
+     * メンバーの負担分の台帳行を target の内容に置き換え、差分を口座残高とチェックポイントへ反映する。
+     *
+     * <p>sharesSql は candidate（対象とする発生元ID）と target（計上すべき発生元ID・口座・増減額・計上日）の
+     * 2つの CTE を定義する。candidate に含まれ target にない台帳行は削除する。
+     *
+     * <p>先にグループ行を共有ロックし、参加・脱退で人数が変わる処理と直列化する。続けてメンバー
+     * （と抜けたユーザー）の口座を ID 順にロックし、同じグループの別の日の計上とデッドロックしないようにする。
+     */
+    private void replaceGroupShares(
+        UserGroupId userGroupId,
+        UserId departedUserId,
+        LedgerSourceType sourceType,
+        String sharesSql,
+        MapSqlParameterSource params
+    ) {
+        params
+            .addValue("userGroupId", userGroupId.value())
+            .addValue("departedUserId", departedUserId != null ? departedUserId.value() : null)
+            .addValue("sourceType", sourceType.name());
+        namedParameterJdbcTemplate.queryForList(
+            "SELECT id FROM user_group WHERE id = :userGroupId FOR SHARE",
+            params,
+            UUID.class
+        );
+        namedParameterJdbcTemplate.queryForList(
+            """
+            SELECT a.id FROM financial_account a
+            WHERE a.user_id IN (SELECT id FROM users WHERE user_group_id = :userGroupId)
+                OR a.user_id = CAST(:departedUserId AS uuid)
+            ORDER BY a.id
+            FOR UPDATE
+            """,
+            params,
+            String.class
+        );
+        namedParameterJdbcTemplate.update(
+            "WITH " +
+                sharesSql +
+                """
+                ,
+                stored AS (
+                    SELECT l.source_id, l.financial_account_id, l.amount, l.effective_date
+                    FROM account_ledger_entry l
+                    WHERE l.source_type = :sourceType AND l.source_id IN (SELECT source_id FROM candidate)
+                ),
+                changes AS (
+                    SELECT source_id,
+                        s.financial_account_id AS old_account_id, s.amount AS old_amount, s.effective_date AS old_date,
+                        t.financial_account_id AS new_account_id, t.amount AS new_amount, t.effective_date AS new_date
+                    FROM target t
+                    FULL JOIN stored s USING (source_id)
+                    WHERE (t.financial_account_id, t.amount, t.effective_date)
+                        IS DISTINCT FROM (s.financial_account_id, s.amount, s.effective_date)
+                ),
+                deleted AS (
+                    DELETE FROM account_ledger_entry l
+                    USING changes c
+                    WHERE l.source_type = :sourceType AND l.source_id = c.source_id AND c.new_account_id IS NULL
+                ),
+                upserted AS (
+                    INSERT INTO account_ledger_entry
+                        (source_type, source_id, financial_account_id, amount, effective_date)
+                    SELECT :sourceType, source_id, new_account_id, new_amount, new_date
+                    FROM changes WHERE new_account_id IS NOT NULL
+                    ON CONFLICT (source_type, source_id) DO UPDATE
+                    SET financial_account_id = EXCLUDED.financial_account_id, amount = EXCLUDED.amount,
+                        effective_date = EXCLUDED.effective_date
+                ),
+                deltas AS (
+                    SELECT old_account_id AS financial_account_id, old_date AS effective_date, -old_amount AS delta
+                    FROM changes WHERE old_account_id IS NOT NULL
+                    UNION ALL
+                    SELECT new_account_id, new_date, new_amount FROM changes WHERE new_account_id IS NOT NULL
+                ),
+                balances AS (
+                    UPDATE financial_account a SET balance = a.balance + d.delta, version = a.version + 1
+                    FROM (
+                        SELECT financial_account_id, SUM(delta) AS delta FROM deltas
+                        GROUP BY financial_account_id HAVING SUM(delta) <> 0
+                    ) d
+                    WHERE a.id = d.financial_account_id
+                )
+                UPDATE balance_checkpoint c SET balance = c.balance + d.delta
+                FROM (
+                    SELECT p.financial_account_id, p.checkpoint_date, SUM(x.delta) AS delta
+                    FROM balance_checkpoint p
+                    JOIN deltas x
+                        ON x.financial_account_id = p.financial_account_id AND x.effective_date < p.checkpoint_date
+                    GROUP BY p.financial_account_id, p.checkpoint_date
+                    HAVING SUM(x.delta) <> 0
+                ) d
+                WHERE c.financial_account_id = d.financial_account_id AND c.checkpoint_date = d.checkpoint_date
+                """,
+            params
+        );
+    }
+
+    private Optional<Entry> findEntryForUpdate(LedgerSourceType sourceType, String sourceId) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT financial_account_id, amount, effective_date FROM account_ledger_entry
+                WHERE source_type = :sourceType AND source_id = :sourceId
+                FOR UPDATE
+                """
+            )
+            .param("sourceType", sourceType.name())
+            .param("sourceId", sourceId)
+            .query((rs, rowNum) ->
+                new Entry(
+                    new FinancialAccountId(rs.getString("financial_account_id")),
+                    rs.getInt("amount"),
+                    rs.getObject("effective_date", LocalDate.class)
+                )
+            )
+            .optional();
+    }
+
+    private void upsertEntry(
+        LedgerSourceType sourceType,
+        String sourceId,
+        FinancialAccountId accountId,
+        int amount,
+        LocalDate effectiveDate
+    ) {
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO account_ledger_entry (source_type, source_id, financial_account_id, amount, effective_date)
+                VALUES (:sourceType, :sourceId, :accountId, :amount, :effectiveDate)
+                ON CONFLICT (source_type, source_id) DO UPDATE
+                SET financial_account_id = EXCLUDED.financial_account_id, amount = EXCLUDED.amount,
+                    effective_date = EXCLUDED.effective_date
+                """
+            )
+            .param("sourceType", sourceType.name())
+            .param("sourceId", sourceId)
+            .param("accountId", accountId.toString())
+            .param("amount", amount)
+            .param("effectiveDate", effectiveDate)
+            .update();
+    }
+
+    private void deleteEntry(LedgerSourceType sourceType, String sourceId) {
+        jdbcClient
+            .sql("DELETE FROM account_ledger_entry WHERE source_type = :sourceType AND source_id = :sourceId")
+            .param("sourceType", sourceType.name())
+            .param("sourceId", sourceId)
+            .update();
+    }
+
+    /**
+     * 口座残高に差分を加算する。{@link FinancialAccount} を読み込んで編集中の処理が古い残高で上書きしないよう、
+     * version も進める。残高を超える支出を計上した場合、残高は負になる。
+     */
+    private void applyBalanceDelta(FinancialAccountId accountId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        int updatedRows = jdbcClient
+            .sql(
+                """
+                UPDATE financial_account SET balance = balance + :delta, version = version + 1
+                WHERE id = :accountId
+                """
+            )
+            .param("delta", delta)
+            .param("accountId", accountId.toString())
+            .update();
+        if (updatedRows == 0) {
+            throw new IllegalStateException("FinancialAccount not found: " + accountId);
+        }
+    }
+
+    /**
+     * 計上日より後のチェックポイントに差分を加算する。チェックポイントは予算期間ごとに1行のため、
+     * 過去の日付への計上でも更新行数は遡った期間の数で済む。
+     */
+    private void shiftCheckpointsAfter(FinancialAccountId accountId, LocalDate effectiveDate, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        jdbcClient
+            .sql(
+                """
+                UPDATE balance_checkpoint SET balance = balance + :delta
+                WHERE financial_account_id = :accountId AND checkpoint_date > :effectiveDate
+                """
+            )
+            .param("delta", delta)
+            .param("accountId", accountId.toString())
+            .param("effectiveDate", effectiveDate)
+            .update();
+    }
+
+    private record Entry(FinancialAccountId financialAccountId, int amount, LocalDate effectiveDate) {}
+}
@@ -0,0 +1,14 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import java.time.LocalDate;
+
+/**
+ * 予算期間の開始日時点の口座残高。checkpointDate より前に計上された増減の合計を保持する。
+ *
+ * <p>過去の日付の収支を後から記録すると当時の残高は負になりうるため、{@code Money} ではなく int で表す。
+ *
+ * @param checkpointDate 予算期間の開始日
+ * @param balance checkpointDate の開始時点（当日分の増減を含まない）の残高
+ */
+public record BalanceCheckpoint(FinancialAccountId financialAccountId, LocalDate checkpointDate, int balance) {}
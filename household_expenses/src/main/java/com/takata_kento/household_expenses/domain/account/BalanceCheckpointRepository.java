@@ -0,0 +1,114 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 口座残高のチェックポイント（balance_checkpoint）へのアクセス。
+ *
+ * <p>任意の日付の残高を、直前のチェックポイントとその日付以降の台帳行だけから求めるために使う。
+ * チェックポイント作成後に過去の日付へ計上された増減は {@link AccountLedgerRepository} が反映するため、
+ * 一度作成したチェックポイントは再計算しない。月始日が変更されても、記録済みのチェックポイントは
+ * その日付時点の残高として正しいまま使える。
+ */
+@Repository
+public class BalanceCheckpointRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public BalanceCheckpointRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * date 以前で最も新しいチェックポイントを返す。
+     */
+    public Optional<BalanceCheckpoint> findLatestOnOrBefore(FinancialAccountId accountId, LocalDate date) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT financial_account_id, checkpoint_date, balance FROM balance_checkpoint
+                WHERE financial_account_id = :accountId AND checkpoint_date <= :date
+                ORDER BY checkpoint_date DESC
+                LIMIT 1
+                """
+            )
+            .param("accountId", accountId.toString())
+            .param("date", date)
+            .query((rs, rowNum) ->
+                new BalanceCheckpoint(
+                    new FinancialAccountId(rs.getString("financial_account_id")),
+                    rs.getObject("checkpoint_date", LocalDate.class),
+                    rs.getInt("balance")
+                )
+            )
+            .optional();
+    }
+
+    /**
+     * checkpointDate 時点のチェックポイントを作成する。既に存在する場合は何もせず false を返す。
+     *
+     * <p>残高は直前のチェックポイントに、その日付から checkpointDate の前日までの台帳行を加算して求めるため、
+     * 集計する台帳行はおおむね1期間分で済む。口座行をロックしてから集計し、並行して計上中の増減を取りこぼさない。
+     */
+    public boolean createIfAbsent(FinancialAccountId accountId, LocalDate checkpointDate) {
+        jdbcClient
+            .sql("SELECT id FROM financial_account WHERE id = :accountId FOR UPDATE")
+            .param("accountId", accountId.toString())
+            .query(String.class)
+            .optional();
+        int insertedRows = jdbcClient
+            .sql(
+                """
+                INSERT INTO balance_checkpoint (financial_account_id, checkpoint_date, balance)
+                SELECT :accountId, :checkpointDate,
+                    COALESCE(previous.balance, 0) + (
+                        SELECT COALESCE(SUM(l.amount), 0) FROM account_ledger_entry l
+                        WHERE l.financial_account_id = :accountId
+                        AND l.effective_date >= COALESCE(previous.checkpoint_date, DATE '0001-01-01')
+                        AND l.effective_date < :checkpointDate
+                    )
+                FROM (SELECT 1) AS target
+                LEFT JOIN LATERAL (
+                    SELECT c.checkpoint_date, c.balance FROM balance_checkpoint c
+                    WHERE c.financial_account_id = :accountId AND c.checkpoint_date < :checkpointDate
+                    ORDER BY c.checkpoint_date DESC
+                    LIMIT 1
+                ) previous ON TRUE
+                ON CONFLICT (financial_account_id, checkpoint_date) DO NOTHING
+                """
+            )
+            .param("accountId", accountId.toString())
+            .param("checkpointDate", checkpointDate)
+            .update();
+        return insertedRows > 0;
+    }
+
+    /**
+     * チェックポイントを記録する全口座を、所有者のグループの月始日とともに返す。
+     */
+    public List<BalanceCheckpointTarget> findTargets() {
+        return jdbcClient
+            .sql(
+                """
+                SELECT a.id, COALESCE(g.month_start_day, 1) AS month_start_day
+                FROM financial_account a
+                JOIN "users" u ON u.id = a.user_id
+                LEFT JOIN user_group g ON g.id = u.user_group_id
+                ORDER BY a.id
+                """
+            )
+            .query((rs, rowNum) ->
+                new BalanceCheckpointTarget(
+                    new FinancialAccountId(rs.getString("id")),
+                    new Day(rs.getInt("month_start_day"))
+                )
+            )
+            .list();
+    }
+}
@@ -0,0 +1,10 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+
+/**
+ * チェックポイントを記録する口座と、予算期間の区切りとなる所有者のグループの月始日。
+ * グループに所属していない場合の月始日は 1 とする。
+ */
+public record BalanceCheckpointTarget(FinancialAccountId financialAccountId, Day monthStartDay) {}
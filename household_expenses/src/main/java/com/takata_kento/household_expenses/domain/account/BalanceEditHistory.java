@@ -1,11 +1,13 @@
 package com.takata_kento.household_expenses.domain.account;
 
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.annotation.Id;
@@ -13,8 +15,14 @@ import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
+/**
+ * 口座残高の編集履歴。
+ *
+ * <p>履歴は口座ごとに増え続けるため {@link FinancialAccount} 集約には含めず、{@link BalanceEditHistoryRepository}
+ * で追記・取得する。一覧は (created_at, id) の降順で並べ、キーセット方式でページングする。
+ */
 @Table("balance_edit_history")
-class BalanceEditHistory {
+public class BalanceEditHistory {
 
     @Id
     private BalanceEditHistoryId id;
@@ -23,7 +31,7 @@ class BalanceEditHistory {
     private FinancialAccountId financialAccountId;
 
     @Column("old_balance")
-    private Money oldBalance;
+    private Balance oldBalance;
 
     @Column("new_balance")
     private Money newBalance;
@@ -43,7 +51,7 @@ class BalanceEditHistory {
     BalanceEditHistory(
         BalanceEditHistoryId id,
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate editedAt,
@@ -62,40 +70,51 @@ class BalanceEditHistory {
 
     static BalanceEditHistory create(
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate editedAt
     ) {
         BalanceEditHistoryId id = new BalanceEditHistoryId(UUID.randomUUID());
-        return new BalanceEditHistory(id, financialAccountId, oldBalance, newBalance, editReason, editedAt, null, null);
+        // DB の timestamp と同じ精度に揃え、ページングの境界値として読み書きで一致させる
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return new BalanceEditHistory(
+            id,
+            financialAccountId,
+            oldBalance,
+            newBalance,
+            editReason,
+            editedAt,
+            createdAt,
+            null
+        );
     }
 
-    BalanceEditHistoryId id() {
+    public BalanceEditHistoryId id() {
         return this.id;
     }
 
-    FinancialAccountId financialAccountId() {
+    public FinancialAccountId financialAccountId() {
         return this.financialAccountId;
     }
 
-    Money oldBalance() {
+    public Balance oldBalance() {
         return this.oldBalance;
     }
 
-    Money newBalance() {
+    public Money newBalance() {
         return this.newBalance;
     }
 
-    Optional<Description> editReason() {
+    public Optional<Description> editReason() {
         return this.editReason;
     }
 
-    LocalDate editedAt() {
+    public LocalDate editedAt() {
         return this.editedAt;
     }
 
-    LocalDateTime createdAt() {
+    public LocalDateTime createdAt() {
         return this.createdAt;
     }
 }
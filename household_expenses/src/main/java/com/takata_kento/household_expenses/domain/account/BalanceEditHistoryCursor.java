@@ -0,0 +1,19 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
+import java.time.LocalDateTime;
+
+/**
+ * 残高編集履歴のページング位置。直前のページの最後の履歴の (created_at, id) を保持し、
+ * 次のページはこれより古い履歴から始まる。
+ */
+public record BalanceEditHistoryCursor(LocalDateTime createdAt, BalanceEditHistoryId id) {
+    public BalanceEditHistoryCursor {
+        if (createdAt == null) throw new IllegalArgumentException("createdAt must not be null");
+        if (id == null) throw new IllegalArgumentException("id must not be null");
+    }
+
+    public static BalanceEditHistoryCursor from(BalanceEditHistoryInfo history) {
+        return new BalanceEditHistoryCursor(history.createdAt(), history.id());
+    }
+}
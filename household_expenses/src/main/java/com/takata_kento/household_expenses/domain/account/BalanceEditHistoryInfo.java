@@ -1,28 +1,32 @@
 package com.takata_kento.household_expenses.domain.account;
 
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public record BalanceEditHistoryInfo(
     BalanceEditHistoryId id,
     FinancialAccountId financialAccountId,
-    Money oldBalance,
+    Balance oldBalance,
     Money newBalance,
     Optional<Description> editReason,
-    LocalDate editedAt
+    LocalDate editedAt,
+    LocalDateTime createdAt
 ) {
-    static BalanceEditHistoryInfo from(BalanceEditHistory history) {
+    public static BalanceEditHistoryInfo from(BalanceEditHistory history) {
         return new BalanceEditHistoryInfo(
             history.id(),
             history.financialAccountId(),
             history.oldBalance(),
             history.newBalance(),
             history.editReason(),
-            history.editedAt()
+            history.editedAt(),
+            history.createdAt()
         );
     }
 }
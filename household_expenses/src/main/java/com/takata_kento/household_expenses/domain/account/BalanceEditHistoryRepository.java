@@ -0,0 +1,58 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 残高編集履歴へのアクセス。
+ *
+ * <p>いずれの検索も (financial_account_id, created_at DESC, id DESC) の索引を先頭から読むため、履歴の件数に
+ * 関係なく取得件数分の行だけを読む。
+ */
+public interface BalanceEditHistoryRepository extends CrudRepository<BalanceEditHistory, BalanceEditHistoryId> {
+    @Query(
+        "SELECT * FROM balance_edit_history WHERE financial_account_id = :financialAccountId " +
+        "ORDER BY created_at DESC, id DESC LIMIT 1"
+    )
+    Optional<BalanceEditHistory> findLatestByFinancialAccountId(
+        @Param("financialAccountId") FinancialAccountId financialAccountId
+    );
+
+    @Query(
+        "SELECT * FROM balance_edit_history WHERE financial_account_id = :financialAccountId " +
+        "ORDER BY created_at DESC, id DESC LIMIT :limit"
+    )
+    List<BalanceEditHistory> findFirstPage(
+        @Param("financialAccountId") FinancialAccountId financialAccountId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * cursor より古い履歴を新しい順に最大 limit 件返す。
+     */
+    default List<BalanceEditHistory> findPageBefore(
+        FinancialAccountId financialAccountId,
+        BalanceEditHistoryCursor cursor,
+        int limit
+    ) {
+        return findPageBefore(financialAccountId, cursor.createdAt(), cursor.id(), limit);
+    }
+
+    @Query(
+        "SELECT * FROM balance_edit_history WHERE financial_account_id = :financialAccountId " +
+        "AND (created_at, id) < (:cursorCreatedAt, :cursorId) " +
+        "ORDER BY created_at DESC, id DESC LIMIT :limit"
+    )
+    List<BalanceEditHistory> findPageBefore(
+        @Param("financialAccountId") FinancialAccountId financialAccountId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") BalanceEditHistoryId cursorId,
+        @Param("limit") int limit
+    );
+}
@@ -1,21 +1,17 @@
 package com.takata_kento.household_expenses.domain.account;
 
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
-import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
 
 @Table("financial_account")
@@ -35,14 +31,11 @@ public class FinancialAccount {
     private Optional<AccountName> accountName;
 
     @Column("balance")
-    private Money balance;
+    private Balance balance;
 
     @Column("is_main_account")
     private Boolean isMainAccount;
 
-    @MappedCollection(idColumn = "financial_account_id")
-    private Set<BalanceEditHistory> editHistories;
-
     @Version
     private Integer version;
 
@@ -51,9 +44,8 @@ public class FinancialAccount {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version
     ) {
         this.id = id;
@@ -62,7 +54,6 @@ public class FinancialAccount {
         this.accountName = accountName != null ? accountName : Optional.empty();
         this.balance = balance;
         this.isMainAccount = isMainAccount;
-        this.editHistories = editHistories != null ? new HashSet<>(editHistories) : new HashSet<>();
         this.version = version;
     }
 
@@ -82,7 +73,7 @@ public class FinancialAccount {
         return this.accountName;
     }
 
-    public Money balance() {
+    public Balance balance() {
         return this.balance;
     }
 
@@ -90,34 +81,21 @@ public class FinancialAccount {
         return this.isMainAccount;
     }
 
-    public Set<BalanceEditHistoryInfo> editHistories() {
-        return this.editHistories.stream().map(BalanceEditHistoryInfo::from).collect(Collectors.toUnmodifiableSet());
-    }
-
-    private void addEditHistory(
-        Money oldBalance,
-        Money newBalance,
-        Optional<Description> editReason,
-        LocalDate editedAt
-    ) {
-        BalanceEditHistory history = BalanceEditHistory.create(this.id, oldBalance, newBalance, editReason, editedAt);
-        this.editHistories.add(history);
-    }
-
-    public Optional<BalanceEditHistoryInfo> latestEditHistory() {
-        return this.editHistories.stream()
-            .max(Comparator.comparing(BalanceEditHistory::createdAt, Comparator.nullsFirst(Comparator.naturalOrder())))
-            .map(BalanceEditHistoryInfo::from);
+    /**
+     * 残高を更新し、追記すべき編集履歴を返す。履歴の保存は {@link BalanceEditHistoryRepository} で行う。
+     */
+    public BalanceEditHistory updateBalance(Money newBalance, LocalDate editedAt) {
+        return changeBalance(newBalance, Optional.empty(), editedAt);
     }
 
-    public void updateBalance(Money newBalance, LocalDate editedAt) {
-        addEditHistory(this.balance, newBalance, Optional.empty(), editedAt);
-        this.balance = newBalance;
+    public BalanceEditHistory updateBalance(Money newBalance, Description reason, LocalDate editedAt) {
+        return changeBalance(newBalance, Optional.of(reason), editedAt);
     }
 
-    public void updateBalance(Money newBalance, Description reason, LocalDate editedAt) {
-        addEditHistory(this.balance, newBalance, Optional.of(reason), editedAt);
-        this.balance = newBalance;
+    private BalanceEditHistory changeBalance(Money newBalance, Optional<Description> editReason, LocalDate editedAt) {
+        BalanceEditHistory history = BalanceEditHistory.create(this.id, this.balance, newBalance, editReason, editedAt);
+        this.balance = new Balance(newBalance.amount());
+        return history;
     }
 
     public void updateAccountName(AccountName newAccountName) {
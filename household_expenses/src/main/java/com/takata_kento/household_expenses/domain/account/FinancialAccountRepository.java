@@ -3,11 +3,17 @@ package com.takata_kento.household_expenses.domain.account;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface FinancialAccountRepository extends CrudRepository<FinancialAccount, FinancialAccountId> {
-    @Query("SELECT * FROM financial_account WHERE user_id = :#{#userId.value.toString()}")
+    @Query("SELECT * FROM financial_account WHERE user_id = :userId")
     List<FinancialAccount> findByUserId(@Param("userId") UserId userId);
+
+    @Query(
+        "SELECT * FROM financial_account WHERE user_id = :userId AND is_main_account = TRUE"
+    )
+    Optional<FinancialAccount> findMainAccountByUserId(@Param("userId") UserId userId);
 }
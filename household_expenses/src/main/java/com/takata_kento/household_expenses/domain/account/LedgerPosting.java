@@ -0,0 +1,13 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import java.time.LocalDate;
+
+/**
+ * 口座残高の増減台帳へ計上する1件の増減。
+ *
+ * @param sourceType 発生元の種類
+ * @param sourceId 発生元のID
+ * @param amount 残高に対する増減額（収入は正、支出は負）
+ * @param effectiveDate 増減が残高に反映される日
+ */
+public record LedgerPosting(LedgerSourceType sourceType, String sourceId, int amount, LocalDate effectiveDate) {}
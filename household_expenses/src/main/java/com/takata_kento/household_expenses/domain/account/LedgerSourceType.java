@@ -0,0 +1,21 @@
+package com.takata_kento.household_expenses.domain.account;
+
+/**
+ * 口座残高の増減台帳（account_ledger_entry）に記録する増減の発生元。
+ */
+public enum LedgerSourceType {
+    /** 口座登録時の残高 */
+    OPENING_BALANCE,
+    /** 残高の手動編集（発生元は残高編集履歴） */
+    BALANCE_EDIT,
+    /** 日次個人収支の収入と個人支出 */
+    DAILY_PERSONAL_TRANSACTION,
+    /** 日次グループ収支の生活費のうち、メンバーごとの負担分 */
+    DAILY_LIVING_EXPENSE,
+    /** 月の貯金額のメイン口座からの出金 */
+    MONTHLY_SAVING,
+    /** 月の貯金額の貯金先の口座への入金 */
+    MONTHLY_SAVING_DEPOSIT,
+    /** 月の固定費のうち、メンバーごとの負担分 */
+    FIXED_EXPENSE
+}
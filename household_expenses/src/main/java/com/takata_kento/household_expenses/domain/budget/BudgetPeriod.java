@@ -0,0 +1,58 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * グループの月始日で区切られた予算期間（開始日〜終了日、両端を含む）。
+ *
+ * <p>期間は開始日の属する年月の月次予算に対応する。月始日が当月の日数を超える場合は
+ * 当月末日に丸める (例: 月始日=31 で 2月の場合は2月末日)。
+ *
+ * @param startDate 期間開始日
+ * @param endDate 期間終了日
+ */
+public record BudgetPeriod(LocalDate startDate, LocalDate endDate) {
+    public BudgetPeriod {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("startDate and endDate must not be null");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+    }
+
+    public static BudgetPeriod of(Year year, Month month, Day monthStartDay) {
+        YearMonth yearMonth = YearMonth.of(year.value(), month.value());
+        LocalDate startDate = effectiveStartDate(yearMonth, monthStartDay);
+        LocalDate nextStartDate = effectiveStartDate(yearMonth.plusMonths(1), monthStartDay);
+        return new BudgetPeriod(startDate, nextStartDate.minusDays(1));
+    }
+
+    public static BudgetPeriod containing(LocalDate date, Day monthStartDay) {
+        YearMonth yearMonth = YearMonth.from(date);
+        if (date.isBefore(effectiveStartDate(yearMonth, monthStartDay))) {
+            yearMonth = yearMonth.minusMonths(1);
+        }
+        return of(new Year(yearMonth.getYear()), new Month(yearMonth.getMonthValue()), monthStartDay);
+    }
+
+    private static LocalDate effectiveStartDate(YearMonth yearMonth, Day monthStartDay) {
+        return yearMonth.atDay(Math.min(monthStartDay.value(), yearMonth.lengthOfMonth()));
+    }
+
+    public Year year() {
+        return new Year(startDate.getYear());
+    }
+
+    public Month month() {
+        return new Month(startDate.getMonthValue());
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+}
@@ -0,0 +1,156 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * グループの予算期間（budget_period）へのアクセス。
+ *
+ * <p>月始日から求めた各期間の開始日・終了日を、その期間の予算額とあわせて事前に保持する。
+ * 日付から期間と予算額を求める処理はグループや月次予算を読み込まずに1回の索引検索で済む。
+ * 月始日が変わった場合は {@link #regenerate} で作り直す。
+ */
+@Repository
+public class BudgetPeriodRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public BudgetPeriodRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * 指定日を含む予算期間を返す。期間が未生成の場合は空。
+     */
+    public Optional<GroupBudgetPeriod> findContaining(UserGroupId userGroupId, LocalDate date) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT start_date, end_date, budget_amount FROM budget_period
+                WHERE user_group_id = :userGroupId AND start_date <= :date
+                ORDER BY start_date DESC
+                LIMIT 1
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("date", date)
+            .query((rs, rowNum) -> toGroupBudgetPeriod(rs))
+            .optional()
+            .filter(groupBudgetPeriod -> groupBudgetPeriod.period().contains(date));
+    }
+
+    /**
+     * 予算期間が未生成であれば月次予算の金額とあわせて生成し、保存済みの期間を返す。
+     */
+    public GroupBudgetPeriod generate(UserGroupId userGroupId, BudgetPeriod period) {
+        insertIfAbsent(userGroupId, period);
+        return jdbcClient
+            .sql(
+                """
+                SELECT start_date, end_date, budget_amount FROM budget_period
+                WHERE user_group_id = :userGroupId AND year = :year AND month = :month
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("year", period.year().value())
+            .param("month", period.month().value())
+            .query((rs, rowNum) -> toGroupBudgetPeriod(rs))
+            .single();
+    }
+
+    /**
+     * グループの予算期間を削除し、新しい月始日で作り直す。
+     *
+     * <p>from〜until を含む期間に加え、記録済みの日次収支や月次予算がそれより前にあれば、その期間から生成する。
+     */
+    public void regenerate(UserGroupId userGroupId, Day monthStartDay, LocalDate from, LocalDate until) {
+        jdbcClient
+            .sql("DELETE FROM budget_period WHERE user_group_id = :userGroupId")
+            .param("userGroupId", userGroupId.value())
+            .update();
+        LocalDate earliest = findEarliestRecordedDate(userGroupId)
+            .filter(date -> date.isBefore(from))
+            .orElse(from);
+        BudgetPeriod period = BudgetPeriod.containing(earliest, monthStartDay);
+        while (!period.startDate().isAfter(until)) {
+            insertIfAbsent(userGroupId, period);
+            period = BudgetPeriod.containing(period.endDate().plusDays(1), monthStartDay);
+        }
+    }
+
+    /**
+     * 生成済みの予算期間の予算額を更新する。期間が未生成の場合は何もしない。
+     */
+    public void updateBudgetAmount(UserGroupId userGroupId, Year year, Month month, Money budgetAmount) {
+        jdbcClient
+            .sql(
+                """
+                UPDATE budget_period SET budget_amount = :budgetAmount
+                WHERE user_group_id = :userGroupId AND year = :year AND month = :month
+                """
+            )
+            .param("budgetAmount", budgetAmount.amount())
+            .param("userGroupId", userGroupId.value())
+            .param("year", year.value())
+            .param("month", month.value())
+            .update();
+    }
+
+    private void insertIfAbsent(UserGroupId userGroupId, BudgetPeriod period) {
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO budget_period (user_group_id, year, month, start_date, end_date, budget_amount)
+                VALUES (
+                    :userGroupId,
+                    :year,
+                    :month,
+                    :startDate,
+                    :endDate,
+                    (SELECT budget_amount FROM monthly_budget
+                     WHERE user_group_id = :userGroupId AND year = :year AND month = :month)
+                )
+                ON CONFLICT (user_group_id, year, month) DO NOTHING
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("year", period.year().value())
+            .param("month", period.month().value())
+            .param("startDate", period.startDate())
+            .param("endDate", period.endDate())
+            .update();
+    }
+
+    private Optional<LocalDate> findEarliestRecordedDate(UserGroupId userGroupId) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT LEAST(
+                    (SELECT MIN(transaction_date) FROM daily_group_transaction WHERE user_group_id = :userGroupId),
+                    (SELECT MIN(make_date(year, month, 1)) FROM monthly_budget WHERE user_group_id = :userGroupId)
+                ) AS earliest_date
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .query((rs, rowNum) -> Optional.ofNullable(rs.getObject("earliest_date", LocalDate.class)))
+            .single();
+    }
+
+    private static GroupBudgetPeriod toGroupBudgetPeriod(ResultSet rs) throws SQLException {
+        int budgetAmount = rs.getInt("budget_amount");
+        Optional<Money> budget = rs.wasNull() ? Optional.empty() : Optional.of(new Money(budgetAmount));
+        return new GroupBudgetPeriod(
+            new BudgetPeriod(rs.getObject("start_date", LocalDate.class), rs.getObject("end_date", LocalDate.class)),
+            budget
+        );
+    }
+}
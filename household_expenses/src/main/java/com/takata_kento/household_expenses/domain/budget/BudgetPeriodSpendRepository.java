@@ -0,0 +1,66 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.util.List;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 予算期間単位の生活費の集計。
+ *
+ * <p>取引日を月始日で区切った予算期間に SQL 上で振り分けて GROUP BY するため、1年分の集計でも
+ * 期間ごとに集約を読み込まず1回の問い合わせで済む。期間の区切りは {@link BudgetPeriod#containing} と同じく、
+ * 月始日が当月の日数を超える場合は当月末日とする。日ごとの生活費はヘッダの total_living_expense を使い、
+ * 明細テーブルは読まない。
+ */
+@Repository
+public class BudgetPeriodSpendRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public BudgetPeriodSpendRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * year の1月〜12月の予算期間それぞれの生活費合計を返す。生活費の記録がない期間は含まない。
+     */
+    public List<PeriodSpent> sumLivingExpensesByPeriod(UserGroupId userGroupId, Year year, Day monthStartDay) {
+        BudgetPeriod first = BudgetPeriod.of(year, new Month(1), monthStartDay);
+        BudgetPeriod last = BudgetPeriod.of(year, new Month(12), monthStartDay);
+        return jdbcClient
+            .sql(
+                """
+                SELECT period_index / 12 AS year, period_index % 12 + 1 AS month, SUM(amount) AS spent
+                FROM (
+                    SELECT t.total_living_expense AS amount,
+                        EXTRACT(YEAR FROM t.transaction_date)::int * 12 + EXTRACT(MONTH FROM t.transaction_date)::int - 1
+                        - CASE
+                            WHEN EXTRACT(DAY FROM t.transaction_date) < LEAST(
+                                :monthStartDay,
+                                EXTRACT(DAY FROM date_trunc('month', t.transaction_date::timestamp) + INTERVAL '1 month - 1 day')
+                            ) THEN 1
+                            ELSE 0
+                        END AS period_index
+                    FROM daily_group_transaction t
+                    WHERE t.user_group_id = :userGroupId AND t.transaction_date BETWEEN :from AND :to
+                      AND t.total_living_expense > 0
+                ) living_expense
+                GROUP BY period_index
+                ORDER BY period_index
+                """
+            )
+            .param("monthStartDay", monthStartDay.value())
+            .param("userGroupId", userGroupId.value())
+            .param("from", first.startDate())
+            .param("to", last.endDate())
+            .query((rs, rowNum) ->
+                new PeriodSpent(new Year(rs.getInt("year")), new Month(rs.getInt("month")), new Money(rs.getInt("spent")))
+            )
+            .list();
+    }
+}
@@ -0,0 +1,153 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.time.LocalDate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 予算期間ごとの生活費支出台帳（budget_spend_ledger）へのアクセス。
+ *
+ * <p>台帳は (グループ, 日付) ごとに当日の生活費合計と、予算期間の開始日から当日までの累計を保持する。
+ * 生活費の記録・更新・削除のたびに差分を加算して維持するため、予算残金は期間内の日数や明細数に
+ * 関係なく1回の索引検索で求められる。
+ *
+ * <p>差分の加算は前日までの累計を読んで以降の日付へ伝播するため、同じ予算期間への加算は
+ * (グループ, 期間) 単位の advisory lock で直列化する。日次収支の (グループ, 取引日) 単位のロックだけでは、
+ * 同じ期間の別の日付への書き込みと並行して累計を読み、一方の差分が失われる。
+ */
+@Repository
+public class BudgetSpendLedgerRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public BudgetSpendLedgerRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * 指定日の生活費合計に差分を加算し、同一期間内の以降の日付の累計へ伝播する。
+     */
+    public void applyDelta(UserGroupId userGroupId, BudgetPeriod period, LocalDate transactionDate, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        lockPeriod(userGroupId, period);
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO budget_spend_ledger (user_group_id, period_start, transaction_date, daily_amount, cumulative_amount)
+                VALUES (
+                    :userGroupId,
+                    :periodStart,
+                    :transactionDate,
+                    0,
+                    COALESCE(
+                        (SELECT cumulative_amount FROM budget_spend_ledger
+                         WHERE user_group_id = :userGroupId AND period_start = :periodStart AND transaction_date < :transactionDate
+                         ORDER BY transaction_date DESC LIMIT 1),
+                        0
+                    )
+                )
+                ON CONFLICT (user_group_id, transaction_date) DO NOTHING
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("periodStart", period.startDate())
+            .param("transactionDate", transactionDate)
+            .update();
+        jdbcClient
+            .sql(
+                """
+                UPDATE budget_spend_ledger
+                SET cumulative_amount = cumulative_amount + :delta,
+                    daily_amount = daily_amount + CASE WHEN transaction_date = :transactionDate THEN :delta ELSE 0 END
+                WHERE user_group_id = :userGroupId AND period_start = :periodStart AND transaction_date >= :transactionDate
+                """
+            )
+            .param("delta", delta)
+            .param("userGroupId", userGroupId.value())
+            .param("periodStart", period.startDate())
+            .param("transactionDate", transactionDate)
+            .update();
+    }
+
+    /**
+     * 予算期間の開始日から指定日までの生活費累計を返す。記録がなければ 0。
+     */
+    public Money findCumulativeSpent(UserGroupId userGroupId, BudgetPeriod period, LocalDate targetDate) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT cumulative_amount FROM budget_spend_ledger
+                WHERE user_group_id = :userGroupId AND period_start = :periodStart AND transaction_date <= :targetDate
+                ORDER BY transaction_date DESC
+                LIMIT 1
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("periodStart", period.startDate())
+            .param("targetDate", targetDate)
+            .query(Integer.class)
+            .optional()
+            .map(Money::new)
+            .orElse(new Money(0));
+    }
+
+    /**
+     * グループの台帳を日次グループ収支の生活費合計から再構築する。月始日の変更で期間の区切りが変わった場合に使用する。
+     *
+     * <p>期間の開始日は {@link BudgetPeriod#containing} と同じ規則で SQL 上で求め、累計はウィンドウ関数で
+     * 計算して1回の INSERT で書き込む。
+     */
+    public void rebuild(UserGroupId userGroupId, Day monthStartDay) {
+        jdbcClient
+            .sql("DELETE FROM budget_spend_ledger WHERE user_group_id = :userGroupId")
+            .param("userGroupId", userGroupId.value())
+            .update();
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO budget_spend_ledger (user_group_id, period_start, transaction_date, daily_amount, cumulative_amount)
+                SELECT user_group_id, period_start, transaction_date, daily_amount,
+                    SUM(daily_amount) OVER (PARTITION BY period_start ORDER BY transaction_date)
+                FROM (
+                    SELECT t.user_group_id, t.transaction_date, t.total_living_expense AS daily_amount,
+                        CASE
+                            WHEN t.transaction_date >= s.current_start THEN s.current_start
+                            ELSE s.previous_start
+                        END AS period_start
+                    FROM daily_group_transaction t
+                    CROSS JOIN LATERAL (
+                        SELECT
+                            date_trunc('month', t.transaction_date::timestamp)::date
+                                + LEAST(
+                                    :monthStartDay,
+                                    EXTRACT(DAY FROM date_trunc('month', t.transaction_date::timestamp) + INTERVAL '1 month - 1 day')::int
+                                ) - 1 AS current_start,
+                            (date_trunc('month', t.transaction_date::timestamp) - INTERVAL '1 month')::date
+                                + LEAST(
+                                    :monthStartDay,
+                                    EXTRACT(DAY FROM date_trunc('month', t.transaction_date::timestamp) - INTERVAL '1 day')::int
+                                ) - 1 AS previous_start
+                    ) s
+                    WHERE t.user_group_id = :userGroupId AND t.total_living_expense > 0
+                ) daily
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("monthStartDay", monthStartDay.value())
+            .update();
+    }
+
+    private void lockPeriod(UserGroupId userGroupId, BudgetPeriod period) {
+        jdbcClient
+            .sql("SELECT pg_advisory_xact_lock(hashtext(:lockKey), :periodKey)")
+            .param("lockKey", "budget_spend_ledger:" + userGroupId)
+            .param("periodKey", Math.toIntExact(period.startDate().toEpochDay()))
+            .query()
+            .listOfRows();
+    }
+}
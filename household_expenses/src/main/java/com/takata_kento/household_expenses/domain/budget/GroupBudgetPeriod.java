@@ -0,0 +1,18 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.util.Optional;
+
+/**
+ * グループの予算期間と、その期間に設定された予算額。
+ *
+ * @param period 予算期間
+ * @param budgetAmount 期間の予算額。月次予算が未設定の場合は空
+ */
+public record GroupBudgetPeriod(BudgetPeriod period, Optional<Money> budgetAmount) {
+    public GroupBudgetPeriod {
+        if (period == null || budgetAmount == null) {
+            throw new IllegalArgumentException("period and budgetAmount must not be null");
+        }
+    }
+}
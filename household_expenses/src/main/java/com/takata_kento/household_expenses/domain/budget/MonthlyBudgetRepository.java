@@ -1,8 +1,10 @@
 package com.takata_kento.household_expenses.domain.budget;
 
+import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
 import com.takata_kento.household_expenses.domain.valueobject.MonthlyBudgetId;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
 import java.util.List;
 import java.util.Optional;
@@ -12,7 +14,7 @@ import org.springframework.data.repository.query.Param;
 
 public interface MonthlyBudgetRepository extends CrudRepository<MonthlyBudget, MonthlyBudgetId> {
     @Query(
-        "SELECT * FROM monthly_budget WHERE user_group_id = :#{#userGroupId.toString()} AND year = :#{#year.value} AND month = :#{#month.value}"
+        "SELECT * FROM monthly_budget WHERE user_group_id = :userGroupId AND year = :year AND month = :month"
     )
     Optional<MonthlyBudget> findByUserGroupIdAndYearAndMonth(
         @Param("userGroupId") UserGroupId userGroupId,
@@ -20,11 +22,11 @@ public interface MonthlyBudgetRepository extends CrudRepository<MonthlyBudget, M
         @Param("month") Month month
     );
 
-    @Query("SELECT * FROM monthly_budget WHERE user_group_id = :#{#userGroupId.toString()}")
+    @Query("SELECT * FROM monthly_budget WHERE user_group_id = :userGroupId")
     List<MonthlyBudget> findByUserGroupId(@Param("userGroupId") UserGroupId userGroupId);
 
     @Query(
-        "SELECT EXISTS(SELECT 1 FROM monthly_budget WHERE user_group_id = :#{#userGroupId.toString()} AND year = :#{#year.value} AND month = :#{#month.value})"
+        "SELECT EXISTS(SELECT 1 FROM monthly_budget WHERE user_group_id = :userGroupId AND year = :year AND month = :month)"
     )
     boolean existsByUserGroupIdAndYearAndMonth(
         @Param("userGroupId") UserGroupId userGroupId,
@@ -32,9 +34,43 @@ public interface MonthlyBudgetRepository extends CrudRepository<MonthlyBudget, M
         @Param("month") Month month
     );
 
-    @Query("SELECT * FROM monthly_budget WHERE user_group_id = :#{#userGroupId.toString()} AND year = :#{#year.value}")
+    @Query("SELECT * FROM monthly_budget WHERE user_group_id = :userGroupId AND year = :year")
     List<MonthlyBudget> findByUserGroupIdAndYear(
         @Param("userGroupId") UserGroupId userGroupId,
         @Param("year") Year year
     );
+
+    /**
+     * 同じグループ・年月の予算がなければ budget を登録し、あれば金額と設定者を上書きする。
+     *
+     * <p>1文の {@code INSERT ... ON CONFLICT ... DO UPDATE} で行うため、同時に設定されても一意制約違反にならない。
+     * 戻り値の ID が budget と一致すれば新規登録、異なれば既存予算の更新である。
+     */
+    default MonthlyBudget upsert(MonthlyBudget budget) {
+        return upsert(
+            budget.id(),
+            budget.userGroupId(),
+            budget.year(),
+            budget.month(),
+            budget.budgetAmount(),
+            budget.setByUserId()
+        );
+    }
+
+    @Query(
+        "INSERT INTO monthly_budget (id, user_group_id, year, month, budget_amount, set_by_user_id, version) " +
+        "VALUES (:id, :userGroupId, :year, :month, :budgetAmount, :setByUserId, 0) " +
+        "ON CONFLICT (user_group_id, year, month) DO UPDATE " +
+        "SET budget_amount = EXCLUDED.budget_amount, set_by_user_id = EXCLUDED.set_by_user_id, " +
+        "version = monthly_budget.version + 1 " +
+        "RETURNING *"
+    )
+    MonthlyBudget upsert(
+        @Param("id") MonthlyBudgetId id,
+        @Param("userGroupId") UserGroupId userGroupId,
+        @Param("year") Year year,
+        @Param("month") Month month,
+        @Param("budgetAmount") Money budgetAmount,
+        @Param("setByUserId") UserId setByUserId
+    );
 }
@@ -0,0 +1,14 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+
+/**
+ * 予算期間ごとの生活費の合計。
+ *
+ * @param year 予算期間の年
+ * @param month 予算期間の月
+ * @param spent 期間内の生活費の合計
+ */
+public record PeriodSpent(Year year, Month month, Money spent) {}
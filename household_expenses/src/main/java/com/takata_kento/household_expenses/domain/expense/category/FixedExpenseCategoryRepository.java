@@ -8,6 +8,6 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface FixedExpenseCategoryRepository extends CrudRepository<FixedExpenseCategory, FixedExpenseCategoryId> {
-    @Query("SELECT * FROM fixed_expense_category WHERE user_group_id = :#{#userGroupId.toString()}")
+    @Query("SELECT * FROM fixed_expense_category WHERE user_group_id = :userGroupId")
     List<FixedExpenseCategory> findByUserGroupId(@Param("userGroupId") UserGroupId userGroupId);
 }
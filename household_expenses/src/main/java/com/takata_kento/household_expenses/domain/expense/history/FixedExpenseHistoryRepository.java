@@ -1,9 +1,12 @@
 package com.takata_kento.household_expenses.domain.expense.history;
 
+import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseCategoryId;
 import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -14,9 +17,9 @@ import org.springframework.data.repository.query.Param;
 public interface FixedExpenseHistoryRepository extends CrudRepository<FixedExpenseHistory, FixedExpenseHistoryId> {
     @Query(
         "SELECT * FROM fixed_expense_history " +
-        "WHERE fixed_expense_category_id = :#{#categoryId.toString()} " +
-        "AND year = :#{#year.value()} " +
-        "AND month = :#{#month.value()}"
+        "WHERE fixed_expense_category_id = :categoryId " +
+        "AND year = :year " +
+        "AND month = :month"
     )
     Optional<FixedExpenseHistory> findByFixedExpenseCategoryIdAndYearAndMonth(
         @Param("categoryId") FixedExpenseCategoryId categoryId,
@@ -26,13 +29,47 @@ public interface FixedExpenseHistoryRepository extends CrudRepository<FixedExpen
 
     @Query(
         "SELECT * FROM fixed_expense_history " +
-        "WHERE fixed_expense_category_id IN (:#{#categoryIds.![toString()]}) " +
-        "AND year = :#{#year.value()} " +
-        "AND month = :#{#month.value()}"
+        "WHERE fixed_expense_category_id IN (:categoryIds) " +
+        "AND year = :year " +
+        "AND month = :month"
     )
     List<FixedExpenseHistory> findByFixedExpenseCategoryIdInAndYearAndMonth(
         @Param("categoryIds") Collection<FixedExpenseCategoryId> categoryIds,
         @Param("year") Year year,
         @Param("month") Month month
     );
+
+    /**
+     * 同じ分類・年月の履歴がなければ history を登録し、あれば金額・適用日・メモを上書きする。
+     */
+    default FixedExpenseHistory upsert(FixedExpenseHistory history) {
+        return upsert(
+            history.id(),
+            history.fixedExpenseCategoryId(),
+            history.year(),
+            history.month(),
+            history.amount(),
+            history.effectiveDate(),
+            history.memo().orElse(null)
+        );
+    }
+
+    @Query(
+        "INSERT INTO fixed_expense_history " +
+        "(id, fixed_expense_category_id, year, month, amount, effective_date, memo, version) " +
+        "VALUES (:id, :categoryId, :year, :month, :amount, :effectiveDate, :memo, 0) " +
+        "ON CONFLICT (fixed_expense_category_id, year, month) DO UPDATE " +
+        "SET amount = EXCLUDED.amount, effective_date = EXCLUDED.effective_date, memo = EXCLUDED.memo, " +
+        "version = fixed_expense_history.version + 1 " +
+        "RETURNING *"
+    )
+    FixedExpenseHistory upsert(
+        @Param("id") FixedExpenseHistoryId id,
+        @Param("categoryId") FixedExpenseCategoryId categoryId,
+        @Param("year") Year year,
+        @Param("month") Month month,
+        @Param("amount") Money amount,
+        @Param("effectiveDate") LocalDate effectiveDate,
+        @Param("memo") Description memo
+    );
 }
@@ -1,5 +1,8 @@
 package com.takata_kento.household_expenses.domain.saving;
 
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
 import com.takata_kento.household_expenses.domain.valueobject.MonthlySavingId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
@@ -12,7 +15,7 @@ import org.springframework.data.repository.query.Param;
 
 public interface MonthlySavingRepository extends CrudRepository<MonthlySaving, MonthlySavingId> {
     @Query(
-        "SELECT * FROM monthly_saving WHERE user_id = :#{#userId.value.toString()} AND year = :#{#year.value()} AND month = :#{#month.value()}"
+        "SELECT * FROM monthly_saving WHERE user_id = :userId AND year = :year AND month = :month"
     )
     Optional<MonthlySaving> findByUserIdAndYearAndMonth(
         @Param("userId") UserId userId,
@@ -20,6 +23,37 @@ public interface MonthlySavingRepository extends CrudRepository<MonthlySaving, M
         @Param("month") Month month
     );
 
-    @Query("SELECT * FROM monthly_saving WHERE user_id = :#{#userId.value.toString()} AND year = :#{#year.value()}")
+    @Query("SELECT * FROM monthly_saving WHERE user_id = :userId AND year = :year")
     List<MonthlySaving> findByUserIdAndYear(@Param("userId") UserId userId, @Param("year") Year year);
+
+    /**
+     * 同じユーザー・年月の貯金がなければ saving を登録する。既に登録済みの場合は何もせず空を返す。
+     */
+    default Optional<MonthlySaving> insertIfAbsent(MonthlySaving saving) {
+        return insertIfAbsent(
+            saving.id(),
+            saving.userId(),
+            saving.year(),
+            saving.month(),
+            saving.savingAmount(),
+            saving.financialAccountId(),
+            saving.memo().orElse(null)
+        );
+    }
+
+    @Query(
+        "INSERT INTO monthly_saving (id, user_id, year, month, saving_amount, financial_account_id, memo, version) " +
+        "VALUES (:id, :userId, :year, :month, :savingAmount, :financialAccountId, :memo, 0) " +
+        "ON CONFLICT (user_id, year, month) DO NOTHING " +
+        "RETURNING *"
+    )
+    Optional<MonthlySaving> insertIfAbsent(
+        @Param("id") MonthlySavingId id,
+        @Param("userId") UserId userId,
+        @Param("year") Year year,
+        @Param("month") Month month,
+        @Param("savingAmount") Money savingAmount,
+        @Param("financialAccountId") FinancialAccountId financialAccountId,
+        @Param("memo") Description memo
+    );
 }
@@ -0,0 +1,78 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 収支の全履歴をエクスポート用に読み出す参照専用リポジトリ。
+ *
+ * <p>集約を組み立てずに明細を1行ずつカーソルで読み出すため、履歴の長さに関係なく保持する行数は
+ * フェッチサイズ分に収まる。PostgreSQL でカーソルを使うにはトランザクション内で呼び出すこと。
+ */
+@Repository
+public class TransactionExportRepository {
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private final JdbcClient jdbcClient;
+
+    public TransactionExportRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * userId の日次個人収支（収入・個人支出）と userGroupId の日次グループ収支（生活費）の明細を、
+     * 取引日の昇順に action へ渡す。
+     */
+    public void forEachRow(UserId userId, UserGroupId userGroupId, Consumer<TransactionExportRow> action) {
+        jdbcClient
+            .sql(
+                """
+                SELECT 'INCOME' AS row_type, p.transaction_date, p.user_id, NULL AS living_expense_category_id,
+                    p.income AS amount, NULL AS memo, 0 AS line_order
+                FROM daily_personal_transaction p
+                WHERE p.user_id = :userId
+                UNION ALL
+                SELECT 'PERSONAL_EXPENSE', p.transaction_date, p.user_id, NULL, e.amount, e.memo,
+                    e.daily_personal_transaction_key
+                FROM daily_personal_transaction p
+                JOIN daily_personal_expense e
+                    ON e.daily_personal_transaction_id = p.id AND e.transaction_date = p.transaction_date
+                WHERE p.user_id = :userId
+                UNION ALL
+                SELECT 'LIVING_EXPENSE', t.transaction_date, e.user_id, e.living_expense_category_id, e.amount, e.memo, 0
+                FROM daily_group_transaction t
+                JOIN daily_living_expense e
+                    ON e.daily_group_transaction_id = t.id AND e.transaction_date = t.transaction_date
+                WHERE t.user_group_id = :userGroupId
+                ORDER BY transaction_date, row_type, line_order
+                """
+            )
+            .param("userId", userId.value())
+            .param("userGroupId", userGroupId.value())
+            .withFetchSize(EXPORT_FETCH_SIZE)
+            .query(rs -> {
+                UUID categoryId = rs.getObject("living_expense_category_id", UUID.class);
+                String memo = rs.getString("memo");
+                action.accept(
+                    new TransactionExportRow(
+                        TransactionExportRowType.valueOf(rs.getString("row_type")),
+                        rs.getObject("transaction_date", LocalDate.class),
+                        new UserId(rs.getObject("user_id", UUID.class)),
+                        Optional.ofNullable(categoryId).map(LivingExpenseCategoryId::new),
+                        new Money(rs.getInt("amount")),
+                        Optional.ofNullable(memo).map(Description::new)
+                    )
+                );
+            });
+    }
+}
@@ -0,0 +1,27 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 収支エクスポートの1行。収入・個人支出・生活費の明細1件に対応する。
+ *
+ * @param type 行の種類
+ * @param transactionDate 取引日
+ * @param userId 記録したユーザー
+ * @param livingExpenseCategoryId 生活費分類。生活費以外は空
+ * @param amount 金額
+ * @param memo メモ
+ */
+public record TransactionExportRow(
+    TransactionExportRowType type,
+    LocalDate transactionDate,
+    UserId userId,
+    Optional<LivingExpenseCategoryId> livingExpenseCategoryId,
+    Money amount,
+    Optional<Description> memo
+) {}
@@ -0,0 +1,13 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+/**
+ * 収支エクスポートの行の種類。
+ */
+public enum TransactionExportRowType {
+    /** 日次個人収支の収入 */
+    INCOME,
+    /** 日次個人収支の個人支出 */
+    PERSONAL_EXPENSE,
+    /** 日次グループ収支の生活費 */
+    LIVING_EXPENSE
+}
@@ -0,0 +1,228 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import com.takata_kento.household_expenses.domain.transaction.group.DailyLivingExpenseInfo;
+import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalExpenseInfo;
+import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransaction;
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 日次収支の一括取り込み用の書き込みリポジトリ。
+ *
+ * <p>集約を1日ずつ保存する代わりに、取り込む日の行をテーブルごとに JDBC バッチでまとめて挿入する。
+ * 取り込み先の日は未記録であることを呼び出し側で確認済みとし、既存の行の更新は行わない。
+ */
+@Repository
+public class TransactionImportRepository {
+
+    private final JdbcClient jdbcClient;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public TransactionImportRepository(JdbcClient jdbcClient, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * dates のうち、userId が日次個人収支または生活費を記録済みの日付を返す。
+     */
+    public Set<LocalDate> findRecordedDates(UserId userId, UserGroupId userGroupId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(
+            jdbcClient
+                .sql(
+                    """
+                    SELECT transaction_date FROM daily_personal_transaction
+                    WHERE user_id = :userId AND transaction_date IN (:dates)
+                    UNION
+                    SELECT t.transaction_date FROM daily_group_transaction t
+                    JOIN daily_living_expense e
+                        ON e.daily_group_transaction_id = t.id AND e.transaction_date = t.transaction_date
+                    WHERE t.user_group_id = :userGroupId AND e.user_id = :userId
+                      AND t.transaction_date IN (:dates) AND e.transaction_date IN (:dates)
+                    """
+                )
+                .param("userId", userId.value())
+                .param("userGroupId", userGroupId.value())
+                .param("dates", List.copyOf(dates))
+                .query((rs, rowNum) -> rs.getObject("transaction_date", LocalDate.class))
+                .list()
+        );
+    }
+
+    /**
+     * dates の日次グループ収支のヘッダを未作成の日についてまとめて作成し、日付ごとのIDを返す。
+     * 他のメンバーが作成済みの日は既存のヘッダのIDを返す。
+     */
+    public Map<LocalDate, DailyGroupTransactionId> insertGroupTransactions(
+        UserGroupId userGroupId,
+        Collection<LocalDate> dates
+    ) {
+        if (dates.isEmpty()) {
+            return Map.of();
+        }
+        SqlParameterSource[] batch = dates
+            .stream()
+            .map(date ->
+                new MapSqlParameterSource()
+                    .addValue("id", UUID.randomUUID())
+                    .addValue("userGroupId", userGroupId.value())
+                    .addValue("transactionDate", date)
+            )
+            .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(
+            """
+            INSERT INTO daily_group_transaction (id, user_group_id, transaction_date, version)
+            VALUES (:id, :userGroupId, :transactionDate, 0)
+            ON CONFLICT (user_group_id, transaction_date) DO NOTHING
+            """,
+            batch
+        );
+        Map<LocalDate, DailyGroupTransactionId> ids = new HashMap<>();
+        jdbcClient
+            .sql(
+                """
+                SELECT id, transaction_date FROM daily_group_transaction
+                WHERE user_group_id = :userGroupId AND transaction_date IN (:dates)
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("dates", List.copyOf(dates))
+            .query(rs -> {
+                ids.put(
+                    rs.getObject("transaction_date", LocalDate.class),
+                    new DailyGroupTransactionId(rs.getObject("id", UUID.class))
+                );
+            });
+        return ids;
+    }
+
+    /**
+     * 日付ごとの生活費明細を、その日の日次グループ収支（groupTransactionIds）の明細としてまとめて挿入し、
+     * ヘッダの生活費合計に挿入した分を加算する。
+     */
+    public void insertLivingExpenses(
+        Map<LocalDate, DailyGroupTransactionId> groupTransactionIds,
+        Map<LocalDate, List<DailyLivingExpenseInfo>> livingExpenses
+    ) {
+        List<SqlParameterSource> batch = new ArrayList<>();
+        List<SqlParameterSource> totalBatch = new ArrayList<>();
+        livingExpenses.forEach((date, infos) -> {
+            int total = 0;
+            for (DailyLivingExpenseInfo info : infos) {
+                total += info.amount().amount();
+                batch.add(
+                    new MapSqlParameterSource()
+                        .addValue("id", info.id().value())
+                        .addValue("transactionId", groupTransactionIds.get(date).value())
+                        .addValue("transactionDate", date)
+                        .addValue("userId", info.userId().value())
+                        .addValue("categoryId", info.livingExpenseCategoryId().value())
+                        .addValue("amount", info.amount().amount())
+                        .addValue("memo", info.memo() != null ? info.memo().value() : null)
+                );
+            }
+            if (total > 0) {
+                totalBatch.add(
+                    new MapSqlParameterSource()
+                        .addValue("id", groupTransactionIds.get(date).value())
+                        .addValue("transactionDate", date)
+                        .addValue("amount", total)
+                );
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.batchUpdate(
+            """
+            INSERT INTO daily_living_expense
+                (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount, memo,
+                 version)
+            VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount, :memo, 0)
+            """,
+            batch.toArray(SqlParameterSource[]::new)
+        );
+        if (totalBatch.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.batchUpdate(
+            """
+            UPDATE daily_group_transaction SET total_living_expense = total_living_expense + :amount
+            WHERE id = :id AND transaction_date = :transactionDate
+            """,
+            totalBatch.toArray(SqlParameterSource[]::new)
+        );
+    }
+
+    /**
+     * 新規の日次個人収支と個人支出明細をまとめて挿入する。
+     */
+    public void insertPersonalTransactions(List<DailyPersonalTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        List<SqlParameterSource> transactionBatch = new ArrayList<>();
+        List<SqlParameterSource> expenseBatch = new ArrayList<>();
+        for (DailyPersonalTransaction transaction : transactions) {
+            transactionBatch.add(
+                new MapSqlParameterSource()
+                    .addValue("id", transaction.id().value())
+                    .addValue("userId", transaction.userId().value())
+                    .addValue("transactionDate", transaction.transactionDate())
+                    .addValue("income", transaction.income().amount())
+                    .addValue("totalPersonalExpense", transaction.calculateTotalPersonalExpense().amount())
+            );
+            List<DailyPersonalExpenseInfo> personalExpenses = transaction.personalExpenses();
+            for (int key = 0; key < personalExpenses.size(); key++) {
+                DailyPersonalExpenseInfo personalExpense = personalExpenses.get(key);
+                expenseBatch.add(
+                    new MapSqlParameterSource()
+                        .addValue("id", personalExpense.id().value())
+                        .addValue("transactionId", transaction.id().value())
+                        .addValue("transactionDate", transaction.transactionDate())
+                        .addValue("key", key)
+                        .addValue("amount", personalExpense.amount().amount())
+                        .addValue("memo", personalExpense.memo().value())
+                );
+            }
+        }
+        namedParameterJdbcTemplate.batchUpdate(
+            """
+            INSERT INTO daily_personal_transaction
+                (id, user_id, transaction_date, income, version, total_personal_expense)
+            VALUES (:id, :userId, :transactionDate, :income, 0, :totalPersonalExpense)
+            """,
+            transactionBatch.toArray(SqlParameterSource[]::new)
+        );
+        if (expenseBatch.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.batchUpdate(
+            """
+            INSERT INTO daily_personal_expense
+                (id, daily_personal_transaction_id, transaction_date, daily_personal_transaction_key, amount, memo,
+                 version)
+            VALUES (:id, :transactionId, :transactionDate, :key, :amount, :memo, 0)
+            """,
+            expenseBatch.toArray(SqlParameterSource[]::new)
+        );
+    }
+}
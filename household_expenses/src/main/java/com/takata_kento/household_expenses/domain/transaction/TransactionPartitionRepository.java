@@ -0,0 +1,33 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 日次収支テーブル（daily_group_transaction・daily_living_expense・daily_personal_transaction・
+ * daily_personal_expense）の年単位パーティションの管理。
+ *
+ * <p>パーティションの作成はデータベースの create_transaction_partitions 関数が行い、作成済みの年は何もしない。
+ * 作成前にその年の行が DEFAULT パーティションに入っていた場合は、関数が同じトランザクションで新しいパーティションへ移す。
+ */
+@Repository
+public class TransactionPartitionRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public TransactionPartitionRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * year のパーティションが未作成のテーブルに作成し、作成したパーティションの数を返す。
+     */
+    public int createPartitions(Year year) {
+        return jdbcClient
+            .sql("SELECT create_transaction_partitions(:year)")
+            .param("year", year.value())
+            .query(Integer.class)
+            .single();
+    }
+}
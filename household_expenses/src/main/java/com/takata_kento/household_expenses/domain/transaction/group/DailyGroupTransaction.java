@@ -7,7 +7,9 @@ import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.annotation.Id;
@@ -16,6 +18,17 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
 
+/**
+ * グループの1日分の生活費。
+ *
+ * <p>生活費明細はメンバーごとの行の集まりとして保存されており、この集約はそれらを日付単位にまとめて
+ * 参照するためのビューとして扱う。明細の変更は {@link DailyGroupTransactionRepository#saveLivingExpensesOf}
+ * で変更したメンバーの行だけを保存し、version はヘッダの作成・削除の排他にのみ使う。
+ *
+ * <p>その日の生活費合計はヘッダの total_living_expense 列に保持する。明細を変更する操作はこの合計も
+ * 合わせて更新し、保存時に明細と同じトランザクションで永続化されるため、合計だけが必要な処理は明細を
+ * 読まずにヘッダの列を参照できる。
+ */
 @Table("daily_group_transaction")
 public class DailyGroupTransaction {
 
@@ -32,6 +45,9 @@ public class DailyGroupTransaction {
     @MappedCollection(idColumn = "daily_group_transaction_id")
     private Set<DailyLivingExpense> livingExpenses;
 
+    @Column("total_living_expense")
+    private Money totalLivingExpense;
+
     @Version
     private Integer version;
 
@@ -46,6 +62,7 @@ public class DailyGroupTransaction {
         this.userGroupId = userGroupId;
         this.transactionDate = transactionDate;
         this.livingExpenses = livingExpenses != null ? new HashSet<>(livingExpenses) : new HashSet<>();
+        this.totalLivingExpense = sumAmount(this.livingExpenses);
         this.version = version;
     }
 
@@ -79,14 +96,83 @@ public class DailyGroupTransaction {
             memo
         );
         this.livingExpenses.add(livingExpense);
+        this.totalLivingExpense = this.totalLivingExpense.add(amount);
     }
 
     public void removeLivingExpensesOf(UserId userId) {
         if (userId == null) throw new IllegalArgumentException("userId must not be null");
+        this.totalLivingExpense = this.totalLivingExpense.subtract(calculateLivingExpenseOf(userId));
         this.livingExpenses.removeIf(livingExpense -> livingExpense.userId().equals(userId));
     }
 
+    /**
+     * 指定ユーザーの生活費明細を entries の内容に置き換える。
+     *
+     * <p>内容が一致する既存明細はそのまま残し、残りの既存明細は書き換えて再利用する。
+     * 明細 ID をできるだけ維持することで、永続化時に変更のあった行だけが更新される。
+     */
+    public void replaceLivingExpensesOf(UserId userId, List<LivingExpenseEntry> entries) {
+        if (userId == null) throw new IllegalArgumentException("userId must not be null");
+        if (entries == null) throw new IllegalArgumentException("entries must not be null");
+        Money othersTotal = this.totalLivingExpense.subtract(calculateLivingExpenseOf(userId));
+        List<DailyLivingExpense> reusable = new ArrayList<>(
+            this.livingExpenses.stream()
+                .filter(livingExpense -> livingExpense.userId().equals(userId))
+                .toList()
+        );
+        List<LivingExpenseEntry> unmatched = new ArrayList<>();
+        for (LivingExpenseEntry entry : entries) {
+            reusable
+                .stream()
+                .filter(livingExpense -> livingExpense.hasSameContent(entry))
+                .findFirst()
+                .ifPresentOrElse(reusable::remove, () -> unmatched.add(entry));
+        }
+        Iterator<DailyLivingExpense> remaining = reusable.iterator();
+        for (LivingExpenseEntry entry : unmatched) {
+            if (remaining.hasNext()) {
+                remaining.next().overwrite(entry);
+                remaining.remove();
+            } else {
+                addLivingExpense(userId, entry.livingExpenseCategoryId(), entry.amount(), entry.memo());
+            }
+        }
+        this.livingExpenses.removeAll(reusable);
+        this.totalLivingExpense = othersTotal.add(calculateLivingExpenseOf(userId));
+    }
+
+    /**
+     * その日の生活費合計を返す。明細を走査せず、ヘッダに保持している合計を返す。
+     */
     public Money calculateTotalLivingExpense() {
-        return this.livingExpenses.stream().map(DailyLivingExpense::amount).reduce(new Money(0), Money::add);
+        return this.totalLivingExpense;
+    }
+
+    public Money calculateLivingExpenseOf(UserId userId) {
+        if (userId == null) throw new IllegalArgumentException("userId must not be null");
+        return this.livingExpenses.stream()
+            .filter(livingExpense -> livingExpense.userId().equals(userId))
+            .map(DailyLivingExpense::amount)
+            .reduce(new Money(0), Money::add);
+    }
+
+    Set<DailyLivingExpense> livingExpenseEntities() {
+        return this.livingExpenses;
+    }
+
+    void assignTotalLivingExpense(Money totalLivingExpense) {
+        this.totalLivingExpense = totalLivingExpense;
+    }
+
+    Integer version() {
+        return this.version;
+    }
+
+    void assignVersion(Integer version) {
+        this.version = version;
+    }
+
+    private static Money sumAmount(Set<DailyLivingExpense> livingExpenses) {
+        return livingExpenses.stream().map(DailyLivingExpense::amount).reduce(new Money(0), Money::add);
     }
 }
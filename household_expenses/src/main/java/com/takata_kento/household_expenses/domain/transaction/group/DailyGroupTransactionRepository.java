@@ -1,33 +1,22 @@
 package com.takata_kento.household_expenses.domain.transaction.group;
 
 import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
-import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
-import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
-import org.springframework.data.repository.query.Param;
 
 public interface DailyGroupTransactionRepository
-    extends CrudRepository<DailyGroupTransaction, DailyGroupTransactionId> {
-    @Query(
-        "SELECT * FROM daily_group_transaction WHERE user_group_id = :#{#userGroupId.value.toString()} AND transaction_date = :transactionDate"
-    )
-    Optional<DailyGroupTransaction> findByUserGroupIdAndTransactionDate(
-        @Param("userGroupId") UserGroupId userGroupId,
-        @Param("transactionDate") LocalDate transactionDate
-    );
+    extends
+        CrudRepository<DailyGroupTransaction, DailyGroupTransactionId>,
+        DailyGroupTransactionRepositoryCustom {
+    @Override
+    <S extends DailyGroupTransaction> S save(S transaction);
 
-    @Query("SELECT * FROM daily_group_transaction WHERE user_group_id = :#{#userGroupId.value.toString()}")
-    List<DailyGroupTransaction> findByUserGroupId(@Param("userGroupId") UserGroupId userGroupId);
+    @Override
+    Optional<DailyGroupTransaction> findById(DailyGroupTransactionId id);
 
-    @Query(
-        "SELECT * FROM daily_group_transaction WHERE user_group_id = :#{#userGroupId.value.toString()} AND transaction_date BETWEEN :from AND :to"
-    )
-    List<DailyGroupTransaction> findByUserGroupIdAndTransactionDateBetween(
-        @Param("userGroupId") UserGroupId userGroupId,
-        @Param("from") LocalDate from,
-        @Param("to") LocalDate to
-    );
+    @Override
+    void delete(DailyGroupTransaction transaction);
+
+    @Override
+    void deleteById(DailyGroupTransactionId id);
 }
@@ -0,0 +1,67 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link DailyGroupTransactionRepository} の保存・読み込み・削除を置き換えるフラグメント。
+ *
+ * <p>生活費明細はメンバーごとの行の集まりとして保存し、楽観ロックは明細行ごとの version で行う。
+ * 日次グループ収支（ヘッダ）の version は明細の変更では更新しないため、別々のメンバーが同じ日の
+ * 明細を同時に書き換えても互いの保存が失敗することはない。
+ *
+ * <p>読み込みと削除は、明細行をヘッダの transaction_date（パーティションキー）を条件に含めて扱う。
+ */
+public interface DailyGroupTransactionRepositoryCustom {
+    /**
+     * 集約を保存する。生活費明細は保存済みの行との差分だけを INSERT / UPDATE / DELETE する。
+     */
+    <S extends DailyGroupTransaction> S save(S transaction);
+
+    /**
+     * 指定ユーザーの生活費明細だけを保存する。他のメンバーの行は読み込みも更新もしない。
+     *
+     * <p>ヘッダが未保存であれば先に作成する。
+     */
+    <S extends DailyGroupTransaction> S saveLivingExpensesOf(S transaction, UserId userId);
+
+    /**
+     * ID だけでは年を絞れないため、ヘッダはすべてのパーティションを探す。明細はヘッダの取引日で読む。
+     */
+    Optional<DailyGroupTransaction> findById(DailyGroupTransactionId id);
+
+    Optional<DailyGroupTransaction> findByUserGroupIdAndTransactionDate(
+        UserGroupId userGroupId,
+        LocalDate transactionDate
+    );
+
+    /**
+     * グループ・日付のヘッダがなければ作成し、既存・新規いずれの場合もその日の集約を返す。
+     *
+     * <p>既存行に対しては値を変えない {@code DO UPDATE} を行い、{@code RETURNING} で既存行を返す。
+     */
+    DailyGroupTransaction upsertByUserGroupIdAndTransactionDate(
+        DailyGroupTransactionId id,
+        UserGroupId userGroupId,
+        LocalDate transactionDate
+    );
+
+    List<DailyGroupTransaction> findByUserGroupId(UserGroupId userGroupId);
+
+    List<DailyGroupTransaction> findByUserGroupIdAndTransactionDateBetween(
+        UserGroupId userGroupId,
+        LocalDate from,
+        LocalDate to
+    );
+
+    /**
+     * ヘッダの version で排他して集約を削除する。明細行は外部キーの ON DELETE CASCADE で削除される。
+     */
+    void delete(DailyGroupTransaction transaction);
+
+    void deleteById(DailyGroupTransactionId id);
+}
@@ -0,0 +1,483 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyLivingExpenseId;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 日次グループ収支の保存・読み込み・削除処理。
+ *
+ * <p>Spring Data JDBC 標準の保存は {@code @MappedCollection} の子行をすべて削除して再挿入し、集約ルートの
+ * version で排他するため、1人分の明細を変更しただけでもグループ全員分の行が書き換わり、同じ日に記録する
+ * メンバー同士が競合する。ここでは保存済みの明細と比較して変更のあった行だけを更新し、楽観ロックは
+ * 明細行ごとの version で行う。ヘッダの version は明細の変更では更新しない。
+ * 同じ日の書き込みの直列化は呼び出し側の (グループ, 取引日) 単位のロックが担い、ここでの version は
+ * ロックの外で読み込んだ古い集約からの上書きを検出するために使う。
+ *
+ * <p>ヘッダの total_living_expense は、保存した明細の合計の増減分を加算する UPDATE で更新する。
+ * 他のメンバーが同じ日に保存した分を上書きしないよう、集約の持つ合計で置き換えることはしない。
+ *
+ * <p>明細行はヘッダの transaction_date をパーティションキーとして持つため、明細の読み書きには必ず
+ * transaction_date を条件に含め、その日の年のパーティションだけを対象にする。標準の読み込みは
+ * {@code @MappedCollection} の子行を daily_group_transaction_id だけで検索し、すべての年のパーティションを
+ * 探すため、集約の読み込みもここで行う。ヘッダを読んでからその日付の範囲を条件に明細をまとめて読み、
+ * 削除はヘッダだけを削除して明細は外部キーの ON DELETE CASCADE（transaction_date を含む）に任せる。
+ * findAll など置き換えていない標準のメソッドは全パーティションを探すため、アプリケーションでは使わない。
+ */
+class DailyGroupTransactionRepositoryImpl implements DailyGroupTransactionRepositoryCustom {
+
+    private final JdbcClient jdbcClient;
+
+    DailyGroupTransactionRepositoryImpl(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public Optional<DailyGroupTransaction> findById(DailyGroupTransactionId id) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_group_id, transaction_date, total_living_expense, version
+                FROM daily_group_transaction
+                WHERE id = :id
+                """
+            )
+            .param("id", id.value())
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withLivingExpenses(rows).stream().findFirst();
+    }
+
+    @Override
+    public Optional<DailyGroupTransaction> findByUserGroupIdAndTransactionDate(
+        UserGroupId userGroupId,
+        LocalDate transactionDate
+    ) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_group_id, transaction_date, total_living_expense, version
+                FROM daily_group_transaction
+                WHERE user_group_id = :userGroupId AND transaction_date = :transactionDate
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("transactionDate", transactionDate)
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withLivingExpenses(rows).stream().findFirst();
+    }
+
+    @Override
+    public DailyGroupTransaction upsertByUserGroupIdAndTransactionDate(
+        DailyGroupTransactionId id,
+        UserGroupId userGroupId,
+        LocalDate transactionDate
+    ) {
+        TransactionRow row = jdbcClient
+            .sql(
+                """
+                INSERT INTO daily_group_transaction (id, user_group_id, transaction_date, version)
+                VALUES (:id, :userGroupId, :transactionDate, 0)
+                ON CONFLICT (user_group_id, transaction_date) DO UPDATE SET version = daily_group_transaction.version
+                RETURNING id, user_group_id, transaction_date, total_living_expense, version
+                """
+            )
+            .param("id", id.value())
+            .param("userGroupId", userGroupId.value())
+            .param("transactionDate", transactionDate)
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .single();
+        return withLivingExpenses(List.of(row)).getFirst();
+    }
+
+    @Override
+    public List<DailyGroupTransaction> findByUserGroupId(UserGroupId userGroupId) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_group_id, transaction_date, total_living_expense, version
+                FROM daily_group_transaction
+                WHERE user_group_id = :userGroupId
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withLivingExpenses(rows);
+    }
+
+    @Override
+    public List<DailyGroupTransaction> findByUserGroupIdAndTransactionDateBetween(
+        UserGroupId userGroupId,
+        LocalDate from,
+        LocalDate to
+    ) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_group_id, transaction_date, total_living_expense, version
+                FROM daily_group_transaction
+                WHERE user_group_id = :userGroupId AND transaction_date BETWEEN :from AND :to
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("from", from)
+            .param("to", to)
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withLivingExpenses(rows);
+    }
+
+    @Override
+    public void delete(DailyGroupTransaction transaction) {
+        int deletedRows = jdbcClient
+            .sql(
+                """
+                DELETE FROM daily_group_transaction
+                WHERE id = :id AND transaction_date = :transactionDate AND version = :version
+                """
+            )
+            .param("id", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("version", transaction.version())
+            .update();
+        if (deletedRows == 0) {
+            throw new OptimisticLockingFailureException(
+                "DailyGroupTransaction was updated or deleted concurrently: " + transaction.id()
+            );
+        }
+    }
+
+    @Override
+    public void deleteById(DailyGroupTransactionId id) {
+        jdbcClient.sql("DELETE FROM daily_group_transaction WHERE id = :id").param("id", id.value()).update();
+    }
+
+    /**
+     * ヘッダの行に生活費明細を付けて集約にする。明細はヘッダの取引日の最小から最大までを条件に1回で読み、
+     * その範囲の年のパーティションだけを探す。
+     */
+    private List<DailyGroupTransaction> withLivingExpenses(List<TransactionRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<DailyLivingExpense>> livingExpenses = jdbcClient
+            .sql(
+                """
+                SELECT id, daily_group_transaction_id, user_id, living_expense_category_id, amount, memo, version
+                FROM daily_living_expense
+                WHERE daily_group_transaction_id IN (:transactionIds) AND transaction_date BETWEEN :from AND :to
+                """
+            )
+            .param("transactionIds", rows.stream().map(TransactionRow::id).toList())
+            .param("from", rows.stream().map(TransactionRow::transactionDate).min(Comparator.naturalOrder()).get())
+            .param("to", rows.stream().map(TransactionRow::transactionDate).max(Comparator.naturalOrder()).get())
+            .query((rs, rowNum) ->
+                new DailyLivingExpense(
+                    new DailyLivingExpenseId(rs.getObject("id", UUID.class)),
+                    new DailyGroupTransactionId(rs.getObject("daily_group_transaction_id", UUID.class)),
+                    new UserId(rs.getObject("user_id", UUID.class)),
+                    new LivingExpenseCategoryId(rs.getObject("living_expense_category_id", UUID.class)),
+                    new Money(rs.getInt("amount")),
+                    rs.getString("memo") != null ? new Description(rs.getString("memo")) : null,
+                    rs.getInt("version")
+                )
+            )
+            .list()
+            .stream()
+            .collect(Collectors.groupingBy(livingExpense -> livingExpense.dailyGroupTransactionId().value()));
+        return rows
+            .stream()
+            .map(row -> row.toTransaction(livingExpenses.getOrDefault(row.id(), List.of())))
+            .toList();
+    }
+
+    @Override
+    public <S extends DailyGroupTransaction> S save(S transaction) {
+        List<DailyLivingExpense> livingExpenses = List.copyOf(transaction.livingExpenseEntities());
+        saveLivingExpenses(transaction, livingExpenses, findStoredRows(transaction));
+        return transaction;
+    }
+
+    @Override
+    public <S extends DailyGroupTransaction> S saveLivingExpensesOf(S transaction, UserId userId) {
+        if (userId == null) throw new IllegalArgumentException("userId must not be null");
+        List<DailyLivingExpense> livingExpenses = transaction
+            .livingExpenseEntities()
+            .stream()
+            .filter(livingExpense -> livingExpense.userId().equals(userId))
+            .toList();
+        saveLivingExpenses(transaction, livingExpenses, findStoredRowsOf(transaction, userId));
+        return transaction;
+    }
+
+    private void saveLivingExpenses(
+        DailyGroupTransaction transaction,
+        List<DailyLivingExpense> livingExpenses,
+        Map<UUID, LivingExpenseRow> storedRows
+    ) {
+        int newTotal = livingExpenses.stream().mapToInt(livingExpense -> livingExpense.amount().amount()).sum();
+        if (transaction.version() == null) {
+            insertTransaction(transaction, newTotal);
+            livingExpenses.forEach(livingExpense -> insertLivingExpense(transaction, livingExpense));
+            return;
+        }
+
+        int storedTotal = storedRows.values().stream().mapToInt(LivingExpenseRow::amount).sum();
+        for (DailyLivingExpense livingExpense : livingExpenses) {
+            LivingExpenseRow stored = storedRows.remove(livingExpense.id().value());
+            if (stored == null) {
+                insertLivingExpense(transaction, livingExpense);
+            } else if (!stored.hasSameContent(LivingExpenseRow.from(livingExpense))) {
+                updateLivingExpense(transaction, livingExpense);
+            }
+        }
+        storedRows.values().forEach(row -> deleteLivingExpense(transaction, row));
+        if (newTotal != storedTotal) {
+            addToTotalLivingExpense(transaction, newTotal - storedTotal);
+        }
+    }
+
+    private void insertTransaction(DailyGroupTransaction transaction, int totalLivingExpense) {
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO daily_group_transaction (id, user_group_id, transaction_date, version, total_living_expense)
+                VALUES (:id, :userGroupId, :transactionDate, 0, :totalLivingExpense)
+                """
+            )
+            .param("id", transaction.id().value())
+            .param("userGroupId", transaction.userGroupId().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("totalLivingExpense", totalLivingExpense)
+            .update();
+        transaction.assignVersion(0);
+        transaction.assignTotalLivingExpense(new Money(totalLivingExpense));
+    }
+
+    /**
+     * ヘッダの生活費合計に delta を加算し、他のメンバーの保存分も含む更新後の合計を集約へ反映する。
+     */
+    private void addToTotalLivingExpense(DailyGroupTransaction transaction, int delta) {
+        int totalLivingExpense = jdbcClient
+            .sql(
+                """
+                UPDATE daily_group_transaction SET total_living_expense = total_living_expense + :delta
+                WHERE id = :id AND transaction_date = :transactionDate
+                RETURNING total_living_expense
+                """
+            )
+            .param("delta", delta)
+            .param("id", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .query(Integer.class)
+            .optional()
+            .orElseThrow(() ->
+                new OptimisticLockingFailureException(
+                    "DailyGroupTransaction was deleted concurrently: " + transaction.id()
+                )
+            );
+        transaction.assignTotalLivingExpense(new Money(totalLivingExpense));
+    }
+
+    private Map<UUID, LivingExpenseRow> findStoredRows(DailyGroupTransaction transaction) {
+        if (transaction.version() == null) {
+            return new HashMap<>();
+        }
+        return jdbcClient
+            .sql(
+                """
+                SELECT id, user_id, living_expense_category_id, amount, memo, version
+                FROM daily_living_expense
+                WHERE daily_group_transaction_id = :transactionId AND transaction_date = :transactionDate
+                """
+            )
+            .param("transactionId", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .query((rs, rowNum) -> LivingExpenseRow.from(rs))
+            .list()
+            .stream()
+            .collect(Collectors.toMap(LivingExpenseRow::id, Function.identity()));
+    }
+
+    private Map<UUID, LivingExpenseRow> findStoredRowsOf(DailyGroupTransaction transaction, UserId userId) {
+        if (transaction.version() == null) {
+            return new HashMap<>();
+        }
+        return jdbcClient
+            .sql(
+                """
+                SELECT id, user_id, living_expense_category_id, amount, memo, version
+                FROM daily_living_expense
+                WHERE daily_group_transaction_id = :transactionId AND transaction_date = :transactionDate
+                  AND user_id = :userId
+                """
+            )
+            .param("transactionId", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("userId", userId.value())
+            .query((rs, rowNum) -> LivingExpenseRow.from(rs))
+            .list()
+            .stream()
+            .collect(Collectors.toMap(LivingExpenseRow::id, Function.identity()));
+    }
+
+    private void insertLivingExpense(DailyGroupTransaction transaction, DailyLivingExpense livingExpense) {
+        LivingExpenseRow row = LivingExpenseRow.from(livingExpense);
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO daily_living_expense
+                    (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount,
+                     memo, version)
+                VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount, :memo, 0)
+                """
+            )
+            .param("id", row.id())
+            .param("transactionId", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("userId", row.userId())
+            .param("categoryId", row.categoryId())
+            .param("amount", row.amount())
+            .param("memo", row.memo())
+            .update();
+        livingExpense.assignVersion(0);
+    }
+
+    private void updateLivingExpense(DailyGroupTransaction transaction, DailyLivingExpense livingExpense) {
+        LivingExpenseRow row = LivingExpenseRow.from(livingExpense);
+        int updatedRows = jdbcClient
+            .sql(
+                """
+                UPDATE daily_living_expense
+                SET user_id = :userId, living_expense_category_id = :categoryId, amount = :amount, memo = :memo,
+                    version = version + 1
+                WHERE id = :id AND transaction_date = :transactionDate AND version = :version
+                """
+            )
+            .param("id", row.id())
+            .param("transactionDate", transaction.transactionDate())
+            .param("userId", row.userId())
+            .param("categoryId", row.categoryId())
+            .param("amount", row.amount())
+            .param("memo", row.memo())
+            .param("version", row.version())
+            .update();
+        if (updatedRows == 0) {
+            throw new OptimisticLockingFailureException(
+                "DailyLivingExpense was updated or deleted concurrently: " + row.id()
+            );
+        }
+        livingExpense.assignVersion(row.version() + 1);
+    }
+
+    private void deleteLivingExpense(DailyGroupTransaction transaction, LivingExpenseRow row) {
+        int deletedRows = jdbcClient
+            .sql(
+                """
+                DELETE FROM daily_living_expense
+                WHERE id = :id AND transaction_date = :transactionDate AND version = :version
+                """
+            )
+            .param("id", row.id())
+            .param("transactionDate", transaction.transactionDate())
+            .param("version", row.version())
+            .update();
+        if (deletedRows == 0) {
+            throw new OptimisticLockingFailureException(
+                "DailyLivingExpense was updated or deleted concurrently: " + row.id()
+            );
+        }
+    }
+
+    private record TransactionRow(
+        UUID id,
+        UUID userGroupId,
+        LocalDate transactionDate,
+        int totalLivingExpense,
+        Integer version
+    ) {
+        static TransactionRow from(ResultSet rs) throws SQLException {
+            return new TransactionRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_group_id", UUID.class),
+                rs.getObject("transaction_date", LocalDate.class),
+                rs.getInt("total_living_expense"),
+                rs.getInt("version")
+            );
+        }
+
+        DailyGroupTransaction toTransaction(List<DailyLivingExpense> livingExpenses) {
+            DailyGroupTransaction transaction = new DailyGroupTransaction(
+                new DailyGroupTransactionId(this.id),
+                new UserGroupId(this.userGroupId),
+                this.transactionDate,
+                new HashSet<>(livingExpenses),
+                this.version
+            );
+            transaction.assignTotalLivingExpense(new Money(this.totalLivingExpense));
+            return transaction;
+        }
+    }
+
+    private record LivingExpenseRow(
+        UUID id,
+        UUID userId,
+        UUID categoryId,
+        int amount,
+        String memo,
+        Integer version
+    ) {
+        static LivingExpenseRow from(DailyLivingExpense livingExpense) {
+            return new LivingExpenseRow(
+                livingExpense.id().value(),
+                livingExpense.userId().value(),
+                livingExpense.livingExpenseCategoryId().value(),
+                livingExpense.amount().amount(),
+                livingExpense.memo() != null ? livingExpense.memo().value() : null,
+                livingExpense.version()
+            );
+        }
+
+        static LivingExpenseRow from(ResultSet rs) throws SQLException {
+            return new LivingExpenseRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("living_expense_category_id", UUID.class),
+                rs.getInt("amount"),
+                rs.getString("memo"),
+                rs.getInt("version")
+            );
+        }
+
+        boolean hasSameContent(LivingExpenseRow other) {
+            return (
+                this.id.equals(other.id) &&
+                this.userId.equals(other.userId) &&
+                this.categoryId.equals(other.categoryId) &&
+                this.amount == other.amount &&
+                Objects.equals(this.memo, other.memo)
+            );
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.Objects;
 import java.util.UUID;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
@@ -116,9 +117,36 @@ class DailyLivingExpense {
 
     void updateMemo(Description memo) {
         if (memo == null) throw new IllegalArgumentException("memo must not be null");
-        if (this.memo.equals(memo)) throw new IllegalArgumentException(
+        if (memo.equals(this.memo)) throw new IllegalArgumentException(
             "same parameter is detected when update memo of DailyLivingExpense"
         );
         this.memo = memo;
     }
+
+    boolean hasSameContent(LivingExpenseEntry entry) {
+        return (
+            this.livingExpenseCategoryId.equals(entry.livingExpenseCategoryId()) &&
+            this.amount.equals(entry.amount()) &&
+            Objects.equals(this.memo, entry.memo())
+        );
+    }
+
+    void overwrite(LivingExpenseEntry entry) {
+        if (!this.livingExpenseCategoryId.equals(entry.livingExpenseCategoryId())) {
+            updateLivingExpenseCategory(entry.livingExpenseCategoryId());
+        }
+        if (!this.amount.equals(entry.amount())) {
+            updateAmount(entry.amount());
+        }
+        // メモは任意項目のため、既存のメモを消す（null にする）書き換えも受け付ける
+        this.memo = entry.memo();
+    }
+
+    Integer version() {
+        return this.version;
+    }
+
+    void assignVersion(Integer version) {
+        this.version = version;
+    }
 }
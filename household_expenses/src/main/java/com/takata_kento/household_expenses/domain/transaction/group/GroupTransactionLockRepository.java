@@ -0,0 +1,51 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.time.LocalDate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 日次収支の書き込みを (グループ, 取引日) 単位で直列化するための PostgreSQL advisory lock。
+ *
+ * <p>ロックはトランザクションスコープ（{@code pg_advisory_xact_lock}）で取得し、コミット・ロールバック時に
+ * 自動で解放される。キーはグループ ID のハッシュと取引日のエポック日数の組で、ハッシュが衝突しても
+ * 余分に待機するだけで整合性には影響しない。
+ */
+@Repository
+public class GroupTransactionLockRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public GroupTransactionLockRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * 待機せずにロックの取得を試みる。他のトランザクションが保持していれば false を返す。
+     */
+    public boolean tryLock(UserGroupId userGroupId, LocalDate transactionDate) {
+        return jdbcClient
+            .sql("SELECT pg_try_advisory_xact_lock(hashtext(:userGroupId), :dateKey)")
+            .param("userGroupId", userGroupId.toString())
+            .param("dateKey", dateKey(transactionDate))
+            .query(Boolean.class)
+            .single();
+    }
+
+    /**
+     * ロックを取得できるまで待機する。
+     */
+    public void lock(UserGroupId userGroupId, LocalDate transactionDate) {
+        jdbcClient
+            .sql("SELECT pg_advisory_xact_lock(hashtext(:userGroupId), :dateKey)")
+            .param("userGroupId", userGroupId.toString())
+            .param("dateKey", dateKey(transactionDate))
+            .query()
+            .listOfRows();
+    }
+
+    private static int dateKey(LocalDate transactionDate) {
+        return Math.toIntExact(transactionDate.toEpochDay());
+    }
+}
@@ -0,0 +1,157 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 生活費分類別の月次集計（living_expense_category_rollup）へのアクセス。
+ *
+ * <p>集計は (グループ, 月, 生活費分類) ごとに生活費の合計と明細件数を保持し、日次生活費の記録・更新・削除の
+ * たびに差分を加算して維持する。分類別の内訳は、範囲に完全に含まれる月を集計から、月の途中で始まる・
+ * 終わる端の日だけを日次生活費から求めるため、記録の年数に関係なく読み込む行数は一定の範囲に収まる。
+ */
+@Repository
+public class LivingExpenseCategoryRollupRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public LivingExpenseCategoryRollupRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * 指定日の生活費明細の変更前後を比較し、分類ごとの合計と件数の差分を集計へ加算する。
+     */
+    public void applyChange(
+        UserGroupId userGroupId,
+        LocalDate transactionDate,
+        List<DailyLivingExpenseInfo> previous,
+        List<DailyLivingExpenseInfo> current
+    ) {
+        Map<LivingExpenseCategoryId, int[]> deltas = new LinkedHashMap<>();
+        for (DailyLivingExpenseInfo livingExpense : previous) {
+            int[] delta = deltas.computeIfAbsent(livingExpense.livingExpenseCategoryId(), id -> new int[2]);
+            delta[0] -= livingExpense.amount().amount();
+            delta[1] -= 1;
+        }
+        for (DailyLivingExpenseInfo livingExpense : current) {
+            int[] delta = deltas.computeIfAbsent(livingExpense.livingExpenseCategoryId(), id -> new int[2]);
+            delta[0] += livingExpense.amount().amount();
+            delta[1] += 1;
+        }
+        LocalDate periodMonth = transactionDate.withDayOfMonth(1);
+        deltas.forEach((categoryId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                applyDelta(userGroupId, periodMonth, categoryId, delta[0], delta[1]);
+            }
+        });
+    }
+
+    /**
+     * 新たに記録した日ごとの生活費明細を、月・分類ごとにまとめてから集計へ加算する。
+     * 収支の一括取り込みで、取り込んだ日数に関係なく更新回数を月と分類の組み合わせの数に抑えるために使う。
+     */
+    public void applyAdded(UserGroupId userGroupId, Map<LocalDate, List<DailyLivingExpenseInfo>> livingExpensesByDate) {
+        Map<LocalDate, Map<LivingExpenseCategoryId, int[]>> deltasByMonth = new LinkedHashMap<>();
+        livingExpensesByDate.forEach((transactionDate, livingExpenses) -> {
+            Map<LivingExpenseCategoryId, int[]> deltas = deltasByMonth.computeIfAbsent(
+                transactionDate.withDayOfMonth(1),
+                month -> new LinkedHashMap<>()
+            );
+            for (DailyLivingExpenseInfo livingExpense : livingExpenses) {
+                int[] delta = deltas.computeIfAbsent(livingExpense.livingExpenseCategoryId(), id -> new int[2]);
+                delta[0] += livingExpense.amount().amount();
+                delta[1] += 1;
+            }
+        });
+        deltasByMonth.forEach((periodMonth, deltas) ->
+            deltas.forEach((categoryId, delta) -> applyDelta(userGroupId, periodMonth, categoryId, delta[0], delta[1]))
+        );
+    }
+
+    private void applyDelta(
+        UserGroupId userGroupId,
+        LocalDate periodMonth,
+        LivingExpenseCategoryId categoryId,
+        int amountDelta,
+        int countDelta
+    ) {
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO living_expense_category_rollup
+                    (user_group_id, period_month, living_expense_category_id, total_amount, expense_count)
+                VALUES (:userGroupId, :periodMonth, :categoryId, :amountDelta, :countDelta)
+                ON CONFLICT (user_group_id, period_month, living_expense_category_id) DO UPDATE
+                SET total_amount = living_expense_category_rollup.total_amount + EXCLUDED.total_amount,
+                    expense_count = living_expense_category_rollup.expense_count + EXCLUDED.expense_count
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("periodMonth", periodMonth)
+            .param("categoryId", categoryId.value())
+            .param("amountDelta", amountDelta)
+            .param("countDelta", countDelta)
+            .update();
+    }
+
+    /**
+     * from〜to（両端を含む）の生活費を分類ごとに集計する。明細のない分類は含まない。
+     */
+    public List<LivingExpenseCategorySpent> sumByCategory(UserGroupId userGroupId, LocalDate from, LocalDate to) {
+        // 集計を使う月の範囲 [rollupFrom, rollupUntil) と、日次生活費から求める端の日 [from, rollupFrom) と
+        // [rollupUntil, to] に分ける。月をまたがない範囲は全体を日次生活費から求める
+        LocalDate rollupFrom = from.getDayOfMonth() == 1 ? from : from.withDayOfMonth(1).plusMonths(1);
+        LocalDate rollupUntil = to.getDayOfMonth() == to.lengthOfMonth() ? to.plusDays(1) : to.withDayOfMonth(1);
+        if (!rollupFrom.isBefore(rollupUntil)) {
+            rollupFrom = to.plusDays(1);
+            rollupUntil = to.plusDays(1);
+        }
+        return jdbcClient
+            .sql(
+                """
+                SELECT living_expense_category_id, SUM(amount) AS amount, SUM(expense_count) AS expense_count
+                FROM (
+                    SELECT living_expense_category_id, total_amount AS amount, expense_count
+                    FROM living_expense_category_rollup
+                    WHERE user_group_id = :userGroupId AND period_month >= :rollupFrom AND period_month < :rollupUntil
+                    UNION ALL
+                    SELECT e.living_expense_category_id, e.amount, 1 AS expense_count
+                    FROM daily_group_transaction t
+                    JOIN daily_living_expense e
+                        ON e.daily_group_transaction_id = t.id AND e.transaction_date = t.transaction_date
+                    WHERE t.user_group_id = :userGroupId
+                      AND e.transaction_date BETWEEN :from AND :to
+                      AND (
+                          (t.transaction_date >= :from AND t.transaction_date < :rollupFrom)
+                          OR (t.transaction_date >= :rollupUntil AND t.transaction_date <= :to)
+                      )
+                ) spent
+                GROUP BY living_expense_category_id
+                HAVING SUM(expense_count) > 0
+                ORDER BY living_expense_category_id
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("from", from)
+            .param("to", to)
+            .param("rollupFrom", rollupFrom)
+            .param("rollupUntil", rollupUntil)
+            .query((rs, rowNum) ->
+                new LivingExpenseCategorySpent(
+                    new LivingExpenseCategoryId(rs.getObject("living_expense_category_id", UUID.class)),
+                    new Money(rs.getInt("amount")),
+                    rs.getInt("expense_count")
+                )
+            )
+            .list();
+    }
+}
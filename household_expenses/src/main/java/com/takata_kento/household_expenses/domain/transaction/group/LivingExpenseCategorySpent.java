@@ -0,0 +1,13 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+
+/**
+ * 生活費分類ごとの生活費合計と明細件数。
+ *
+ * @param livingExpenseCategoryId 生活費分類ID
+ * @param amount 生活費の合計
+ * @param count 明細件数
+ */
+public record LivingExpenseCategorySpent(LivingExpenseCategoryId livingExpenseCategoryId, Money amount, int count) {}
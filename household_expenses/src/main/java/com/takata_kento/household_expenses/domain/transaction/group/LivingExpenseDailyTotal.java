@@ -0,0 +1,9 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.time.LocalDate;
+
+/**
+ * 日付ごとの生活費合計。
+ */
+public record LivingExpenseDailyTotal(LocalDate transactionDate, Money amount) {}
@@ -0,0 +1,10 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+
+/**
+ * 生活費明細の入力内容（明細 ID を持たない）。
+ */
+public record LivingExpenseEntry(LivingExpenseCategoryId livingExpenseCategoryId, Money amount, Description memo) {}
@@ -0,0 +1,47 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * グループの生活費を集計する参照専用リポジトリ。
+ *
+ * <p>日ごとの生活費合計をヘッダの total_living_expense から返し、{@link DailyGroupTransaction} 集約や明細は
+ * 読み込まない。期間は from〜to の両端を含み、期間を含む年のパーティションだけを読む。
+ */
+@Repository
+public class LivingExpenseSummaryRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public LivingExpenseSummaryRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public List<LivingExpenseDailyTotal> sumByDay(UserGroupId userGroupId, LocalDate from, LocalDate to) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT transaction_date, total_living_expense AS amount
+                FROM daily_group_transaction
+                WHERE user_group_id = :userGroupId AND transaction_date BETWEEN :from AND :to
+                  AND total_living_expense > 0
+                ORDER BY transaction_date
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .param("from", from)
+            .param("to", to)
+            .query((rs, rowNum) ->
+                new LivingExpenseDailyTotal(
+                    rs.getObject("transaction_date", LocalDate.class),
+                    new Money(rs.getInt("amount"))
+                )
+            )
+            .list();
+    }
+}
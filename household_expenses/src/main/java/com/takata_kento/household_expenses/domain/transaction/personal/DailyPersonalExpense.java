@@ -82,4 +82,13 @@ class DailyPersonalExpense {
         );
         this.memo = memo;
     }
+
+    void overwrite(PersonalExpenseEntry entry) {
+        if (!this.amount.equals(entry.amount())) {
+            updateAmount(entry.amount());
+        }
+        if (!this.memo.equals(entry.memo())) {
+            updateMemo(entry.memo());
+        }
+    }
 }
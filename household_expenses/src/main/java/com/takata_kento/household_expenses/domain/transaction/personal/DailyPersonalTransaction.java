@@ -13,6 +13,12 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
 
+/**
+ * ユーザーの1日分の収入と個人支出。
+ *
+ * <p>その日の個人支出合計はヘッダの total_personal_expense 列に保持する。明細を変更する操作はこの合計も
+ * 合わせて更新し、保存時に明細と同じトランザクションで永続化される。
+ */
 @Table("daily_personal_transaction")
 public class DailyPersonalTransaction {
 
@@ -32,6 +38,9 @@ public class DailyPersonalTransaction {
     @MappedCollection(idColumn = "daily_personal_transaction_id")
     private List<DailyPersonalExpense> personalExpenses;
 
+    @Column("total_personal_expense")
+    private Money totalPersonalExpense;
+
     @Version
     private Integer version;
 
@@ -48,6 +57,9 @@ public class DailyPersonalTransaction {
         this.transactionDate = transactionDate;
         this.income = income;
         this.personalExpenses = personalExpenses != null ? new ArrayList<>(personalExpenses) : new ArrayList<>();
+        this.totalPersonalExpense = this.personalExpenses.stream()
+            .map(DailyPersonalExpense::amount)
+            .reduce(new Money(0), Money::add);
         this.version = version;
     }
 
@@ -74,10 +86,34 @@ public class DailyPersonalTransaction {
     public void addPersonalExpense(Money amount, Description memo) {
         DailyPersonalExpense personalExpense = DailyPersonalExpense.create(this.id, amount, memo);
         this.personalExpenses.add(personalExpense);
+        this.totalPersonalExpense = this.totalPersonalExpense.add(amount);
     }
 
     public void clearPersonalExpenses() {
         this.personalExpenses.clear();
+        this.totalPersonalExpense = new Money(0);
+    }
+
+    /**
+     * 個人支出明細を entries の内容に置き換える。
+     *
+     * <p>先頭から順に既存明細を書き換えて再利用し、不足分は追加、余剰分は末尾から削除する。
+     * 明細 ID を維持することで、永続化時に変更のあった行だけが更新される。
+     */
+    public void replacePersonalExpenses(List<PersonalExpenseEntry> entries) {
+        if (entries == null) throw new IllegalArgumentException("entries must not be null");
+        for (int i = 0; i < entries.size(); i++) {
+            PersonalExpenseEntry entry = entries.get(i);
+            if (i < this.personalExpenses.size()) {
+                this.personalExpenses.get(i).overwrite(entry);
+            } else {
+                addPersonalExpense(entry.amount(), entry.memo());
+            }
+        }
+        while (this.personalExpenses.size() > entries.size()) {
+            this.personalExpenses.removeLast();
+        }
+        this.totalPersonalExpense = entries.stream().map(PersonalExpenseEntry::amount).reduce(new Money(0), Money::add);
     }
 
     public void updateIncome(Money income) {
@@ -88,7 +124,22 @@ public class DailyPersonalTransaction {
         this.income = income;
     }
 
+    /**
+     * その日の個人支出合計を返す。明細を走査せず、ヘッダに保持している合計を返す。
+     */
     public Money calculateTotalPersonalExpense() {
-        return this.personalExpenses.stream().map(DailyPersonalExpense::amount).reduce(new Money(0), Money::add);
+        return this.totalPersonalExpense;
+    }
+
+    List<DailyPersonalExpense> personalExpenseEntities() {
+        return this.personalExpenses;
+    }
+
+    Integer version() {
+        return this.version;
+    }
+
+    void assignVersion(Integer version) {
+        this.version = version;
     }
 }
@@ -0,0 +1,37 @@
+package com.takata_kento.household_expenses.domain.transaction.personal;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link DailyPersonalTransactionRepository} の保存・読み込み・削除を置き換えるフラグメント。
+ *
+ * <p>読み込みと削除は、明細行をヘッダの transaction_date（パーティションキー）を条件に含めて扱う。
+ */
+public interface DailyPersonalTransactionRepositoryCustom {
+    /**
+     * 集約を保存する。個人支出明細は保存済みの行との差分だけを INSERT / UPDATE / DELETE する。
+     */
+    <S extends DailyPersonalTransaction> S save(S transaction);
+
+    /**
+     * ID だけでは年を絞れないため、ヘッダはすべてのパーティションを探す。明細はヘッダの取引日で読む。
+     */
+    Optional<DailyPersonalTransaction> findById(DailyPersonalTransactionId id);
+
+    Optional<DailyPersonalTransaction> findByUserIdAndTransactionDate(UserId userId, LocalDate transactionDate);
+
+    List<DailyPersonalTransaction> findByUserId(UserId userId);
+
+    List<DailyPersonalTransaction> findByUserIdAndTransactionDateBetween(UserId userId, LocalDate from, LocalDate to);
+
+    /**
+     * ヘッダの version で排他して集約を削除する。明細行は外部キーの ON DELETE CASCADE で削除される。
+     */
+    void delete(DailyPersonalTransaction transaction);
+
+    void deleteById(DailyPersonalTransactionId id);
+}
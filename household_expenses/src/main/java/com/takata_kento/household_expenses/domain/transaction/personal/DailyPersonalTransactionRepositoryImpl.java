@@ -0,0 +1,339 @@
+package com.takata_kento.household_expenses.domain.transaction.personal;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalExpenseId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 日次個人収支の保存・読み込み・削除処理。
+ *
+ * <p>Spring Data JDBC 標準の保存は {@code @MappedCollection} の子行をすべて削除して再挿入するため、
+ * ここでは保存済みの明細と比較し、追加・変更（並び順を含む）・削除された明細だけを更新する。
+ * 集約ルートの楽観ロック（version）は標準の保存と同様に扱う。ヘッダの total_personal_expense には
+ * 集約の持つ個人支出合計をそのまま書き込む。
+ *
+ * <p>ヘッダ・明細とも transaction_date をパーティションキーとして持つため、読み書きには必ず
+ * transaction_date を条件に含め、その日の年のパーティションだけを対象にする。標準の読み込みは明細を
+ * daily_personal_transaction_id だけで検索してすべての年のパーティションを探すため、集約の読み込みと
+ * 削除もここで行う。削除はヘッダだけを削除し、明細は外部キーの ON DELETE CASCADE に任せる。
+ */
+class DailyPersonalTransactionRepositoryImpl implements DailyPersonalTransactionRepositoryCustom {
+
+    private final JdbcClient jdbcClient;
+
+    DailyPersonalTransactionRepositoryImpl(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public Optional<DailyPersonalTransaction> findById(DailyPersonalTransactionId id) {
+        List<TransactionRow> rows = jdbcClient
+            .sql("SELECT id, user_id, transaction_date, income, version FROM daily_personal_transaction WHERE id = :id")
+            .param("id", id.value())
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withPersonalExpenses(rows).stream().findFirst();
+    }
+
+    @Override
+    public Optional<DailyPersonalTransaction> findByUserIdAndTransactionDate(UserId userId, LocalDate transactionDate) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_id, transaction_date, income, version
+                FROM daily_personal_transaction
+                WHERE user_id = :userId AND transaction_date = :transactionDate
+                """
+            )
+            .param("userId", userId.value())
+            .param("transactionDate", transactionDate)
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withPersonalExpenses(rows).stream().findFirst();
+    }
+
+    @Override
+    public List<DailyPersonalTransaction> findByUserId(UserId userId) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_id, transaction_date, income, version
+                FROM daily_personal_transaction
+                WHERE user_id = :userId
+                """
+            )
+            .param("userId", userId.value())
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withPersonalExpenses(rows);
+    }
+
+    @Override
+    public List<DailyPersonalTransaction> findByUserIdAndTransactionDateBetween(
+        UserId userId,
+        LocalDate from,
+        LocalDate to
+    ) {
+        List<TransactionRow> rows = jdbcClient
+            .sql(
+                """
+                SELECT id, user_id, transaction_date, income, version
+                FROM daily_personal_transaction
+                WHERE user_id = :userId AND transaction_date BETWEEN :from AND :to
+                """
+            )
+            .param("userId", userId.value())
+            .param("from", from)
+            .param("to", to)
+            .query((rs, rowNum) -> TransactionRow.from(rs))
+            .list();
+        return withPersonalExpenses(rows);
+    }
+
+    @Override
+    public void delete(DailyPersonalTransaction transaction) {
+        int deletedRows = jdbcClient
+            .sql(
+                """
+                DELETE FROM daily_personal_transaction
+                WHERE id = :id AND transaction_date = :transactionDate AND version = :version
+                """
+            )
+            .param("id", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("version", transaction.version())
+            .update();
+        if (deletedRows == 0) {
+            throw new OptimisticLockingFailureException(
+                "DailyPersonalTransaction was updated or deleted concurrently: " + transaction.id()
+            );
+        }
+    }
+
+    @Override
+    public void deleteById(DailyPersonalTransactionId id) {
+        jdbcClient.sql("DELETE FROM daily_personal_transaction WHERE id = :id").param("id", id.value()).update();
+    }
+
+    /**
+     * ヘッダの行に個人支出明細を並び順どおりに付けて集約にする。明細はヘッダの取引日の最小から最大までを
+     * 条件に1回で読み、その範囲の年のパーティションだけを探す。
+     */
+    private List<DailyPersonalTransaction> withPersonalExpenses(List<TransactionRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<DailyPersonalExpense>> personalExpenses = jdbcClient
+            .sql(
+                """
+                SELECT id, daily_personal_transaction_id, amount, memo, version
+                FROM daily_personal_expense
+                WHERE daily_personal_transaction_id IN (:transactionIds) AND transaction_date BETWEEN :from AND :to
+                ORDER BY daily_personal_transaction_id, daily_personal_transaction_key
+                """
+            )
+            .param("transactionIds", rows.stream().map(TransactionRow::id).toList())
+            .param("from", rows.stream().map(TransactionRow::transactionDate).min(Comparator.naturalOrder()).get())
+            .param("to", rows.stream().map(TransactionRow::transactionDate).max(Comparator.naturalOrder()).get())
+            .query((rs, rowNum) ->
+                new DailyPersonalExpense(
+                    new DailyPersonalExpenseId(rs.getObject("id", UUID.class)),
+                    new DailyPersonalTransactionId(rs.getObject("daily_personal_transaction_id", UUID.class)),
+                    new Money(rs.getInt("amount")),
+                    new Description(rs.getString("memo")),
+                    rs.getInt("version")
+                )
+            )
+            .list()
+            .stream()
+            .collect(Collectors.groupingBy(personalExpense -> personalExpense.dailyPersonalTransactionId().value()));
+        return rows
+            .stream()
+            .map(row -> row.toTransaction(personalExpenses.getOrDefault(row.id(), List.of())))
+            .toList();
+    }
+
+    @Override
+    public <S extends DailyPersonalTransaction> S save(S transaction) {
+        if (transaction.version() == null) {
+            insertTransaction(transaction);
+            return transaction;
+        }
+
+        updateTransaction(transaction);
+        Map<UUID, PersonalExpenseRow> storedRows = findStoredRows(transaction);
+        List<DailyPersonalExpense> personalExpenses = transaction.personalExpenseEntities();
+        for (int key = 0; key < personalExpenses.size(); key++) {
+            PersonalExpenseRow row = PersonalExpenseRow.from(personalExpenses.get(key), key);
+            PersonalExpenseRow stored = storedRows.remove(row.id());
+            if (stored == null) {
+                insertPersonalExpense(transaction, row);
+            } else if (!stored.equals(row)) {
+                updatePersonalExpense(transaction, row);
+            }
+        }
+        List<UUID> deletedIds = new ArrayList<>(storedRows.keySet());
+        if (!deletedIds.isEmpty()) {
+            jdbcClient
+                .sql("DELETE FROM daily_personal_expense WHERE id IN (:ids) AND transaction_date = :transactionDate")
+                .param("ids", deletedIds)
+                .param("transactionDate", transaction.transactionDate())
+                .update();
+        }
+        return transaction;
+    }
+
+    private void insertTransaction(DailyPersonalTransaction transaction) {
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO daily_personal_transaction
+                    (id, user_id, transaction_date, income, version, total_personal_expense)
+                VALUES (:id, :userId, :transactionDate, :income, 0, :totalPersonalExpense)
+                """
+            )
+            .param("id", transaction.id().value())
+            .param("userId", transaction.userId().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("income", transaction.income().amount())
+            .param("totalPersonalExpense", transaction.calculateTotalPersonalExpense().amount())
+            .update();
+        List<DailyPersonalExpense> personalExpenses = transaction.personalExpenseEntities();
+        for (int key = 0; key < personalExpenses.size(); key++) {
+            insertPersonalExpense(transaction, PersonalExpenseRow.from(personalExpenses.get(key), key));
+        }
+        transaction.assignVersion(0);
+    }
+
+    private void updateTransaction(DailyPersonalTransaction transaction) {
+        int updatedRows = jdbcClient
+            .sql(
+                """
+                UPDATE daily_personal_transaction
+                SET income = :income, total_personal_expense = :totalPersonalExpense, version = version + 1
+                WHERE id = :id AND transaction_date = :transactionDate AND version = :version
+                """
+            )
+            .param("income", transaction.income().amount())
+            .param("totalPersonalExpense", transaction.calculateTotalPersonalExpense().amount())
+            .param("id", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("version", transaction.version())
+            .update();
+        if (updatedRows == 0) {
+            throw new OptimisticLockingFailureException(
+                "DailyPersonalTransaction was updated or deleted concurrently: " + transaction.id()
+            );
+        }
+        transaction.assignVersion(transaction.version() + 1);
+    }
+
+    private Map<UUID, PersonalExpenseRow> findStoredRows(DailyPersonalTransaction transaction) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT id, daily_personal_transaction_key, amount, memo
+                FROM daily_personal_expense
+                WHERE daily_personal_transaction_id = :transactionId AND transaction_date = :transactionDate
+                """
+            )
+            .param("transactionId", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .query((rs, rowNum) ->
+                new PersonalExpenseRow(
+                    rs.getObject("id", UUID.class),
+                    rs.getInt("daily_personal_transaction_key"),
+                    rs.getInt("amount"),
+                    rs.getString("memo")
+                )
+            )
+            .list()
+            .stream()
+            .collect(Collectors.toMap(PersonalExpenseRow::id, Function.identity()));
+    }
+
+    private void insertPersonalExpense(DailyPersonalTransaction transaction, PersonalExpenseRow row) {
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO daily_personal_expense
+                    (id, daily_personal_transaction_id, transaction_date, daily_personal_transaction_key, amount, memo,
+                     version)
+                VALUES (:id, :transactionId, :transactionDate, :key, :amount, :memo, 0)
+                """
+            )
+            .param("id", row.id())
+            .param("transactionId", transaction.id().value())
+            .param("transactionDate", transaction.transactionDate())
+            .param("key", row.key())
+            .param("amount", row.amount())
+            .param("memo", row.memo())
+            .update();
+    }
+
+    private void updatePersonalExpense(DailyPersonalTransaction transaction, PersonalExpenseRow row) {
+        jdbcClient
+            .sql(
+                """
+                UPDATE daily_personal_expense
+                SET daily_personal_transaction_key = :key, amount = :amount, memo = :memo, version = version + 1
+                WHERE id = :id AND transaction_date = :transactionDate
+                """
+            )
+            .param("id", row.id())
+            .param("transactionDate", transaction.transactionDate())
+            .param("key", row.key())
+            .param("amount", row.amount())
+            .param("memo", row.memo())
+            .update();
+    }
+
+    private record TransactionRow(UUID id, UUID userId, LocalDate transactionDate, int income, Integer version) {
+        static TransactionRow from(ResultSet rs) throws SQLException {
+            return new TransactionRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("transaction_date", LocalDate.class),
+                rs.getInt("income"),
+                rs.getInt("version")
+            );
+        }
+
+        DailyPersonalTransaction toTransaction(List<DailyPersonalExpense> personalExpenses) {
+            return new DailyPersonalTransaction(
+                new DailyPersonalTransactionId(this.id),
+                new UserId(this.userId),
+                this.transactionDate,
+                new Money(this.income),
+                personalExpenses,
+                this.version
+            );
+        }
+    }
+
+    private record PersonalExpenseRow(UUID id, int key, int amount, String memo) {
+        static PersonalExpenseRow from(DailyPersonalExpense personalExpense, int key) {
+            return new PersonalExpenseRow(
+                personalExpense.id().value(),
+                key,
+                personalExpense.amount().amount(),
+                personalExpense.memo().value()
+            );
+        }
+    }
+}
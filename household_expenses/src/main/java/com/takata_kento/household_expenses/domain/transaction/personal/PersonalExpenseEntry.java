@@ -0,0 +1,9 @@
+package com.takata_kento.household_expenses.domain.transaction.personal;
+
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+
+/**
+ * 個人支出明細の入力内容（明細 ID を持たない）。
+ */
+public record PersonalExpenseEntry(Money amount, Description memo) {}
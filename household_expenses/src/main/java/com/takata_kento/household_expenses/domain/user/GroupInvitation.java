@@ -3,13 +3,21 @@ package com.takata_kento.household_expenses.domain.user;
 import com.takata_kento.household_expenses.domain.valueobject.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
+/**
+ * グループへの招待。
+ *
+ * <p>招待の履歴はユーザーごとに増え続けるため {@link User} 集約には含めず、{@link GroupInvitationRepository}
+ * で独立して保存・取得する。
+ */
 @Table("group_invitation")
-class GroupInvitation {
+public class GroupInvitation {
 
-    @Column("id")
+    @Id
     private GroupInvitationId id;
 
     @Column("user_group_id")
@@ -36,6 +44,9 @@ class GroupInvitation {
     @Column("updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    private Integer version;
+
     public GroupInvitation(
         GroupInvitationId id,
         UserGroupId userGroupId,
@@ -45,7 +56,8 @@ class GroupInvitation {
         LocalDateTime invitedAt,
         LocalDateTime respondedAt,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Integer version
     ) {
         this.id = id;
         this.userGroupId = userGroupId;
@@ -56,6 +68,7 @@ class GroupInvitation {
         this.respondedAt = respondedAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public static GroupInvitation create(UserGroupId userGroupId, UserId invitedUserId, UserId invitedByUserId) {
@@ -70,7 +83,8 @@ class GroupInvitation {
             now,
             null,
             now,
-            now
+            now,
+            null
         );
     }
 
@@ -110,6 +124,10 @@ class GroupInvitation {
         return updatedAt;
     }
 
+    public Integer version() {
+        return version;
+    }
+
     public void accept() {
         this.status = InvitationStatus.ACCEPTED;
         this.respondedAt = LocalDateTime.now();
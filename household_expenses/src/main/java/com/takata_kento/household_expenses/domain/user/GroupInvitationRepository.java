@@ -0,0 +1,15 @@
+package com.takata_kento.household_expenses.domain.user;
+
+import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.List;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface GroupInvitationRepository extends CrudRepository<GroupInvitation, GroupInvitationId> {
+    @Query(
+        "SELECT * FROM group_invitation WHERE invited_user_id = :invitedUserId AND status = 'PENDING' ORDER BY invited_at"
+    )
+    List<GroupInvitation> findPendingByInvitedUserId(@Param("invitedUserId") UserId invitedUserId);
+}
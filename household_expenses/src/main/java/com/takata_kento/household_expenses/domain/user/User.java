@@ -1,17 +1,12 @@
 package com.takata_kento.household_expenses.domain.user;
 
-import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
-import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
 
 @Table("users")
@@ -26,23 +21,13 @@ public class User {
     @Column("user_group_id")
     private Optional<UserGroupId> userGroupId;
 
-    @MappedCollection(idColumn = "invited_user_id")
-    private Set<GroupInvitation> receivedInvitations;
-
     @Version
     private Integer version;
 
-    public User(
-        UserId id,
-        Username name,
-        Optional<UserGroupId> userGroupId,
-        Set<GroupInvitation> receivedInvitations,
-        Integer version
-    ) {
+    public User(UserId id, Username name, Optional<UserGroupId> userGroupId, Integer version) {
         this.id = id;
         this.name = name;
         this.userGroupId = userGroupId != null ? userGroupId : Optional.empty();
-        this.receivedInvitations = receivedInvitations;
         this.version = version;
     }
 
@@ -62,24 +47,6 @@ public class User {
         return userGroupId.isPresent();
     }
 
-    public Set<GroupInvitationInfo> receivedInvitations() {
-        if (receivedInvitations == null) {
-            return Set.of();
-        }
-        return receivedInvitations.stream().map(GroupInvitationInfo::from).collect(Collectors.toUnmodifiableSet());
-    }
-
-    public Set<GroupInvitationInfo> getPendingInvitations() {
-        if (receivedInvitations == null) {
-            return Set.of();
-        }
-        return receivedInvitations
-            .stream()
-            .filter(GroupInvitation::isPending)
-            .map(GroupInvitationInfo::from)
-            .collect(Collectors.toUnmodifiableSet());
-    }
-
     public void joinGroup(UserGroupId userGroupId) {
         if (this.isBelongsToGroup()) {
             throw new IllegalStateException("User already belongs to a group");
@@ -103,49 +70,28 @@ public class User {
         return this.isBelongsToGroup() && !this.id.equals(inviteeUserId);
     }
 
-    public GroupInvitationId invite(User invitee) {
+    public GroupInvitation invite(User invitee) {
         if (!this.canInvite(invitee.id())) {
             throw new IllegalStateException("Cannot invite user");
         }
 
-        GroupInvitation invitation = GroupInvitation.create(this.userGroupId.orElseThrow(), invitee.id(), this.id);
-        invitee.addInvitation(invitation);
-        return invitation.id();
-    }
-
-    void addInvitation(GroupInvitation invitation) {
-        if (this.receivedInvitations == null) {
-            this.receivedInvitations = new HashSet<>();
-        }
-        this.receivedInvitations.add(invitation);
+        return GroupInvitation.create(this.userGroupId.orElseThrow(), invitee.id(), this.id);
     }
 
-    public void accept(GroupInvitationId invitationId) {
-        if (receivedInvitations == null) {
-            throw new IllegalArgumentException("No invitations to accept");
+    public void accept(GroupInvitation invitation) {
+        if (!invitation.invitedUserId().equals(this.id)) {
+            throw new IllegalArgumentException("Invitation not found");
         }
 
-        GroupInvitation invitation = receivedInvitations
-            .stream()
-            .filter(inv -> inv.id().equals(invitationId))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Invitation not found"));
-
         invitation.accept();
         this.userGroupId = Optional.of(invitation.userGroupId());
     }
 
-    public void reject(GroupInvitationId invitationId) {
-        if (receivedInvitations == null) {
-            throw new IllegalArgumentException("No invitations to reject");
+    public void reject(GroupInvitation invitation) {
+        if (!invitation.invitedUserId().equals(this.id)) {
+            throw new IllegalArgumentException("Invitation not found");
         }
 
-        GroupInvitation invitation = receivedInvitations
-            .stream()
-            .filter(inv -> inv.id().equals(invitationId))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Invitation not found"));
-
         invitation.reject();
     }
 
@@ -0,0 +1,19 @@
+package com.takata_kento.household_expenses.domain.user;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import com.takata_kento.household_expenses.domain.valueobject.Username;
+import java.util.Optional;
+
+/**
+ * ユーザーの所属グループ情報。
+ *
+ * <p>受け取った招待を含む {@link User} 集約を読み込まずに、リクエストごとの本人確認・所属確認に
+ * 必要な項目だけを保持する。
+ *
+ * @param id ユーザー ID
+ * @param username ユーザー名
+ * @param userGroupId 所属グループ ID（未所属の場合は空）
+ * @param version 読み込んだ時点のユーザーの version
+ */
+public record UserMembership(UserId id, Username username, Optional<UserGroupId> userGroupId, Integer version) {}
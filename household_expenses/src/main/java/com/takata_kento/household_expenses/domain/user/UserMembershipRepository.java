@@ -0,0 +1,38 @@
+package com.takata_kento.household_expenses.domain.user;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import com.takata_kento.household_expenses.domain.valueobject.Username;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link UserMembership} の読み込み。users テーブルの1行だけを読み、招待は読み込まない。
+ */
+@Repository
+public class UserMembershipRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public UserMembershipRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public Optional<UserMembership> findById(UserId userId) {
+        return jdbcClient
+            .sql("SELECT id, username, user_group_id, version FROM users WHERE id = :id")
+            .param("id", userId.value())
+            .query((rs, rowNum) -> {
+                UUID userGroupId = rs.getObject("user_group_id", UUID.class);
+                return new UserMembership(
+                    new UserId(rs.getObject("id", UUID.class)),
+                    new Username(rs.getString("username")),
+                    userGroupId != null ? Optional.of(new UserGroupId(userGroupId)) : Optional.empty(),
+                    rs.getInt("version")
+                );
+            })
+            .optional();
+    }
+}
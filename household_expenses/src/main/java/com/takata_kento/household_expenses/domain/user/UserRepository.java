@@ -10,12 +10,12 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends CrudRepository<User, UserId> {
-    @Query("SELECT * FROM users WHERE username = :#{#username.value}")
+    @Query("SELECT * FROM users WHERE username = :username")
     Optional<User> findByUsername(@Param("username") Username username);
 
-    @Query("SELECT EXISTS(SELECT 1 FROM users WHERE username = :#{#username.value})")
+    @Query("SELECT EXISTS(SELECT 1 FROM users WHERE username = :username)")
     boolean existsByUsername(@Param("username") Username username);
 
-    @Query("SELECT * FROM users WHERE user_group_id = :#{#userGroupId.toString()}")
+    @Query("SELECT * FROM users WHERE user_group_id = :userGroupId")
     List<User> findByUserGroupId(@Param("userGroupId") UserGroupId userGroupId);
 }
@@ -0,0 +1,275 @@
+package com.takata_kento.household_expenses.domain.usergroup;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * グループ単位のバックアップ・復元のため、グループに属する行を PostgreSQL の COPY でテーブルごとに読み書きする。
+ *
+ * <p>書き出しは COPY (SELECT ...) TO STDOUT、読み込みは COPY FROM STDIN で、いずれも CSV（ヘッダ行付き）を使う。
+ * 集約を1件ずつ保存する代わりに1テーブルを1回の COPY で転送するため、行数の多いグループでも往復回数は
+ * テーブル数に収まる。復元では一時テーブルへ読み込み、既存の行と主キー・一意キーが重なる行がないことを
+ * 確かめてから本テーブルへまとめて挿入する。COPY はバインドパラメータを受け付けないため、グループIDは UUID として
+ * 検証済みの値を SQL に埋め込み、テーブル名は {@link #TABLES} のものだけを受け付ける。
+ * 読み書きは呼び出し側のトランザクションのコネクションで行う。
+ */
+@Repository
+public class UserGroupBackupRepository {
+
+    private static final String MEMBERS = "SELECT id FROM users WHERE user_group_id = '%1$s'";
+    private static final String ACCOUNTS = "SELECT id FROM financial_account WHERE user_id IN (" + MEMBERS + ")";
+
+    /**
+     * バックアップ対象のテーブルと、グループに属する行を選ぶ条件（%1$s はグループID）。外部キーの参照先が
+     * 先になる順に並べる。口座・日次個人収支・月次貯金は所属メンバーの行を対象とする。
+     */
+    private static final Map<String, String> TABLE_CONDITIONS = tableConditions();
+
+    /**
+     * バックアップ対象のテーブル名（外部キーの参照先が先になる順）。
+     */
+    public static final List<String> TABLES = List.copyOf(TABLE_CONDITIONS.keySet());
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserGroupBackupRepository(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private static Map<String, String> tableConditions() {
+        Map<String, String> conditions = new LinkedHashMap<>();
+        conditions.put("user_group", "id = '%1$s'");
+        conditions.put("users", "user_group_id = '%1$s'");
+        conditions.put("group_invitation", "user_group_id = '%1$s'");
+        conditions.put("living_expense_category", "user_group_id = '%1$s'");
+        conditions.put("fixed_expense_category", "user_group_id = '%1$s'");
+        conditions.put(
+            "fixed_expense_history",
+            "fixed_expense_category_id IN (SELECT id FROM fixed_expense_category WHERE user_group_id = '%1$s')"
+        );
+        conditions.put("monthly_budget", "user_group_id = '%1$s'");
+        conditions.put("budget_period", "user_group_id = '%1$s'");
+        conditions.put("budget_spend_ledger", "user_group_id = '%1$s'");
+        conditions.put("living_expense_category_rollup", "user_group_id = '%1$s'");
+        conditions.put("daily_group_transaction", "user_group_id = '%1$s'");
+        conditions.put(
+            "daily_living_expense",
+            "(daily_group_transaction_id, transaction_date) IN " +
+                "(SELECT id, transaction_date FROM daily_group_transaction WHERE user_group_id = '%1$s')"
+        );
+        conditions.put("daily_personal_transaction", "user_id IN (" + MEMBERS + ")");
+        conditions.put(
+            "daily_personal_expense",
+            "(daily_personal_transaction_id, transaction_date) IN " +
+                "(SELECT id, transaction_date FROM daily_personal_transaction WHERE user_id IN (" +
+                MEMBERS +
+                "))"
+        );
+        conditions.put("financial_account", "user_id IN (" + MEMBERS + ")");
+        conditions.put("balance_edit_history", "financial_account_id IN (" + ACCOUNTS + ")");
+        conditions.put("account_ledger_entry", "financial_account_id IN (" + ACCOUNTS + ")");
+        conditions.put("balance_checkpoint", "financial_account_id IN (" + ACCOUNTS + ")");
+        conditions.put("monthly_saving", "user_id IN (" + MEMBERS + ")");
+        return conditions;
+    }
+
+    /**
+     * tableName のうち userGroupId に属する行を CSV で outputStream へ書き出し、書き出した行数を返す。
+     * outputStream は閉じない。
+     */
+    public long copyOut(UserGroupId userGroupId, String tableName, OutputStream outputStream) {
+        String condition = TABLE_CONDITIONS.get(requireBackupTable(tableName)).formatted(userGroupId.value());
+        String sql = "COPY (SELECT * FROM %s WHERE %s) TO STDOUT (FORMAT csv, HEADER)".formatted(tableName, condition);
+        return withCopyManager(copyManager -> copyManager.copyOut(sql, outputStream));
+    }
+
+    /**
+     * 復元用の一時テーブルを作成する。一時テーブルはトランザクションの終了時に削除される。
+     */
+    public void createStagingTables() {
+        for (String tableName : TABLES) {
+            jdbcClient
+                .sql("CREATE TEMP TABLE backup_%1$s (LIKE %1$s) ON COMMIT DROP".formatted(tableName))
+                .update();
+        }
+    }
+
+    /**
+     * {@link #copyOut} で書き出した tableName の CSV を inputStream から一時テーブルへ読み込み、読み込んだ行数を
+     * 返す。inputStream は閉じない。
+     */
+    public long copyIn(String tableName, InputStream inputStream) {
+        String sql = "COPY backup_%s FROM STDIN (FORMAT csv, HEADER)".formatted(requireBackupTable(tableName));
+        return withCopyManager(copyManager -> copyManager.copyIn(sql, inputStream));
+    }
+
+    /**
+     * 一時テーブルに読み込んだグループのIDを返す。
+     */
+    public List<UserGroupId> findStagedUserGroupIds() {
+        return jdbcClient
+            .sql("SELECT id FROM backup_user_group")
+            .query((rs, rowNum) -> new UserGroupId(rs.getObject("id", UUID.class)))
+            .list();
+    }
+
+    /**
+     * 一時テーブルに読み込んだメンバーのユーザーIDを返す。
+     */
+    public List<UserId> findStagedUserIds() {
+        return jdbcClient
+            .sql("SELECT id FROM backup_users")
+            .query((rs, rowNum) -> new UserId(rs.getObject("id", UUID.class)))
+            .list();
+    }
+
+    /**
+     * 一時テーブルの行のうち、本テーブルの既存の行と主キー・一意キーのいずれかが重なる行を持つテーブルの名前を
+     * 返す。{@link #restoreFromStaging} の前に呼び出し、空でなければ復元しない。
+     *
+     * <p>口座番号やユーザー名のように復元先で別のグループが使っている値と重なる行を一部だけ飛ばすと、その行を
+     * 参照する子の行が別のグループの行に付いてしまうため、重なりは1行でもあればアーカイブ全体を受け付けない。
+     */
+    public List<String> findConflictingTables() {
+        List<String> conflictingTables = new ArrayList<>();
+        for (String tableName : TABLES) {
+            if (findUniqueKeyColumns(tableName).stream().anyMatch(keyColumns -> hasStagedKey(tableName, keyColumns))) {
+                conflictingTables.add(tableName);
+            }
+        }
+        return conflictingTables;
+    }
+
+    /**
+     * tableName の主キー・一意インデックスごとの列（カンマ区切り）を返す。部分インデックスと式インデックスは除く。
+     */
+    private List<String> findUniqueKeyColumns(String tableName) {
+        return jdbcClient
+            .sql(
+                """
+                SELECT string_agg(quote_ident(a.attname), ', ' ORDER BY k.position) AS key_columns
+                FROM pg_index i
+                CROSS JOIN LATERAL unnest(i.indkey::int2[]) WITH ORDINALITY AS k(attnum, position)
+                JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = k.attnum
+                WHERE i.indrelid = CAST(:tableName AS regclass)
+                    AND i.indisunique
+                    AND i.indpred IS NULL
+                    AND i.indexprs IS NULL
+                GROUP BY i.indexrelid
+                """
+            )
+            .param("tableName", tableName)
+            .query(String.class)
+            .list();
+    }
+
+    private boolean hasStagedKey(String tableName, String keyColumns) {
+        return jdbcClient
+            .sql("SELECT EXISTS (SELECT 1 FROM backup_%1$s JOIN %1$s USING (%2$s))".formatted(tableName, keyColumns))
+            .query(Boolean.class)
+            .single();
+    }
+
+    /**
+     * 一時テーブルの行を外部キーの参照先から順に本テーブルへ挿入し、テーブルごとの挿入行数を返す。
+     * 既存の行との重なりは {@link #findConflictingTables} で確かめておくこと。
+     *
+     * <p>user_group と users は互いに参照し合うため、グループは作成者なしで挿入し、メンバーの挿入後に作成者を
+     * 設定する。グループ外のユーザーを参照する作成者と招待は、そのユーザーが復元先にいる場合だけ復元する。
+     */
+    public Map<String, Integer> restoreFromStaging() {
+        Map<String, Integer> restoredRows = new LinkedHashMap<>();
+        restoredRows.put(
+            "user_group",
+            jdbcClient
+                .sql(
+                    """
+                    INSERT INTO user_group
+                        (id, group_name, month_start_day, member_count, created_at, updated_at, version)
+                    SELECT id, group_name, month_start_day, member_count, created_at, updated_at, version
+                    FROM backup_user_group
+                    """
+                )
+                .update()
+        );
+        restoredRows.put(
+            "users",
+            jdbcClient
+                .sql(
+                    """
+                    INSERT INTO users SELECT * FROM backup_users
+                    """
+                )
+                .update()
+        );
+        jdbcClient
+            .sql(
+                """
+                UPDATE user_group g SET created_by_user_id = s.created_by_user_id
+                FROM backup_user_group s
+                WHERE g.id = s.id AND s.created_by_user_id IN (SELECT id FROM users)
+                """
+            )
+            .update();
+        restoredRows.put(
+            "group_invitation",
+            jdbcClient
+                .sql(
+                    """
+                    INSERT INTO group_invitation SELECT * FROM backup_group_invitation
+                    WHERE invited_user_id IN (SELECT id FROM users) AND invited_by_user_id IN (SELECT id FROM users)
+                    """
+                )
+                .update()
+        );
+        for (String tableName : TABLES.subList(3, TABLES.size())) {
+            restoredRows.put(
+                tableName,
+                jdbcClient.sql("INSERT INTO %1$s SELECT * FROM backup_%1$s".formatted(tableName)).update()
+            );
+        }
+        return restoredRows;
+    }
+
+    private static String requireBackupTable(String tableName) {
+        if (!TABLE_CONDITIONS.containsKey(tableName)) {
+            throw new IllegalArgumentException("Unknown backup table: " + tableName);
+        }
+        return tableName;
+    }
+
+    private long withCopyManager(CopyOperation operation) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return operation.copy(copyManager);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    @FunctionalInterface
+    private interface CopyOperation {
+        long copy(CopyManager copyManager) throws SQLException, IOException;
+    }
+}
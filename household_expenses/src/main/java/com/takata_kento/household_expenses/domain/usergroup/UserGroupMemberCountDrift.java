@@ -0,0 +1,8 @@
+package com.takata_kento.household_expenses.domain.usergroup;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+
+/**
+ * user_group.member_count と実際の所属ユーザー数が一致しないグループ。
+ */
+public record UserGroupMemberCountDrift(UserGroupId userGroupId, int storedCount, int actualCount) {}
@@ -0,0 +1,111 @@
+package com.takata_kento.household_expenses.domain.usergroup;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * グループの所属人数（user_group.member_count）へのアクセス。
+ *
+ * <p>所属人数はグループへの参加・脱退と同じトランザクション内で加減算して維持する。
+ * {@link UserGroup} の version で排他すると同時に参加するユーザー同士が競合するため、集約には含めず
+ * 行単位の加算で更新する。
+ */
+@Repository
+public class UserGroupMemberCountRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public UserGroupMemberCountRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public void increment(UserGroupId userGroupId) {
+        applyDelta(userGroupId, 1);
+    }
+
+    public void decrement(UserGroupId userGroupId) {
+        applyDelta(userGroupId, -1);
+    }
+
+    private void applyDelta(UserGroupId userGroupId, int delta) {
+        int updatedRows = jdbcClient
+            .sql("UPDATE user_group SET member_count = member_count + :delta WHERE id = :userGroupId")
+            .param("delta", delta)
+            .param("userGroupId", userGroupId.value())
+            .update();
+        if (updatedRows == 0) {
+            throw new IllegalStateException("UserGroup not found: " + userGroupId);
+        }
+    }
+
+    public Optional<Integer> findMemberCount(UserGroupId userGroupId) {
+        return jdbcClient
+            .sql("SELECT member_count FROM user_group WHERE id = :userGroupId")
+            .param("userGroupId", userGroupId.value())
+            .query(Integer.class)
+            .optional();
+    }
+
+    /**
+     * users テーブルからグループの所属人数を数える。
+     */
+    public int countMembers(UserGroupId userGroupId) {
+        return jdbcClient
+            .sql("SELECT COUNT(*) FROM users WHERE user_group_id = :userGroupId")
+            .param("userGroupId", userGroupId.value())
+            .query(Integer.class)
+            .single();
+    }
+
+    /**
+     * 保持している所属人数が users テーブルの集計と一致しないグループを返す。
+     */
+    public List<UserGroupMemberCountDrift> findDrifts() {
+        return jdbcClient
+            .sql(
+                """
+                SELECT g.id, g.member_count, COUNT(u.id) AS actual_count
+                FROM user_group g
+                LEFT JOIN users u ON u.user_group_id = g.id
+                GROUP BY g.id, g.member_count
+                HAVING g.member_count <> COUNT(u.id)
+                ORDER BY g.id
+                """
+            )
+            .query((rs, rowNum) ->
+                new UserGroupMemberCountDrift(
+                    new UserGroupId(rs.getObject("id", UUID.class)),
+                    rs.getInt("member_count"),
+                    rs.getInt("actual_count")
+                )
+            )
+            .list();
+    }
+
+    /**
+     * 所属人数を users テーブルの集計値で置き換える。
+     *
+     * <p>先にグループ行をロックし、参加・脱退処理中のトランザクションが確定してから集計する。
+     */
+    public void recalculate(UserGroupId userGroupId) {
+        jdbcClient
+            .sql("SELECT id FROM user_group WHERE id = :userGroupId FOR UPDATE")
+            .param("userGroupId", userGroupId.value())
+            .query()
+            .listOfRows();
+        jdbcClient
+            .sql(
+                """
+                UPDATE user_group
+                SET member_count = (SELECT COUNT(*) FROM users WHERE user_group_id = :userGroupId)
+                WHERE id = :userGroupId
+                """
+            )
+            .param("userGroupId", userGroupId.value())
+            .update();
+    }
+}
@@ -10,13 +10,13 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface UserGroupRepository extends CrudRepository<UserGroup, UserGroupId> {
-    @Query("SELECT * FROM user_group WHERE group_name = :#{#groupName.value}")
+    @Query("SELECT * FROM user_group WHERE group_name = :groupName")
     Optional<UserGroup> findByGroupName(@Param("groupName") GroupName groupName);
 
-    @Query("SELECT EXISTS(SELECT 1 FROM user_group WHERE group_name = :#{#groupName.value})")
+    @Query("SELECT EXISTS(SELECT 1 FROM user_group WHERE group_name = :groupName)")
     boolean existsByGroupName(@Param("groupName") GroupName groupName);
 
-    @Query("SELECT * FROM user_group WHERE created_by_user_id = :#{#createdByUserId.toString()}")
+    @Query("SELECT * FROM user_group WHERE created_by_user_id = :createdByUserId")
     List<UserGroup> findByCreatedByUserId(@Param("createdByUserId") UserId createdByUserId);
 
     @Query("SELECT * FROM user_group WHERE group_name LIKE '%' || :groupNameFragment || '%'")
@@ -0,0 +1,14 @@
+package com.takata_kento.household_expenses.domain.valueobject;
+
+/**
+ * 口座残高。残高を超える支出を計上すると負になるため、{@link Money} と異なり負の値を許す。
+ */
+public record Balance(int amount) {
+    public Balance add(Money other) {
+        return new Balance(this.amount + other.amount());
+    }
+
+    public Balance subtract(Money other) {
+        return new Balance(this.amount - other.amount());
+    }
+}
@@ -1,6 +1,8 @@
 package com.takata_kento.household_expenses.presentation.account;
 
 import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.application.account.BalanceEditHistoryPage;
+import com.takata_kento.household_expenses.application.account.BalancePoint;
 import com.takata_kento.household_expenses.config.CognitoUserContext;
 import com.takata_kento.household_expenses.domain.account.FinancialAccount;
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
@@ -10,8 +12,10 @@ import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -92,4 +97,38 @@ public class AccountController {
             : accountService.updateBalance(currentUserId, accountId, balance);
         return ResponseEntity.ok(AccountResponse.from(account));
     }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<BalanceEditHistoryPageResponse> getEditHistory(
+        @PathVariable String id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        BalanceEditHistoryPage page = accountService.getEditHistory(
+            currentUserId,
+            new FinancialAccountId(id),
+            Optional.ofNullable(cursor).map(BalanceEditHistoryPageResponse::decodeCursor),
+            limit
+        );
+        return ResponseEntity.ok(BalanceEditHistoryPageResponse.from(page));
+    }
+
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<BalanceTimelineResponse> getBalanceTimeline(
+        @PathVariable String id,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "300") int points
+    ) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        List<BalancePoint> timeline = accountService.getBalanceTimeline(
+            currentUserId,
+            new FinancialAccountId(id),
+            from,
+            to,
+            points
+        );
+        return ResponseEntity.ok(BalanceTimelineResponse.from(timeline));
+    }
 }
@@ -0,0 +1,49 @@
+package com.takata_kento.household_expenses.presentation.account;
+
+import com.takata_kento.household_expenses.application.account.BalanceEditHistoryPage;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryCursor;
+import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 残高編集履歴1ページ分のレスポンス表現。
+ *
+ * @param histories 新しい順に並んだ履歴
+ * @param nextCursor 次のページを取得するときに {@code cursor} として渡す値（最後のページの場合は null）
+ */
+public record BalanceEditHistoryPageResponse(List<BalanceEditHistoryResponse> histories, String nextCursor) {
+    private static final String SEPARATOR = "|";
+
+    public static BalanceEditHistoryPageResponse from(BalanceEditHistoryPage page) {
+        return new BalanceEditHistoryPageResponse(
+            page.histories().stream().map(BalanceEditHistoryResponse::from).toList(),
+            page.nextCursor().map(BalanceEditHistoryPageResponse::encodeCursor).orElse(null)
+        );
+    }
+
+    static String encodeCursor(BalanceEditHistoryCursor cursor) {
+        String raw = cursor.createdAt() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BalanceEditHistoryCursor decodeCursor(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new BalanceEditHistoryCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                new BalanceEditHistoryId(UUID.fromString(raw.substring(separatorIndex + 1)))
+            );
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid cursor", exception);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.takata_kento.household_expenses.presentation.account;
+
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryInfo;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 残高編集履歴のレスポンス表現。
+ *
+ * @param id 履歴ID（UUID文字列）
+ * @param oldBalance 変更前の残高
+ * @param newBalance 変更後の残高
+ * @param editReason 変更理由（未入力の場合は null）
+ * @param editedAt 編集日
+ * @param createdAt 記録日時
+ */
+public record BalanceEditHistoryResponse(
+    String id,
+    int oldBalance,
+    int newBalance,
+    String editReason,
+    LocalDate editedAt,
+    LocalDateTime createdAt
+) {
+    public static BalanceEditHistoryResponse from(BalanceEditHistoryInfo history) {
+        return new BalanceEditHistoryResponse(
+            history.id().toString(),
+            history.oldBalance().amount(),
+            history.newBalance().amount(),
+            history.editReason().map(Description::value).orElse(null),
+            history.editedAt(),
+            history.createdAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.takata_kento.household_expenses.presentation.account;
+
+import com.takata_kento.household_expenses.application.account.BalancePoint;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 残高推移のレスポンス表現。
+ *
+ * @param points 日付の昇順に並んだ、間引き後の残高推移
+ */
+public record BalanceTimelineResponse(List<Point> points) {
+    /**
+     * @param date 日付
+     * @param balance その日の終了時点の残高
+     */
+    public record Point(LocalDate date, int balance) {}
+
+    public static BalanceTimelineResponse from(List<BalancePoint> points) {
+        return new BalanceTimelineResponse(
+            points.stream().map(point -> new Point(point.date(), point.balance())).toList()
+        );
+    }
+}
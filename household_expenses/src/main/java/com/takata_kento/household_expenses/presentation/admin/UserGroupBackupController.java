@@ -0,0 +1,56 @@
+package com.takata_kento.household_expenses.presentation.admin;
+
+import com.takata_kento.household_expenses.application.usergroup.UserGroupBackupService;
+import com.takata_kento.household_expenses.application.usergroup.UserGroupRestoreResult;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.io.InputStream;
+import java.util.UUID;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * グループ単位のバックアップと復元に関する管理者向けエンドポイント。
+ *
+ * <p>/admin/** は ADMIN ロールのユーザーだけが呼び出せる。アーカイブの形式は
+ * {@link UserGroupBackupService} を参照。
+ */
+@RestController
+@RequestMapping("/admin/user-groups")
+public class UserGroupBackupController {
+
+    static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
+    private final UserGroupBackupService userGroupBackupService;
+
+    public UserGroupBackupController(UserGroupBackupService userGroupBackupService) {
+        this.userGroupBackupService = userGroupBackupService;
+    }
+
+    @GetMapping("/{userGroupId}/backup")
+    public ResponseEntity<StreamingResponseBody> backup(@PathVariable UUID userGroupId) {
+        UserGroupId id = new UserGroupId(userGroupId);
+        userGroupBackupService.ensureUserGroupExists(id);
+        StreamingResponseBody body = outputStream -> userGroupBackupService.backup(id, outputStream);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename("user-group-" + id + ".zip")
+            .build();
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_ZIP)
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .body(body);
+    }
+
+    @PostMapping(path = "/restore", consumes = "application/zip")
+    public ResponseEntity<UserGroupRestoreResponse> restore(InputStream body) {
+        UserGroupRestoreResult result = userGroupBackupService.restore(body);
+        return ResponseEntity.ok(UserGroupRestoreResponse.from(result));
+    }
+}
@@ -0,0 +1,16 @@
+package com.takata_kento.household_expenses.presentation.admin;
+
+import com.takata_kento.household_expenses.application.usergroup.UserGroupRestoreResult;
+import java.util.Map;
+
+/**
+ * グループの復元結果のレスポンス表現。
+ *
+ * @param userGroupId 復元したグループのID（UUID文字列）
+ * @param restoredRows テーブル名ごとの挿入行数
+ */
+public record UserGroupRestoreResponse(String userGroupId, Map<String, Integer> restoredRows) {
+    public static UserGroupRestoreResponse from(UserGroupRestoreResult result) {
+        return new UserGroupRestoreResponse(result.userGroupId().toString(), result.restoredRows());
+    }
+}
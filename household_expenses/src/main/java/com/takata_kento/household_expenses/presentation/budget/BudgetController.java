@@ -1,5 +1,6 @@
 package com.takata_kento.household_expenses.presentation.budget;
 
+import com.takata_kento.household_expenses.application.budget.BudgetPeriodReport;
 import com.takata_kento.household_expenses.application.budget.BudgetService;
 import com.takata_kento.household_expenses.application.budget.SetMonthlyBudgetResult;
 import com.takata_kento.household_expenses.config.CognitoUserContext;
@@ -64,4 +65,11 @@ public class BudgetController {
             .toList();
         return ResponseEntity.ok(budgets);
     }
+
+    @GetMapping("/{year}/report")
+    public ResponseEntity<YearlyBudgetReportResponse> getYearlyBudgetReport(@PathVariable int year) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        List<BudgetPeriodReport> reports = budgetService.getYearlyBudgetReport(currentUserId, new Year(year));
+        return ResponseEntity.ok(YearlyBudgetReportResponse.from(year, reports));
+    }
 }
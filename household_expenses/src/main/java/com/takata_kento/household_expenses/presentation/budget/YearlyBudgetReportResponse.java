@@ -0,0 +1,48 @@
+package com.takata_kento.household_expenses.presentation.budget;
+
+import com.takata_kento.household_expenses.application.budget.BudgetPeriodReport;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 年間の予算レポートのレスポンス表現。
+ *
+ * @param year 年
+ * @param periods 1月〜12月の予算期間ごとの集計
+ */
+public record YearlyBudgetReportResponse(int year, List<Period> periods) {
+    /**
+     * @param month 月
+     * @param startDate 予算期間の開始日
+     * @param endDate 予算期間の終了日
+     * @param budgetAmount 予算額（未設定の場合は null）
+     * @param spentAmount 期間内の生活費の合計
+     * @param remainingAmount 予算残金。超過している場合は負の値（予算が未設定の場合は null）
+     * @param overBudget 生活費が予算額を超えている場合は {@code true}
+     */
+    public record Period(
+        int month,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer budgetAmount,
+        int spentAmount,
+        Integer remainingAmount,
+        boolean overBudget
+    ) {
+        static Period from(BudgetPeriodReport report) {
+            return new Period(
+                report.period().month().value(),
+                report.period().startDate(),
+                report.period().endDate(),
+                report.budget().map(budget -> budget.budgetAmount().amount()).orElse(null),
+                report.spent().amount(),
+                report.remainingAmount().orElse(null),
+                report.isOverBudget()
+            );
+        }
+    }
+
+    public static YearlyBudgetReportResponse from(int year, List<BudgetPeriodReport> reports) {
+        return new YearlyBudgetReportResponse(year, reports.stream().map(Period::from).toList());
+    }
+}
@@ -14,9 +14,11 @@ import com.takata_kento.household_expenses.domain.valueobject.Month;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -89,6 +92,20 @@ public class ExpenseController {
         return ResponseEntity.ok(categories);
     }
 
+    @GetMapping("/living-categories/breakdown")
+    public ResponseEntity<List<LivingExpenseCategoryBreakdownResponse>> getLivingExpenseCategoryBreakdown(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        List<LivingExpenseCategoryBreakdownResponse> breakdown = expenseService
+            .getLivingExpenseCategoryBreakdown(currentUserId, from, to)
+            .stream()
+            .map(LivingExpenseCategoryBreakdownResponse::from)
+            .toList();
+        return ResponseEntity.ok(breakdown);
+    }
+
     @PostMapping("/fixed-categories")
     public ResponseEntity<FixedExpenseCategoryResponse> createFixedExpenseCategory(
         @Valid @RequestBody CreateFixedExpenseCategoryRequest request
@@ -0,0 +1,27 @@
+package com.takata_kento.household_expenses.presentation.expense;
+
+import com.takata_kento.household_expenses.application.expense.LivingExpenseCategoryBreakdown;
+
+/**
+ * 生活費分類ごとの期間内の生活費合計のレスポンス表現。
+ *
+ * @param categoryId 分類ID（UUID文字列）
+ * @param categoryName 分類名
+ * @param totalAmount 期間内の生活費の合計
+ * @param count 期間内の明細件数
+ */
+public record LivingExpenseCategoryBreakdownResponse(
+    String categoryId,
+    String categoryName,
+    int totalAmount,
+    int count
+) {
+    public static LivingExpenseCategoryBreakdownResponse from(LivingExpenseCategoryBreakdown breakdown) {
+        return new LivingExpenseCategoryBreakdownResponse(
+            breakdown.category().id().toString(),
+            breakdown.category().categoryName().value(),
+            breakdown.totalAmount().amount(),
+            breakdown.count()
+        );
+    }
+}
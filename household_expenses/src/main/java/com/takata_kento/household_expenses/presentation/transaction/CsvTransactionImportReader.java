@@ -0,0 +1,238 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import com.takata_kento.household_expenses.application.transaction.LivingExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.PersonalExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportDay;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRowType;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ヘッダ行 {@value #HEADER} で始まる UTF-8 の CSV を、取引日ごとに読み込む。
+ *
+ * <p>1行は収入（INCOME）・生活費（LIVING_EXPENSE）・個人支出（PERSONAL_EXPENSE）のいずれか1件を表し、
+ * 同じ取引日の行は連続している必要がある。categoryId は生活費の行のみ指定する。ダブルクォートで囲んだ値には
+ * カンマを含められるが、改行は含められない。行番号はヘッダ行を 1 とした行の番号で、1日分の行のうち
+ * 不正な行があればその日の行はすべて取り込まない。
+ */
+final class CsvTransactionImportReader extends TransactionImportReader {
+
+    static final String HEADER = "transactionDate,type,categoryId,amount,memo";
+
+    private static final int FIELD_COUNT = 5;
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private CsvLine pending;
+
+    CsvTransactionImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = readLine();
+        if (header == null || !header.strip().equals(HEADER)) {
+            throw new IllegalArgumentException("Import CSV must start with header: " + HEADER);
+        }
+    }
+
+    @Override
+    protected TransactionImportDay readNext() {
+        CsvLine first;
+        while ((first = nextLine()) != null) {
+            LocalDate transactionDate;
+            try {
+                transactionDate = LocalDate.parse(first.fields().getFirst());
+            } catch (DateTimeParseException e) {
+                reject(first.lineNumber(), "Invalid transactionDate: " + first.fields().getFirst());
+                continue;
+            }
+            CsvDay day = new CsvDay(first.lineNumber(), transactionDate);
+            CsvLine line = first;
+            while (line != null) {
+                if (day.errorLineNumber == 0) {
+                    try {
+                        day.add(line);
+                    } catch (IllegalArgumentException e) {
+                        day.errorLineNumber = line.lineNumber();
+                        day.errorMessage = e.getMessage();
+                    }
+                }
+                line = nextLine();
+                if (line != null && !line.fields().getFirst().equals(first.fields().getFirst())) {
+                    pending = line;
+                    line = null;
+                }
+            }
+            if (day.errorLineNumber != 0) {
+                reject(day.errorLineNumber, day.errorMessage);
+                continue;
+            }
+            return day.toImportDay();
+        }
+        return null;
+    }
+
+    /**
+     * 先読みした行があればそれを、なければ次の空でない行を返す。フィールド数が合わない行は読み飛ばす。
+     */
+    private CsvLine nextLine() {
+        if (pending != null) {
+            CsvLine line = pending;
+            pending = null;
+            return line;
+        }
+        String text;
+        while ((text = readLine()) != null) {
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                List<String> fields = parseFields(text);
+                if (fields.size() != FIELD_COUNT) {
+                    throw new IllegalArgumentException("Expected " + FIELD_COUNT + " fields but got " + fields.size());
+                }
+                return new CsvLine(lineNumber, fields);
+            } catch (IllegalArgumentException e) {
+                reject(lineNumber, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 1行をフィールドに分割する。ダブルクォートで囲んだ値の中のカンマは区切りとみなさず、"" は " とする。
+     */
+    static List<String> parseFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record CsvLine(int lineNumber, List<String> fields) {
+        String categoryId() {
+            return fields.get(2);
+        }
+
+        String amount() {
+            return fields.get(3);
+        }
+
+        String memo() {
+            return fields.get(4);
+        }
+    }
+
+    /**
+     * 読み込み中の1日分の行。
+     */
+    private static final class CsvDay {
+
+        private final int rowNumber;
+        private final LocalDate transactionDate;
+        private Money income;
+        private final List<LivingExpenseInput> livingExpenses = new ArrayList<>();
+        private final List<PersonalExpenseInput> personalExpenses = new ArrayList<>();
+        private int errorLineNumber;
+        private String errorMessage;
+
+        CsvDay(int rowNumber, LocalDate transactionDate) {
+            this.rowNumber = rowNumber;
+            this.transactionDate = transactionDate;
+        }
+
+        void add(CsvLine line) {
+            Money amount = new Money(parseAmount(line.amount()));
+            switch (parseType(line.fields().get(1))) {
+                case INCOME -> {
+                    if (income != null) {
+                        throw new IllegalArgumentException("Duplicate INCOME for " + transactionDate);
+                    }
+                    income = amount;
+                }
+                case LIVING_EXPENSE -> livingExpenses.add(
+                    new LivingExpenseInput(
+                        new LivingExpenseCategoryId(UUID.fromString(line.categoryId())),
+                        amount,
+                        new Description(line.memo())
+                    )
+                );
+                case PERSONAL_EXPENSE -> personalExpenses.add(
+                    new PersonalExpenseInput(amount, new Description(line.memo()))
+                );
+            }
+        }
+
+        TransactionImportDay toImportDay() {
+            return new TransactionImportDay(
+                rowNumber,
+                transactionDate,
+                income != null ? income : new Money(0),
+                List.copyOf(livingExpenses),
+                List.copyOf(personalExpenses)
+            );
+        }
+
+        private static TransactionExportRowType parseType(String value) {
+            try {
+                return TransactionExportRowType.valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown type: " + value);
+            }
+        }
+
+        private static int parseAmount(String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid amount: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import com.takata_kento.household_expenses.application.transaction.LivingExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.PersonalExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportDay;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link RecordTransactionRequest} と同じ形の要素を持つ JSON 配列を、要素ごとに読み込む。
+ * 行番号は配列の先頭を 1 とした要素の番号。
+ */
+final class JsonTransactionImportReader extends TransactionImportReader {
+
+    private final JsonMapper jsonMapper;
+    private final JsonParser parser;
+    private int rowNumber;
+
+    JsonTransactionImportReader(JsonMapper jsonMapper, InputStream inputStream) {
+        this.jsonMapper = jsonMapper;
+        this.parser = jsonMapper.createParser(inputStream);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Import body must be a JSON array");
+        }
+    }
+
+    @Override
+    protected TransactionImportDay readNext() {
+        while (true) {
+            JsonNode element;
+            try {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                rowNumber++;
+                element = parser.readValueAsTree();
+            } catch (JacksonException e) {
+                // 構文が壊れている場合はそれ以降の要素の区切りが分からないため、読み込みを終える
+                reject(rowNumber, "Malformed JSON");
+                return null;
+            }
+            try {
+                return toImportDay(jsonMapper.treeToValue(element, RecordTransactionRequest.class));
+            } catch (JacksonException e) {
+                reject(rowNumber, "Malformed row");
+            } catch (IllegalArgumentException e) {
+                reject(rowNumber, e.getMessage());
+            }
+        }
+    }
+
+    private TransactionImportDay toImportDay(RecordTransactionRequest request) {
+        return new TransactionImportDay(
+            rowNumber,
+            required(request.transactionDate(), "transactionDate"),
+            new Money(required(request.income(), "income")),
+            toLivingExpenseInputs(request.livingExpenses()),
+            toPersonalExpenseInputs(request.personalExpenses())
+        );
+    }
+
+    private static List<LivingExpenseInput> toLivingExpenseInputs(List<LivingExpenseRequest> requests) {
+        if (requests == null) {
+            return List.of();
+        }
+        return requests
+            .stream()
+            .map(request ->
+                new LivingExpenseInput(
+                    new LivingExpenseCategoryId(UUID.fromString(required(request.categoryId(), "categoryId"))),
+                    new Money(required(request.amount(), "amount")),
+                    new Description(required(request.memo(), "memo"))
+                )
+            )
+            .toList();
+    }
+
+    private static List<PersonalExpenseInput> toPersonalExpenseInputs(List<PersonalExpenseRequest> requests) {
+        if (requests == null) {
+            return List.of();
+        }
+        return requests
+            .stream()
+            .map(request ->
+                new PersonalExpenseInput(
+                    new Money(required(request.amount(), "amount")),
+                    new Description(required(request.memo(), "memo"))
+                )
+            )
+            .toList();
+    }
+}
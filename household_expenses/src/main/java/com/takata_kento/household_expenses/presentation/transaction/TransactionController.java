@@ -3,18 +3,26 @@ package com.takata_kento.household_expenses.presentation.transaction;
 import com.takata_kento.household_expenses.application.transaction.DailyTransactionInfo;
 import com.takata_kento.household_expenses.application.transaction.LivingExpenseInput;
 import com.takata_kento.household_expenses.application.transaction.PersonalExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.TransactionExportScope;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportResult;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportService;
 import com.takata_kento.household_expenses.application.transaction.TransactionService;
 import com.takata_kento.household_expenses.config.CognitoUserContext;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,7 +31,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * 変動費の記録（1日の収支）に関するエンドポイント。
@@ -36,9 +47,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final JsonMapper jsonMapper;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(
+        TransactionService transactionService,
+        TransactionImportService transactionImportService,
+        JsonMapper jsonMapper
+    ) {
         this.transactionService = transactionService;
+        this.transactionImportService = transactionImportService;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -56,6 +75,77 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(DailyTransactionResponse.from(info));
     }
 
+    /**
+     * {@link RecordTransactionRequest} と同じ形の要素を持つ JSON 配列を、現在ユーザーの日次収支として一括で取り込む。
+     */
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TransactionImportResponse> importTransactionsFromJson(InputStream body) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        UserGroupId userGroupId = transactionImportService.resolveImportGroup(currentUserId);
+        return importTransactions(currentUserId, userGroupId, new JsonTransactionImportReader(jsonMapper, body));
+    }
+
+    /**
+     * 取引日ごとに連続した CSV を、現在ユーザーの日次収支として一括で取り込む。
+     * 形式は {@link CsvTransactionImportReader} を参照。
+     */
+    @PostMapping(path = "/import", consumes = "text/csv")
+    public ResponseEntity<TransactionImportResponse> importTransactionsFromCsv(InputStream body) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        UserGroupId userGroupId = transactionImportService.resolveImportGroup(currentUserId);
+        return importTransactions(currentUserId, userGroupId, new CsvTransactionImportReader(body));
+    }
+
+    private ResponseEntity<TransactionImportResponse> importTransactions(
+        UserId currentUserId,
+        UserGroupId userGroupId,
+        TransactionImportReader reader
+    ) {
+        TransactionImportResult result = transactionImportService.importTransactions(
+            currentUserId,
+            userGroupId,
+            reader
+        );
+        return ResponseEntity.ok(TransactionImportResponse.from(result, reader.errors()));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DailyTransactionResponse>> getTransactions(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        List<DailyTransactionInfo> infos = transactionService.getDailyTransactions(currentUserId, from, to);
+        return ResponseEntity.ok(infos.stream().map(DailyTransactionResponse::from).toList());
+    }
+
+    /**
+     * 現在ユーザーの日次個人収支と所属グループの日次グループ収支の全履歴を、format（ndjson / csv）で
+     * ストリーミング出力する。明細はカーソルで読み出しながら書き出すため、履歴の長さに関係なく
+     * サーバーのメモリ使用量は一定に保たれる。
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+        @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        TransactionExportFormat exportFormat = TransactionExportFormat.from(format);
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        TransactionExportScope scope = transactionService.resolveExportScope(currentUserId);
+        StreamingResponseBody body = outputStream -> {
+            TransactionExportWriter writer = new TransactionExportWriter(exportFormat, jsonMapper, outputStream);
+            writer.writeHeader();
+            transactionService.exportTransactions(scope, row -> writer.write(TransactionExportRecord.from(row)));
+            writer.flush();
+        };
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename("transactions." + exportFormat.fileExtension())
+            .build();
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .body(body);
+    }
+
     @GetMapping("/{date}")
     public ResponseEntity<DailyTransactionResponse> getTransaction(
         @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
@@ -0,0 +1,40 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+/**
+ * 収支エクスポートの出力形式。
+ */
+public enum TransactionExportFormat {
+    /** 1行1レコードの JSON */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    /** ヘッダ行付きの CSV（UTF-8） */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    TransactionExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static TransactionExportFormat from(String value) {
+        for (TransactionExportFormat format : values()) {
+            if (format.name().equals(value.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,35 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRow;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import java.time.LocalDate;
+
+/**
+ * 収支エクスポートの1レコードの出力表現。
+ *
+ * @param type 種類（INCOME / PERSONAL_EXPENSE / LIVING_EXPENSE）
+ * @param transactionDate 取引日
+ * @param userId 記録したユーザーID（UUID文字列）
+ * @param categoryId 生活費分類ID（UUID文字列）。生活費以外は null
+ * @param amount 金額
+ * @param memo メモ。未設定の場合は null
+ */
+public record TransactionExportRecord(
+    String type,
+    LocalDate transactionDate,
+    String userId,
+    String categoryId,
+    int amount,
+    String memo
+) {
+    public static TransactionExportRecord from(TransactionExportRow row) {
+        return new TransactionExportRecord(
+            row.type().name(),
+            row.transactionDate(),
+            row.userId().toString(),
+            row.livingExpenseCategoryId().map(Object::toString).orElse(null),
+            row.amount().amount(),
+            row.memo().map(Description::value).orElse(null)
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 収支エクスポートのレコードを出力形式に従って書き出す。
+ *
+ * <p>レコードは受け取るたびにバッファ付きで書き出し、出力全体を保持しない。
+ */
+final class TransactionExportWriter {
+
+    private static final String CSV_HEADER = "type,transactionDate,userId,categoryId,amount,memo";
+
+    private final TransactionExportFormat format;
+    private final JsonMapper jsonMapper;
+    private final Writer writer;
+
+    TransactionExportWriter(TransactionExportFormat format, JsonMapper jsonMapper, OutputStream outputStream) {
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    void writeHeader() {
+        if (format == TransactionExportFormat.CSV) {
+            writeLine(CSV_HEADER);
+        }
+    }
+
+    void write(TransactionExportRecord record) {
+        writeLine(
+            switch (format) {
+                case NDJSON -> jsonMapper.writeValueAsString(record);
+                case CSV -> String.join(
+                    ",",
+                    record.type(),
+                    record.transactionDate().toString(),
+                    record.userId(),
+                    csvField(record.categoryId()),
+                    Integer.toString(record.amount()),
+                    csvField(record.memo())
+                );
+            }
+        );
+    }
+
+    void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * カンマ・ダブルクォート・改行を含む値はダブルクォートで囲み、値中のダブルクォートは二重にする。
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
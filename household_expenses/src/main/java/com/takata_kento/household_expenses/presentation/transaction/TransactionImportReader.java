@@ -0,0 +1,63 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import com.takata_kento.household_expenses.application.transaction.TransactionImportDay;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportError;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 一括取り込みのリクエスト本文から1日分ずつ収支を読み込む。
+ *
+ * <p>本文全体を読み込まず、次の日が要求されるたびに必要な分だけ読み進める。内容が不正な行は
+ * {@link #errors()} に記録して読み飛ばし、続きの行の読み込みを続ける。
+ */
+abstract class TransactionImportReader implements Iterator<TransactionImportDay> {
+
+    private final List<TransactionImportError> errors = new ArrayList<>();
+    private TransactionImportDay next;
+    private boolean finished;
+
+    /**
+     * 次の日を読み込む。本文の終端に達した場合は null。
+     */
+    protected abstract TransactionImportDay readNext();
+
+    protected void reject(int rowNumber, String message) {
+        errors.add(new TransactionImportError(rowNumber, message));
+    }
+
+    /**
+     * 読み込み時に不正だった行。
+     */
+    List<TransactionImportError> errors() {
+        return errors;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public TransactionImportDay next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TransactionImportDay day = next;
+        next = null;
+        return day;
+    }
+
+    protected static <T> T required(T value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+}
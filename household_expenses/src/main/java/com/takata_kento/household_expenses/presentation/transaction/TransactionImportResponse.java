@@ -0,0 +1,32 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import com.takata_kento.household_expenses.application.transaction.TransactionImportError;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportResult;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 日次収支の一括取り込み結果のレスポンス表現。
+ *
+ * @param importedCount 取り込んだ日数
+ * @param errors 取り込めなかった行（行番号の昇順）
+ */
+public record TransactionImportResponse(int importedCount, List<RowError> errors) {
+    /** 取り込めなかった行1件。 */
+    public record RowError(int row, String message) {}
+
+    /**
+     * 書き込み結果と、読み込み時に不正だった行をまとめる。
+     */
+    public static TransactionImportResponse from(
+        TransactionImportResult result,
+        List<TransactionImportError> readErrors
+    ) {
+        List<RowError> errors = Stream.concat(readErrors.stream(), result.errors().stream())
+            .sorted(Comparator.comparingInt(TransactionImportError::rowNumber))
+            .map(error -> new RowError(error.rowNumber(), error.message()))
+            .toList();
+        return new TransactionImportResponse(result.importedCount(), errors);
+    }
+}
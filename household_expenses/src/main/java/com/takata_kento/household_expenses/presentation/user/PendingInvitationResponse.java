@@ -0,0 +1,20 @@
+package com.takata_kento.household_expenses.presentation.user;
+
+import com.takata_kento.household_expenses.domain.user.GroupInvitationInfo;
+
+/**
+ * 未回答のグループ招待のレスポンス表現。
+ *
+ * @param invitationId 招待ID（UUID文字列）
+ * @param userGroupId 招待元グループID（UUID文字列）
+ * @param invitedByUserId 招待したユーザーID（UUID文字列）
+ */
+public record PendingInvitationResponse(String invitationId, String userGroupId, String invitedByUserId) {
+    public static PendingInvitationResponse from(GroupInvitationInfo invitation) {
+        return new PendingInvitationResponse(
+            invitation.groupInvitationId().toString(),
+            invitation.userGroupId().toString(),
+            invitation.invitedByUserId().toString()
+        );
+    }
+}
@@ -4,15 +4,17 @@ import com.takata_kento.household_expenses.application.user.UserService;
 import com.takata_kento.household_expenses.config.CognitoUserContext;
 import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * ユーザー本人へのグループ招待の承認・拒否に関するエンドポイント。現在ユーザーは
+ * ユーザー本人へのグループ招待の一覧・承認・拒否に関するエンドポイント。現在ユーザーは
  * {@link CognitoUserContext#currentUserId()} から取得する。
  */
 @RestController
@@ -25,6 +27,17 @@ public class UserController {
         this.userService = userService;
     }
 
+    @GetMapping
+    public ResponseEntity<List<PendingInvitationResponse>> getPendingInvitations() {
+        UserId currentUserId = CognitoUserContext.currentUserId();
+        List<PendingInvitationResponse> invitations = userService
+            .getPendingInvitations(currentUserId)
+            .stream()
+            .map(PendingInvitationResponse::from)
+            .toList();
+        return ResponseEntity.ok(invitations);
+    }
+
     @PostMapping("/{invitationId}/accept")
     public ResponseEntity<Void> acceptGroupInvitation(@PathVariable String invitationId) {
         UserId currentUserId = CognitoUserContext.currentUserId();
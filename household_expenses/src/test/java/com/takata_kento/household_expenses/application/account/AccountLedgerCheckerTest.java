@@ -0,0 +1,83 @@
+package com.takata_kento.household_expenses.application.account;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.domain.account.AccountBalanceDrift;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerEntryDrift;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerRepository;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLedgerCheckerTest {
+
+    @Mock
+    private AccountLedgerRepository accountLedgerRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AccountLedgerChecker accountLedgerChecker;
+
+    private static final FinancialAccountId ACCOUNT_ID = new FinancialAccountId("1234567");
+
+    @Test
+    void testCheckAndRepair() {
+        // Given
+        AccountLedgerEntryDrift entryDrift = new AccountLedgerEntryDrift(
+            LedgerSourceType.MONTHLY_SAVING,
+            "00000000-0000-0000-0000-0000000000d1",
+            ACCOUNT_ID,
+            -30_000,
+            -20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+        AccountBalanceDrift balanceDrift = new AccountBalanceDrift(ACCOUNT_ID, 100_000, 90_000);
+        when(accountLedgerRepository.findEntryDrifts()).thenReturn(List.of(entryDrift));
+        when(accountLedgerRepository.findBalanceDrifts()).thenReturn(List.of(balanceDrift));
+
+        // When
+        AccountLedgerCheckResult actual = accountLedgerChecker.checkAndRepair();
+
+        // Then
+        then(actual.entryDrifts()).containsExactly(entryDrift);
+        then(actual.balanceDrifts()).containsExactly(balanceDrift);
+        verify(accountLedgerRepository).post(
+            LedgerSourceType.MONTHLY_SAVING,
+            "00000000-0000-0000-0000-0000000000d1",
+            ACCOUNT_ID,
+            -20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+        then(meterRegistry.counter(AccountLedgerChecker.ENTRY_DRIFT_METRIC).count()).isEqualTo(1.0);
+        then(meterRegistry.counter(AccountLedgerChecker.BALANCE_DRIFT_METRIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testCheckAndRepairWithoutDrift() {
+        // Given
+        when(accountLedgerRepository.findEntryDrifts()).thenReturn(List.of());
+        when(accountLedgerRepository.findBalanceDrifts()).thenReturn(List.of());
+
+        // When
+        AccountLedgerCheckResult actual = accountLedgerChecker.checkAndRepair();
+
+        // Then
+        then(actual.entryDrifts()).isEmpty();
+        then(actual.balanceDrifts()).isEmpty();
+        verify(accountLedgerRepository, never()).post(any(), any(), any(), anyInt(), any());
+        then(meterRegistry.counter(AccountLedgerChecker.ENTRY_DRIFT_METRIC).count()).isEqualTo(0.0);
+        then(meterRegistry.counter(AccountLedgerChecker.BALANCE_DRIFT_METRIC).count()).isEqualTo(0.0);
+    }
+}
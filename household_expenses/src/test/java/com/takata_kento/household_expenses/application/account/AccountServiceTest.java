@@ -6,20 +6,33 @@ import static org.mockito.Mockito.*;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.domain.account.AccountLedgerRepository;
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpoint;
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpointRepository;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistory;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryCursor;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryInfo;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryRepository;
 import com.takata_kento.household_expenses.domain.account.FinancialAccount;
 import com.takata_kento.household_expenses.domain.account.FinancialAccountRepository;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
+import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.ObjIntConsumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +43,15 @@ class AccountServiceTest {
     @Mock
     private FinancialAccountRepository financialAccountRepository;
 
+    @Mock
+    private BalanceEditHistoryRepository balanceEditHistoryRepository;
+
+    @Mock
+    private AccountLedgerRepository accountLedgerRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -48,9 +70,8 @@ class AccountServiceTest {
             userId,
             new BankName("三菱UFJ銀行"),
             accountName,
-            balance,
+            new Balance(balance.amount()),
             isMainAccount,
-            new HashSet<>(),
             null
         );
     }
@@ -83,9 +104,16 @@ class AccountServiceTest {
         then(actual.userId()).isEqualTo(CURRENT_USER_ID);
         then(actual.bankName()).isEqualTo(bankName);
         then(actual.accountName()).isEqualTo(Optional.of(accountName));
-        then(actual.balance()).isEqualTo(initialBalance);
+        then(actual.balance()).isEqualTo(new Balance(initialBalance.amount()));
         then(actual.isMainAccount()).isEqualTo(isMainAccount);
         verify(financialAccountRepository).save(any(FinancialAccount.class));
+        verify(accountLedgerRepository).recordApplied(
+            LedgerSourceType.OPENING_BALANCE,
+            accountId.toString(),
+            accountId,
+            100_000,
+            LocalDate.now()
+        );
     }
 
     @Test
@@ -316,10 +344,24 @@ class AccountServiceTest {
         FinancialAccount actual = accountService.updateBalance(CURRENT_USER_ID, accountId, newBalance);
 
         // Then
-        then(actual.balance()).isEqualTo(newBalance);
-        then(actual.editHistories()).hasSize(1);
-        then(actual.editHistories().iterator().next().editReason()).isEqualTo(Optional.empty());
+        then(actual.balance()).isEqualTo(new Balance(newBalance.amount()));
         verify(financialAccountRepository).save(account);
+        verify(balanceEditHistoryRepository).save(
+            argThat(
+                history ->
+                    history.financialAccountId().equals(accountId) &&
+                    history.oldBalance().equals(new Balance(100_000)) &&
+                    history.newBalance().equals(newBalance) &&
+                    history.editReason().isEmpty()
+            )
+        );
+        verify(accountLedgerRepository).recordApplied(
+            eq(LedgerSourceType.BALANCE_EDIT),
+            anyString(),
+            eq(accountId),
+            eq(100_000),
+            any(LocalDate.class)
+        );
     }
 
     @Test
@@ -342,10 +384,17 @@ class AccountServiceTest {
         FinancialAccount actual = accountService.updateBalance(CURRENT_USER_ID, accountId, newBalance, reason);
 
         // Then
-        then(actual.balance()).isEqualTo(newBalance);
-        then(actual.editHistories()).hasSize(1);
-        then(actual.editHistories().iterator().next().editReason()).isEqualTo(Optional.of(reason));
+        then(actual.balance()).isEqualTo(new Balance(newBalance.amount()));
         verify(financialAccountRepository).save(account);
+        verify(balanceEditHistoryRepository).save(
+            argThat(
+                history ->
+                    history.financialAccountId().equals(accountId) &&
+                    history.oldBalance().equals(new Balance(100_000)) &&
+                    history.newBalance().equals(newBalance) &&
+                    history.editReason().equals(Optional.of(reason))
+            )
+        );
     }
 
     @Test
@@ -414,7 +463,7 @@ class AccountServiceTest {
         Money totalExpense = new Money(50_000);
         Money fixedExpense = new Money(80_000);
         Money saving = new Money(20_000);
-        Money expected = new Money(250_000);
+        Balance expected = new Balance(250_000);
         FinancialAccount account = buildAccount(
             accountId,
             CURRENT_USER_ID,
@@ -425,7 +474,7 @@ class AccountServiceTest {
         when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
 
         // When
-        Money actual = accountService.calculateNewBalance(
+        Balance actual = accountService.calculateNewBalance(
             CURRENT_USER_ID,
             accountId,
             income,
@@ -493,4 +542,375 @@ class AccountServiceTest {
         then(actual).containsExactlyInAnyOrderElementsOf(accounts);
         verify(financialAccountRepository).findByUserId(CURRENT_USER_ID);
     }
+
+    private BalanceEditHistory buildHistory(FinancialAccountId accountId, int day) {
+        FinancialAccount account = buildAccount(
+            accountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        return account.updateBalance(new Money(100_000 + day), LocalDate.of(2026, 1, day));
+    }
+
+    @Test
+    void testGetEditHistoryWithNextPage() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("4040404");
+        FinancialAccount account = buildAccount(
+            accountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        BalanceEditHistory secondHistory = buildHistory(accountId, 2);
+        when(balanceEditHistoryRepository.findFirstPage(accountId, 3)).thenReturn(
+            List.of(buildHistory(accountId, 3), secondHistory, buildHistory(accountId, 1))
+        );
+
+        // When
+        BalanceEditHistoryPage actual = accountService.getEditHistory(CURRENT_USER_ID, accountId, Optional.empty(), 2);
+
+        // Then
+        then(actual.histories()).hasSize(2);
+        then(actual.histories().get(0).newBalance()).isEqualTo(new Money(100_003));
+        then(actual.histories().get(1).newBalance()).isEqualTo(new Money(100_002));
+        then(actual.nextCursor()).contains(
+            new BalanceEditHistoryCursor(secondHistory.createdAt(), secondHistory.id())
+        );
+    }
+
+    @Test
+    void testGetEditHistoryWithCursorOnLastPage() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("4040404");
+        FinancialAccount account = buildAccount(
+            accountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        BalanceEditHistoryCursor cursor = new BalanceEditHistoryCursor(
+            LocalDateTime.of(2026, 1, 2, 10, 0),
+            new BalanceEditHistoryId(UUID.fromString("00000000-0000-0000-0000-0000000000e2"))
+        );
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(balanceEditHistoryRepository.findPageBefore(accountId, cursor, 3)).thenReturn(
+            List.of(buildHistory(accountId, 1))
+        );
+
+        // When
+        BalanceEditHistoryPage actual = accountService.getEditHistory(CURRENT_USER_ID, accountId, Optional.of(cursor), 2);
+
+        // Then
+        then(actual.histories()).hasSize(1);
+        then(actual.histories().get(0).newBalance()).isEqualTo(new Money(100_001));
+        then(actual.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void testGetEditHistoryWithInvalidLimit() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("4040404");
+
+        // When / Then
+        thenThrownBy(() ->
+            accountService.getEditHistory(
+                CURRENT_USER_ID,
+                accountId,
+                Optional.empty(),
+                AccountService.MAX_HISTORY_PAGE_SIZE + 1
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(financialAccountRepository, balanceEditHistoryRepository);
+    }
+
+    @Test
+    void testGetEditHistoryWhenNotOwner() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("4040404");
+        FinancialAccount account = buildAccount(accountId, OTHER_USER_ID, Optional.empty(), new Money(100_000), Boolean.TRUE);
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+
+        // When / Then
+        thenThrownBy(() -> accountService.getEditHistory(CURRENT_USER_ID, accountId, Optional.empty(), 20)).isInstanceOf(
+            ForbiddenException.class
+        );
+        verifyNoInteractions(balanceEditHistoryRepository);
+    }
+
+    @Test
+    void testGetLatestEditHistory() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("4040404");
+        FinancialAccount account = buildAccount(
+            accountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(balanceEditHistoryRepository.findLatestByFinancialAccountId(accountId)).thenReturn(
+            Optional.of(buildHistory(accountId, 3))
+        );
+
+        // When
+        Optional<BalanceEditHistoryInfo> actual = accountService.getLatestEditHistory(CURRENT_USER_ID, accountId);
+
+        // Then
+        then(actual).isPresent();
+        then(actual.get().newBalance()).isEqualTo(new Money(100_003));
+    }
+
+    @Test
+    void testPostToMainAccount() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("5050505");
+        FinancialAccount mainAccount = buildAccount(
+            accountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        when(financialAccountRepository.findMainAccountByUserId(CURRENT_USER_ID)).thenReturn(Optional.of(mainAccount));
+
+        // When
+        accountService.postToMainAccount(
+            CURRENT_USER_ID,
+            LedgerSourceType.MONTHLY_SAVING,
+            "saving-1",
+            -20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+
+        // Then
+        verify(accountLedgerRepository).post(
+            LedgerSourceType.MONTHLY_SAVING,
+            "saving-1",
+            accountId,
+            -20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+    }
+
+    @Test
+    void testPostToMainAccountWithoutMainAccount() {
+        // Given
+        when(financialAccountRepository.findMainAccountByUserId(CURRENT_USER_ID)).thenReturn(Optional.empty());
+
+        // When
+        accountService.postToMainAccount(
+            CURRENT_USER_ID,
+            LedgerSourceType.MONTHLY_SAVING,
+            "saving-1",
+            -20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+
+        // Then
+        verify(accountLedgerRepository).cancel(LedgerSourceType.MONTHLY_SAVING, "saving-1");
+        verify(accountLedgerRepository, never()).post(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testPostTransferFromMainAccount() {
+        // Given
+        FinancialAccountId mainAccountId = new FinancialAccountId("5050505");
+        FinancialAccountId savingAccountId = new FinancialAccountId("6060606");
+        FinancialAccount mainAccount = buildAccount(
+            mainAccountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        when(financialAccountRepository.findMainAccountByUserId(CURRENT_USER_ID)).thenReturn(Optional.of(mainAccount));
+
+        // When
+        accountService.postTransferFromMainAccount(
+            CURRENT_USER_ID,
+            LedgerSourceType.MONTHLY_SAVING,
+            LedgerSourceType.MONTHLY_SAVING_DEPOSIT,
+            "saving-1",
+            savingAccountId,
+            20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+
+        // Then
+        InOrder inOrder = inOrder(accountLedgerRepository);
+        inOrder.verify(accountLedgerRepository).lockAccounts(List.of(mainAccountId, savingAccountId));
+        inOrder
+            .verify(accountLedgerRepository)
+            .post(LedgerSourceType.MONTHLY_SAVING, "saving-1", mainAccountId, -20_000, LocalDate.of(2026, 6, 1));
+        inOrder
+            .verify(accountLedgerRepository)
+            .post(
+                LedgerSourceType.MONTHLY_SAVING_DEPOSIT,
+                "saving-1",
+                savingAccountId,
+                20_000,
+                LocalDate.of(2026, 6, 1)
+            );
+    }
+
+    @Test
+    void testPostTransferFromMainAccountToMainAccount() {
+        // Given
+        FinancialAccountId mainAccountId = new FinancialAccountId("5050505");
+        FinancialAccount mainAccount = buildAccount(
+            mainAccountId,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(100_000),
+            Boolean.TRUE
+        );
+        when(financialAccountRepository.findMainAccountByUserId(CURRENT_USER_ID)).thenReturn(Optional.of(mainAccount));
+
+        // When
+        accountService.postTransferFromMainAccount(
+            CURRENT_USER_ID,
+            LedgerSourceType.MONTHLY_SAVING,
+            LedgerSourceType.MONTHLY_SAVING_DEPOSIT,
+            "saving-1",
+            mainAccountId,
+            20_000,
+            LocalDate.of(2026, 6, 1)
+        );
+
+        // Then
+        verify(accountLedgerRepository).cancel(LedgerSourceType.MONTHLY_SAVING, "saving-1");
+        verify(accountLedgerRepository).cancel(LedgerSourceType.MONTHLY_SAVING_DEPOSIT, "saving-1");
+        verify(accountLedgerRepository, never()).post(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testCancelLedgerEntry() {
+        // When
+        accountService.cancelLedgerEntry(LedgerSourceType.MONTHLY_SAVING, "saving-1");
+
+        // Then
+        verify(accountLedgerRepository).cancel(LedgerSourceType.MONTHLY_SAVING, "saving-1");
+    }
+
+    @Test
+    void testGetBalanceAsOfFromCheckpoint() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("6060606");
+        FinancialAccount account = buildAccount(accountId, CURRENT_USER_ID, Optional.empty(), new Money(100_000), Boolean.TRUE);
+        LocalDate asOf = LocalDate.of(2026, 6, 20);
+        LocalDate checkpointDate = LocalDate.of(2026, 6, 1);
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(balanceCheckpointRepository.findLatestOnOrBefore(accountId, asOf)).thenReturn(
+            Optional.of(new BalanceCheckpoint(accountId, checkpointDate, 80_000))
+        );
+        when(accountLedgerRepository.sumAmountsBetween(accountId, checkpointDate, asOf)).thenReturn(-5_000);
+
+        // When
+        int actual = accountService.getBalanceAsOf(CURRENT_USER_ID, accountId, asOf);
+
+        // Then
+        then(actual).isEqualTo(75_000);
+        verify(accountLedgerRepository, never()).sumAmountsUntil(any(), any());
+    }
+
+    @Test
+    void testGetBalanceAsOfWithoutCheckpoint() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("6060606");
+        FinancialAccount account = buildAccount(accountId, CURRENT_USER_ID, Optional.empty(), new Money(100_000), Boolean.TRUE);
+        LocalDate asOf = LocalDate.of(2026, 6, 20);
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(balanceCheckpointRepository.findLatestOnOrBefore(accountId, asOf)).thenReturn(Optional.empty());
+        when(accountLedgerRepository.sumAmountsUntil(accountId, asOf)).thenReturn(95_000);
+
+        // When
+        int actual = accountService.getBalanceAsOf(CURRENT_USER_ID, accountId, asOf);
+
+        // Then
+        then(actual).isEqualTo(95_000);
+    }
+
+    @Test
+    void testGetBalanceAsOfWhenNotOwner() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("6060606");
+        FinancialAccount account = buildAccount(accountId, OTHER_USER_ID, Optional.empty(), new Money(100_000), Boolean.TRUE);
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+
+        // When / Then
+        thenThrownBy(() ->
+            accountService.getBalanceAsOf(CURRENT_USER_ID, accountId, LocalDate.of(2026, 6, 20))
+        ).isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(balanceCheckpointRepository, accountLedgerRepository);
+    }
+
+    @Test
+    void testGetBalanceTimeline() {
+        // Given
+        FinancialAccountId accountId = new FinancialAccountId("7070707");
+        FinancialAccount account = buildAccount(accountId, CURRENT_USER_ID, Optional.empty(), new Money(100_000), Boolean.TRUE);
+        LocalDate from = LocalDate.of(2026, 6, 1);
+        LocalDate to = LocalDate.of(2026, 6, 30);
+        when(financialAccountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(balanceCheckpointRepository.findLatestOnOrBefore(accountId, from)).thenReturn(
+            Optional.of(new BalanceCheckpoint(accountId, from, 100_000))
+        );
+        when(accountLedgerRepository.sumAmountsBetween(accountId, from, from)).thenReturn(0);
+        doAnswer(inv -> {
+            ObjIntConsumer<LocalDate> handler = inv.getArgument(3);
+            handler.accept(LocalDate.of(2026, 6, 10), -3_000);
+            handler.accept(LocalDate.of(2026, 6, 25), 200_000);
+            return null;
+        })
+            .when(accountLedgerRepository)
+            .forEachDailyAmount(eq(accountId), eq(from), eq(to), any());
+
+        // When
+        List<BalancePoint> actual = accountService.getBalanceTimeline(CURRENT_USER_ID, accountId, from, to, 100);
+
+        // Then
+        then(actual).containsExactly(
+            new BalancePoint(from, 100_000),
+            new BalancePoint(LocalDate.of(2026, 6, 10), 97_000),
+            new BalancePoint(LocalDate.of(2026, 6, 25), 297_000),
+            new BalancePoint(to, 297_000)
+        );
+    }
+
+    @Test
+    void testGetBalanceTimelineWithInvalidRange() {
+        // When / Then
+        thenThrownBy(() ->
+            accountService.getBalanceTimeline(
+                CURRENT_USER_ID,
+                new FinancialAccountId("7070707"),
+                LocalDate.of(2026, 6, 30),
+                LocalDate.of(2026, 6, 1),
+                100
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(financialAccountRepository, accountLedgerRepository);
+    }
+
+    @Test
+    void testGetBalanceTimelineWithInvalidPoints() {
+        // When / Then
+        thenThrownBy(() ->
+            accountService.getBalanceTimeline(
+                CURRENT_USER_ID,
+                new FinancialAccountId("7070707"),
+                LocalDate.of(2026, 6, 1),
+                LocalDate.of(2026, 6, 30),
+                2
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(financialAccountRepository, accountLedgerRepository);
+    }
 }
@@ -0,0 +1,75 @@
+package com.takata_kento.household_expenses.application.account;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpointRepository;
+import com.takata_kento.household_expenses.domain.account.BalanceCheckpointTarget;
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceCheckpointWriterTest {
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private BalanceCheckpointWriter balanceCheckpointWriter;
+
+    private static final FinancialAccountId CALENDAR_ACCOUNT_ID = new FinancialAccountId("1234567");
+    private static final FinancialAccountId PAYDAY_ACCOUNT_ID = new FinancialAccountId("7654321");
+
+    @Test
+    void testWriteCheckpointsAtEachPeriodStart() {
+        // Given
+        when(balanceCheckpointRepository.findTargets()).thenReturn(
+            List.of(
+                new BalanceCheckpointTarget(CALENDAR_ACCOUNT_ID, new Day(1)),
+                new BalanceCheckpointTarget(PAYDAY_ACCOUNT_ID, new Day(25))
+            )
+        );
+        when(balanceCheckpointRepository.createIfAbsent(CALENDAR_ACCOUNT_ID, LocalDate.of(2026, 6, 1))).thenReturn(
+            false
+        );
+        when(balanceCheckpointRepository.createIfAbsent(PAYDAY_ACCOUNT_ID, LocalDate.of(2026, 5, 25))).thenReturn(
+            true
+        );
+
+        // When
+        int actual = balanceCheckpointWriter.writeCheckpoints(LocalDate.of(2026, 6, 10));
+
+        // Then
+        then(actual).isEqualTo(1);
+        then(meterRegistry.counter(BalanceCheckpointWriter.CREATED_METRIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testWriteCheckpointsRoundsMonthStartDayToEndOfMonth() {
+        // Given
+        when(balanceCheckpointRepository.findTargets()).thenReturn(
+            List.of(new BalanceCheckpointTarget(PAYDAY_ACCOUNT_ID, new Day(31)))
+        );
+        when(balanceCheckpointRepository.createIfAbsent(PAYDAY_ACCOUNT_ID, LocalDate.of(2026, 2, 28))).thenReturn(
+            true
+        );
+
+        // When
+        int actual = balanceCheckpointWriter.writeCheckpoints(LocalDate.of(2026, 3, 1));
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+}
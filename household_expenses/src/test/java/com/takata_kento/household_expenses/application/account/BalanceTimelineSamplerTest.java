@@ -0,0 +1,100 @@
+package com.takata_kento.household_expenses.application.account;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BalanceTimelineSamplerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void testKeepsAllPointsWhenFewerThanBuckets() {
+        // Given
+        BalanceTimelineSampler sampler = new BalanceTimelineSampler(FROM, LocalDate.of(2026, 1, 10), 20, 1_000);
+
+        // When
+        sampler.accept(LocalDate.of(2026, 1, 3), -100);
+        sampler.accept(LocalDate.of(2026, 1, 5), 500);
+        List<BalancePoint> actual = sampler.finish();
+
+        // Then
+        then(actual).containsExactly(
+            new BalancePoint(FROM, 1_000),
+            new BalancePoint(LocalDate.of(2026, 1, 3), 900),
+            new BalancePoint(LocalDate.of(2026, 1, 5), 1_400),
+            new BalancePoint(LocalDate.of(2026, 1, 10), 1_400)
+        );
+    }
+
+    @Test
+    void testIncludesAmountOnLastDayOnlyInLastPoint() {
+        // Given
+        LocalDate to = LocalDate.of(2026, 1, 10);
+        BalanceTimelineSampler sampler = new BalanceTimelineSampler(FROM, to, 20, 1_000);
+
+        // When
+        sampler.accept(to, -300);
+        List<BalancePoint> actual = sampler.finish();
+
+        // Then
+        then(actual).containsExactly(new BalancePoint(FROM, 1_000), new BalancePoint(to, 700));
+    }
+
+    @Test
+    void testSelectsPeakInEachBucket() {
+        // Given
+        // 1/2〜1/7 を3日ずつ2バケットに分ける
+        LocalDate to = LocalDate.of(2026, 1, 8);
+        BalanceTimelineSampler sampler = new BalanceTimelineSampler(FROM, to, 4, 0);
+
+        // When
+        sampler.accept(LocalDate.of(2026, 1, 2), 10);
+        sampler.accept(LocalDate.of(2026, 1, 3), 90);
+        sampler.accept(LocalDate.of(2026, 1, 4), -90);
+        sampler.accept(LocalDate.of(2026, 1, 5), -50);
+        sampler.accept(LocalDate.of(2026, 1, 6), 40);
+        sampler.accept(LocalDate.of(2026, 1, 7), 0);
+        List<BalancePoint> actual = sampler.finish();
+
+        // Then
+        then(actual).containsExactly(
+            new BalancePoint(FROM, 0),
+            new BalancePoint(LocalDate.of(2026, 1, 3), 100),
+            new BalancePoint(LocalDate.of(2026, 1, 5), -40),
+            new BalancePoint(to, 0)
+        );
+    }
+
+    @Test
+    void testLimitsNumberOfPoints() {
+        // Given
+        LocalDate to = LocalDate.of(2030, 12, 31);
+        BalanceTimelineSampler sampler = new BalanceTimelineSampler(FROM, to, 50, 0);
+
+        // When
+        for (LocalDate date = FROM.plusDays(1); date.isBefore(to); date = date.plusDays(1)) {
+            sampler.accept(date, date.getDayOfMonth() % 2 == 0 ? 1_000 : -700);
+        }
+        List<BalancePoint> actual = sampler.finish();
+
+        // Then
+        then(actual).hasSize(50);
+        then(actual.getFirst().date()).isEqualTo(FROM);
+        then(actual.getLast().date()).isEqualTo(to);
+    }
+
+    @Test
+    void testSameDay() {
+        // Given
+        BalanceTimelineSampler sampler = new BalanceTimelineSampler(FROM, FROM, 10, 1_000);
+
+        // When
+        List<BalancePoint> actual = sampler.finish();
+
+        // Then
+        then(actual).containsExactly(new BalancePoint(FROM, 1_000));
+    }
+}
@@ -2,32 +2,37 @@ package com.takata_kento.household_expenses.application.budget;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriod;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriodRepository;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriodSpendRepository;
+import com.takata_kento.household_expenses.domain.budget.BudgetSpendLedgerRepository;
+import com.takata_kento.household_expenses.domain.budget.GroupBudgetPeriod;
 import com.takata_kento.household_expenses.domain.budget.MonthlyBudget;
 import com.takata_kento.household_expenses.domain.budget.MonthlyBudgetRepository;
-import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransaction;
-import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransactionRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.budget.PeriodSpent;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseDailyTotal;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseSummaryRepository;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroup;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroupRepository;
-import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
 import com.takata_kento.household_expenses.domain.valueobject.Day;
-import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.GroupName;
-import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.MonthlyBudgetId;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -40,7 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class BudgetServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserMembershipCache userMembershipCache;
 
     @Mock
     private UserGroupRepository userGroupRepository;
@@ -49,7 +54,16 @@ class BudgetServiceTest {
     private MonthlyBudgetRepository monthlyBudgetRepository;
 
     @Mock
-    private DailyGroupTransactionRepository dailyGroupTransactionRepository;
+    private BudgetSpendLedgerRepository budgetSpendLedgerRepository;
+
+    @Mock
+    private BudgetPeriodSpendRepository budgetPeriodSpendRepository;
+
+    @Mock
+    private BudgetPeriodRepository budgetPeriodRepository;
+
+    @Mock
+    private LivingExpenseSummaryRepository livingExpenseSummaryRepository;
 
     @InjectMocks
     private BudgetService budgetService;
@@ -58,10 +72,6 @@ class BudgetServiceTest {
     private static final UserGroupId USER_GROUP_ID = new UserGroupId(
         UUID.fromString("00000000-0000-0000-0000-000000000010")
     );
-    private static final UserId CATEGORY_USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000099"));
-    private static final LivingExpenseCategoryId CATEGORY_ID = new LivingExpenseCategoryId(
-        UUID.fromString("00000000-0000-0000-0000-000000000aaa")
-    );
 
     @Test
     void testSetMonthlyBudget() {
@@ -69,12 +79,9 @@ class BudgetServiceTest {
         Year year = new Year(2024);
         Month month = new Month(6);
         Money budgetAmount = new Money(100_000);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
-        when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
-            Optional.empty()
-        );
-        when(monthlyBudgetRepository.save(any(MonthlyBudget.class))).thenAnswer(inv -> inv.getArgument(0));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(monthlyBudgetRepository.upsert(any(MonthlyBudget.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         SetMonthlyBudgetResult actual = budgetService.setMonthlyBudget(CURRENT_USER_ID, year, month, budgetAmount);
@@ -86,7 +93,8 @@ class BudgetServiceTest {
         assertThat(actual.budget().month()).isEqualTo(month);
         assertThat(actual.budget().budgetAmount()).isEqualTo(budgetAmount);
         assertThat(actual.budget().setByUserId()).isEqualTo(CURRENT_USER_ID);
-        verify(monthlyBudgetRepository).save(any(MonthlyBudget.class));
+        verify(monthlyBudgetRepository).upsert(any(MonthlyBudget.class));
+        verify(budgetPeriodRepository).updateBudgetAmount(USER_GROUP_ID, year, month, budgetAmount);
     }
 
     @Test
@@ -95,20 +103,21 @@ class BudgetServiceTest {
         Year year = new Year(2024);
         Month month = new Month(6);
         Money newBudgetAmount = new Money(120_000);
-        UserId previousSetByUserId = new UserId(UUID.fromString("00000000-0000-0000-0000-0000000000ff"));
-        MonthlyBudget existing = MonthlyBudget.create(
+        // 既存予算の ID のまま、金額と設定者だけが上書きされて返る
+        MonthlyBudget updated = new MonthlyBudget(
+            new MonthlyBudgetId(UUID.fromString("00000000-0000-0000-0000-0000000000ee")),
             USER_GROUP_ID,
             year,
             month,
-            new Money(100_000),
-            previousSetByUserId
-        );
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
-        when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
-            Optional.of(existing)
+            newBudgetAmount,
+            CURRENT_USER_ID,
+            null,
+            null,
+            1
         );
-        when(monthlyBudgetRepository.save(existing)).thenReturn(existing);
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(monthlyBudgetRepository.upsert(any(MonthlyBudget.class))).thenReturn(updated);
 
         // When
         SetMonthlyBudgetResult actual = budgetService.setMonthlyBudget(CURRENT_USER_ID, year, month, newBudgetAmount);
@@ -117,7 +126,7 @@ class BudgetServiceTest {
         assertThat(actual.created()).isFalse();
         assertThat(actual.budget().budgetAmount()).isEqualTo(newBudgetAmount);
         assertThat(actual.budget().setByUserId()).isEqualTo(CURRENT_USER_ID);
-        verify(monthlyBudgetRepository).save(existing);
+        assertThat(actual.budget().id()).isEqualTo(updated.id());
     }
 
     @Test
@@ -126,14 +135,14 @@ class BudgetServiceTest {
         Year year = new Year(2024);
         Month month = new Month(6);
         Money budgetAmount = new Money(100_000);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() ->
             budgetService.setMonthlyBudget(CURRENT_USER_ID, year, month, budgetAmount)
         ).isInstanceOf(GroupMembershipRequiredException.class);
-        verify(monthlyBudgetRepository, never()).save(any());
+        verify(monthlyBudgetRepository, never()).upsert(any());
     }
 
     @Test
@@ -142,8 +151,8 @@ class BudgetServiceTest {
         Year year = new Year(2024);
         Month month = new Month(6);
         MonthlyBudget budget = MonthlyBudget.create(USER_GROUP_ID, year, month, new Money(100_000), CURRENT_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
             Optional.of(budget)
         );
@@ -160,8 +169,8 @@ class BudgetServiceTest {
         // Given
         Year year = new Year(2024);
         Month month = new Month(6);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
             Optional.empty()
         );
@@ -177,8 +186,8 @@ class BudgetServiceTest {
         // Given
         Year year = new Year(2024);
         Month month = new Month(6);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() -> budgetService.getMonthlyBudget(CURRENT_USER_ID, year, month)).isInstanceOf(
@@ -205,8 +214,8 @@ class BudgetServiceTest {
             new Money(110_000),
             CURRENT_USER_ID
         );
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(monthlyBudgetRepository.findByUserGroupIdAndYear(USER_GROUP_ID, year)).thenReturn(List.of(june, july));
 
         // When
@@ -220,8 +229,8 @@ class BudgetServiceTest {
     void testGetMonthlyBudgetsByYearWhenNotInGroup() {
         // Given
         Year year = new Year(2024);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() -> budgetService.getMonthlyBudgetsByYear(CURRENT_USER_ID, year)).isInstanceOf(
@@ -231,57 +240,79 @@ class BudgetServiceTest {
     }
 
     @Test
-    void testCalculateBudgetBalance() {
+    void testGetYearlyBudgetReport() {
         // Given
-        // monthStartDay=1, targetDate=2024-06-15 → 期間 2024-06-01 〜 2024-06-15
         Year year = new Year(2024);
-        Month month = new Month(6);
-        LocalDate targetDate = LocalDate.of(2024, 6, 15);
-        LocalDate periodStart = LocalDate.of(2024, 6, 1);
-        Money budgetAmount = new Money(100_000);
-
         UserGroup userGroup = new UserGroup(
             USER_GROUP_ID,
             new GroupName("テスト"),
-            new Day(1),
+            new Day(25),
             CURRENT_USER_ID,
             null,
             null,
             null
         );
-        MonthlyBudget budget = MonthlyBudget.create(USER_GROUP_ID, year, month, budgetAmount, CURRENT_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        MonthlyBudget june = MonthlyBudget.create(USER_GROUP_ID, year, new Month(6), new Money(100_000), CURRENT_USER_ID);
+        MonthlyBudget july = MonthlyBudget.create(USER_GROUP_ID, year, new Month(7), new Money(50_000), CURRENT_USER_ID);
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
+        when(monthlyBudgetRepository.findByUserGroupIdAndYear(USER_GROUP_ID, year)).thenReturn(List.of(june, july));
+        when(budgetPeriodSpendRepository.sumLivingExpensesByPeriod(USER_GROUP_ID, year, new Day(25))).thenReturn(
+            List.of(
+                new PeriodSpent(year, new Month(6), new Money(30_000)),
+                new PeriodSpent(year, new Month(7), new Money(60_000)),
+                new PeriodSpent(year, new Month(8), new Money(10_000))
+            )
+        );
 
-        DailyGroupTransaction tx1 = new DailyGroupTransaction(
-            new DailyGroupTransactionId(UUID.randomUUID()),
-            USER_GROUP_ID,
-            LocalDate.of(2024, 6, 5),
-            new HashSet<>(),
-            null
+        // When
+        List<BudgetPeriodReport> actual = budgetService.getYearlyBudgetReport(CURRENT_USER_ID, year);
+
+        // Then
+        assertThat(actual).hasSize(12);
+        assertThat(actual.get(0).period()).isEqualTo(
+            new BudgetPeriod(LocalDate.of(2024, 1, 25), LocalDate.of(2024, 2, 24))
         );
-        tx1.addLivingExpense(CATEGORY_USER_ID, CATEGORY_ID, new Money(2_000), new Description("食費"));
-        tx1.addLivingExpense(CATEGORY_USER_ID, CATEGORY_ID, new Money(3_000), new Description("日用品"));
-        DailyGroupTransaction tx2 = new DailyGroupTransaction(
-            new DailyGroupTransactionId(UUID.randomUUID()),
-            USER_GROUP_ID,
-            LocalDate.of(2024, 6, 10),
-            new HashSet<>(),
-            null
+        assertThat(actual.get(0).spent()).isEqualTo(new Money(0));
+        assertThat(actual.get(0).budget()).isEmpty();
+        assertThat(actual.get(5).remainingAmount()).contains(70_000);
+        assertThat(actual.get(5).isOverBudget()).isFalse();
+        assertThat(actual.get(6).remainingAmount()).contains(-10_000);
+        assertThat(actual.get(6).isOverBudget()).isTrue();
+        assertThat(actual.get(7).spent()).isEqualTo(new Money(10_000));
+        assertThat(actual.get(7).remainingAmount()).isEmpty();
+        assertThat(actual.get(7).isOverBudget()).isFalse();
+    }
+
+    @Test
+    void testGetYearlyBudgetReportWhenNotInGroup() {
+        // Given
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+
+        // When / Then
+        assertThatThrownBy(() -> budgetService.getYearlyBudgetReport(CURRENT_USER_ID, new Year(2024))).isInstanceOf(
+            GroupMembershipRequiredException.class
         );
-        tx2.addLivingExpense(CATEGORY_USER_ID, CATEGORY_ID, new Money(1500), new Description("食費"));
+        verifyNoInteractions(budgetPeriodSpendRepository);
+    }
 
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
-        when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
-        when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
-            Optional.of(budget)
+    @Test
+    void testCalculateBudgetBalance() {
+        // Given
+        // targetDate=2024-06-15 → 生成済みの期間 2024-06-01 〜 2024-06-30 を参照
+        LocalDate targetDate = LocalDate.of(2024, 6, 15);
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, targetDate)).thenReturn(
+            Optional.of(new GroupBudgetPeriod(period, Optional.of(new Money(100_000))))
+        );
+        when(budgetSpendLedgerRepository.findCumulativeSpent(USER_GROUP_ID, period, targetDate)).thenReturn(
+            new Money(6_500)
         );
-        when(
-            dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDateBetween(
-                USER_GROUP_ID,
-                periodStart,
-                targetDate
-            )
-        ).thenReturn(List.of(tx1, tx2));
 
         // When
         Money actual = budgetService.calculateBudgetBalance(CURRENT_USER_ID, targetDate);
@@ -289,18 +320,16 @@ class BudgetServiceTest {
         // Then
         // 100,000 - (2,000 + 3,000 + 1,500) = 93,500
         assertThat(actual).isEqualTo(new Money(93_500));
+        verify(userGroupRepository, never()).findById(any());
+        verify(monthlyBudgetRepository, never()).findByUserGroupIdAndYearAndMonth(any(), any(), any());
     }
 
     @Test
-    void testCalculateBudgetBalanceWithMonthStartDayMidMonthBefore() {
+    void testCalculateBudgetBalanceWhenPeriodNotGenerated() {
         // Given
-        // monthStartDay=25, targetDate=2024-07-10 → 期間 2024-06-25 〜 2024-07-10
-        // → MonthlyBudget(2024, 6) を参照
-        Year year = new Year(2024);
-        Month month = new Month(6);
+        // monthStartDay=25, targetDate=2024-07-10 → 期間 2024-06-25 〜 2024-07-24 を生成して参照
         LocalDate targetDate = LocalDate.of(2024, 7, 10);
-        LocalDate periodStart = LocalDate.of(2024, 6, 25);
-
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24));
         UserGroup userGroup = new UserGroup(
             USER_GROUP_ID,
             new GroupName("テスト"),
@@ -310,30 +339,17 @@ class BudgetServiceTest {
             null,
             null
         );
-        MonthlyBudget budget = MonthlyBudget.create(USER_GROUP_ID, year, month, new Money(80_000), CURRENT_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
 
-        DailyGroupTransaction tx = new DailyGroupTransaction(
-            new DailyGroupTransactionId(UUID.randomUUID()),
-            USER_GROUP_ID,
-            LocalDate.of(2024, 6, 30),
-            new HashSet<>(),
-            null
-        );
-        tx.addLivingExpense(CATEGORY_USER_ID, CATEGORY_ID, new Money(20_000), new Description("食費"));
-
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, targetDate)).thenReturn(Optional.empty());
         when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
-        when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
-            Optional.of(budget)
+        when(budgetPeriodRepository.generate(USER_GROUP_ID, period)).thenReturn(
+            new GroupBudgetPeriod(period, Optional.of(new Money(80_000)))
+        );
+        when(budgetSpendLedgerRepository.findCumulativeSpent(USER_GROUP_ID, period, targetDate)).thenReturn(
+            new Money(20_000)
         );
-        when(
-            dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDateBetween(
-                USER_GROUP_ID,
-                periodStart,
-                targetDate
-            )
-        ).thenReturn(List.of(tx));
 
         // When
         Money actual = budgetService.calculateBudgetBalance(CURRENT_USER_ID, targetDate);
@@ -346,13 +362,9 @@ class BudgetServiceTest {
     @Test
     void testCalculateBudgetBalanceWithMonthStartDayMidMonthAfter() {
         // Given
-        // monthStartDay=25, targetDate=2024-07-30 → 期間 2024-07-25 〜 2024-07-30
-        // → MonthlyBudget(2024, 7) を参照
-        Year year = new Year(2024);
-        Month month = new Month(7);
+        // monthStartDay=25, targetDate=2024-07-30 → 期間 2024-07-25 〜 2024-08-24 を生成して参照
         LocalDate targetDate = LocalDate.of(2024, 7, 30);
-        LocalDate periodStart = LocalDate.of(2024, 7, 25);
-
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 7, 25), LocalDate.of(2024, 8, 24));
         UserGroup userGroup = new UserGroup(
             USER_GROUP_ID,
             new GroupName("テスト"),
@@ -362,21 +374,22 @@ class BudgetServiceTest {
             null,
             null
         );
-        MonthlyBudget budget = MonthlyBudget.create(USER_GROUP_ID, year, month, new Money(50_000), CURRENT_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.of(USER_GROUP_ID),
+            0
+        );
 
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, targetDate)).thenReturn(Optional.empty());
         when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
-        when(monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, year, month)).thenReturn(
-            Optional.of(budget)
+        when(budgetPeriodRepository.generate(USER_GROUP_ID, period)).thenReturn(
+            new GroupBudgetPeriod(period, Optional.of(new Money(50_000)))
+        );
+        when(budgetSpendLedgerRepository.findCumulativeSpent(USER_GROUP_ID, period, targetDate)).thenReturn(
+            new Money(0)
         );
-        when(
-            dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDateBetween(
-                USER_GROUP_ID,
-                periodStart,
-                targetDate
-            )
-        ).thenReturn(List.of());
 
         // When
         Money actual = budgetService.calculateBudgetBalance(CURRENT_USER_ID, targetDate);
@@ -389,46 +402,141 @@ class BudgetServiceTest {
     void testCalculateBudgetBalanceWhenBudgetNotFound() {
         // Given
         LocalDate targetDate = LocalDate.of(2024, 6, 15);
-        UserGroup userGroup = new UserGroup(
-            USER_GROUP_ID,
-            new GroupName("テスト"),
-            new Day(1),
-            CURRENT_USER_ID,
-            null,
-            null,
-            null
-        );
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
 
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
-        when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
-        when(
-            monthlyBudgetRepository.findByUserGroupIdAndYearAndMonth(USER_GROUP_ID, new Year(2024), new Month(6))
-        ).thenReturn(Optional.empty());
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, targetDate)).thenReturn(
+            Optional.of(new GroupBudgetPeriod(period, Optional.empty()))
+        );
 
         // When / Then
         assertThatThrownBy(() -> budgetService.calculateBudgetBalance(CURRENT_USER_ID, targetDate)).isInstanceOf(
             ResourceNotFoundException.class
         );
-        verify(dailyGroupTransactionRepository, never()).findByUserGroupIdAndTransactionDateBetween(
-            any(),
-            any(),
-            any()
-        );
+        verify(budgetSpendLedgerRepository, never()).findCumulativeSpent(any(), any(), any());
     }
 
     @Test
     void testCalculateBudgetBalanceWhenNotInGroup() {
         // Given
         LocalDate targetDate = LocalDate.of(2024, 6, 15);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() -> budgetService.calculateBudgetBalance(CURRENT_USER_ID, targetDate)).isInstanceOf(
             GroupMembershipRequiredException.class
         );
+        verifyNoInteractions(budgetPeriodRepository);
         verify(userGroupRepository, never()).findById(any());
-        verify(monthlyBudgetRepository, never()).findByUserGroupIdAndYearAndMonth(any(), any(), any());
+    }
+
+    @Test
+    void testCalculateBudgetBalances() {
+        // Given
+        // 2024-07-23 〜 2024-07-26 → 期間 2024-06-25〜07-24 と 2024-07-25〜08-24 にまたがる
+        LocalDate from = LocalDate.of(2024, 7, 23);
+        LocalDate to = LocalDate.of(2024, 7, 26);
+        BudgetPeriod junePeriod = new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24));
+        BudgetPeriod julyPeriod = new BudgetPeriod(LocalDate.of(2024, 7, 25), LocalDate.of(2024, 8, 24));
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, from)).thenReturn(
+            Optional.of(new GroupBudgetPeriod(junePeriod, Optional.of(new Money(100_000))))
+        );
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 7, 25))).thenReturn(
+            Optional.of(new GroupBudgetPeriod(julyPeriod, Optional.of(new Money(80_000))))
+        );
+        when(
+            budgetSpendLedgerRepository.findCumulativeSpent(USER_GROUP_ID, junePeriod, LocalDate.of(2024, 7, 22))
+        ).thenReturn(new Money(30_000));
+        when(livingExpenseSummaryRepository.sumByDay(USER_GROUP_ID, from, to)).thenReturn(
+            List.of(
+                new LivingExpenseDailyTotal(LocalDate.of(2024, 7, 23), new Money(1_000)),
+                new LivingExpenseDailyTotal(LocalDate.of(2024, 7, 25), new Money(2_000)),
+                new LivingExpenseDailyTotal(LocalDate.of(2024, 7, 26), new Money(500))
+            )
+        );
+
+        // When
+        Map<LocalDate, Money> actual = budgetService.calculateBudgetBalances(USER_GROUP_ID, from, to);
+
+        // Then
+        // 新しい期間の初日からは台帳を参照せず 0 から累計する
+        assertThat(actual).containsExactly(
+            entry(LocalDate.of(2024, 7, 23), new Money(69_000)),
+            entry(LocalDate.of(2024, 7, 24), new Money(69_000)),
+            entry(LocalDate.of(2024, 7, 25), new Money(78_000)),
+            entry(LocalDate.of(2024, 7, 26), new Money(77_500))
+        );
+        verify(budgetSpendLedgerRepository, times(1)).findCumulativeSpent(any(), any(), any());
+        verify(userGroupRepository, never()).findById(any());
+    }
+
+    @Test
+    void testCalculateBudgetBalancesWhenBudgetNotFound() {
+        // Given
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 6, 1))).thenReturn(
+            Optional.of(new GroupBudgetPeriod(period, Optional.empty()))
+        );
+
+        // When / Then
+        assertThatThrownBy(() ->
+            budgetService.calculateBudgetBalances(USER_GROUP_ID, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30))
+        ).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testRecordLivingExpenseChange() {
+        // Given
+        // transactionDate=2024-07-10 → 期間 2024-06-25 〜 2024-07-24
+        LocalDate transactionDate = LocalDate.of(2024, 7, 10);
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24));
+        when(budgetPeriodRepository.findContaining(USER_GROUP_ID, transactionDate)).thenReturn(
+            Optional.of(new GroupBudgetPeriod(period, Optional.empty()))
+        );
+
+        // When
+        budgetService.recordLivingExpenseChange(USER_GROUP_ID, transactionDate, new Money(3_000), new Money(1_000));
+
+        // Then
+        verify(budgetSpendLedgerRepository).applyDelta(USER_GROUP_ID, period, transactionDate, -2_000);
+        verify(userGroupRepository, never()).findById(any());
+    }
+
+    @Test
+    void testRecordLivingExpenseChangeWhenUnchanged() {
+        // Given
+        LocalDate transactionDate = LocalDate.of(2024, 7, 10);
+
+        // When
+        budgetService.recordLivingExpenseChange(USER_GROUP_ID, transactionDate, new Money(3_000), new Money(3_000));
+
+        // Then
+        verifyNoInteractions(budgetPeriodRepository);
+        verify(budgetSpendLedgerRepository, never()).applyDelta(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testRegenerateBudgetPeriods() {
+        // When
+        budgetService.regenerateBudgetPeriods(USER_GROUP_ID, new Day(25));
+
+        // Then
+        verify(budgetPeriodRepository).regenerate(
+            eq(USER_GROUP_ID),
+            eq(new Day(25)),
+            any(LocalDate.class),
+            any(LocalDate.class)
+        );
+    }
+
+    @Test
+    void testRebuildSpendLedger() {
+        // When
+        budgetService.rebuildSpendLedger(USER_GROUP_ID, new Day(25));
+
+        // Then
+        verify(budgetSpendLedgerRepository).rebuild(USER_GROUP_ID, new Day(25));
     }
 }
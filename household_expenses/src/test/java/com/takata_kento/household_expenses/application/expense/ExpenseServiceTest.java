@@ -4,17 +4,20 @@ import static org.assertj.core.api.BDDAssertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
 import com.takata_kento.household_expenses.domain.expense.category.FixedExpenseCategory;
 import com.takata_kento.household_expenses.domain.expense.category.FixedExpenseCategoryRepository;
 import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategory;
 import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategoryRepository;
 import com.takata_kento.household_expenses.domain.expense.history.FixedExpenseHistory;
 import com.takata_kento.household_expenses.domain.expense.history.FixedExpenseHistoryRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategoryRollupRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategorySpent;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.valueobject.CategoryName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseCategoryId;
@@ -40,7 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ExpenseServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserMembershipCache userMembershipCache;
 
     @Mock
     private LivingExpenseCategoryRepository livingExpenseCategoryRepository;
@@ -51,6 +54,12 @@ class ExpenseServiceTest {
     @Mock
     private FixedExpenseHistoryRepository fixedExpenseHistoryRepository;
 
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository;
+
     @InjectMocks
     private ExpenseService expenseService;
 
@@ -63,13 +72,13 @@ class ExpenseServiceTest {
     );
 
     private void mockCurrentUserInGroup() {
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
     }
 
     private void mockCurrentUserNotInGroup() {
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
     }
 
     // ===== createLivingExpenseCategory =====
@@ -344,14 +353,9 @@ class ExpenseServiceTest {
         );
         mockCurrentUserInGroup();
         when(fixedExpenseCategoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
-        when(
-            fixedExpenseHistoryRepository.findByFixedExpenseCategoryIdAndYearAndMonth(
-                categoryId,
-                expectedYear,
-                expectedMonth
-            )
-        ).thenReturn(Optional.empty());
-        when(fixedExpenseHistoryRepository.save(any(FixedExpenseHistory.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(fixedExpenseHistoryRepository.upsert(any(FixedExpenseHistory.class))).thenAnswer(inv ->
+            inv.getArgument(0)
+        );
 
         // When
         FixedExpenseHistory actual = expenseService.setFixedExpenseAmount(
@@ -371,7 +375,8 @@ class ExpenseServiceTest {
         then(actual.amount()).isEqualTo(expectedAmount);
         then(actual.effectiveDate()).isEqualTo(expectedEffectiveDate);
         then(actual.memo()).isEqualTo(expectedMemo);
-        verify(fixedExpenseHistoryRepository).save(any(FixedExpenseHistory.class));
+        verify(fixedExpenseHistoryRepository).upsert(any(FixedExpenseHistory.class));
+        verify(accountService).postFixedExpenseShares(USER_GROUP_ID, actual.id());
     }
 
     @Test
@@ -391,22 +396,20 @@ class ExpenseServiceTest {
             new Money(80000),
             1
         );
-        FixedExpenseHistory existing = new FixedExpenseHistory(
+        // 既存履歴の ID のまま、金額・適用日・メモが上書きされて返る
+        FixedExpenseHistory updated = new FixedExpenseHistory(
             new FixedExpenseHistoryId(UUID.randomUUID()),
             categoryId,
             year,
             month,
-            new Money(80000),
-            LocalDate.of(2026, 5, 1),
-            Optional.of(new Description("旧メモ")),
-            1
+            expectedNewAmount,
+            expectedNewEffectiveDate,
+            expectedNewMemo,
+            2
         );
         mockCurrentUserInGroup();
         when(fixedExpenseCategoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
-        when(
-            fixedExpenseHistoryRepository.findByFixedExpenseCategoryIdAndYearAndMonth(categoryId, year, month)
-        ).thenReturn(Optional.of(existing));
-        when(fixedExpenseHistoryRepository.save(existing)).thenReturn(existing);
+        when(fixedExpenseHistoryRepository.upsert(any(FixedExpenseHistory.class))).thenReturn(updated);
 
         // When
         FixedExpenseHistory actual = expenseService.setFixedExpenseAmount(
@@ -425,9 +428,11 @@ class ExpenseServiceTest {
         then(actual.memo()).isEqualTo(expectedNewMemo);
         then(actual.year()).isEqualTo(year);
         then(actual.month()).isEqualTo(month);
+        then(actual.id()).isEqualTo(updated.id());
+        then(actual.amount()).isEqualTo(expectedNewAmount);
         verify(fixedExpenseCategoryRepository).findById(categoryId);
-        verify(fixedExpenseHistoryRepository).findByFixedExpenseCategoryIdAndYearAndMonth(categoryId, year, month);
-        verify(fixedExpenseHistoryRepository).save(existing);
+        verify(fixedExpenseHistoryRepository).upsert(any(FixedExpenseHistory.class));
+        verify(accountService).postFixedExpenseShares(USER_GROUP_ID, updated.id());
     }
 
     @Test
@@ -450,7 +455,7 @@ class ExpenseServiceTest {
             )
         ).isInstanceOf(ResourceNotFoundException.class);
         verify(fixedExpenseCategoryRepository).findById(categoryId);
-        verify(fixedExpenseHistoryRepository, never()).save(any());
+        verify(fixedExpenseHistoryRepository, never()).upsert(any());
     }
 
     @Test
@@ -481,7 +486,7 @@ class ExpenseServiceTest {
             )
         ).isInstanceOf(ForbiddenException.class);
         verify(fixedExpenseCategoryRepository).findById(categoryId);
-        verify(fixedExpenseHistoryRepository, never()).save(any());
+        verify(fixedExpenseHistoryRepository, never()).upsert(any());
     }
 
     @Test
@@ -502,7 +507,7 @@ class ExpenseServiceTest {
                 Optional.empty()
             )
         ).isInstanceOf(GroupMembershipRequiredException.class);
-        verify(fixedExpenseHistoryRepository, never()).save(any());
+        verify(fixedExpenseHistoryRepository, never()).upsert(any());
     }
 
     // ===== getFixedExpenses =====
@@ -653,6 +658,79 @@ class ExpenseServiceTest {
         verify(livingExpenseCategoryRepository, never()).findByUserGroupId(any());
     }
 
+    // ===== getLivingExpenseCategoryBreakdown =====
+
+    @Test
+    void testGetLivingExpenseCategoryBreakdown() {
+        // Given
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        LivingExpenseCategory food = new LivingExpenseCategory(
+            new LivingExpenseCategoryId(UUID.randomUUID()),
+            USER_GROUP_ID,
+            new CategoryName("食費"),
+            new Description("食材費"),
+            false,
+            1
+        );
+        LivingExpenseCategory daily = new LivingExpenseCategory(
+            new LivingExpenseCategoryId(UUID.randomUUID()),
+            USER_GROUP_ID,
+            new CategoryName("日用品"),
+            new Description("日用品費"),
+            true,
+            1
+        );
+        mockCurrentUserInGroup();
+        when(livingExpenseCategoryRollupRepository.sumByCategory(USER_GROUP_ID, from, to)).thenReturn(
+            List.of(new LivingExpenseCategorySpent(food.id(), new Money(12_000), 4))
+        );
+        when(livingExpenseCategoryRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(List.of(food, daily));
+
+        // When
+        List<LivingExpenseCategoryBreakdown> actual = expenseService.getLivingExpenseCategoryBreakdown(
+            CURRENT_USER_ID,
+            from,
+            to
+        );
+
+        // Then
+        // 期間内に明細のない分類は 0 件として含める
+        then(actual).containsExactly(
+            new LivingExpenseCategoryBreakdown(food, new Money(12_000), 4),
+            new LivingExpenseCategoryBreakdown(daily, new Money(0), 0)
+        );
+    }
+
+    @Test
+    void testGetLivingExpenseCategoryBreakdownWhenFromIsAfterTo() {
+        // When / Then
+        thenThrownBy(() ->
+            expenseService.getLivingExpenseCategoryBreakdown(
+                CURRENT_USER_ID,
+                LocalDate.of(2026, 3, 31),
+                LocalDate.of(2026, 1, 1)
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(livingExpenseCategoryRollupRepository);
+    }
+
+    @Test
+    void testGetLivingExpenseCategoryBreakdownWhenNotInGroup() {
+        // Given
+        mockCurrentUserNotInGroup();
+
+        // When / Then
+        thenThrownBy(() ->
+            expenseService.getLivingExpenseCategoryBreakdown(
+                CURRENT_USER_ID,
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 3, 31)
+            )
+        ).isInstanceOf(GroupMembershipRequiredException.class);
+        verifyNoInteractions(livingExpenseCategoryRollupRepository);
+    }
+
     // ===== getFixedExpenseCategories =====
 
     @Test
@@ -4,16 +4,19 @@ import static org.assertj.core.api.BDDAssertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
 import com.takata_kento.household_expenses.domain.account.FinancialAccount;
 import com.takata_kento.household_expenses.domain.account.FinancialAccountRepository;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
 import com.takata_kento.household_expenses.domain.saving.MonthlySaving;
 import com.takata_kento.household_expenses.domain.saving.MonthlySavingRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
@@ -23,6 +26,7 @@ import com.takata_kento.household_expenses.domain.valueobject.MonthlySavingId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,7 +46,10 @@ class SavingServiceTest {
     private FinancialAccountRepository financialAccountRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserMembershipCache userMembershipCache;
+
+    @Mock
+    private AccountService accountService;
 
     @InjectMocks
     private SavingService savingService;
@@ -52,8 +59,8 @@ class SavingServiceTest {
     private static final FinancialAccountId ACCOUNT_ID = new FinancialAccountId("1000010");
     private static final FinancialAccountId OTHER_ACCOUNT_ID = new FinancialAccountId("1000011");
 
-    private User currentUser() {
-        return new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
+    private UserMembership currentUser() {
+        return new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
     }
 
     private FinancialAccount ownedAccount() {
@@ -62,9 +69,8 @@ class SavingServiceTest {
             CURRENT_USER_ID,
             new BankName("三菱UFJ銀行"),
             Optional.of(new AccountName("メイン口座")),
-            new Money(0),
+            new Balance(0),
             false,
-            null,
             null
         );
     }
@@ -75,9 +81,8 @@ class SavingServiceTest {
             OTHER_USER_ID,
             new BankName("三菱UFJ銀行"),
             Optional.of(new AccountName("他人の口座")),
-            new Money(0),
+            new Balance(0),
             false,
-            null,
             null
         );
     }
@@ -102,12 +107,11 @@ class SavingServiceTest {
         Month month = new Month(5);
         Money amount = new Money(30_000);
         Optional<Description> memo = Optional.of(new Description("5月の貯金"));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
-        when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
-            Optional.empty()
-        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(financialAccountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(ownedAccount()));
-        when(monthlySavingRepository.save(any(MonthlySaving.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(monthlySavingRepository.insertIfAbsent(any(MonthlySaving.class))).thenAnswer(inv ->
+            Optional.of(inv.getArgument(0))
+        );
 
         // When
         MonthlySaving actual = savingService.recordMonthlySaving(
@@ -127,7 +131,16 @@ class SavingServiceTest {
         then(actual.financialAccountId()).isEqualTo(ACCOUNT_ID);
         then(actual.memo()).isEqualTo(memo);
         verify(financialAccountRepository).findById(ACCOUNT_ID);
-        verify(monthlySavingRepository).save(any(MonthlySaving.class));
+        verify(monthlySavingRepository).insertIfAbsent(any(MonthlySaving.class));
+        verify(accountService).postTransferFromMainAccount(
+            CURRENT_USER_ID,
+            LedgerSourceType.MONTHLY_SAVING,
+            LedgerSourceType.MONTHLY_SAVING_DEPOSIT,
+            actual.id().toString(),
+            ACCOUNT_ID,
+            30_000,
+            LocalDate.of(2026, 5, 1)
+        );
     }
 
     @Test
@@ -137,12 +150,11 @@ class SavingServiceTest {
         Month month = new Month(5);
         Money amount = new Money(30_000);
         Optional<Description> memo = Optional.empty();
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
-        when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
-            Optional.empty()
-        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(financialAccountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(ownedAccount()));
-        when(monthlySavingRepository.save(any(MonthlySaving.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(monthlySavingRepository.insertIfAbsent(any(MonthlySaving.class))).thenAnswer(inv ->
+            Optional.of(inv.getArgument(0))
+        );
 
         // When
         MonthlySaving actual = savingService.recordMonthlySaving(
@@ -161,10 +173,9 @@ class SavingServiceTest {
         then(actual.savingAmount()).isEqualTo(amount);
         then(actual.financialAccountId()).isEqualTo(ACCOUNT_ID);
         then(actual.memo()).isEqualTo(Optional.empty());
-        verify(userRepository).findById(CURRENT_USER_ID);
-        verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(financialAccountRepository).findById(ACCOUNT_ID);
-        verify(monthlySavingRepository).save(any(MonthlySaving.class));
+        verify(monthlySavingRepository).insertIfAbsent(any(MonthlySaving.class));
     }
 
     @Test
@@ -174,18 +185,16 @@ class SavingServiceTest {
         Month month = new Month(5);
         Money amount = new Money(30_000);
         Optional<Description> memo = Optional.of(new Description("memo"));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
-        when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
-            Optional.of(existingSaving(year, month))
-        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
+        when(financialAccountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(ownedAccount()));
+        when(monthlySavingRepository.insertIfAbsent(any(MonthlySaving.class))).thenReturn(Optional.empty());
 
         // When / Then
         thenThrownBy(() ->
             savingService.recordMonthlySaving(CURRENT_USER_ID, year, month, amount, ACCOUNT_ID, memo)
         ).isInstanceOf(ConflictException.class);
-        verify(userRepository).findById(CURRENT_USER_ID);
-        verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
-        verify(monthlySavingRepository, never()).save(any());
+        verify(userMembershipCache).get(CURRENT_USER_ID);
+        verify(monthlySavingRepository).insertIfAbsent(any(MonthlySaving.class));
     }
 
     @Test
@@ -195,20 +204,16 @@ class SavingServiceTest {
         Month month = new Month(5);
         Money amount = new Money(30_000);
         Optional<Description> memo = Optional.of(new Description("memo"));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
-        when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
-            Optional.empty()
-        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(financialAccountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
 
         // When / Then
         thenThrownBy(() ->
             savingService.recordMonthlySaving(CURRENT_USER_ID, year, month, amount, ACCOUNT_ID, memo)
         ).isInstanceOf(ResourceNotFoundException.class);
-        verify(userRepository).findById(CURRENT_USER_ID);
-        verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(financialAccountRepository).findById(ACCOUNT_ID);
-        verify(monthlySavingRepository, never()).save(any());
+        verify(monthlySavingRepository, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -218,20 +223,16 @@ class SavingServiceTest {
         Month month = new Month(5);
         Money amount = new Money(30_000);
         Optional<Description> memo = Optional.of(new Description("memo"));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
-        when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
-            Optional.empty()
-        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(financialAccountRepository.findById(OTHER_ACCOUNT_ID)).thenReturn(Optional.of(otherUserAccount()));
 
         // When / Then
         thenThrownBy(() ->
             savingService.recordMonthlySaving(CURRENT_USER_ID, year, month, amount, OTHER_ACCOUNT_ID, memo)
         ).isInstanceOf(ForbiddenException.class);
-        verify(userRepository).findById(CURRENT_USER_ID);
-        verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(financialAccountRepository).findById(OTHER_ACCOUNT_ID);
-        verify(monthlySavingRepository, never()).save(any());
+        verify(monthlySavingRepository, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -240,7 +241,7 @@ class SavingServiceTest {
         Year year = new Year(2026);
         Month month = new Month(5);
         MonthlySaving expected = existingSaving(year, month);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.of(expected)
         );
@@ -250,7 +251,7 @@ class SavingServiceTest {
 
         // Then
         then(actual).isSameAs(expected);
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
     }
 
@@ -259,7 +260,7 @@ class SavingServiceTest {
         // Given
         Year year = new Year(2026);
         Month month = new Month(5);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.empty()
         );
@@ -268,7 +269,7 @@ class SavingServiceTest {
         thenThrownBy(() -> savingService.getMonthlySaving(CURRENT_USER_ID, year, month)).isInstanceOf(
             ResourceNotFoundException.class
         );
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
     }
 
@@ -286,12 +287,11 @@ class SavingServiceTest {
             CURRENT_USER_ID,
             new BankName("三菱UFJ銀行"),
             Optional.of(new AccountName("貯金口座")),
-            new Money(0),
+            new Balance(0),
             false,
-            null,
             null
         );
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.of(saving)
         );
@@ -312,7 +312,7 @@ class SavingServiceTest {
         then(actual.savingAmount()).isEqualTo(newAmount);
         then(actual.financialAccountId()).isEqualTo(newAccountId);
         then(actual.memo()).isEqualTo(newMemo);
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
         verify(financialAccountRepository).findById(newAccountId);
         verify(monthlySavingRepository).save(saving);
@@ -326,7 +326,7 @@ class SavingServiceTest {
         Money newAmount = new Money(80_000);
         Optional<Description> newMemo = Optional.empty();
         MonthlySaving saving = existingSaving(year, month);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.of(saving)
         );
@@ -345,7 +345,7 @@ class SavingServiceTest {
 
         // Then
         then(actual.memo()).isEqualTo(Optional.empty());
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
         verify(financialAccountRepository).findById(ACCOUNT_ID);
         verify(monthlySavingRepository).save(saving);
@@ -356,7 +356,7 @@ class SavingServiceTest {
         // Given
         Year year = new Year(2026);
         Month month = new Month(5);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.empty()
         );
@@ -372,7 +372,7 @@ class SavingServiceTest {
                 Optional.of(new Description("memo"))
             )
         ).isInstanceOf(ResourceNotFoundException.class);
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository, never()).save(any());
     }
 
@@ -382,7 +382,7 @@ class SavingServiceTest {
         Year year = new Year(2026);
         Month month = new Month(5);
         MonthlySaving saving = existingSaving(year, month);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.of(saving)
         );
@@ -399,7 +399,7 @@ class SavingServiceTest {
                 Optional.of(new Description("memo"))
             )
         ).isInstanceOf(ForbiddenException.class);
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
         verify(monthlySavingRepository, never()).save(any());
     }
@@ -410,7 +410,7 @@ class SavingServiceTest {
         Year year = new Year(2026);
         Month month = new Month(5);
         MonthlySaving saving = existingSaving(year, month);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.of(saving)
         );
@@ -419,9 +419,11 @@ class SavingServiceTest {
         savingService.deleteMonthlySaving(CURRENT_USER_ID, year, month);
 
         // Then
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
         verify(monthlySavingRepository).delete(saving);
+        verify(accountService).cancelLedgerEntry(LedgerSourceType.MONTHLY_SAVING, saving.id().toString());
+        verify(accountService).cancelLedgerEntry(LedgerSourceType.MONTHLY_SAVING_DEPOSIT, saving.id().toString());
     }
 
     @Test
@@ -429,7 +431,7 @@ class SavingServiceTest {
         // Given
         Year year = new Year(2026);
         Month month = new Month(5);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month)).thenReturn(
             Optional.empty()
         );
@@ -438,7 +440,7 @@ class SavingServiceTest {
         thenThrownBy(() -> savingService.deleteMonthlySaving(CURRENT_USER_ID, year, month)).isInstanceOf(
             ResourceNotFoundException.class
         );
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYearAndMonth(CURRENT_USER_ID, year, month);
         verify(monthlySavingRepository, never()).delete(any());
     }
@@ -448,7 +450,7 @@ class SavingServiceTest {
         // Given
         Year year = new Year(2026);
         List<MonthlySaving> expected = List.of(existingSaving(year, new Month(1)), existingSaving(year, new Month(2)));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYear(CURRENT_USER_ID, year)).thenReturn(expected);
 
         // When
@@ -457,7 +459,7 @@ class SavingServiceTest {
         // Then
         then(actual).hasSize(2);
         then(actual).containsExactlyInAnyOrderElementsOf(expected);
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYear(CURRENT_USER_ID, year);
     }
 
@@ -465,7 +467,7 @@ class SavingServiceTest {
     void testGetSavingsByYearWhenEmpty() {
         // Given
         Year year = new Year(2026);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser());
         when(monthlySavingRepository.findByUserIdAndYear(CURRENT_USER_ID, year)).thenReturn(List.of());
 
         // When
@@ -473,7 +475,7 @@ class SavingServiceTest {
 
         // Then
         then(actual).isEmpty();
-        verify(userRepository).findById(CURRENT_USER_ID);
+        verify(userMembershipCache).get(CURRENT_USER_ID);
         verify(monthlySavingRepository).findByUserIdAndYear(CURRENT_USER_ID, year);
     }
 }
@@ -0,0 +1,224 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.application.budget.BudgetService;
+import com.takata_kento.household_expenses.domain.account.LedgerPosting;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
+import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategory;
+import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategoryRepository;
+import com.takata_kento.household_expenses.domain.transaction.TransactionImportRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.GroupTransactionLockRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategoryRollupRepository;
+import com.takata_kento.household_expenses.domain.valueobject.CategoryName;
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportChunkWriterTest {
+
+    private static final UserId CURRENT_USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-000000000100")
+    );
+    private static final LivingExpenseCategoryId CATEGORY_ID = new LivingExpenseCategoryId(
+        UUID.fromString("00000000-0000-0000-0000-000000000200")
+    );
+    private static final DailyGroupTransactionId GROUP_TRANSACTION_ID = new DailyGroupTransactionId(
+        UUID.fromString("00000000-0000-0000-0000-000000000300")
+    );
+    private static final LocalDate DATE = LocalDate.of(2026, 5, 10);
+
+    @Mock
+    private TransactionImportRepository transactionImportRepository;
+
+    @Mock
+    private GroupTransactionLockRepository groupTransactionLockRepository;
+
+    @Mock
+    private LivingExpenseCategoryRepository livingExpenseCategoryRepository;
+
+    @Mock
+    private LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository;
+
+    @Mock
+    private BudgetService budgetService;
+
+    @Mock
+    private AccountService accountService;
+
+    @InjectMocks
+    private TransactionImportChunkWriter transactionImportChunkWriter;
+
+    private void givenCategories() {
+        when(livingExpenseCategoryRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(
+            List.of(
+                new LivingExpenseCategory(
+                    CATEGORY_ID,
+                    USER_GROUP_ID,
+                    new CategoryName("食費"),
+                    new Description("食材費"),
+                    true,
+                    0
+                )
+            )
+        );
+    }
+
+    private TransactionImportDay day(int rowNumber, LocalDate date, LivingExpenseCategoryId categoryId) {
+        return new TransactionImportDay(
+            rowNumber,
+            date,
+            new Money(10_000),
+            List.of(new LivingExpenseInput(categoryId, new Money(3_000), new Description("スーパー"))),
+            List.of(new PersonalExpenseInput(new Money(1_000), new Description("書籍")))
+        );
+    }
+
+    @Test
+    void testWriteInsertsRowsAndUpdatesDerivedData() {
+        // Given
+        givenCategories();
+        when(transactionImportRepository.findRecordedDates(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), anyCollection()))
+            .thenReturn(Set.of());
+        when(transactionImportRepository.insertGroupTransactions(USER_GROUP_ID, Set.of(DATE))).thenReturn(
+            Map.of(DATE, GROUP_TRANSACTION_ID)
+        );
+
+        // When
+        List<TransactionImportError> actual = transactionImportChunkWriter.write(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.of(day(1, DATE, CATEGORY_ID))
+        );
+
+        // Then
+        then(actual).isEmpty();
+        verify(transactionImportRepository).insertLivingExpenses(
+            eq(Map.of(DATE, GROUP_TRANSACTION_ID)),
+            argThat(livingExpenses -> livingExpenses.get(DATE).size() == 1)
+        );
+        verify(transactionImportRepository).insertPersonalTransactions(
+            argThat(transactions ->
+                transactions.size() == 1 && transactions.getFirst().calculateTotalPersonalExpense().amount() == 1_000
+            )
+        );
+        verify(budgetService).recordLivingExpenseChange(USER_GROUP_ID, DATE, new Money(0), new Money(3_000));
+        verify(livingExpenseCategoryRollupRepository).applyAdded(
+            eq(USER_GROUP_ID),
+            argThat(livingExpensesByDate -> livingExpensesByDate.get(DATE).size() == 1)
+        );
+        InOrder inOrder = inOrder(accountService);
+        inOrder.verify(accountService).postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+        inOrder
+            .verify(accountService)
+            .postNewToMainAccount(
+                eq(CURRENT_USER_ID),
+                argThat((List<LedgerPosting> postings) ->
+                    postings.size() == 1 &&
+                    postings.getFirst().sourceType() == LedgerSourceType.DAILY_PERSONAL_TRANSACTION &&
+                    postings.getFirst().amount() == 9_000
+                )
+            );
+    }
+
+    @Test
+    void testWriteRejectsRecordedDuplicateAndUnknownCategoryDays() {
+        // Given
+        givenCategories();
+        LocalDate recordedDate = DATE.plusDays(1);
+        LivingExpenseCategoryId unknownCategoryId = new LivingExpenseCategoryId(
+            UUID.fromString("00000000-0000-0000-0000-000000000999")
+        );
+        when(transactionImportRepository.findRecordedDates(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), anyCollection()))
+            .thenReturn(Set.of(recordedDate));
+
+        // When
+        List<TransactionImportError> actual = transactionImportChunkWriter.write(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.of(
+                day(1, recordedDate, CATEGORY_ID),
+                day(2, DATE.plusDays(2), unknownCategoryId),
+                day(3, DATE, CATEGORY_ID),
+                day(4, DATE, CATEGORY_ID)
+            )
+        );
+
+        // Then
+        then(actual).extracting(TransactionImportError::rowNumber).containsExactly(1, 2, 4);
+        verify(transactionImportRepository).insertGroupTransactions(USER_GROUP_ID, Set.of(DATE));
+        verify(transactionImportRepository).insertPersonalTransactions(argThat(transactions -> transactions.size() == 1));
+    }
+
+    @Test
+    void testWriteLocksEveryDateInAscendingOrderBeforeReadingAndInserting() {
+        // Given
+        givenCategories();
+        LocalDate laterDate = DATE.plusDays(1);
+        when(transactionImportRepository.findRecordedDates(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), anyCollection()))
+            .thenReturn(Set.of());
+        when(transactionImportRepository.insertGroupTransactions(USER_GROUP_ID, Set.of(laterDate, DATE))).thenReturn(
+            Map.of(DATE, GROUP_TRANSACTION_ID, laterDate, new DailyGroupTransactionId(UUID.randomUUID()))
+        );
+
+        // When
+        transactionImportChunkWriter.write(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.of(day(1, laterDate, CATEGORY_ID), day(2, DATE, CATEGORY_ID))
+        );
+
+        // Then
+        InOrder inOrder = inOrder(groupTransactionLockRepository, transactionImportRepository);
+        inOrder.verify(groupTransactionLockRepository).lock(USER_GROUP_ID, DATE);
+        inOrder.verify(groupTransactionLockRepository).lock(USER_GROUP_ID, laterDate);
+        inOrder
+            .verify(transactionImportRepository)
+            .findRecordedDates(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), anyCollection());
+        inOrder.verify(transactionImportRepository).insertGroupTransactions(USER_GROUP_ID, Set.of(laterDate, DATE));
+    }
+
+    @Test
+    void testWriteWhenAllDaysRejected() {
+        // Given
+        givenCategories();
+        when(transactionImportRepository.findRecordedDates(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), anyCollection()))
+            .thenReturn(Set.of(DATE));
+
+        // When
+        List<TransactionImportError> actual = transactionImportChunkWriter.write(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.of(day(1, DATE, CATEGORY_ID))
+        );
+
+        // Then
+        then(actual).containsExactly(
+            new TransactionImportError(1, "DailyPersonalTransaction already exists for " + DATE)
+        );
+        verify(transactionImportRepository, never()).insertPersonalTransactions(any());
+        verifyNoInteractions(budgetService, accountService, livingExpenseCategoryRollupRepository);
+    }
+}
@@ -0,0 +1,149 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import com.takata_kento.household_expenses.domain.valueobject.Username;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final UserId CURRENT_USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-000000000100")
+    );
+
+    @Mock
+    private UserMembershipCache userMembershipCache;
+
+    @Mock
+    private TransactionImportChunkWriter transactionImportChunkWriter;
+
+    private TransactionImportService transactionImportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionImportService = new TransactionImportService(
+            userMembershipCache,
+            transactionImportChunkWriter,
+            CHUNK_SIZE
+        );
+    }
+
+    private TransactionImportDay day(int rowNumber) {
+        return new TransactionImportDay(
+            rowNumber,
+            LocalDate.of(2026, 1, rowNumber),
+            new Money(1_000),
+            List.of(),
+            List.of()
+        );
+    }
+
+    @Test
+    void testResolveImportGroup() {
+        // Given
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(
+            new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0)
+        );
+
+        // When
+        UserGroupId actual = transactionImportService.resolveImportGroup(CURRENT_USER_ID);
+
+        // Then
+        then(actual).isEqualTo(USER_GROUP_ID);
+    }
+
+    @Test
+    void testResolveImportGroupWhenUserHasNoGroup() {
+        // Given
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(
+            new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0)
+        );
+
+        // When / Then
+        thenThrownBy(() -> transactionImportService.resolveImportGroup(CURRENT_USER_ID)).isInstanceOf(
+            GroupMembershipRequiredException.class
+        );
+    }
+
+    @Test
+    void testImportTransactionsWritesInChunks() {
+        // Given
+        when(transactionImportChunkWriter.write(CURRENT_USER_ID, USER_GROUP_ID, List.of(day(1), day(2)))).thenReturn(
+            List.of(new TransactionImportError(2, "DailyPersonalTransaction already exists for 2026-01-02"))
+        );
+        when(transactionImportChunkWriter.write(CURRENT_USER_ID, USER_GROUP_ID, List.of(day(3)))).thenReturn(
+            List.of()
+        );
+
+        // When
+        TransactionImportResult actual = transactionImportService.importTransactions(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.of(day(1), day(2), day(3)).iterator()
+        );
+
+        // Then
+        then(actual).isEqualTo(
+            new TransactionImportResult(
+                2,
+                List.of(new TransactionImportError(2, "DailyPersonalTransaction already exists for 2026-01-02"))
+            )
+        );
+        verify(transactionImportChunkWriter, times(2)).write(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), anyList());
+    }
+
+    @Test
+    void testImportTransactionsContinuesAfterFailedChunk() {
+        // Given
+        when(transactionImportChunkWriter.write(CURRENT_USER_ID, USER_GROUP_ID, List.of(day(1), day(2)))).thenThrow(
+            new DataIntegrityViolationException("violation")
+        );
+        when(transactionImportChunkWriter.write(CURRENT_USER_ID, USER_GROUP_ID, List.of(day(3)))).thenReturn(
+            List.of()
+        );
+
+        // When
+        TransactionImportResult actual = transactionImportService.importTransactions(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.of(day(1), day(2), day(3)).iterator()
+        );
+
+        // Then
+        then(actual.importedCount()).isEqualTo(1);
+        then(actual.errors()).extracting(TransactionImportError::rowNumber).containsExactly(1, 2);
+    }
+
+    @Test
+    void testImportTransactionsWithEmptyInput() {
+        // When
+        TransactionImportResult actual = transactionImportService.importTransactions(
+            CURRENT_USER_ID,
+            USER_GROUP_ID,
+            List.<TransactionImportDay>of().iterator()
+        );
+
+        // Then
+        then(actual).isEqualTo(new TransactionImportResult(0, List.of()));
+        verifyNoInteractions(transactionImportChunkWriter);
+    }
+}
@@ -0,0 +1,56 @@
+package com.takata_kento.household_expenses.application.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.domain.transaction.TransactionPartitionRepository;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionCreatorTest {
+
+    @Mock
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TransactionPartitionCreator transactionPartitionCreator;
+
+    @Test
+    void testCreatePartitionsForCurrentAndNextYear() {
+        // Given
+        when(transactionPartitionRepository.createPartitions(new Year(2026))).thenReturn(0);
+        when(transactionPartitionRepository.createPartitions(new Year(2027))).thenReturn(4);
+
+        // When
+        int actual = transactionPartitionCreator.createPartitions(LocalDate.of(2026, 12, 31));
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(meterRegistry.counter(TransactionPartitionCreator.CREATED_METRIC).count()).isEqualTo(4.0);
+        verify(transactionPartitionRepository, never()).createPartitions(new Year(2028));
+    }
+
+    @Test
+    void testCreateNothingWhenPartitionsAlreadyExist() {
+        // Given
+        when(transactionPartitionRepository.createPartitions(any())).thenReturn(0);
+
+        // When
+        int actual = transactionPartitionCreator.createPartitions(LocalDate.of(2026, 6, 10));
+
+        // Then
+        then(actual).isZero();
+        verify(transactionPartitionRepository, times(2)).createPartitions(any());
+    }
+}
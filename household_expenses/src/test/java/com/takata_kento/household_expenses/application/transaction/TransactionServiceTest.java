@@ -2,18 +2,28 @@ package com.takata_kento.household_expenses.application.transaction;
 
 import static org.assertj.core.api.BDDAssertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
 import com.takata_kento.household_expenses.application.budget.BudgetService;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.account.LedgerSourceType;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRepository;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRow;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRowType;
 import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransaction;
 import com.takata_kento.household_expenses.domain.transaction.group.DailyGroupTransactionRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.DailyLivingExpenseInfo;
+import com.takata_kento.household_expenses.domain.transaction.group.GroupTransactionLockRepository;
+import com.takata_kento.household_expenses.domain.transaction.group.LivingExpenseCategoryRollupRepository;
 import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransaction;
 import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransactionRepository;
-import com.takata_kento.household_expenses.domain.user.User;
-import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
 import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
 import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalTransactionId;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
@@ -22,16 +32,21 @@ import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,11 +59,29 @@ class TransactionServiceTest {
     private DailyPersonalTransactionRepository dailyPersonalTransactionRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserGroupMemberCountRepository userGroupMemberCountRepository;
+
+    @Mock
+    private UserMembershipCache userMembershipCache;
 
     @Mock
     private BudgetService budgetService;
 
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private GroupTransactionLockRepository groupTransactionLockRepository;
+
+    @Mock
+    private LivingExpenseCategoryRollupRepository livingExpenseCategoryRollupRepository;
+
+    @Mock
+    private TransactionExportRepository transactionExportRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -62,12 +95,12 @@ class TransactionServiceTest {
     );
     private static final LocalDate DATE = LocalDate.of(2026, 5, 10);
 
-    private User currentUser() {
-        return new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+    private UserMembership currentMembership() {
+        return new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
     }
 
-    private User userWithoutGroup() {
-        return new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
+    private UserMembership membershipWithoutGroup() {
+        return new UserMembership(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), 0);
     }
 
     private DailyGroupTransaction emptyGroupTransaction() {
@@ -154,20 +187,24 @@ class TransactionServiceTest {
         List<PersonalExpenseInput> personal = List.of(
             new PersonalExpenseInput(new Money(500), new Description("coffee"))
         );
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.existsByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             false
         );
-        when(dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDate(USER_GROUP_ID, DATE)).thenReturn(
-            Optional.empty()
-        );
-        when(dailyGroupTransactionRepository.save(any(DailyGroupTransaction.class))).thenAnswer(inv ->
-            inv.getArgument(0)
-        );
+        when(
+            dailyGroupTransactionRepository.upsertByUserGroupIdAndTransactionDate(
+                any(DailyGroupTransactionId.class),
+                eq(USER_GROUP_ID),
+                eq(DATE)
+            )
+        ).thenReturn(emptyGroupTransaction());
+        when(
+            dailyGroupTransactionRepository.saveLivingExpensesOf(any(DailyGroupTransaction.class), eq(CURRENT_USER_ID))
+        ).thenAnswer(inv -> inv.getArgument(0));
         when(dailyPersonalTransactionRepository.save(any(DailyPersonalTransaction.class))).thenAnswer(inv ->
             inv.getArgument(0)
         );
-        when(userRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(List.of(currentUser()));
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(1));
         when(budgetService.calculateBudgetBalance(CURRENT_USER_ID, DATE)).thenReturn(new Money(49_000));
 
         // When
@@ -188,8 +225,30 @@ class TransactionServiceTest {
         then(actual.totalPersonalExpense()).isEqualTo(new Money(500));
         then(actual.totalExpense()).isEqualTo(new Money(1500)); // ceil(1000/1)+500
         then(actual.budgetBalance()).isEqualTo(new Money(49_000));
-        verify(dailyGroupTransactionRepository).save(any(DailyGroupTransaction.class));
+        verify(dailyGroupTransactionRepository).saveLivingExpensesOf(
+            any(DailyGroupTransaction.class),
+            eq(CURRENT_USER_ID)
+        );
+        verify(livingExpenseCategoryRollupRepository).applyChange(
+            eq(USER_GROUP_ID),
+            eq(DATE),
+            eq(List.of()),
+            argThat((List<DailyLivingExpenseInfo> current) ->
+                current.size() == 1 &&
+                current.get(0).livingExpenseCategoryId().equals(CATEGORY_ID) &&
+                current.get(0).amount().equals(new Money(1000))
+            )
+        );
         verify(dailyPersonalTransactionRepository).save(any(DailyPersonalTransaction.class));
+        InOrder inOrder = inOrder(accountService);
+        inOrder.verify(accountService).postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+        inOrder.verify(accountService).postToMainAccount(
+            eq(CURRENT_USER_ID),
+            eq(LedgerSourceType.DAILY_PERSONAL_TRANSACTION),
+            anyString(),
+            eq(9500),
+            eq(DATE)
+        );
     }
 
     @Test
@@ -201,20 +260,24 @@ class TransactionServiceTest {
         List<LivingExpenseInput> living = List.of(
             new LivingExpenseInput(CATEGORY_ID, new Money(1000), new Description("food"))
         );
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.existsByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             false
         );
-        when(dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDate(USER_GROUP_ID, DATE)).thenReturn(
-            Optional.of(existing)
-        );
-        when(dailyGroupTransactionRepository.save(any(DailyGroupTransaction.class))).thenAnswer(inv ->
-            inv.getArgument(0)
-        );
+        when(
+            dailyGroupTransactionRepository.upsertByUserGroupIdAndTransactionDate(
+                any(DailyGroupTransactionId.class),
+                eq(USER_GROUP_ID),
+                eq(DATE)
+            )
+        ).thenReturn(existing);
+        when(
+            dailyGroupTransactionRepository.saveLivingExpensesOf(any(DailyGroupTransaction.class), eq(CURRENT_USER_ID))
+        ).thenAnswer(inv -> inv.getArgument(0));
         when(dailyPersonalTransactionRepository.save(any(DailyPersonalTransaction.class))).thenAnswer(inv ->
             inv.getArgument(0)
         );
-        when(userRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(List.of(currentUser(), currentUser()));
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(2));
         when(budgetService.calculateBudgetBalance(CURRENT_USER_ID, DATE)).thenReturn(new Money(1000));
 
         // When
@@ -230,13 +293,14 @@ class TransactionServiceTest {
         then(actual.livingExpenses()).hasSize(2);
         then(actual.totalLivingExpense()).isEqualTo(new Money(3000));
         then(actual.totalExpense()).isEqualTo(new Money(1500)); // ceil(3000/2)+0
-        verify(dailyGroupTransactionRepository).save(existing);
+        verify(dailyGroupTransactionRepository).saveLivingExpensesOf(existing, CURRENT_USER_ID);
+        verify(budgetService).recordLivingExpenseChange(USER_GROUP_ID, DATE, new Money(2000), new Money(3000));
     }
 
     @Test
     void testRecordDailyTransactionWhenPersonalAlreadyExists() {
         // Given
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.existsByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             true
         );
@@ -246,20 +310,62 @@ class TransactionServiceTest {
             transactionService.recordDailyTransaction(CURRENT_USER_ID, DATE, new Money(0), List.of(), List.of())
         ).isInstanceOf(ConflictException.class);
         verify(dailyPersonalTransactionRepository, never()).save(any());
-        verify(dailyGroupTransactionRepository, never()).save(any());
+        verify(dailyGroupTransactionRepository, never()).saveLivingExpensesOf(any(), any());
     }
 
     @Test
     void testRecordDailyTransactionWhenUserHasNoGroup() {
         // Given
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(userWithoutGroup()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(membershipWithoutGroup());
 
         // When / Then
         thenThrownBy(() ->
             transactionService.recordDailyTransaction(CURRENT_USER_ID, DATE, new Money(0), List.of(), List.of())
         ).isInstanceOf(GroupMembershipRequiredException.class);
         verify(dailyPersonalTransactionRepository, never()).save(any());
-        verify(dailyGroupTransactionRepository, never()).save(any());
+        verify(dailyGroupTransactionRepository, never()).saveLivingExpensesOf(any(), any());
+    }
+
+    @Test
+    void testRecordDailyTransactionTakesGroupDayLockWithoutWaiting() {
+        // Given
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
+        when(groupTransactionLockRepository.tryLock(USER_GROUP_ID, DATE)).thenReturn(true);
+        when(dailyPersonalTransactionRepository.existsByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
+            true
+        );
+
+        // When
+        thenThrownBy(() ->
+            transactionService.recordDailyTransaction(CURRENT_USER_ID, DATE, new Money(0), List.of(), List.of())
+        ).isInstanceOf(ConflictException.class);
+
+        // Then
+        verify(groupTransactionLockRepository, never()).lock(any(), any());
+        then(meterRegistry.find(TransactionService.LOCK_CONTENDED_METRIC).counter()).isNull();
+    }
+
+    @Test
+    void testRecordDailyTransactionWaitsForGroupDayLockWhenContended() {
+        // Given
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
+        when(groupTransactionLockRepository.tryLock(USER_GROUP_ID, DATE)).thenReturn(false);
+        when(dailyPersonalTransactionRepository.existsByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
+            true
+        );
+
+        // When
+        thenThrownBy(() ->
+            transactionService.recordDailyTransaction(CURRENT_USER_ID, DATE, new Money(0), List.of(), List.of())
+        ).isInstanceOf(ConflictException.class);
+
+        // Then
+        InOrder inOrder = inOrder(groupTransactionLockRepository, dailyPersonalTransactionRepository);
+        inOrder.verify(groupTransactionLockRepository).lock(USER_GROUP_ID, DATE);
+        inOrder.verify(dailyPersonalTransactionRepository).existsByUserIdAndTransactionDate(CURRENT_USER_ID, DATE);
+        then(meterRegistry.get(TransactionService.LOCK_CONTENDED_METRIC).counter().count()).isEqualTo(1.0);
+        then(meterRegistry.get(TransactionService.LOCK_WAIT_METRIC).timer().count()).isEqualTo(1L);
+        then(meterRegistry.get(TransactionService.LOCK_CONTENDED_METRIC).counter().getId().getTags()).isEmpty();
     }
 
     // ---- getDailyTransaction ----
@@ -270,14 +376,14 @@ class TransactionServiceTest {
         DailyGroupTransaction group = emptyGroupTransaction();
         group.addLivingExpense(CURRENT_USER_ID, CATEGORY_ID, new Money(1000), new Description("food"));
         DailyPersonalTransaction personal = personalTransactionWith(new Money(10_000), new Money(500));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDate(USER_GROUP_ID, DATE)).thenReturn(
             Optional.of(group)
         );
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.of(personal)
         );
-        when(userRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(List.of(currentUser(), currentUser()));
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(2));
         when(budgetService.calculateBudgetBalance(CURRENT_USER_ID, DATE)).thenReturn(new Money(40_000));
 
         // When
@@ -291,17 +397,41 @@ class TransactionServiceTest {
         then(actual.budgetBalance()).isEqualTo(new Money(40_000));
     }
 
+    @Test
+    void testGetDailyTransactionWhenMemberCountNotBackfilled() {
+        // Given
+        // 所属人数の列を埋める前のグループは member_count が 0 のまま
+        DailyGroupTransaction group = emptyGroupTransaction();
+        group.addLivingExpense(CURRENT_USER_ID, CATEGORY_ID, new Money(1000), new Description("food"));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
+        when(dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDate(USER_GROUP_ID, DATE)).thenReturn(
+            Optional.of(group)
+        );
+        when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
+            Optional.empty()
+        );
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(0));
+        when(userGroupMemberCountRepository.countMembers(USER_GROUP_ID)).thenReturn(2);
+        when(budgetService.calculateBudgetBalance(CURRENT_USER_ID, DATE)).thenReturn(new Money(40_000));
+
+        // When
+        DailyTransactionInfo actual = transactionService.getDailyTransaction(CURRENT_USER_ID, DATE);
+
+        // Then
+        then(actual.totalExpense()).isEqualTo(new Money(500)); // ceil(1000/2)=500
+    }
+
     @Test
     void testGetDailyTransactionWhenNothingRecorded() {
         // Given
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDate(USER_GROUP_ID, DATE)).thenReturn(
             Optional.empty()
         );
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.empty()
         );
-        when(userRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(List.of(currentUser()));
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(1));
         when(budgetService.calculateBudgetBalance(CURRENT_USER_ID, DATE)).thenReturn(new Money(50_000));
 
         // When
@@ -315,6 +445,59 @@ class TransactionServiceTest {
         then(actual.budgetBalance()).isEqualTo(new Money(50_000));
     }
 
+    // ---- getDailyTransactions ----
+
+    @Test
+    void testGetDailyTransactions() {
+        // Given
+        LocalDate from = DATE;
+        LocalDate to = DATE.plusDays(2);
+        DailyGroupTransaction group = emptyGroupTransaction();
+        group.addLivingExpense(CURRENT_USER_ID, CATEGORY_ID, new Money(1000), new Description("food"));
+        DailyPersonalTransaction personal = personalTransactionWith(new Money(10_000), new Money(500));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(2));
+        when(dailyGroupTransactionRepository.findByUserGroupIdAndTransactionDateBetween(USER_GROUP_ID, from, to))
+            .thenReturn(List.of(group));
+        when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDateBetween(CURRENT_USER_ID, from, to))
+            .thenReturn(List.of(personal));
+        when(budgetService.calculateBudgetBalances(USER_GROUP_ID, from, to)).thenReturn(
+            Map.of(DATE, new Money(40_000), DATE.plusDays(1), new Money(40_000), DATE.plusDays(2), new Money(40_000))
+        );
+
+        // When
+        List<DailyTransactionInfo> actual = transactionService.getDailyTransactions(CURRENT_USER_ID, from, to);
+
+        // Then
+        then(actual).hasSize(3);
+        then(actual.get(0).transactionDate()).isEqualTo(DATE);
+        then(actual.get(0).income()).isEqualTo(new Money(10_000));
+        then(actual.get(0).totalExpense()).isEqualTo(new Money(1000)); // ceil(1000/2)=500, +500
+        then(actual.get(0).budgetBalance()).isEqualTo(new Money(40_000));
+        then(actual.get(1).transactionDate()).isEqualTo(DATE.plusDays(1));
+        then(actual.get(1).livingExpenses()).isEmpty();
+        then(actual.get(1).totalExpense()).isEqualTo(new Money(0));
+        then(actual.get(2).transactionDate()).isEqualTo(to);
+        verify(budgetService, never()).calculateBudgetBalance(any(), any());
+    }
+
+    @Test
+    void testGetDailyTransactionsWhenFromIsAfterTo() {
+        // When & Then
+        thenThrownBy(() -> transactionService.getDailyTransactions(CURRENT_USER_ID, DATE, DATE.minusDays(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("from must not be after to");
+        verifyNoInteractions(userMembershipCache);
+    }
+
+    @Test
+    void testGetDailyTransactionsWhenRangeTooLong() {
+        // When & Then
+        thenThrownBy(() -> transactionService.getDailyTransactions(CURRENT_USER_ID, DATE, DATE.plusDays(366)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userMembershipCache);
+    }
+
     // ---- updateDailyTransaction ----
 
     @Test
@@ -331,7 +514,7 @@ class TransactionServiceTest {
         List<PersonalExpenseInput> newPersonal = List.of(
             new PersonalExpenseInput(new Money(700), new Description("lunch"))
         );
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.of(personal)
         );
@@ -341,10 +524,10 @@ class TransactionServiceTest {
         when(dailyPersonalTransactionRepository.save(any(DailyPersonalTransaction.class))).thenAnswer(inv ->
             inv.getArgument(0)
         );
-        when(dailyGroupTransactionRepository.save(any(DailyGroupTransaction.class))).thenAnswer(inv ->
-            inv.getArgument(0)
-        );
-        when(userRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(List.of(currentUser(), currentUser()));
+        when(
+            dailyGroupTransactionRepository.saveLivingExpensesOf(any(DailyGroupTransaction.class), eq(CURRENT_USER_ID))
+        ).thenAnswer(inv -> inv.getArgument(0));
+        when(userGroupMemberCountRepository.findMemberCount(USER_GROUP_ID)).thenReturn(Optional.of(2));
         when(budgetService.calculateBudgetBalance(CURRENT_USER_ID, DATE)).thenReturn(new Money(1000));
 
         // When
@@ -363,13 +546,31 @@ class TransactionServiceTest {
         then(actual.livingExpenses()).hasSize(2);
         then(actual.personalExpenses()).hasSize(1);
         verify(dailyPersonalTransactionRepository).save(personal);
-        verify(dailyGroupTransactionRepository).save(group);
+        verify(dailyGroupTransactionRepository).saveLivingExpensesOf(group, CURRENT_USER_ID);
+        verify(budgetService).recordLivingExpenseChange(USER_GROUP_ID, DATE, new Money(6000), new Money(8000));
+        verify(livingExpenseCategoryRollupRepository).applyChange(
+            eq(USER_GROUP_ID),
+            eq(DATE),
+            argThat((List<DailyLivingExpenseInfo> previous) -> previous.size() == 2),
+            eq(group.livingExpenses())
+        );
+        InOrder inOrder = inOrder(accountService);
+        inOrder.verify(accountService).postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+        inOrder
+            .verify(accountService)
+            .postToMainAccount(
+                eq(CURRENT_USER_ID),
+                eq(LedgerSourceType.DAILY_PERSONAL_TRANSACTION),
+                anyString(),
+                eq(19_300),
+                eq(DATE)
+            );
     }
 
     @Test
     void testUpdateDailyTransactionWhenPersonalNotFound() {
         // Given
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.empty()
         );
@@ -390,7 +591,7 @@ class TransactionServiceTest {
         group.addLivingExpense(CURRENT_USER_ID, CATEGORY_ID, new Money(1000), new Description("mine"));
         group.addLivingExpense(OTHER_USER_ID, CATEGORY_ID, new Money(2000), new Description("other member"));
         DailyPersonalTransaction personal = personalTransactionWith(new Money(0));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.of(personal)
         );
@@ -403,8 +604,15 @@ class TransactionServiceTest {
 
         // Then
         verify(dailyPersonalTransactionRepository).delete(personal);
-        verify(dailyGroupTransactionRepository).save(group);
+        verify(dailyGroupTransactionRepository).saveLivingExpensesOf(group, CURRENT_USER_ID);
         verify(dailyGroupTransactionRepository, never()).delete(any());
+        verify(budgetService).recordLivingExpenseChange(USER_GROUP_ID, DATE, new Money(3000), new Money(2000));
+        InOrder inOrder = inOrder(accountService);
+        inOrder.verify(accountService).postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+        inOrder
+            .verify(accountService)
+            .cancelLedgerEntry(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, personal.id().toString());
+        verify(accountService, never()).cancelLivingExpenseShares(any(), any());
         then(group.livingExpenses()).hasSize(1);
     }
 
@@ -414,7 +622,7 @@ class TransactionServiceTest {
         DailyGroupTransaction group = emptyGroupTransaction();
         group.addLivingExpense(CURRENT_USER_ID, CATEGORY_ID, new Money(1000), new Description("mine"));
         DailyPersonalTransaction personal = personalTransactionWith(new Money(0));
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.of(personal)
         );
@@ -428,13 +636,22 @@ class TransactionServiceTest {
         // Then
         verify(dailyPersonalTransactionRepository).delete(personal);
         verify(dailyGroupTransactionRepository).delete(group);
-        verify(dailyGroupTransactionRepository, never()).save(any());
+        verify(dailyGroupTransactionRepository, never()).saveLivingExpensesOf(any(), any());
+        verify(budgetService).recordLivingExpenseChange(USER_GROUP_ID, DATE, new Money(1000), new Money(0));
+        verify(livingExpenseCategoryRollupRepository).applyChange(
+            eq(USER_GROUP_ID),
+            eq(DATE),
+            argThat((List<DailyLivingExpenseInfo> previous) -> previous.size() == 1),
+            eq(List.of())
+        );
+        verify(accountService).cancelLivingExpenseShares(USER_GROUP_ID, group.id());
+        verify(accountService, never()).postLivingExpenseShares(any(), any(), any());
     }
 
     @Test
     void testDeleteDailyTransactionWhenPersonalNotFound() {
         // Given
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser()));
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
         when(dailyPersonalTransactionRepository.findByUserIdAndTransactionDate(CURRENT_USER_ID, DATE)).thenReturn(
             Optional.empty()
         );
@@ -446,4 +663,56 @@ class TransactionServiceTest {
         verify(dailyPersonalTransactionRepository, never()).delete(any());
         verify(dailyGroupTransactionRepository, never()).delete(any());
     }
+
+    // ---- exportTransactions ----
+
+    @Test
+    void testResolveExportScope() {
+        // Given
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentMembership());
+
+        // When
+        TransactionExportScope actual = transactionService.resolveExportScope(CURRENT_USER_ID);
+
+        // Then
+        then(actual).isEqualTo(new TransactionExportScope(CURRENT_USER_ID, USER_GROUP_ID));
+    }
+
+    @Test
+    void testResolveExportScopeWhenUserHasNoGroup() {
+        // Given
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(membershipWithoutGroup());
+
+        // When / Then
+        thenThrownBy(() -> transactionService.resolveExportScope(CURRENT_USER_ID)).isInstanceOf(
+            GroupMembershipRequiredException.class
+        );
+    }
+
+    @Test
+    void testExportTransactionsStreamsRowsFromRepository() {
+        // Given
+        TransactionExportRow row = new TransactionExportRow(
+            TransactionExportRowType.INCOME,
+            DATE,
+            CURRENT_USER_ID,
+            Optional.empty(),
+            new Money(200_000),
+            Optional.empty()
+        );
+        doAnswer(invocation -> {
+            Consumer<TransactionExportRow> action = invocation.getArgument(2);
+            action.accept(row);
+            return null;
+        })
+            .when(transactionExportRepository)
+            .forEachRow(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), any());
+        List<TransactionExportRow> actual = new ArrayList<>();
+
+        // When
+        transactionService.exportTransactions(new TransactionExportScope(CURRENT_USER_ID, USER_GROUP_ID), actual::add);
+
+        // Then
+        then(actual).containsExactly(row);
+    }
 }
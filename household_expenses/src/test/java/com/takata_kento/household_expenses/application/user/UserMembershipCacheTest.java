@@ -0,0 +1,84 @@
+package com.takata_kento.household_expenses.application.user;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.domain.user.UserMembership;
+import com.takata_kento.household_expenses.domain.user.UserMembershipRepository;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import com.takata_kento.household_expenses.domain.valueobject.Username;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserMembershipCacheTest {
+
+    @Mock
+    private UserMembershipRepository userMembershipRepository;
+
+    private UserMembershipCache userMembershipCache;
+
+    private static final UserId USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-000000000010")
+    );
+
+    @BeforeEach
+    void setUp() {
+        userMembershipCache = new UserMembershipCache(userMembershipRepository, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testGetLoadsOnlyOnce() {
+        // Given
+        UserMembership membership = new UserMembership(USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 0);
+        when(userMembershipRepository.findById(USER_ID)).thenReturn(Optional.of(membership));
+
+        // When
+        UserMembership first = userMembershipCache.get(USER_ID);
+        UserMembership second = userMembershipCache.get(USER_ID);
+
+        // Then
+        then(first).isEqualTo(membership);
+        then(second).isEqualTo(membership);
+        verify(userMembershipRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    void testGetReloadsAfterEvict() {
+        // Given
+        UserMembership before = new UserMembership(USER_ID, new Username("testuser"), Optional.empty(), 0);
+        UserMembership after = new UserMembership(USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), 1);
+        when(userMembershipRepository.findById(USER_ID))
+            .thenReturn(Optional.of(before))
+            .thenReturn(Optional.of(after));
+        userMembershipCache.get(USER_ID);
+
+        // When
+        userMembershipCache.evict(USER_ID);
+        UserMembership actual = userMembershipCache.get(USER_ID);
+
+        // Then
+        then(actual).isEqualTo(after);
+        verify(userMembershipRepository, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    void testGetWhenUserNotFound() {
+        // Given
+        when(userMembershipRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        thenThrownBy(() -> userMembershipCache.get(USER_ID)).isInstanceOf(IllegalStateException.class);
+        thenThrownBy(() -> userMembershipCache.get(USER_ID)).isInstanceOf(IllegalStateException.class);
+        // 存在しないユーザーはキャッシュしない
+        verify(userMembershipRepository, times(2)).findById(USER_ID);
+    }
+}
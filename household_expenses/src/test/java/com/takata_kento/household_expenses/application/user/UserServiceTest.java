@@ -3,12 +3,18 @@ package com.takata_kento.household_expenses.application.user;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.domain.user.GroupInvitation;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationInfo;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationRepository;
 import com.takata_kento.household_expenses.domain.user.User;
 import com.takata_kento.household_expenses.domain.user.UserRepository;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
 import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
 import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -23,6 +29,18 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private GroupInvitationRepository groupInvitationRepository;
+
+    @Mock
+    private UserGroupMemberCountRepository userGroupMemberCountRepository;
+
+    @Mock
+    private UserMembershipCache userMembershipCache;
+
+    @Mock
+    private AccountService accountService;
+
     @InjectMocks
     private UserService userService;
 
@@ -33,39 +51,106 @@ class UserServiceTest {
     void testAcceptGroupInvitation() {
         // Given
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
-        User inviter = new User(INVITER_ID, new Username("inviter"), Optional.of(userGroupId), null, null);
-        User user = new User(USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        GroupInvitationId invitationId = inviter.invite(user);
+        User inviter = new User(INVITER_ID, new Username("inviter"), Optional.of(userGroupId), null);
+        User user = new User(USER_ID, new Username("testuser"), Optional.empty(), null);
+        GroupInvitation invitation = inviter.invite(user);
 
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(groupInvitationRepository.findById(invitation.id())).thenReturn(Optional.of(invitation));
         when(userRepository.save(user)).thenReturn(user);
 
         // When
-        userService.acceptGroupInvitation(USER_ID, invitationId);
+        userService.acceptGroupInvitation(USER_ID, invitation.id());
 
         // Then
         assertThat(user.isBelongsToGroup()).isTrue();
         assertThat(user.userGroupId()).isEqualTo(Optional.of(userGroupId));
+        assertThat(invitation.isPending()).isFalse();
+        verify(groupInvitationRepository).save(invitation);
         verify(userRepository).save(user);
+        verify(userGroupMemberCountRepository).increment(userGroupId);
+        verify(userGroupMemberCountRepository, never()).decrement(any());
+        verify(accountService).reallocateGroupShares(userGroupId, Optional.empty());
+        verify(userMembershipCache).evict(USER_ID);
     }
 
     @Test
-    void testRejectGroupInvitation() {
+    void testAcceptGroupInvitationWhileInAnotherGroup() {
         // Given
+        UserGroupId previousUserGroupId = new UserGroupId(UUID.randomUUID());
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
-        User inviter = new User(INVITER_ID, new Username("inviter"), Optional.of(userGroupId), null, null);
-        User user = new User(USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        GroupInvitationId invitationId = inviter.invite(user);
+        User inviter = new User(INVITER_ID, new Username("inviter"), Optional.of(userGroupId), null);
+        User user = new User(USER_ID, new Username("testuser"), Optional.of(previousUserGroupId), null);
+        GroupInvitation invitation = inviter.invite(user);
 
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(groupInvitationRepository.findById(invitation.id())).thenReturn(Optional.of(invitation));
         when(userRepository.save(user)).thenReturn(user);
 
         // When
-        userService.rejectGroupInvitation(USER_ID, invitationId);
+        userService.acceptGroupInvitation(USER_ID, invitation.id());
+
+        // Then
+        assertThat(user.userGroupId()).isEqualTo(Optional.of(userGroupId));
+        verify(userGroupMemberCountRepository).decrement(previousUserGroupId);
+        verify(userGroupMemberCountRepository).increment(userGroupId);
+        verify(accountService).reallocateGroupShares(previousUserGroupId, Optional.of(USER_ID));
+        verify(accountService).reallocateGroupShares(userGroupId, Optional.empty());
+    }
+
+    @Test
+    void testRejectGroupInvitation() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
+        User inviter = new User(INVITER_ID, new Username("inviter"), Optional.of(userGroupId), null);
+        User user = new User(USER_ID, new Username("testuser"), Optional.empty(), null);
+        GroupInvitation invitation = inviter.invite(user);
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(groupInvitationRepository.findById(invitation.id())).thenReturn(Optional.of(invitation));
+
+        // When
+        userService.rejectGroupInvitation(USER_ID, invitation.id());
 
         // Then
         assertThat(user.isBelongsToGroup()).isFalse();
         assertThat(user.userGroupId()).isEqualTo(Optional.empty());
-        verify(userRepository).save(user);
+        assertThat(invitation.isPending()).isFalse();
+        verify(groupInvitationRepository).save(invitation);
+        verify(userRepository, never()).save(any());
+        verify(userMembershipCache, never()).evict(any());
+        verifyNoInteractions(userGroupMemberCountRepository);
+    }
+
+    @Test
+    void testAcceptGroupInvitationWhenNotFound() {
+        // Given
+        User user = new User(USER_ID, new Username("testuser"), Optional.empty(), null);
+        GroupInvitationId invitationId = new GroupInvitationId(UUID.randomUUID());
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(groupInvitationRepository.findById(invitationId)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> userService.acceptGroupInvitation(USER_ID, invitationId)).isInstanceOf(
+            IllegalArgumentException.class
+        );
+        verify(userRepository, never()).save(any());
+        verify(groupInvitationRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetPendingInvitations() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
+        User inviter = new User(INVITER_ID, new Username("inviter"), Optional.of(userGroupId), null);
+        User user = new User(USER_ID, new Username("testuser"), Optional.empty(), null);
+        GroupInvitation invitation = inviter.invite(user);
+        when(groupInvitationRepository.findPendingByInvitedUserId(USER_ID)).thenReturn(List.of(invitation));
+
+        // When
+        List<GroupInvitationInfo> actual = userService.getPendingInvitations(USER_ID);
+
+        // Then
+        assertThat(actual).containsExactly(new GroupInvitationInfo(invitation.id(), userGroupId, INVITER_ID));
     }
 }
@@ -0,0 +1,200 @@
+package com.takata_kento.household_expenses.application.usergroup;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.application.exception.ConflictException;
+import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupBackupRepository;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupRepository;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class UserGroupBackupServiceTest {
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-000000000100")
+    );
+    private static final UserId MEMBER_USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+
+    @Mock
+    private UserGroupBackupRepository userGroupBackupRepository;
+
+    @Mock
+    private UserGroupRepository userGroupRepository;
+
+    @Mock
+    private UserGroupMemberCountRepository userGroupMemberCountRepository;
+
+    @Mock
+    private UserMembershipCache userMembershipCache;
+
+    @InjectMocks
+    private UserGroupBackupService userGroupBackupService;
+
+    private static byte[] archive(List<String> entryNames) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String entryName : entryNames) {
+                zip.putNextEntry(new ZipEntry(entryName));
+                zip.write("id\n".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] fullArchive() throws IOException {
+        return archive(UserGroupBackupRepository.TABLES.stream().map(table -> table + ".csv").toList());
+    }
+
+    @Test
+    void testEnsureUserGroupExistsWhenNotFound() {
+        // Given
+        when(userGroupRepository.existsById(USER_GROUP_ID)).thenReturn(false);
+
+        // When / Then
+        thenThrownBy(() -> userGroupBackupService.ensureUserGroupExists(USER_GROUP_ID)).isInstanceOf(
+            ResourceNotFoundException.class
+        );
+    }
+
+    @Test
+    void testBackupWritesOneEntryPerTable() throws IOException {
+        // Given
+        when(userGroupBackupRepository.copyOut(eq(USER_GROUP_ID), anyString(), any())).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("id\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        userGroupBackupService.backup(USER_GROUP_ID, outputStream);
+
+        // Then
+        List<String> entryNames = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                then(new String(zip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id\n");
+            }
+        }
+        then(entryNames).containsExactlyElementsOf(
+            UserGroupBackupRepository.TABLES.stream().map(table -> table + ".csv").toList()
+        );
+    }
+
+    @Test
+    void testRestore() throws IOException {
+        // Given
+        when(userGroupBackupRepository.findStagedUserGroupIds()).thenReturn(List.of(USER_GROUP_ID));
+        when(userGroupRepository.existsById(USER_GROUP_ID)).thenReturn(false);
+        when(userGroupBackupRepository.restoreFromStaging()).thenReturn(Map.of("user_group", 1));
+        when(userGroupBackupRepository.findStagedUserIds()).thenReturn(List.of(MEMBER_USER_ID));
+
+        // When
+        UserGroupRestoreResult actual = userGroupBackupService.restore(new ByteArrayInputStream(fullArchive()));
+
+        // Then
+        then(actual).isEqualTo(new UserGroupRestoreResult(USER_GROUP_ID, Map.of("user_group", 1)));
+        verify(userGroupBackupRepository).createStagingTables();
+        verify(userGroupBackupRepository, times(UserGroupBackupRepository.TABLES.size())).copyIn(
+            anyString(),
+            any(InputStream.class)
+        );
+        verify(userGroupMemberCountRepository).recalculate(USER_GROUP_ID);
+        verify(userMembershipCache).evict(MEMBER_USER_ID);
+    }
+
+    @Test
+    void testRestoreWhenUserGroupAlreadyExists() throws IOException {
+        // Given
+        when(userGroupBackupRepository.findStagedUserGroupIds()).thenReturn(List.of(USER_GROUP_ID));
+        when(userGroupRepository.existsById(USER_GROUP_ID)).thenReturn(true);
+        InputStream inputStream = new ByteArrayInputStream(fullArchive());
+
+        // When / Then
+        thenThrownBy(() -> userGroupBackupService.restore(inputStream)).isInstanceOf(ConflictException.class);
+        verify(userGroupBackupRepository, never()).restoreFromStaging();
+    }
+
+    @Test
+    void testRestoreWhenStagedKeysCollideWithExistingRows() throws IOException {
+        // Given
+        when(userGroupBackupRepository.findStagedUserGroupIds()).thenReturn(List.of(USER_GROUP_ID));
+        when(userGroupRepository.existsById(USER_GROUP_ID)).thenReturn(false);
+        when(userGroupBackupRepository.findConflictingTables()).thenReturn(List.of("users", "financial_account"));
+        InputStream inputStream = new ByteArrayInputStream(fullArchive());
+
+        // When / Then
+        thenThrownBy(() -> userGroupBackupService.restore(inputStream))
+            .isInstanceOf(ConflictException.class)
+            .hasMessage("Backup archive conflicts with existing rows in [users, financial_account]");
+        verify(userGroupBackupRepository, never()).restoreFromStaging();
+        verifyNoInteractions(userGroupMemberCountRepository, userMembershipCache);
+    }
+
+    @Test
+    void testRestoreWhenRowsConflictWithExistingData() throws IOException {
+        // Given
+        when(userGroupBackupRepository.findStagedUserGroupIds()).thenReturn(List.of(USER_GROUP_ID));
+        when(userGroupRepository.existsById(USER_GROUP_ID)).thenReturn(false);
+        when(userGroupBackupRepository.restoreFromStaging()).thenThrow(
+            new DataIntegrityViolationException("duplicate key value violates unique constraint")
+        );
+        InputStream inputStream = new ByteArrayInputStream(fullArchive());
+
+        // When / Then
+        thenThrownBy(() -> userGroupBackupService.restore(inputStream)).isInstanceOf(ConflictException.class);
+        verifyNoInteractions(userGroupMemberCountRepository, userMembershipCache);
+    }
+
+    @Test
+    void testRestoreRejectsUnknownEntry() throws IOException {
+        // Given
+        InputStream inputStream = new ByteArrayInputStream(archive(List.of("user_group.csv", "authorities.csv")));
+
+        // When / Then
+        thenThrownBy(() -> userGroupBackupService.restore(inputStream))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown backup entry: authorities.csv");
+    }
+
+    @Test
+    void testRestoreRejectsArchiveMissingTables() throws IOException {
+        // Given
+        InputStream inputStream = new ByteArrayInputStream(archive(List.of("user_group.csv")));
+
+        // When / Then
+        thenThrownBy(() -> userGroupBackupService.restore(inputStream))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Backup archive is missing tables");
+        verify(userGroupBackupRepository, never()).restoreFromStaging();
+    }
+}
@@ -0,0 +1,63 @@
+package com.takata_kento.household_expenses.application.usergroup;
+
+import static org.assertj.core.api.BDDAssertions.*;
+import static org.mockito.Mockito.*;
+
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountDrift;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserGroupMemberCountCheckerTest {
+
+    @Mock
+    private UserGroupMemberCountRepository userGroupMemberCountRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private UserGroupMemberCountChecker userGroupMemberCountChecker;
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-000000000010")
+    );
+
+    @Test
+    void testCheckAndRepair() {
+        // Given
+        UserGroupMemberCountDrift drift = new UserGroupMemberCountDrift(USER_GROUP_ID, 3, 2);
+        when(userGroupMemberCountRepository.findDrifts()).thenReturn(List.of(drift));
+
+        // When
+        List<UserGroupMemberCountDrift> actual = userGroupMemberCountChecker.checkAndRepair();
+
+        // Then
+        then(actual).containsExactly(drift);
+        verify(userGroupMemberCountRepository).recalculate(USER_GROUP_ID);
+        then(meterRegistry.counter(UserGroupMemberCountChecker.DRIFT_METRIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testCheckAndRepairWithoutDrift() {
+        // Given
+        when(userGroupMemberCountRepository.findDrifts()).thenReturn(List.of());
+
+        // When
+        List<UserGroupMemberCountDrift> actual = userGroupMemberCountChecker.checkAndRepair();
+
+        // Then
+        then(actual).isEmpty();
+        verify(userGroupMemberCountRepository, never()).recalculate(any());
+        then(meterRegistry.counter(UserGroupMemberCountChecker.DRIFT_METRIC).count()).isEqualTo(0.0);
+    }
+}
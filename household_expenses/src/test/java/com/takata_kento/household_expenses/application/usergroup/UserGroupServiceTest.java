@@ -3,14 +3,19 @@ package com.takata_kento.household_expenses.application.usergroup;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.application.budget.BudgetService;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.application.exception.ForbiddenException;
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
-import com.takata_kento.household_expenses.domain.user.GroupInvitationInfo;
+import com.takata_kento.household_expenses.application.user.UserMembershipCache;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationRepository;
 import com.takata_kento.household_expenses.domain.user.User;
+import com.takata_kento.household_expenses.domain.user.UserMembership;
 import com.takata_kento.household_expenses.domain.user.UserRepository;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroup;
+import com.takata_kento.household_expenses.domain.usergroup.UserGroupMemberCountRepository;
 import com.takata_kento.household_expenses.domain.usergroup.UserGroupRepository;
 import com.takata_kento.household_expenses.domain.valueobject.Day;
 import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
@@ -33,9 +38,24 @@ class UserGroupServiceTest {
     @Mock
     private UserGroupRepository userGroupRepository;
 
+    @Mock
+    private UserGroupMemberCountRepository userGroupMemberCountRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private GroupInvitationRepository groupInvitationRepository;
+
+    @Mock
+    private BudgetService budgetService;
+
+    @Mock
+    private UserMembershipCache userMembershipCache;
+
+    @Mock
+    private AccountService accountService;
+
     @InjectMocks
     private UserGroupService userGroupService;
 
@@ -49,7 +69,7 @@ class UserGroupServiceTest {
     void testCreateGroup() {
         // Given
         GroupName groupName = new GroupName("テストグループ");
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null);
         UserGroup savedUserGroup = UserGroup.create(groupName, new Day(1), CURRENT_USER_ID);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
         when(userGroupRepository.save(any(UserGroup.class))).thenReturn(savedUserGroup);
@@ -65,13 +85,16 @@ class UserGroupServiceTest {
         assertThat(currentUser.isBelongsToGroup()).isTrue();
         verify(userGroupRepository).save(any(UserGroup.class));
         verify(userRepository).save(currentUser);
+        verify(userGroupMemberCountRepository).increment(savedUserGroup.id());
+        verify(budgetService).regenerateBudgetPeriods(savedUserGroup.id(), new Day(1));
+        verify(userMembershipCache).evict(CURRENT_USER_ID);
     }
 
     @Test
     void testCreateGroupWhenAlreadyInGroup() {
         // Given
         GroupName groupName = new GroupName("テストグループ");
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
 
         // When / Then
@@ -86,43 +109,48 @@ class UserGroupServiceTest {
     void testInviteUser() {
         // Given
         Username inviteeUsername = new Username("invitee");
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        User invitee = new User(OTHER_USER_ID, inviteeUsername, Optional.empty(), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null);
+        User invitee = new User(OTHER_USER_ID, inviteeUsername, Optional.empty(), null);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
         when(userRepository.findByUsername(inviteeUsername)).thenReturn(Optional.of(invitee));
-        when(userRepository.save(invitee)).thenReturn(invitee);
 
         // When
         GroupInvitationId actual = userGroupService.inviteUser(CURRENT_USER_ID, inviteeUsername);
 
         // Then
         assertThat(actual).isNotNull();
-        assertThat(invitee.receivedInvitations()).hasSize(1);
-        GroupInvitationInfo invitation = invitee.receivedInvitations().iterator().next();
-        assertThat(invitation.userGroupId()).isEqualTo(USER_GROUP_ID);
-        assertThat(invitation.invitedByUserId()).isEqualTo(CURRENT_USER_ID);
-        verify(userRepository).save(invitee);
+        verify(groupInvitationRepository).save(
+            argThat(
+                invitation ->
+                    invitation.id().equals(actual) &&
+                    invitation.userGroupId().equals(USER_GROUP_ID) &&
+                    invitation.invitedUserId().equals(OTHER_USER_ID) &&
+                    invitation.invitedByUserId().equals(CURRENT_USER_ID) &&
+                    invitation.isPending()
+            )
+        );
+        verify(userRepository, never()).save(any());
     }
 
     @Test
     void testInviteUserWhenNotInGroup() {
         // Given
         Username inviteeUsername = new Username("invitee");
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
 
         // When / Then
         assertThatThrownBy(() -> userGroupService.inviteUser(CURRENT_USER_ID, inviteeUsername)).isInstanceOf(
             GroupMembershipRequiredException.class
         );
-        verify(userRepository, never()).save(any());
+        verify(groupInvitationRepository, never()).save(any());
     }
 
     @Test
     void testInviteUserWhenInviteeNotFound() {
         // Given
         Username nonExistentUsername = new Username("nonexistent");
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
         when(userRepository.findByUsername(nonExistentUsername)).thenReturn(Optional.empty());
 
@@ -130,13 +158,13 @@ class UserGroupServiceTest {
         assertThatThrownBy(() -> userGroupService.inviteUser(CURRENT_USER_ID, nonExistentUsername)).isInstanceOf(
             ResourceNotFoundException.class
         );
-        verify(userRepository, never()).save(any());
+        verify(groupInvitationRepository, never()).save(any());
     }
 
     @Test
     void testLeaveGroup() {
         // Given
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
         when(userRepository.save(currentUser)).thenReturn(currentUser);
 
@@ -147,12 +175,15 @@ class UserGroupServiceTest {
         assertThat(currentUser.isBelongsToGroup()).isFalse();
         assertThat(currentUser.userGroupId()).isEqualTo(Optional.empty());
         verify(userRepository).save(currentUser);
+        verify(userGroupMemberCountRepository).decrement(USER_GROUP_ID);
+        verify(accountService).reallocateGroupShares(USER_GROUP_ID, Optional.of(CURRENT_USER_ID));
+        verify(userMembershipCache).evict(CURRENT_USER_ID);
     }
 
     @Test
     void testLeaveGroupWhenNotInGroup() {
         // Given
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
+        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null);
         when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
 
         // When / Then
@@ -160,15 +191,22 @@ class UserGroupServiceTest {
             GroupMembershipRequiredException.class
         );
         verify(userRepository, never()).save(any());
+        verifyNoInteractions(userGroupMemberCountRepository);
     }
 
     @Test
     void testGetGroupMembers() {
         // Given
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        User member2 = new User(OTHER_USER_ID, new Username("member2"), Optional.of(USER_GROUP_ID), null, null);
-        List<User> members = List.of(currentUser, member2);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.of(USER_GROUP_ID),
+            0
+        );
+        User member1 = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null);
+        User member2 = new User(OTHER_USER_ID, new Username("member2"), Optional.of(USER_GROUP_ID), null);
+        List<User> members = List.of(member1, member2);
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(userRepository.findByUserGroupId(USER_GROUP_ID)).thenReturn(members);
 
         // When
@@ -183,8 +221,13 @@ class UserGroupServiceTest {
     @Test
     void testGetGroupMembersWhenNotInGroup() {
         // Given
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.empty(),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() -> userGroupService.getGroupMembers(CURRENT_USER_ID)).isInstanceOf(
@@ -198,8 +241,13 @@ class UserGroupServiceTest {
         // Given
         GroupName newGroupName = new GroupName("新グループ名");
         UserGroup userGroup = UserGroup.create(new GroupName("旧グループ名"), new Day(1), CURRENT_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.of(USER_GROUP_ID),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
         when(userGroupRepository.save(userGroup)).thenReturn(userGroup);
 
@@ -217,8 +265,13 @@ class UserGroupServiceTest {
         GroupName newGroupName = new GroupName("新グループ名");
         // OTHER_USER_ID がグループ作成者、CURRENT_USER_ID は作成者でない
         UserGroup userGroup = UserGroup.create(new GroupName("旧グループ名"), new Day(1), OTHER_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.of(USER_GROUP_ID),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
 
         // When / Then
@@ -232,8 +285,13 @@ class UserGroupServiceTest {
     void testUpdateGroupNameWhenNotInGroup() {
         // Given
         GroupName newGroupName = new GroupName("新グループ名");
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.empty(),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() -> userGroupService.updateGroupName(CURRENT_USER_ID, newGroupName)).isInstanceOf(
@@ -247,8 +305,13 @@ class UserGroupServiceTest {
         // Given
         Day newDay = new Day(25);
         UserGroup userGroup = UserGroup.create(new GroupName("テストグループ"), new Day(1), CURRENT_USER_ID);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.of(USER_GROUP_ID), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.of(USER_GROUP_ID),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
         when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
         when(userGroupRepository.save(userGroup)).thenReturn(userGroup);
 
@@ -258,14 +321,44 @@ class UserGroupServiceTest {
         // Then
         assertThat(actual.monthStartDay()).isEqualTo(newDay);
         verify(userGroupRepository).save(userGroup);
+        verify(budgetService).regenerateBudgetPeriods(USER_GROUP_ID, newDay);
+        verify(budgetService).rebuildSpendLedger(USER_GROUP_ID, newDay);
+    }
+
+    @Test
+    void testUpdateMonthStartDayWhenUnchanged() {
+        // Given
+        Day sameDay = new Day(1);
+        UserGroup userGroup = UserGroup.create(new GroupName("テストグループ"), new Day(1), CURRENT_USER_ID);
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.of(USER_GROUP_ID),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
+        when(userGroupRepository.findById(USER_GROUP_ID)).thenReturn(Optional.of(userGroup));
+        when(userGroupRepository.save(userGroup)).thenReturn(userGroup);
+
+        // When
+        userGroupService.updateMonthStartDay(CURRENT_USER_ID, sameDay);
+
+        // Then
+        verify(budgetService, never()).regenerateBudgetPeriods(any(), any());
+        verify(budgetService, never()).rebuildSpendLedger(any(), any());
     }
 
     @Test
     void testUpdateMonthStartDayWhenNotInGroup() {
         // Given
         Day newDay = new Day(25);
-        User currentUser = new User(CURRENT_USER_ID, new Username("testuser"), Optional.empty(), null, null);
-        when(userRepository.findById(CURRENT_USER_ID)).thenReturn(Optional.of(currentUser));
+        UserMembership currentUser = new UserMembership(
+            CURRENT_USER_ID,
+            new Username("testuser"),
+            Optional.empty(),
+            0
+        );
+        when(userMembershipCache.get(CURRENT_USER_ID)).thenReturn(currentUser);
 
         // When / Then
         assertThatThrownBy(() -> userGroupService.updateMonthStartDay(CURRENT_USER_ID, newDay)).isInstanceOf(
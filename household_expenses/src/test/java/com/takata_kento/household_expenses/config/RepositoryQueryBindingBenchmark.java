@@ -0,0 +1,141 @@
+package com.takata_kento.household_expenses.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.takata_kento.household_expenses.domain.saving.MonthlySaving;
+import com.takata_kento.household_expenses.domain.saving.MonthlySavingRepository;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.MonthlySavingId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * リポジトリの @Query メソッド呼び出し 1 回あたりのオーバーヘッドを計測するベンチマーク
+ *
+ * <p>アプリケーションと同じコンバーターと方言でリポジトリを生成し、SQL を実行しない
+ * {@link NamedParameterJdbcOperations} に差し替えて、パラメータの束縛までの処理だけを計測する。
+ * SpEL で値オブジェクトを展開する従来の書き方と、書き込みコンバーターで束縛する現在の書き方を同じ JVM で比較する。
+ * クラス名が *Test ではないため通常のテストでは実行されない。計測するときは次のように実行する。
+ *
+ * <pre>
+ * mvn test -Dtest=RepositoryQueryBindingBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+ * </pre>
+ */
+class RepositoryQueryBindingBenchmark {
+
+    private static final int CALLS = 200_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final UserId USER_ID = new UserId(UUID.randomUUID());
+    private static final Year YEAR = new Year(2026);
+    private static final Month MONTH = new Month(6);
+
+    /**
+     * SpEL で値オブジェクトを展開していたときのクエリ
+     */
+    interface SpelMonthlySavingRepository extends Repository<MonthlySaving, MonthlySavingId> {
+        @Query(
+            "SELECT * FROM monthly_saving WHERE user_id = :#{#userId.value} AND year = :#{#year.value()} AND month = :#{#month.value()}"
+        )
+        Optional<MonthlySaving> findByUserIdAndYearAndMonth(
+            @Param("userId") UserId userId,
+            @Param("year") Year year,
+            @Param("month") Month month
+        );
+    }
+
+    private final AtomicReference<SqlParameterSource> lastParameters = new AtomicReference<>();
+
+    private JdbcRepositoryFactory repositoryFactory() {
+        JdbcCustomConversions conversions = new JdbcCustomConversions(
+            new SpringDataJdbcConfiguration().userConverters()
+        );
+        JdbcMappingContext mappingContext = new JdbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingJdbcConverter converter = new MappingJdbcConverter(
+            mappingContext,
+            (identifier, path) -> List.of(),
+            conversions,
+            JdbcTypeFactory.unsupported()
+        );
+        // SQL を実行せず、束縛されたパラメータだけを記録して空の結果を返す
+        NamedParameterJdbcOperations operations = (NamedParameterJdbcOperations) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] { NamedParameterJdbcOperations.class },
+            (proxy, method, args) -> {
+                for (Object arg : args == null ? new Object[0] : args) {
+                    if (arg instanceof SqlParameterSource parameters) lastParameters.set(parameters);
+                }
+                if (List.class.isAssignableFrom(method.getReturnType())) return List.of();
+                if (Stream.class.isAssignableFrom(method.getReturnType())) return Stream.empty();
+                return null;
+            }
+        );
+        DataAccessStrategy dataAccessStrategy = mock(DataAccessStrategy.class);
+        when(dataAccessStrategy.getDialect()).thenReturn(JdbcPostgresDialect.INSTANCE);
+        when(dataAccessStrategy.getJdbcOperations()).thenReturn(operations);
+        return new JdbcRepositoryFactory(new JdbcAggregateTemplate(converter, dataAccessStrategy));
+    }
+
+    private static double measure(Supplier<Optional<MonthlySaving>> call) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (int j = 0; j < CALLS; j++) call.get();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (int j = 0; j < CALLS; j++) call.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / (double) CALLS;
+    }
+
+    @Test
+    void benchmarkFindByUserIdAndYearAndMonth() {
+        // Given
+        JdbcRepositoryFactory factory = repositoryFactory();
+        SpelMonthlySavingRepository spelRepository = factory.getRepository(SpelMonthlySavingRepository.class);
+        MonthlySavingRepository repository = factory.getRepository(MonthlySavingRepository.class);
+
+        // When
+        double spelNanos = measure(() -> spelRepository.findByUserIdAndYearAndMonth(USER_ID, YEAR, MONTH));
+        double convertedNanos = measure(() -> repository.findByUserIdAndYearAndMonth(USER_ID, YEAR, MONTH));
+
+        // Then
+        // 書き込みコンバーターで列の型へ変換された値が束縛されている
+        SqlParameterSource parameters = lastParameters.get();
+        assertThat(parameters.getValue("userId")).isEqualTo(USER_ID.value());
+        assertThat(parameters.getValue("year")).isEqualTo(2026);
+        assertThat(parameters.getValue("month")).isEqualTo(6);
+        System.out.printf(
+            "findByUserIdAndYearAndMonth: SpEL %.0f ns/call, converters %.0f ns/call (%.1fx)%n",
+            spelNanos,
+            convertedNanos,
+            spelNanos / convertedNanos
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.takata_kento.household_expenses.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.util.ClassUtils;
+
+class SpringDataJdbcConfigurationTest {
+
+    private final JdbcCustomConversions conversions = new JdbcCustomConversions(
+        new SpringDataJdbcConfiguration().userConverters()
+    );
+
+    private static List<Class<?>> valueObjectRecords() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) ->
+            Record.class.getName().equals(reader.getClassMetadata().getSuperClassName())
+        );
+        return scanner
+            .findCandidateComponents(UserId.class.getPackageName())
+            .stream()
+            .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), null))
+            .toList();
+    }
+
+    @Test
+    void testEveryValueObjectRecordHasReadingAndWritingConverter() {
+        // Given
+        List<Class<?>> records = valueObjectRecords();
+
+        // Then
+        assertThat(records).isNotEmpty();
+        for (Class<?> valueObjectType : records) {
+            Class<?> columnType = ClassUtils.resolvePrimitiveIfNecessary(
+                valueObjectType.getRecordComponents()[0].getType()
+            );
+            assertThat(conversions.getCustomWriteTarget(valueObjectType))
+                .as(valueObjectType.getSimpleName())
+                .contains(columnType);
+            assertThat(conversions.hasCustomReadTarget(columnType, valueObjectType))
+                .as(valueObjectType.getSimpleName())
+                .isTrue();
+        }
+    }
+
+    @Test
+    void testConvertValueObjectToColumnValueAndBack() {
+        // Given
+        DefaultConversionService conversionService = new DefaultConversionService();
+        conversions.registerConvertersIn(conversionService);
+        UUID uuid = UUID.randomUUID();
+
+        // When / Then
+        assertThat(conversionService.convert(new UserId(uuid), UUID.class)).isEqualTo(uuid);
+        assertThat(conversionService.convert(uuid, UserId.class)).isEqualTo(new UserId(uuid));
+        assertThat(conversionService.convert(new Money(1500), Integer.class)).isEqualTo(1500);
+        assertThat(conversionService.convert(1500, Money.class)).isEqualTo(new Money(1500));
+        assertThat(conversionService.convert("書籍", Description.class)).isEqualTo(new Description("書籍"));
+    }
+}
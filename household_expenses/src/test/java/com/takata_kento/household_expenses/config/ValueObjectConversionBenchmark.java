@@ -0,0 +1,163 @@
+package com.takata_kento.household_expenses.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyLivingExpenseId;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.domain.RowDocument;
+
+/**
+ * daily_living_expense の行をエンティティへ読み込む処理のスループットを計測するベンチマーク
+ *
+ * <p>EntityRowMapper と同じ {@link MappingJdbcConverter#readAndResolve} を使い、値オブジェクトの変換を含む
+ * 行の読み込みだけを計測する（データベースとのやりとりは含まない）。クラス名が *Test ではないため通常のテストでは
+ * 実行されない。計測するときは次のように実行する。
+ *
+ * <pre>
+ * mvn test -Dtest=ValueObjectConversionBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+ * </pre>
+ */
+class ValueObjectConversionBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    @Table("daily_living_expense")
+    static class LivingExpenseRow {
+
+        @Id
+        private final DailyLivingExpenseId id;
+
+        @Column("daily_group_transaction_id")
+        private final DailyGroupTransactionId dailyGroupTransactionId;
+
+        @Column("user_id")
+        private final UserId userId;
+
+        @Column("living_expense_category_id")
+        private final LivingExpenseCategoryId livingExpenseCategoryId;
+
+        @Column("amount")
+        private final Money amount;
+
+        @Column("memo")
+        private final Description memo;
+
+        @Version
+        private final Integer version;
+
+        LivingExpenseRow(
+            DailyLivingExpenseId id,
+            DailyGroupTransactionId dailyGroupTransactionId,
+            UserId userId,
+            LivingExpenseCategoryId livingExpenseCategoryId,
+            Money amount,
+            Description memo,
+            Integer version
+        ) {
+            this.id = id;
+            this.dailyGroupTransactionId = dailyGroupTransactionId;
+            this.userId = userId;
+            this.livingExpenseCategoryId = livingExpenseCategoryId;
+            this.amount = amount;
+            this.memo = memo;
+            this.version = version;
+        }
+    }
+
+    private static MappingJdbcConverter converter() {
+        JdbcCustomConversions conversions = new JdbcCustomConversions(
+            new SpringDataJdbcConfiguration().userConverters()
+        );
+        JdbcMappingContext mappingContext = new JdbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        return new MappingJdbcConverter(
+            mappingContext,
+            (identifier, path) -> List.of(),
+            conversions,
+            JdbcTypeFactory.unsupported()
+        );
+    }
+
+    private static List<RowDocument> rows() {
+        UUID transactionId = UUID.randomUUID();
+        List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> categoryIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<RowDocument> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            RowDocument row = new RowDocument();
+            row.put("id", UUID.randomUUID());
+            row.put("daily_group_transaction_id", transactionId);
+            row.put("user_id", userIds.get(i % userIds.size()));
+            row.put("living_expense_category_id", categoryIds.get(i % categoryIds.size()));
+            row.put("amount", 100 + i % 5_000);
+            row.put("memo", i % 3 == 0 ? null : "メモ" + i % 10);
+            row.put("version", 0);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static long readAll(MappingJdbcConverter converter, List<RowDocument> rows) {
+        TypeInformation<LivingExpenseRow> type = TypeInformation.of(LivingExpenseRow.class);
+        long total = 0;
+        for (RowDocument row : rows) {
+            total += converter.readAndResolve(type, row, Identifier.empty()).amount.amount();
+        }
+        return total;
+    }
+
+    @Test
+    void benchmarkReadDailyLivingExpenseRows() {
+        // Given
+        MappingJdbcConverter converter = converter();
+        List<RowDocument> rows = rows();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            readAll(converter, rows);
+        }
+
+        // When
+        long[] elapsedNanos = new long[MEASUREMENT_ITERATIONS];
+        long expectedTotal = readAll(converter, rows);
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            long total = readAll(converter, rows);
+            elapsedNanos[i] = System.nanoTime() - start;
+            assertThat(total).isEqualTo(expectedTotal);
+        }
+
+        // Then
+        long best = Long.MAX_VALUE;
+        long sum = 0;
+        for (long elapsed : elapsedNanos) {
+            best = Math.min(best, elapsed);
+            sum += elapsed;
+        }
+        System.out.printf(
+            "daily_living_expense %,d rows: best %.1f ms (%,.0f rows/s), mean %.1f ms%n",
+            ROWS,
+            best / 1e6,
+            ROWS / (best / 1e9),
+            sum / (double) MEASUREMENT_ITERATIONS / 1e6
+        );
+    }
+}
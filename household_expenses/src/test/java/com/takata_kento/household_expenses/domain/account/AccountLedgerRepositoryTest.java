@@ -0,0 +1,471 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import com.takata_kento.household_expenses.domain.valueobject.FixedExpenseHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(AccountLedgerRepository.class)
+class AccountLedgerRepositoryTest {
+
+    private static final UUID USER_UUID = UUID.randomUUID();
+    private static final UUID OTHER_MEMBER_UUID = UUID.randomUUID();
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+    private static final FinancialAccountId MAIN_ACCOUNT_ID = new FinancialAccountId("1111111");
+    private static final FinancialAccountId OTHER_ACCOUNT_ID = new FinancialAccountId("2222222");
+    private static final FinancialAccountId OTHER_MEMBER_ACCOUNT_ID = new FinancialAccountId("3333333");
+    private static final String SOURCE_ID = "00000000-0000-0000-0000-0000000000a1";
+    private static final LocalDate OPENED_ON = LocalDate.of(2026, 4, 1);
+    private static final LocalDate DATE = LocalDate.of(2026, 6, 10);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private AccountLedgerRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient
+            .sql("INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, 'ledger-user', 'hash', true)")
+            .param("id", USER_UUID)
+            .update();
+        // 口座登録時と同じく、残高と同額の OPENING_BALANCE を台帳に記録しておく
+        insertAccount(MAIN_ACCOUNT_ID, 100_000, true);
+        insertAccount(OTHER_ACCOUNT_ID, 50_000, false);
+    }
+
+    private void insertAccount(FinancialAccountId accountId, int balance, boolean isMainAccount) {
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account, version) VALUES (:id, :userId, 'bank', :balance, :isMainAccount, 0)"
+            )
+            .param("id", accountId.toString())
+            .param("userId", USER_UUID)
+            .param("balance", balance)
+            .param("isMainAccount", isMainAccount)
+            .update();
+        repository.recordApplied(LedgerSourceType.OPENING_BALANCE, accountId.toString(), accountId, balance, OPENED_ON);
+    }
+
+    private int balanceOf(FinancialAccountId accountId) {
+        return jdbcClient
+            .sql("SELECT balance FROM financial_account WHERE id = :id")
+            .param("id", accountId.toString())
+            .query(Integer.class)
+            .single();
+    }
+
+    private int entryCount(LedgerSourceType sourceType, String sourceId) {
+        return jdbcClient
+            .sql("SELECT COUNT(*) FROM account_ledger_entry WHERE source_type = :sourceType AND source_id = :sourceId")
+            .param("sourceType", sourceType.name())
+            .param("sourceId", sourceId)
+            .query(Integer.class)
+            .single();
+    }
+
+    @Test
+    void testPostAppliesOnlyDifference() {
+        // When
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, 5_000, DATE);
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, 3_000, DATE);
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(103_000);
+        assertThat(repository.findBalanceDrifts()).isEmpty();
+    }
+
+    @Test
+    void testPostZeroRemovesEntry() {
+        // Given
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -8_000, DATE);
+
+        // When
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, 0, DATE);
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(100_000);
+        assertThat(entryCount(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID)).isZero();
+    }
+
+    @Test
+    void testPostMovesEntryToAnotherAccount() {
+        // Given
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -8_000, DATE);
+
+        // When
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, OTHER_ACCOUNT_ID, -9_000, DATE);
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(100_000);
+        assertThat(balanceOf(OTHER_ACCOUNT_ID)).isEqualTo(41_000);
+        assertThat(repository.findBalanceDrifts()).isEmpty();
+    }
+
+    @Test
+    void testPostWhenBalanceBecomesNegative() {
+        // When
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -100_001, DATE);
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(-1);
+        assertThat(entryCount(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void testCancel() {
+        // Given
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, -2_000, DATE);
+
+        // When
+        repository.cancel(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID);
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(100_000);
+        assertThat(entryCount(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID)).isZero();
+    }
+
+    @Test
+    void testCancelWithoutEntry() {
+        // When
+        repository.cancel(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID);
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(100_000);
+    }
+
+    @Test
+    void testFindEntryDrifts() {
+        // Given
+        UUID savingId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO monthly_saving (id, user_id, year, month, saving_amount, financial_account_id) VALUES (:id, :userId, 2026, 6, 20000, :accountId)"
+            )
+            .param("id", savingId)
+            .param("userId", USER_UUID)
+            .param("accountId", OTHER_ACCOUNT_ID.toString())
+            .update();
+        repository.post(LedgerSourceType.MONTHLY_SAVING, savingId.toString(), MAIN_ACCOUNT_ID, -30_000, DATE);
+        // 発生元が存在しない日次個人収支
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, 1_000, DATE);
+
+        // When / Then
+        assertThat(repository.findEntryDrifts()).containsExactly(
+            new AccountLedgerEntryDrift(
+                LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+                SOURCE_ID,
+                MAIN_ACCOUNT_ID,
+                1_000,
+                0,
+                DATE
+            ),
+            new AccountLedgerEntryDrift(
+                LedgerSourceType.MONTHLY_SAVING,
+                savingId.toString(),
+                MAIN_ACCOUNT_ID,
+                -30_000,
+                -20_000,
+                DATE
+            )
+        );
+    }
+
+    @Test
+    void testFindBalanceDrifts() {
+        // Given
+        jdbcClient
+            .sql("UPDATE financial_account SET balance = 90000 WHERE id = :id")
+            .param("id", MAIN_ACCOUNT_ID.toString())
+            .update();
+
+        // When / Then
+        assertThat(repository.findBalanceDrifts()).containsExactly(
+            new AccountBalanceDrift(MAIN_ACCOUNT_ID, 90_000, 100_000)
+        );
+    }
+
+    @Test
+    void testPostShiftsLaterCheckpoints() {
+        // Given
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1), 100_000);
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1), 100_000);
+
+        // When
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, -2_000, DATE);
+
+        // Then
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1))).isEqualTo(100_000);
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1))).isEqualTo(98_000);
+    }
+
+    @Test
+    void testPostNewAppliesTotalAndShiftsCheckpoints() {
+        // Given
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1), 100_000);
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1), 100_000);
+        String laterSourceId = "00000000-0000-0000-0000-0000000000a2";
+
+        // When
+        repository.postNew(
+            MAIN_ACCOUNT_ID,
+            List.of(
+                new LedgerPosting(
+                    LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+                    SOURCE_ID,
+                    5_000,
+                    LocalDate.of(2026, 5, 20)
+                ),
+                new LedgerPosting(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, laterSourceId, -2_000, DATE)
+            )
+        );
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(103_000);
+        assertThat(entryCount(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID)).isOne();
+        assertThat(entryCount(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, laterSourceId)).isOne();
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1))).isEqualTo(105_000);
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1))).isEqualTo(103_000);
+        assertThat(repository.findBalanceDrifts()).isEmpty();
+    }
+
+    @Test
+    void testPostMovesEffectiveDateAcrossCheckpoint() {
+        // Given
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1), 100_000);
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1), 92_000);
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -8_000, DATE);
+
+        // When
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -9_000, LocalDate.of(2026, 5, 31));
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(91_000);
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1))).isEqualTo(91_000);
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1))).isEqualTo(91_000);
+    }
+
+    @Test
+    void testCancelShiftsLaterCheckpoints() {
+        // Given
+        insertCheckpoint(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1), 100_000);
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, -2_000, DATE);
+
+        // When
+        repository.cancel(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID);
+
+        // Then
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, LocalDate.of(2026, 7, 1))).isEqualTo(100_000);
+    }
+
+    @Test
+    void testSumAmounts() {
+        // Given
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, -2_000, DATE);
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -8_000, LocalDate.of(2026, 6, 25));
+
+        // When / Then
+        assertThat(repository.sumAmountsUntil(MAIN_ACCOUNT_ID, DATE)).isEqualTo(98_000);
+        assertThat(repository.sumAmountsBetween(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1), DATE)).isEqualTo(-2_000);
+        assertThat(
+            repository.sumAmountsBetween(MAIN_ACCOUNT_ID, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 30))
+        ).isEqualTo(-10_000);
+    }
+
+    @Test
+    void testForEachDailyAmount() {
+        // Given
+        repository.post(LedgerSourceType.DAILY_PERSONAL_TRANSACTION, SOURCE_ID, MAIN_ACCOUNT_ID, -2_000, DATE);
+        repository.post(LedgerSourceType.FIXED_EXPENSE, SOURCE_ID, MAIN_ACCOUNT_ID, -8_000, DATE);
+        repository.post(LedgerSourceType.MONTHLY_SAVING, SOURCE_ID, MAIN_ACCOUNT_ID, -5_000, LocalDate.of(2026, 6, 1));
+        List<String> actual = new ArrayList<>();
+
+        // When
+        repository.forEachDailyAmount(MAIN_ACCOUNT_ID, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 6, 30), (date, amount) ->
+            actual.add(date + "=" + amount)
+        );
+
+        // Then
+        assertThat(actual).containsExactly("2026-06-01=-5000", "2026-06-10=-10000");
+    }
+
+    @Test
+    void testPostLivingExpenseSharesSplitsDayTotalAmongMembers() {
+        // Given
+        UUID groupTransactionId = givenGroupDayWithOtherMember(3_001);
+        insertCheckpoint(MAIN_ACCOUNT_ID, DATE.plusDays(1), 100_000);
+
+        // When
+        repository.postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+        repository.postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+
+        // Then
+        // ceil(3001 / 2) = 1501 をメンバーごとに計上し、2回目は差分がないため変わらない
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(98_499);
+        assertThat(balanceOf(OTHER_MEMBER_ACCOUNT_ID)).isEqualTo(8_499);
+        assertThat(checkpointBalanceOf(MAIN_ACCOUNT_ID, DATE.plusDays(1))).isEqualTo(98_499);
+        assertThat(entryCount(LedgerSourceType.DAILY_LIVING_EXPENSE, groupTransactionId + ":" + USER_UUID)).isEqualTo(1);
+        assertThat(repository.findEntryDrifts()).isEmpty();
+    }
+
+    @Test
+    void testReallocateGroupSharesAfterMemberLeaves() {
+        // Given
+        UUID groupTransactionId = givenGroupDayWithOtherMember(3_001);
+        repository.postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+        jdbcClient
+            .sql("UPDATE users SET user_group_id = NULL WHERE id = :id")
+            .param("id", OTHER_MEMBER_UUID)
+            .update();
+
+        // When
+        repository.reallocateGroupShares(USER_GROUP_ID, Optional.of(new UserId(OTHER_MEMBER_UUID)));
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(96_999);
+        assertThat(balanceOf(OTHER_MEMBER_ACCOUNT_ID)).isEqualTo(10_000);
+        assertThat(
+            entryCount(LedgerSourceType.DAILY_LIVING_EXPENSE, groupTransactionId + ":" + OTHER_MEMBER_UUID)
+        ).isZero();
+        assertThat(repository.findEntryDrifts()).isEmpty();
+    }
+
+    @Test
+    void testCancelLivingExpenseShares() {
+        // Given
+        UUID groupTransactionId = givenGroupDayWithOtherMember(3_000);
+        repository.postLivingExpenseShares(USER_GROUP_ID, DATE, DATE);
+
+        // When
+        repository.cancelLivingExpenseShares(USER_GROUP_ID, new DailyGroupTransactionId(groupTransactionId));
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(100_000);
+        assertThat(balanceOf(OTHER_MEMBER_ACCOUNT_ID)).isEqualTo(10_000);
+        assertThat(entryCount(LedgerSourceType.DAILY_LIVING_EXPENSE, groupTransactionId + ":" + USER_UUID)).isZero();
+    }
+
+    @Test
+    void testPostFixedExpenseSharesSplitsAmountAmongMembers() {
+        // Given
+        givenGroupDayWithOtherMember(0);
+        UUID categoryId = UUID.randomUUID();
+        UUID historyId = UUID.randomUUID();
+        jdbcClient
+            .sql("INSERT INTO fixed_expense_category (id, user_group_id, category_name) VALUES (:id, :userGroupId, '家賃')")
+            .param("id", categoryId)
+            .param("userGroupId", USER_GROUP_ID.value())
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO fixed_expense_history (id, fixed_expense_category_id, year, month, amount, effective_date) VALUES (:id, :categoryId, 2026, 6, 80001, :effectiveDate)"
+            )
+            .param("id", historyId)
+            .param("categoryId", categoryId)
+            .param("effectiveDate", DATE)
+            .update();
+
+        // When
+        repository.postFixedExpenseShares(USER_GROUP_ID, new FixedExpenseHistoryId(historyId));
+
+        // Then
+        assertThat(balanceOf(MAIN_ACCOUNT_ID)).isEqualTo(59_999);
+        assertThat(balanceOf(OTHER_MEMBER_ACCOUNT_ID)).isEqualTo(-30_001);
+        assertThat(entryCount(LedgerSourceType.FIXED_EXPENSE, historyId + ":" + OTHER_MEMBER_UUID)).isEqualTo(1);
+        assertThat(repository.findEntryDrifts()).isEmpty();
+    }
+
+    /**
+     * ledger-user と別のメンバーの2人のグループを作り、DATE の日次グループ収支を生活費合計 total で記録する。
+     */
+    private UUID givenGroupDayWithOtherMember(int total) {
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day, member_count) VALUES (:id, 'group', 1, 2)")
+            .param("id", USER_GROUP_ID.value())
+            .update();
+        jdbcClient
+            .sql("UPDATE users SET user_group_id = :userGroupId WHERE id = :id")
+            .param("userGroupId", USER_GROUP_ID.value())
+            .param("id", USER_UUID)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled, user_group_id) VALUES (:id, 'other-member', 'hash', true, :userGroupId)"
+            )
+            .param("id", OTHER_MEMBER_UUID)
+            .param("userGroupId", USER_GROUP_ID.value())
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account, version) VALUES (:id, :userId, 'bank', 10000, true, 0)"
+            )
+            .param("id", OTHER_MEMBER_ACCOUNT_ID.toString())
+            .param("userId", OTHER_MEMBER_UUID)
+            .update();
+        repository.recordApplied(
+            LedgerSourceType.OPENING_BALANCE,
+            OTHER_MEMBER_ACCOUNT_ID.toString(),
+            OTHER_MEMBER_ACCOUNT_ID,
+            10_000,
+            OPENED_ON
+        );
+        UUID groupTransactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date, total_living_expense) VALUES (:id, :userGroupId, :transactionDate, :total)"
+            )
+            .param("id", groupTransactionId)
+            .param("userGroupId", USER_GROUP_ID.value())
+            .param("transactionDate", DATE)
+            .param("total", total)
+            .update();
+        return groupTransactionId;
+    }
+
+    private void insertCheckpoint(FinancialAccountId accountId, LocalDate checkpointDate, int balance) {
+        jdbcClient
+            .sql(
+                "INSERT INTO balance_checkpoint (financial_account_id, checkpoint_date, balance) VALUES (:id, :checkpointDate, :balance)"
+            )
+            .param("id", accountId.toString())
+            .param("checkpointDate", checkpointDate)
+            .param("balance", balance)
+            .update();
+    }
+
+    private int checkpointBalanceOf(FinancialAccountId accountId, LocalDate checkpointDate) {
+        return jdbcClient
+            .sql("SELECT balance FROM balance_checkpoint WHERE financial_account_id = :id AND checkpoint_date = :date")
+            .param("id", accountId.toString())
+            .param("date", checkpointDate)
+            .query(Integer.class)
+            .single();
+    }
+}
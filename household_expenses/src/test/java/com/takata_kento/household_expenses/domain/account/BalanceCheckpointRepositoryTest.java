@@ -0,0 +1,175 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import({ BalanceCheckpointRepository.class, AccountLedgerRepository.class })
+class BalanceCheckpointRepositoryTest {
+
+    private static final UUID USER_UUID = UUID.randomUUID();
+    private static final FinancialAccountId ACCOUNT_ID = new FinancialAccountId("1111111");
+    private static final String SOURCE_ID = "00000000-0000-0000-0000-0000000000b1";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private BalanceCheckpointRepository repository;
+
+    @Autowired
+    private AccountLedgerRepository accountLedgerRepository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient
+            .sql("INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, 'checkpoint-user', 'hash', true)")
+            .param("id", USER_UUID)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account, version) VALUES (:id, :userId, 'bank', 100000, true, 0)"
+            )
+            .param("id", ACCOUNT_ID.toString())
+            .param("userId", USER_UUID)
+            .update();
+        accountLedgerRepository.recordApplied(
+            LedgerSourceType.OPENING_BALANCE,
+            ACCOUNT_ID.toString(),
+            ACCOUNT_ID,
+            100_000,
+            LocalDate.of(2026, 4, 1)
+        );
+    }
+
+    @Test
+    void testCreateIfAbsent() {
+        // Given
+        accountLedgerRepository.post(
+            LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+            SOURCE_ID,
+            ACCOUNT_ID,
+            -3_000,
+            LocalDate.of(2026, 5, 31)
+        );
+        accountLedgerRepository.post(
+            LedgerSourceType.FIXED_EXPENSE,
+            SOURCE_ID,
+            ACCOUNT_ID,
+            -8_000,
+            LocalDate.of(2026, 6, 1)
+        );
+
+        // When
+        boolean actual = repository.createIfAbsent(ACCOUNT_ID, LocalDate.of(2026, 6, 1));
+
+        // Then
+        then(actual).isTrue();
+        then(repository.findLatestOnOrBefore(ACCOUNT_ID, LocalDate.of(2026, 6, 1))).contains(
+            new BalanceCheckpoint(ACCOUNT_ID, LocalDate.of(2026, 6, 1), 97_000)
+        );
+    }
+
+    @Test
+    void testCreateIfAbsentStartsFromPreviousCheckpoint() {
+        // Given
+        // 直前のチェックポイント以降の台帳行だけが加算されることを確認するため、台帳と異なる値を入れておく
+        jdbcClient
+            .sql(
+                "INSERT INTO balance_checkpoint (financial_account_id, checkpoint_date, balance) VALUES (:id, DATE '2026-05-01', 50000)"
+            )
+            .param("id", ACCOUNT_ID.toString())
+            .update();
+        accountLedgerRepository.post(
+            LedgerSourceType.DAILY_PERSONAL_TRANSACTION,
+            SOURCE_ID,
+            ACCOUNT_ID,
+            -3_000,
+            LocalDate.of(2026, 5, 15)
+        );
+
+        // When
+        repository.createIfAbsent(ACCOUNT_ID, LocalDate.of(2026, 6, 1));
+
+        // Then
+        then(repository.findLatestOnOrBefore(ACCOUNT_ID, LocalDate.of(2026, 6, 30))).contains(
+            new BalanceCheckpoint(ACCOUNT_ID, LocalDate.of(2026, 6, 1), 47_000)
+        );
+    }
+
+    @Test
+    void testCreateIfAbsentWhenAlreadyExists() {
+        // Given
+        repository.createIfAbsent(ACCOUNT_ID, LocalDate.of(2026, 6, 1));
+
+        // When
+        boolean actual = repository.createIfAbsent(ACCOUNT_ID, LocalDate.of(2026, 6, 1));
+
+        // Then
+        then(actual).isFalse();
+    }
+
+    @Test
+    void testFindLatestOnOrBeforeWithoutCheckpoint() {
+        // Given
+        repository.createIfAbsent(ACCOUNT_ID, LocalDate.of(2026, 6, 1));
+
+        // When
+        Optional<BalanceCheckpoint> actual = repository.findLatestOnOrBefore(ACCOUNT_ID, LocalDate.of(2026, 5, 31));
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void testFindTargets() {
+        // Given
+        UUID groupUuid = UUID.randomUUID();
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, 'group', 25)")
+            .param("id", groupUuid)
+            .update();
+        UUID groupUserUuid = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled, user_group_id) VALUES (:id, 'group-user', 'hash', true, :groupId)"
+            )
+            .param("id", groupUserUuid)
+            .param("groupId", groupUuid)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account, version) VALUES ('2222222', :userId, 'bank', 0, true, 0)"
+            )
+            .param("userId", groupUserUuid)
+            .update();
+
+        // When / Then
+        then(repository.findTargets()).containsExactly(
+            new BalanceCheckpointTarget(ACCOUNT_ID, new Day(1)),
+            new BalanceCheckpointTarget(new FinancialAccountId("2222222"), new Day(25))
+        );
+    }
+}
@@ -0,0 +1,199 @@
+package com.takata_kento.household_expenses.domain.account;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
+import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+class BalanceEditHistoryRepositoryTest {
+
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final FinancialAccountId ACCOUNT_ID = new FinancialAccountId("1234567");
+    private static final FinancialAccountId OTHER_ACCOUNT_ID = new FinancialAccountId("7654321");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private BalanceEditHistoryRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", TEST_USER_UUID)
+            .param("username", "testuser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+        insertFinancialAccount(ACCOUNT_ID);
+        insertFinancialAccount(OTHER_ACCOUNT_ID);
+    }
+
+    @Test
+    void testSave() {
+        // Given
+        BalanceEditHistory history = BalanceEditHistory.create(
+            ACCOUNT_ID,
+            new Balance(100_000),
+            new Money(120_000),
+            Optional.of(new Description("Deposit")),
+            LocalDate.of(2026, 1, 1)
+        );
+
+        // When
+        repository.save(history);
+
+        // Then
+        Optional<BalanceEditHistory> actual = repository.findById(history.id());
+        then(actual).isPresent();
+        then(actual.get().financialAccountId()).isEqualTo(ACCOUNT_ID);
+        then(actual.get().oldBalance()).isEqualTo(new Balance(100_000));
+        then(actual.get().newBalance()).isEqualTo(new Money(120_000));
+        then(actual.get().editReason()).isEqualTo(Optional.of(new Description("Deposit")));
+        then(actual.get().editedAt()).isEqualTo(LocalDate.of(2026, 1, 1));
+        then(actual.get().createdAt()).isEqualTo(history.createdAt());
+    }
+
+    @Test
+    void testFindLatestByFinancialAccountId() {
+        // Given
+        UUID olderId = UUID.randomUUID();
+        UUID latestId = UUID.randomUUID();
+        insertBalanceEditHistory(olderId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 1, 10, 0));
+        insertBalanceEditHistory(latestId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 2, 10, 0));
+        insertBalanceEditHistory(UUID.randomUUID(), OTHER_ACCOUNT_ID, LocalDateTime.of(2026, 1, 3, 10, 0));
+
+        // When
+        Optional<BalanceEditHistory> actual = repository.findLatestByFinancialAccountId(ACCOUNT_ID);
+
+        // Then
+        then(actual).isPresent();
+        then(actual.get().id()).isEqualTo(new BalanceEditHistoryId(latestId));
+    }
+
+    @Test
+    void testFindLatestByFinancialAccountIdEmpty() {
+        // When
+        Optional<BalanceEditHistory> actual = repository.findLatestByFinancialAccountId(ACCOUNT_ID);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void testFindFirstPage() {
+        // Given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID thirdId = UUID.randomUUID();
+        insertBalanceEditHistory(firstId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 1, 10, 0));
+        insertBalanceEditHistory(secondId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 2, 10, 0));
+        insertBalanceEditHistory(thirdId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 3, 10, 0));
+
+        // When
+        List<BalanceEditHistory> actual = repository.findFirstPage(ACCOUNT_ID, 2);
+
+        // Then
+        then(actual)
+            .extracting(BalanceEditHistory::id)
+            .containsExactly(new BalanceEditHistoryId(thirdId), new BalanceEditHistoryId(secondId));
+    }
+
+    @Test
+    void testFindPageBefore() {
+        // Given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID thirdId = UUID.randomUUID();
+        insertBalanceEditHistory(firstId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 1, 10, 0));
+        insertBalanceEditHistory(secondId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 2, 10, 0));
+        insertBalanceEditHistory(thirdId, ACCOUNT_ID, LocalDateTime.of(2026, 1, 3, 10, 0));
+        BalanceEditHistoryCursor cursor = new BalanceEditHistoryCursor(
+            LocalDateTime.of(2026, 1, 3, 10, 0),
+            new BalanceEditHistoryId(thirdId)
+        );
+
+        // When
+        List<BalanceEditHistory> actual = repository.findPageBefore(ACCOUNT_ID, cursor, 10);
+
+        // Then
+        then(actual)
+            .extracting(BalanceEditHistory::id)
+            .containsExactly(new BalanceEditHistoryId(secondId), new BalanceEditHistoryId(firstId));
+    }
+
+    @Test
+    void testFindPageBeforeWithSameCreatedAt() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        UUID smallerId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID largerId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        insertBalanceEditHistory(smallerId, ACCOUNT_ID, createdAt);
+        insertBalanceEditHistory(largerId, ACCOUNT_ID, createdAt);
+        List<BalanceEditHistory> firstPage = repository.findFirstPage(ACCOUNT_ID, 1);
+        BalanceEditHistoryCursor cursor = BalanceEditHistoryCursor.from(BalanceEditHistoryInfo.from(firstPage.get(0)));
+
+        // When
+        List<BalanceEditHistory> actual = repository.findPageBefore(ACCOUNT_ID, cursor, 10);
+
+        // Then
+        then(firstPage).extracting(BalanceEditHistory::id).containsExactly(new BalanceEditHistoryId(largerId));
+        then(actual).extracting(BalanceEditHistory::id).containsExactly(new BalanceEditHistoryId(smallerId));
+    }
+
+    // Helper methods
+    private void insertFinancialAccount(FinancialAccountId accountId) {
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account) VALUES (:id, :userId, :bankName, :balance, :isMainAccount)"
+            )
+            .param("id", accountId.toString())
+            .param("userId", TEST_USER_UUID)
+            .param("bankName", "三菱UFJ銀行")
+            .param("balance", 100_000)
+            .param("isMainAccount", false)
+            .update();
+    }
+
+    private void insertBalanceEditHistory(UUID historyId, FinancialAccountId financialAccountId, LocalDateTime createdAt) {
+        jdbcClient
+            .sql(
+                "INSERT INTO balance_edit_history (id, financial_account_id, old_balance, new_balance, edited_at, created_at) VALUES (:id, :financialAccountId, :oldBalance, :newBalance, :editedAt, :createdAt)"
+            )
+            .param("id", historyId)
+            .param("financialAccountId", financialAccountId.toString())
+            .param("oldBalance", 100_000)
+            .param("newBalance", 120_000)
+            .param("editedAt", createdAt.toLocalDate())
+            .param("createdAt", createdAt)
+            .update();
+    }
+}
@@ -2,6 +2,7 @@ package com.takata_kento.household_expenses.domain.account;
 
 import static org.assertj.core.api.BDDAssertions.*;
 
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
@@ -26,7 +27,7 @@ public class BalanceEditHistoryTest {
             Arguments.of(
                 new BalanceEditHistoryId(balanceEditHistoryUUID),
                 new FinancialAccountId(financialAccountNumber),
-                new Money(50_000),
+                new Balance(50_000),
                 new Money(100_000),
                 Optional.of(new Description("Salary deposit")),
                 editedAt,
@@ -35,7 +36,7 @@ public class BalanceEditHistoryTest {
                 new BalanceEditHistory(
                     new BalanceEditHistoryId(balanceEditHistoryUUID),
                     new FinancialAccountId(financialAccountNumber),
-                    new Money(50_000),
+                    new Balance(50_000),
                     new Money(100_000),
                     Optional.of(new Description("Salary deposit")),
                     editedAt,
@@ -51,7 +52,7 @@ public class BalanceEditHistoryTest {
     void testId(
         BalanceEditHistoryId expectedId,
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate editedAt,
@@ -84,7 +85,7 @@ public class BalanceEditHistoryTest {
     void testFinancialAccountId(
         BalanceEditHistoryId id,
         FinancialAccountId expectedFinancialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate editedAt,
@@ -117,7 +118,7 @@ public class BalanceEditHistoryTest {
     void testOldBalance(
         BalanceEditHistoryId id,
         FinancialAccountId financialAccountId,
-        Money expectedOldBalance,
+        Balance expectedOldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate editedAt,
@@ -138,7 +139,7 @@ public class BalanceEditHistoryTest {
         );
 
         // When
-        Money actual = balanceEditHistory.oldBalance();
+        Balance actual = balanceEditHistory.oldBalance();
 
         // Then
         then(actual).isEqualTo(expectedOldBalance);
@@ -150,7 +151,7 @@ public class BalanceEditHistoryTest {
     void testNewBalance(
         BalanceEditHistoryId id,
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money expectedNewBalance,
         Optional<Description> editReason,
         LocalDate editedAt,
@@ -183,7 +184,7 @@ public class BalanceEditHistoryTest {
     void testEditReason(
         BalanceEditHistoryId id,
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> expectedEditReason,
         LocalDate editedAt,
@@ -216,7 +217,7 @@ public class BalanceEditHistoryTest {
     void testEditedAt(
         BalanceEditHistoryId id,
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate expectedEditedAt,
@@ -249,7 +250,7 @@ public class BalanceEditHistoryTest {
     void testCreatedAt(
         BalanceEditHistoryId id,
         FinancialAccountId financialAccountId,
-        Money oldBalance,
+        Balance oldBalance,
         Money newBalance,
         Optional<Description> editReason,
         LocalDate editedAt,
@@ -282,7 +283,7 @@ public class BalanceEditHistoryTest {
     void testCreate(
         BalanceEditHistoryId id,
         FinancialAccountId expectedFinancialAccountId,
-        Money expectedOldBalance,
+        Balance expectedOldBalance,
         Money expectedNewBalance,
         Optional<Description> expectedEditReason,
         LocalDate expectedEditedAt,
@@ -309,6 +310,6 @@ public class BalanceEditHistoryTest {
         then(actual.newBalance()).isEqualTo(expectedNewBalance);
         then(actual.editReason()).isEqualTo(expectedEditReason);
         then(actual.editedAt()).isEqualTo(expectedEditedAt);
-        then(actual.createdAt()).isNull();
+        then(actual.createdAt()).isNotNull();
     }
 }
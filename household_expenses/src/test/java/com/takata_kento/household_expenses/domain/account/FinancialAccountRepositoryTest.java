@@ -3,17 +3,14 @@ package com.takata_kento.household_expenses.domain.account;
 import static org.assertj.core.api.BDDAssertions.*;
 
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
-import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,7 +47,7 @@ class FinancialAccountRepositoryTest {
             .sql(
                 "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
             )
-            .param("id", TEST_USER_UUID.toString())
+            .param("id", TEST_USER_UUID)
             .param("username", "testuser")
             .param("password", "hashedpassword")
             .param("enabled", true)
@@ -64,7 +61,7 @@ class FinancialAccountRepositoryTest {
         FinancialAccountId accountId = new FinancialAccountId("1234567");
         BankName bankName = new BankName("三菱UFJ銀行");
         AccountName accountName = new AccountName("メイン口座");
-        Money balance = new Money(100_000);
+        Balance balance = new Balance(100_000);
         Boolean isMainAccount = Boolean.TRUE;
 
         FinancialAccount account = new FinancialAccount(
@@ -74,7 +71,6 @@ class FinancialAccountRepositoryTest {
             Optional.of(accountName),
             balance,
             isMainAccount,
-            new HashSet<>(),
             null
         );
 
@@ -131,7 +127,7 @@ class FinancialAccountRepositoryTest {
         UserId userId = new UserId(TEST_USER_UUID);
         FinancialAccountId accountId = new FinancialAccountId("7777777");
         BankName bankName = new BankName("ゆうちょ銀行");
-        Money balance = new Money(30_000);
+        Balance balance = new Balance(30_000);
 
         FinancialAccount account = new FinancialAccount(
             accountId,
@@ -140,7 +136,6 @@ class FinancialAccountRepositoryTest {
             Optional.empty(),
             balance,
             Boolean.FALSE,
-            new HashSet<>(),
             null
         );
 
@@ -164,61 +159,37 @@ class FinancialAccountRepositoryTest {
     }
 
     @Test
-    void testSaveWithEditHistories() {
+    void testSaveDoesNotRewriteEditHistories() {
         // Given
         UserId userId = new UserId(TEST_USER_UUID);
         FinancialAccountId accountId = new FinancialAccountId("2345678");
         BankName bankName = new BankName("三菱UFJ銀行");
         AccountName accountName = new AccountName("貯金口座");
-        Money balance = new Money(500_000);
 
-        FinancialAccount account = new FinancialAccount(
+        insertFinancialAccount(
             accountId,
             userId,
             bankName,
             Optional.of(accountName),
-            balance,
-            Boolean.FALSE,
-            new HashSet<>(),
-            null
+            new Balance(500_000),
+            Boolean.FALSE
         );
-        account.updateBalance(new Money(500_000), new Description("Deposit"), LocalDate.of(2026, 1, 1));
+        UUID historyId = UUID.randomUUID();
+        insertBalanceEditHistory(historyId, accountId, 450_000, 500_000, "Deposit", LocalDate.of(2026, 1, 1));
+
+        FinancialAccount account = repository.findById(accountId).orElseThrow();
         account.updateBalance(new Money(550_000), new Description("Interest"), LocalDate.of(2026, 2, 1));
 
         // When
-        FinancialAccount savedAccount = repository.save(account);
+        repository.save(account);
 
         // Then
-        List<Map<String, Object>> histories = jdbcClient
-            .sql("SELECT * FROM balance_edit_history WHERE financial_account_id = ? ORDER BY edited_at")
-            .param(savedAccount.id().toString())
-            .query((rs, rowNum) -> {
-                Map<String, Object> map = new LinkedHashMap<>();
-                map.put("id", rs.getString("id"));
-                map.put("financial_account_id", rs.getString("financial_account_id"));
-                map.put("old_balance", rs.getInt("old_balance"));
-                map.put("new_balance", rs.getInt("new_balance"));
-                map.put("edit_reason", rs.getString("edit_reason"));
-                map.put("edited_at", rs.getDate("edited_at").toLocalDate());
-                return map;
-            })
+        List<String> historyIds = jdbcClient
+            .sql("SELECT id FROM balance_edit_history WHERE financial_account_id = ?")
+            .param(accountId.toString())
+            .query(String.class)
             .list();
-
-        then(histories).hasSize(2);
-
-        then(histories.get(0).get("id")).isNotNull();
-        then(histories.get(0).get("financial_account_id")).isEqualTo(accountId.toString());
-        then(histories.get(0).get("old_balance")).isEqualTo(500_000);
-        then(histories.get(0).get("new_balance")).isEqualTo(500_000);
-        then(histories.get(0).get("edit_reason")).isEqualTo("Deposit");
-        then(histories.get(0).get("edited_at")).isEqualTo(LocalDate.of(2026, 1, 1));
-
-        then(histories.get(1).get("id")).isNotNull();
-        then(histories.get(1).get("financial_account_id")).isEqualTo(accountId.toString());
-        then(histories.get(1).get("old_balance")).isEqualTo(500_000);
-        then(histories.get(1).get("new_balance")).isEqualTo(550_000);
-        then(histories.get(1).get("edit_reason")).isEqualTo("Interest");
-        then(histories.get(1).get("edited_at")).isEqualTo(LocalDate.of(2026, 2, 1));
+        then(historyIds).containsExactly(historyId.toString());
     }
 
     @Test
@@ -228,19 +199,11 @@ class FinancialAccountRepositoryTest {
         FinancialAccountId accountId = new FinancialAccountId("3456789");
         BankName bankName = new BankName("三菱UFJ銀行");
         AccountName accountName = new AccountName("メイン口座");
-        Money balance = new Money(100_000);
+        Balance balance = new Balance(100_000);
         Boolean isMainAccount = Boolean.TRUE;
 
         insertFinancialAccount(accountId, userId, bankName, Optional.of(accountName), balance, isMainAccount);
 
-        UUID historyId1 = UUID.randomUUID();
-        UUID historyId2 = UUID.randomUUID();
-        LocalDate editedAt1 = LocalDate.of(2026, 1, 1);
-        LocalDate editedAt2 = LocalDate.of(2026, 2, 1);
-
-        insertBalanceEditHistory(historyId1, accountId, 50_000, 100_000, "Deposit", editedAt1);
-        insertBalanceEditHistory(historyId2, accountId, 100_000, 150_000, "Interest", editedAt2);
-
         // When
         Optional<FinancialAccount> actual = repository.findById(accountId);
 
@@ -252,24 +215,6 @@ class FinancialAccountRepositoryTest {
         then(actual.get().accountName()).isEqualTo(Optional.of(accountName));
         then(actual.get().balance()).isEqualTo(balance);
         then(actual.get().isMainAccount()).isEqualTo(isMainAccount);
-
-        then(actual.get().editHistories()).hasSize(2);
-        then(actual.get().editHistories()).anySatisfy(history -> {
-                then(history.id()).isEqualTo(new BalanceEditHistoryId(historyId1));
-                then(history.financialAccountId()).isEqualTo(accountId);
-                then(history.oldBalance()).isEqualTo(new Money(50_000));
-                then(history.newBalance()).isEqualTo(new Money(100_000));
-                then(history.editReason()).isEqualTo(Optional.of(new Description("Deposit")));
-                then(history.editedAt()).isEqualTo(editedAt1);
-            });
-        then(actual.get().editHistories()).anySatisfy(history -> {
-                then(history.id()).isEqualTo(new BalanceEditHistoryId(historyId2));
-                then(history.financialAccountId()).isEqualTo(accountId);
-                then(history.oldBalance()).isEqualTo(new Money(100_000));
-                then(history.newBalance()).isEqualTo(new Money(150_000));
-                then(history.editReason()).isEqualTo(Optional.of(new Description("Interest")));
-                then(history.editedAt()).isEqualTo(editedAt2);
-            });
     }
 
     @Test
@@ -278,7 +223,7 @@ class FinancialAccountRepositoryTest {
         UserId userId = new UserId(TEST_USER_UUID);
         FinancialAccountId accountId = new FinancialAccountId("8888888");
         BankName bankName = new BankName("ゆうちょ銀行");
-        Money balance = new Money(30_000);
+        Balance balance = new Balance(30_000);
 
         insertFinancialAccount(accountId, userId, bankName, Optional.empty(), balance, Boolean.FALSE);
 
@@ -291,6 +236,25 @@ class FinancialAccountRepositoryTest {
         then(actual.get().accountName()).isEmpty();
     }
 
+    @Test
+    void testFindByIdWithNegativeBalance() {
+        // Given
+        // 残高を超える支出を計上した口座は残高が負になる
+        UserId userId = new UserId(TEST_USER_UUID);
+        FinancialAccountId accountId = new FinancialAccountId("6666666");
+        BankName bankName = new BankName("ゆうちょ銀行");
+        Balance balance = new Balance(-5_000);
+
+        insertFinancialAccount(accountId, userId, bankName, Optional.empty(), balance, Boolean.TRUE);
+
+        // When
+        Optional<FinancialAccount> actual = repository.findById(accountId);
+
+        // Then
+        then(actual).isPresent();
+        then(actual.get().balance()).isEqualTo(balance);
+    }
+
     @Test
     void testFindByIdNotFound() {
         // Given
@@ -315,7 +279,7 @@ class FinancialAccountRepositoryTest {
             userId,
             new BankName("三菱UFJ銀行"),
             Optional.of(new AccountName("メイン口座")),
-            new Money(100_000),
+            new Balance(100_000),
             Boolean.TRUE
         );
         insertFinancialAccount(
@@ -323,7 +287,7 @@ class FinancialAccountRepositoryTest {
             userId,
             new BankName("ゆうちょ銀行"),
             Optional.of(new AccountName("貯金口座")),
-            new Money(500_000),
+            new Balance(500_000),
             Boolean.FALSE
         );
 
@@ -358,7 +322,7 @@ class FinancialAccountRepositoryTest {
             userId,
             new BankName("三菱UFJ銀行"),
             Optional.of(new AccountName("メイン口座")),
-            new Money(100_000),
+            new Balance(100_000),
             Boolean.TRUE
         );
 
@@ -376,7 +340,7 @@ class FinancialAccountRepositoryTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount
     ) {
         jdbcClient
@@ -384,7 +348,7 @@ class FinancialAccountRepositoryTest {
                 "INSERT INTO financial_account (id, user_id, bank_name, account_name, balance, is_main_account) VALUES (:id, :userId, :bankName, :accountName, :balance, :isMainAccount)"
             )
             .param("id", accountId.toString())
-            .param("userId", userId.toString())
+            .param("userId", userId.value())
             .param("bankName", bankName.value())
             .param("accountName", accountName.map(AccountName::value).orElse(null))
             .param("balance", balance.amount())
@@ -404,7 +368,7 @@ class FinancialAccountRepositoryTest {
             .sql(
                 "INSERT INTO balance_edit_history (id, financial_account_id, old_balance, new_balance, edit_reason, edited_at) VALUES (:id, :financialAccountId, :oldBalance, :newBalance, :editReason, :editedAt)"
             )
-            .param("id", historyId.toString())
+            .param("id", historyId)
             .param("financialAccountId", financialAccountId.toString())
             .param("oldBalance", oldBalance)
             .param("newBalance", newBalance)
@@ -3,17 +3,14 @@ package com.takata_kento.household_expenses.domain.account;
 import static org.assertj.core.api.BDDAssertions.*;
 
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
-import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -32,18 +29,16 @@ class FinancialAccountTest {
                 new UserId(userUUID),
                 new BankName("三菱UFJ銀行"),
                 Optional.of(new AccountName("メイン口座")),
-                new Money(100_000),
+                new Balance(100_000),
                 Boolean.TRUE,
-                new HashSet<BalanceEditHistory>(),
                 Integer.valueOf(1),
                 new FinancialAccount(
                     new FinancialAccountId(financialAccountNumber),
                     new UserId(userUUID),
                     new BankName("三菱UFJ銀行"),
                     Optional.of(new AccountName("メイン口座")),
-                    new Money(100_000),
+                    new Balance(100_000),
                     Boolean.TRUE,
-                    new HashSet<BalanceEditHistory>(),
                     Integer.valueOf(1)
                 )
             )
@@ -57,9 +52,8 @@ class FinancialAccountTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -71,7 +65,6 @@ class FinancialAccountTest {
             accountName,
             balance,
             isMainAccount,
-            editHistories,
             version
         );
 
@@ -90,9 +83,8 @@ class FinancialAccountTest {
         UserId expectedUserId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -104,7 +96,6 @@ class FinancialAccountTest {
             accountName,
             balance,
             isMainAccount,
-            editHistories,
             version
         );
 
@@ -123,9 +114,8 @@ class FinancialAccountTest {
         UserId userId,
         BankName expectedBankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -137,7 +127,6 @@ class FinancialAccountTest {
             accountName,
             balance,
             isMainAccount,
-            editHistories,
             version
         );
 
@@ -156,9 +145,8 @@ class FinancialAccountTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> expectedAccountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -170,7 +158,6 @@ class FinancialAccountTest {
             expectedAccountName,
             balance,
             isMainAccount,
-            editHistories,
             version
         );
 
@@ -190,9 +177,8 @@ class FinancialAccountTest {
             new UserId(UUID.randomUUID()),
             new BankName("三菱UFJ銀行"),
             Optional.empty(),
-            new Money(100_000),
+            new Balance(100_000),
             Boolean.TRUE,
-            new HashSet<>(),
             null
         );
 
@@ -210,9 +196,8 @@ class FinancialAccountTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money expectedBalance,
+        Balance expectedBalance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -224,12 +209,11 @@ class FinancialAccountTest {
             accountName,
             expectedBalance,
             isMainAccount,
-            editHistories,
             version
         );
 
         // When
-        Money actual = financialAccount.balance();
+        Balance actual = financialAccount.balance();
 
         // Then
         then(actual).isEqualTo(expectedBalance);
@@ -243,9 +227,8 @@ class FinancialAccountTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean expectedIsMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -257,7 +240,6 @@ class FinancialAccountTest {
             accountName,
             balance,
             expectedIsMainAccount,
-            editHistories,
             version
         );
 
@@ -269,126 +251,6 @@ class FinancialAccountTest {
         then(financialAccount).usingRecursiveComparison().isEqualTo(expected);
     }
 
-    @ParameterizedTest
-    @MethodSource("provideFinancialAccountData")
-    void testEditHistories(
-        FinancialAccountId id,
-        UserId userId,
-        BankName bankName,
-        Optional<AccountName> accountName,
-        Money balance,
-        Boolean isMainAccount,
-        Set<BalanceEditHistory> expectedEditHistories,
-        Integer version,
-        FinancialAccount financialAccount
-    ) {
-        // Given
-        FinancialAccount expected = new FinancialAccount(
-            id,
-            userId,
-            bankName,
-            accountName,
-            balance,
-            isMainAccount,
-            expectedEditHistories,
-            version
-        );
-
-        // When
-        Set<BalanceEditHistoryInfo> actual = financialAccount.editHistories();
-
-        // Then
-        then(actual).isEqualTo(expectedEditHistories);
-        then(financialAccount).usingRecursiveComparison().isEqualTo(expected);
-    }
-
-    @ParameterizedTest
-    @MethodSource("provideFinancialAccountData")
-    void testLatestEditHistoryEmpty(
-        FinancialAccountId id,
-        UserId userId,
-        BankName bankName,
-        Optional<AccountName> accountName,
-        Money balance,
-        Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
-        Integer version,
-        FinancialAccount financialAccount
-    ) {
-        // Given
-        // editHistories is empty
-
-        // When
-        Optional<BalanceEditHistoryInfo> actual = financialAccount.latestEditHistory();
-
-        // Then
-        then(actual).isEmpty();
-    }
-
-    @ParameterizedTest
-    @MethodSource("provideFinancialAccountData")
-    void testLatestEditHistory(
-        FinancialAccountId id,
-        UserId userId,
-        BankName bankName,
-        Optional<AccountName> accountName,
-        Money balance,
-        Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
-        Integer version,
-        FinancialAccount financialAccount
-    ) {
-        // Given
-        LocalDateTime olderCreatedAt = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
-        LocalDateTime newerCreatedAt = LocalDateTime.of(2025, 6, 1, 10, 0, 0);
-
-        BalanceEditHistory olderHistory = new BalanceEditHistory(
-            new BalanceEditHistoryId(UUID.randomUUID()),
-            id,
-            new Money(50_000),
-            new Money(100_000),
-            Optional.of(new Description("First edit")),
-            LocalDate.of(2025, 1, 1),
-            olderCreatedAt,
-            Integer.valueOf(1)
-        );
-        BalanceEditHistory newerHistory = new BalanceEditHistory(
-            new BalanceEditHistoryId(UUID.randomUUID()),
-            id,
-            new Money(100_000),
-            new Money(150_000),
-            Optional.of(new Description("Second edit")),
-            LocalDate.of(2025, 6, 1),
-            newerCreatedAt,
-            Integer.valueOf(1)
-        );
-
-        Set<BalanceEditHistory> histories = new HashSet<>();
-        histories.add(olderHistory);
-        histories.add(newerHistory);
-
-        FinancialAccount accountWithHistories = new FinancialAccount(
-            id,
-            userId,
-            bankName,
-            accountName,
-            balance,
-            isMainAccount,
-            histories,
-            version
-        );
-
-        // When
-        Optional<BalanceEditHistoryInfo> actual = accountWithHistories.latestEditHistory();
-
-        // Then
-        then(actual).isPresent();
-        then(actual.get().editedAt()).isEqualTo(LocalDate.of(2025, 6, 1));
-        then(actual.get().oldBalance()).isEqualTo(new Money(100_000));
-        then(actual.get().newBalance()).isEqualTo(new Money(150_000));
-        then(actual.get().editReason()).isEqualTo(Optional.of(new Description("Second edit")));
-    }
-
     @ParameterizedTest
     @MethodSource("provideFinancialAccountData")
     void testUpdateBalance(
@@ -396,9 +258,8 @@ class FinancialAccountTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
@@ -406,25 +267,19 @@ class FinancialAccountTest {
         Money newBalance = new Money(200_000);
         Description reason = new Description("Balance correction");
         LocalDate editedAt = LocalDate.of(2026, 2, 15);
-        Money expectedOldBalance = balance;
-        int expectedHistorySize = editHistories.size() + 1;
+        Balance expectedOldBalance = balance;
 
         // When
-        financialAccount.updateBalance(newBalance, reason, editedAt);
+        BalanceEditHistory actual = financialAccount.updateBalance(newBalance, reason, editedAt);
 
         // Then
-        then(financialAccount.balance()).isEqualTo(newBalance);
-
-        Set<BalanceEditHistoryInfo> actualEditHistories = financialAccount.editHistories();
-        then(actualEditHistories).hasSize(expectedHistorySize);
-
-        then(actualEditHistories).anySatisfy(history -> {
-                then(history.financialAccountId()).isEqualTo(id);
-                then(history.oldBalance()).isEqualTo(expectedOldBalance);
-                then(history.newBalance()).isEqualTo(newBalance);
-                then(history.editReason()).isEqualTo(Optional.of(reason));
-                then(history.editedAt()).isEqualTo(editedAt);
-            });
+        then(financialAccount.balance()).isEqualTo(new Balance(200_000));
+        then(actual.id()).isNotNull();
+        then(actual.financialAccountId()).isEqualTo(id);
+        then(actual.oldBalance()).isEqualTo(expectedOldBalance);
+        then(actual.newBalance()).isEqualTo(newBalance);
+        then(actual.editReason()).isEqualTo(Optional.of(reason));
+        then(actual.editedAt()).isEqualTo(editedAt);
     }
 
     @ParameterizedTest
@@ -434,34 +289,27 @@ class FinancialAccountTest {
         UserId userId,
         BankName bankName,
         Optional<AccountName> accountName,
-        Money balance,
+        Balance balance,
         Boolean isMainAccount,
-        Set<BalanceEditHistory> editHistories,
         Integer version,
         FinancialAccount financialAccount
     ) {
         // Given
         Money newBalance = new Money(200_000);
         LocalDate editedAt = LocalDate.of(2026, 2, 15);
-        Money expectedOldBalance = balance;
-        int expectedHistorySize = editHistories.size() + 1;
+        Balance expectedOldBalance = balance;
 
         // When
-        financialAccount.updateBalance(newBalance, editedAt);
+        BalanceEditHistory actual = financialAccount.updateBalance(newBalance, editedAt);
 
         // Then
-        then(financialAccount.balance()).isEqualTo(newBalance);
-
-        Set<BalanceEditHistoryInfo> actualEditHistories = financialAccount.editHistories();
-        then(actualEditHistories).hasSize(expectedHistorySize);
-
-        then(actualEditHistories).anySatisfy(history -> {
-                then(history.financialAccountId()).isEqualTo(id);
-                then(history.oldBalance()).isEqualTo(expectedOldBalance);
-                then(history.newBalance()).isEqualTo(newBalance);
-                then(history.editReason()).isEqualTo(Optional.empty());
-                then(history.editedAt()).isEqualTo(editedAt);
-            });
+        then(financialAccount.balance()).isEqualTo(new Balance(200_000));
+        then(actual.id()).isNotNull();
+        then(actual.financialAccountId()).isEqualTo(id);
+        then(actual.oldBalance()).isEqualTo(expectedOldBalance);
+        then(actual.newBalance()).isEqualTo(newBalance);
+        then(actual.editReason()).isEqualTo(Optional.empty());
+        then(actual.editedAt()).isEqualTo(editedAt);
     }
 
     @Test
@@ -470,7 +318,7 @@ class FinancialAccountTest {
         FinancialAccountId id = new FinancialAccountId("1234567");
         UserId userId = new UserId(UUID.randomUUID());
         BankName bankName = new BankName("三菱UFJ銀行");
-        Money balance = new Money(100_000);
+        Balance balance = new Balance(100_000);
         Boolean isMainAccount = Boolean.TRUE;
         FinancialAccount financialAccount = new FinancialAccount(
             id,
@@ -479,7 +327,6 @@ class FinancialAccountTest {
             Optional.empty(),
             balance,
             isMainAccount,
-            new HashSet<>(),
             Integer.valueOf(1)
         );
         AccountName newAccountName = new AccountName("家計用口座");
@@ -495,7 +342,6 @@ class FinancialAccountTest {
         then(financialAccount.bankName()).isEqualTo(bankName);
         then(financialAccount.balance()).isEqualTo(balance);
         then(financialAccount.isMainAccount()).isEqualTo(isMainAccount);
-        then(financialAccount.editHistories()).isEmpty();
     }
 
     @Test
@@ -504,7 +350,7 @@ class FinancialAccountTest {
         FinancialAccountId id = new FinancialAccountId("1234567");
         UserId userId = new UserId(UUID.randomUUID());
         BankName bankName = new BankName("三菱UFJ銀行");
-        Money balance = new Money(100_000);
+        Balance balance = new Balance(100_000);
         Boolean isMainAccount = Boolean.TRUE;
         FinancialAccount financialAccount = new FinancialAccount(
             id,
@@ -513,7 +359,6 @@ class FinancialAccountTest {
             Optional.of(new AccountName("旧口座名")),
             balance,
             isMainAccount,
-            new HashSet<>(),
             Integer.valueOf(1)
         );
         AccountName newAccountName = new AccountName("新口座名");
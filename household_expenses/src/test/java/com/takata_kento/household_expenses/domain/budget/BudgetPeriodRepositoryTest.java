@@ -0,0 +1,171 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(BudgetPeriodRepository.class)
+class BudgetPeriodRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(TEST_USER_GROUP_UUID);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private BudgetPeriodRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .param("groupName", "testgroup")
+            .param("monthStartDay", 25)
+            .update();
+
+        // テストユーザーを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", TEST_USER_UUID)
+            .param("username", "testuser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+    }
+
+    @Test
+    void testGenerate() {
+        // Given
+        insertMonthlyBudget(2024, 6, 80_000);
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24));
+
+        // When
+        GroupBudgetPeriod actual = repository.generate(USER_GROUP_ID, period);
+
+        // Then
+        then(actual).isEqualTo(new GroupBudgetPeriod(period, Optional.of(new Money(80_000))));
+    }
+
+    @Test
+    void testFindContaining() {
+        // Given
+        BudgetPeriod june = new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24));
+        BudgetPeriod july = new BudgetPeriod(LocalDate.of(2024, 7, 25), LocalDate.of(2024, 8, 24));
+        repository.generate(USER_GROUP_ID, june);
+        repository.generate(USER_GROUP_ID, july);
+
+        // When
+        Optional<GroupBudgetPeriod> actual = repository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 7, 24));
+
+        // Then
+        then(actual).contains(new GroupBudgetPeriod(june, Optional.empty()));
+    }
+
+    @Test
+    void testFindContainingWhenNotGenerated() {
+        // Given
+        repository.generate(USER_GROUP_ID, new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24)));
+
+        // When
+        Optional<GroupBudgetPeriod> actual = repository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 8, 1));
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void testUpdateBudgetAmount() {
+        // Given
+        BudgetPeriod period = new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24));
+        repository.generate(USER_GROUP_ID, period);
+
+        // When
+        repository.updateBudgetAmount(USER_GROUP_ID, new Year(2024), new Month(6), new Money(90_000));
+
+        // Then
+        then(repository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 7, 1))).contains(
+            new GroupBudgetPeriod(period, Optional.of(new Money(90_000)))
+        );
+    }
+
+    @Test
+    void testRegenerate() {
+        // Given
+        // 月始日=25 で生成済みの期間を、月始日=1 で作り直す
+        repository.generate(USER_GROUP_ID, new BudgetPeriod(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 24)));
+        insertMonthlyBudget(2024, 4, 50_000);
+
+        // When
+        repository.regenerate(USER_GROUP_ID, new Day(1), LocalDate.of(2024, 6, 10), LocalDate.of(2024, 8, 10));
+
+        // Then
+        // 月次予算のある 2024-04 から 2024-08 までの5期間
+        then(countPeriods()).isEqualTo(5);
+        then(repository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 4, 30))).contains(
+            new GroupBudgetPeriod(
+                new BudgetPeriod(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)),
+                Optional.of(new Money(50_000))
+            )
+        );
+        then(repository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 7, 1))).contains(
+            new GroupBudgetPeriod(
+                new BudgetPeriod(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)),
+                Optional.empty()
+            )
+        );
+        then(repository.findContaining(USER_GROUP_ID, LocalDate.of(2024, 9, 1))).isEmpty();
+    }
+
+    private int countPeriods() {
+        return jdbcClient
+            .sql("SELECT COUNT(*) FROM budget_period WHERE user_group_id = :userGroupId")
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .query(Integer.class)
+            .single();
+    }
+
+    private void insertMonthlyBudget(int year, int month, int budgetAmount) {
+        jdbcClient
+            .sql(
+                "INSERT INTO monthly_budget (id, user_group_id, year, month, budget_amount, set_by_user_id) VALUES (:id, :userGroupId, :year, :month, :budgetAmount, :setByUserId)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("year", year)
+            .param("month", month)
+            .param("budgetAmount", budgetAmount)
+            .param("setByUserId", TEST_USER_UUID)
+            .update();
+    }
+}
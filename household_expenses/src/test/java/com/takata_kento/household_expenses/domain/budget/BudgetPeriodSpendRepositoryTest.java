@@ -0,0 +1,154 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(BudgetPeriodSpendRepository.class)
+class BudgetPeriodSpendRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID TEST_CATEGORY_UUID = UUID.randomUUID();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private BudgetPeriodSpendRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .param("groupName", "testgroup")
+            .param("monthStartDay", 25)
+            .update();
+
+        // テストユーザーを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", TEST_USER_UUID)
+            .param("username", "testuser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+
+        // 生活費カテゴリを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
+            )
+            .param("id", TEST_CATEGORY_UUID)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("categoryName", "食費")
+            .param("isDefault", false)
+            .update();
+    }
+
+    @Test
+    void testSumLivingExpensesByPeriod() {
+        // Given
+        // 月始日=25 の 2024年の期間は 2024-01-25 〜 2025-01-24
+        insertLivingExpense(LocalDate.of(2024, 1, 24), 9_000);
+        insertLivingExpense(LocalDate.of(2024, 1, 25), 1_000);
+        insertLivingExpense(LocalDate.of(2024, 2, 10), 2_000);
+        insertLivingExpense(LocalDate.of(2024, 12, 30), 3_000);
+        insertLivingExpense(LocalDate.of(2025, 1, 24), 4_000);
+        insertLivingExpense(LocalDate.of(2025, 1, 25), 9_000);
+
+        // When
+        List<PeriodSpent> actual = repository.sumLivingExpensesByPeriod(
+            new UserGroupId(TEST_USER_GROUP_UUID),
+            new Year(2024),
+            new Day(25)
+        );
+
+        // Then
+        then(actual).containsExactly(
+            new PeriodSpent(new Year(2024), new Month(1), new Money(3_000)),
+            new PeriodSpent(new Year(2024), new Month(12), new Money(7_000))
+        );
+    }
+
+    @Test
+    void testSumLivingExpensesByPeriodRoundsMonthStartDayToEndOfMonth() {
+        // Given
+        // 月始日=31 の場合、2024年2月の期間は2月末日（29日）から始まる
+        insertLivingExpense(LocalDate.of(2024, 2, 28), 500);
+        insertLivingExpense(LocalDate.of(2024, 2, 29), 700);
+
+        // When
+        List<PeriodSpent> actual = repository.sumLivingExpensesByPeriod(
+            new UserGroupId(TEST_USER_GROUP_UUID),
+            new Year(2024),
+            new Day(31)
+        );
+
+        // Then
+        then(actual).containsExactly(
+            new PeriodSpent(new Year(2024), new Month(1), new Money(500)),
+            new PeriodSpent(new Year(2024), new Month(2), new Money(700))
+        );
+    }
+
+    private void insertLivingExpense(LocalDate transactionDate, int amount) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", transactionId)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", transactionDate)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount) VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("userId", TEST_USER_UUID)
+            .param("categoryId", TEST_CATEGORY_UUID)
+            .param("amount", amount)
+            .update();
+        jdbcClient
+            .sql(
+                "UPDATE daily_group_transaction SET total_living_expense = total_living_expense + :amount WHERE id = :transactionId AND transaction_date = :transactionDate"
+            )
+            .param("amount", amount)
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .update();
+    }
+}
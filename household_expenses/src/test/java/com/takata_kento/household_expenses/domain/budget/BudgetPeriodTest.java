@@ -0,0 +1,97 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Month;
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class BudgetPeriodTest {
+
+    @Test
+    void testOf() {
+        // When
+        BudgetPeriod actual = BudgetPeriod.of(new Year(2024), new Month(6), new Day(1));
+
+        // Then
+        assertThat(actual.startDate()).isEqualTo(LocalDate.of(2024, 6, 1));
+        assertThat(actual.endDate()).isEqualTo(LocalDate.of(2024, 6, 30));
+    }
+
+    @Test
+    void testOfWithMonthStartDayMidMonth() {
+        // When
+        BudgetPeriod actual = BudgetPeriod.of(new Year(2024), new Month(12), new Day(25));
+
+        // Then
+        assertThat(actual.startDate()).isEqualTo(LocalDate.of(2024, 12, 25));
+        assertThat(actual.endDate()).isEqualTo(LocalDate.of(2025, 1, 24));
+    }
+
+    @Test
+    void testOfWithMonthStartDayExceedingMonthLength() {
+        // When
+        // 月始日=31 の場合、2月は2月末日に丸め、3月は31日から始まる
+        BudgetPeriod actual = BudgetPeriod.of(new Year(2024), new Month(2), new Day(31));
+
+        // Then
+        assertThat(actual.startDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(actual.endDate()).isEqualTo(LocalDate.of(2024, 3, 30));
+    }
+
+    @Test
+    void testContainingWhenOnOrAfterStartDay() {
+        // When
+        BudgetPeriod actual = BudgetPeriod.containing(LocalDate.of(2024, 7, 30), new Day(25));
+
+        // Then
+        assertThat(actual.startDate()).isEqualTo(LocalDate.of(2024, 7, 25));
+        assertThat(actual.year()).isEqualTo(new Year(2024));
+        assertThat(actual.month()).isEqualTo(new Month(7));
+    }
+
+    @Test
+    void testContainingWhenBeforeStartDay() {
+        // When
+        BudgetPeriod actual = BudgetPeriod.containing(LocalDate.of(2024, 7, 10), new Day(25));
+
+        // Then
+        assertThat(actual.startDate()).isEqualTo(LocalDate.of(2024, 6, 25));
+        assertThat(actual.endDate()).isEqualTo(LocalDate.of(2024, 7, 24));
+        assertThat(actual.year()).isEqualTo(new Year(2024));
+        assertThat(actual.month()).isEqualTo(new Month(6));
+    }
+
+    @Test
+    void testContainingAcrossYearBoundary() {
+        // When
+        BudgetPeriod actual = BudgetPeriod.containing(LocalDate.of(2025, 1, 5), new Day(25));
+
+        // Then
+        assertThat(actual.startDate()).isEqualTo(LocalDate.of(2024, 12, 25));
+        assertThat(actual.year()).isEqualTo(new Year(2024));
+        assertThat(actual.month()).isEqualTo(new Month(12));
+    }
+
+    @Test
+    void testContains() {
+        // Given
+        BudgetPeriod period = BudgetPeriod.of(new Year(2024), new Month(6), new Day(25));
+
+        // When & Then
+        assertThat(period.contains(LocalDate.of(2024, 6, 25))).isTrue();
+        assertThat(period.contains(LocalDate.of(2024, 7, 24))).isTrue();
+        assertThat(period.contains(LocalDate.of(2024, 6, 24))).isFalse();
+        assertThat(period.contains(LocalDate.of(2024, 7, 25))).isFalse();
+    }
+
+    @Test
+    void testCreateWithEndBeforeStart() {
+        // When & Then
+        assertThatThrownBy(() -> new BudgetPeriod(LocalDate.of(2024, 6, 30), LocalDate.of(2024, 6, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("endDate must not be before startDate");
+    }
+}
@@ -0,0 +1,221 @@
+package com.takata_kento.household_expenses.domain.budget;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Day;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(BudgetSpendLedgerRepository.class)
+class BudgetSpendLedgerRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID TEST_CATEGORY_UUID = UUID.randomUUID();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private BudgetSpendLedgerRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .param("groupName", "testgroup")
+            .param("monthStartDay", 25)
+            .update();
+
+        // テストユーザーを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", TEST_USER_UUID)
+            .param("username", "testuser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+
+        // 生活費カテゴリを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
+            )
+            .param("id", TEST_CATEGORY_UUID)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("categoryName", "食費")
+            .param("isDefault", false)
+            .update();
+    }
+
+    @Test
+    void testApplyDelta() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        BudgetPeriod period = BudgetPeriod.containing(LocalDate.of(2024, 7, 1), new Day(25));
+
+        // When
+        repository.applyDelta(userGroupId, period, LocalDate.of(2024, 6, 26), 1_000);
+        repository.applyDelta(userGroupId, period, LocalDate.of(2024, 7, 1), 2_000);
+
+        // Then
+        then(repository.findCumulativeSpent(userGroupId, period, LocalDate.of(2024, 6, 25))).isEqualTo(new Money(0));
+        then(repository.findCumulativeSpent(userGroupId, period, LocalDate.of(2024, 6, 30))).isEqualTo(
+            new Money(1_000)
+        );
+        then(repository.findCumulativeSpent(userGroupId, period, LocalDate.of(2024, 7, 24))).isEqualTo(
+            new Money(3_000)
+        );
+    }
+
+    @Test
+    void testApplyDeltaPropagatesToLaterDates() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        BudgetPeriod period = BudgetPeriod.containing(LocalDate.of(2024, 7, 1), new Day(25));
+        repository.applyDelta(userGroupId, period, LocalDate.of(2024, 7, 1), 2_000);
+
+        // When
+        // 後から過去日付の支出を追加・減額しても以降の累計に反映される
+        repository.applyDelta(userGroupId, period, LocalDate.of(2024, 6, 28), 500);
+        repository.applyDelta(userGroupId, period, LocalDate.of(2024, 7, 1), -1_500);
+
+        // Then
+        then(repository.findCumulativeSpent(userGroupId, period, LocalDate.of(2024, 6, 28))).isEqualTo(new Money(500));
+        then(repository.findCumulativeSpent(userGroupId, period, LocalDate.of(2024, 7, 1))).isEqualTo(
+            new Money(1_000)
+        );
+        Integer dailyAmount = jdbcClient
+            .sql(
+                "SELECT daily_amount FROM budget_spend_ledger WHERE user_group_id = :userGroupId AND transaction_date = :transactionDate"
+            )
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", LocalDate.of(2024, 7, 1))
+            .query(Integer.class)
+            .single();
+        then(dailyAmount).isEqualTo(500);
+    }
+
+    @Test
+    void testApplyDeltaDoesNotAffectOtherPeriods() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        BudgetPeriod junePeriod = BudgetPeriod.containing(LocalDate.of(2024, 7, 1), new Day(25));
+        BudgetPeriod julyPeriod = BudgetPeriod.containing(LocalDate.of(2024, 7, 25), new Day(25));
+        repository.applyDelta(userGroupId, julyPeriod, LocalDate.of(2024, 7, 26), 3_000);
+
+        // When
+        repository.applyDelta(userGroupId, junePeriod, LocalDate.of(2024, 7, 1), 2_000);
+
+        // Then
+        then(repository.findCumulativeSpent(userGroupId, julyPeriod, LocalDate.of(2024, 7, 26))).isEqualTo(
+            new Money(3_000)
+        );
+        then(repository.findCumulativeSpent(userGroupId, junePeriod, LocalDate.of(2024, 7, 24))).isEqualTo(
+            new Money(2_000)
+        );
+    }
+
+    @Test
+    void testRebuild() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        insertLivingExpense(LocalDate.of(2024, 6, 20), 1_000);
+        insertLivingExpense(LocalDate.of(2024, 6, 26), 2_000);
+        insertLivingExpense(LocalDate.of(2024, 7, 1), 3_000);
+
+        // When
+        repository.rebuild(userGroupId, new Day(25));
+
+        // Then
+        BudgetPeriod mayPeriod = BudgetPeriod.containing(LocalDate.of(2024, 6, 20), new Day(25));
+        BudgetPeriod junePeriod = BudgetPeriod.containing(LocalDate.of(2024, 7, 1), new Day(25));
+        then(repository.findCumulativeSpent(userGroupId, mayPeriod, LocalDate.of(2024, 6, 24))).isEqualTo(
+            new Money(1_000)
+        );
+        then(repository.findCumulativeSpent(userGroupId, junePeriod, LocalDate.of(2024, 6, 30))).isEqualTo(
+            new Money(2_000)
+        );
+        then(repository.findCumulativeSpent(userGroupId, junePeriod, LocalDate.of(2024, 7, 24))).isEqualTo(
+            new Money(5_000)
+        );
+    }
+
+    @Test
+    void testRebuildWithMonthStartDayBeyondEndOfMonth() {
+        // Given
+        // 月始日=31 の場合、2月の期間は2月末日から始まる
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        insertLivingExpense(LocalDate.of(2024, 2, 28), 1_000);
+        insertLivingExpense(LocalDate.of(2024, 2, 29), 2_000);
+        insertLivingExpense(LocalDate.of(2024, 3, 30), 3_000);
+
+        // When
+        repository.rebuild(userGroupId, new Day(31));
+
+        // Then
+        BudgetPeriod januaryPeriod = BudgetPeriod.containing(LocalDate.of(2024, 2, 28), new Day(31));
+        BudgetPeriod februaryPeriod = BudgetPeriod.containing(LocalDate.of(2024, 2, 29), new Day(31));
+        then(repository.findCumulativeSpent(userGroupId, januaryPeriod, LocalDate.of(2024, 2, 28))).isEqualTo(
+            new Money(1_000)
+        );
+        then(repository.findCumulativeSpent(userGroupId, februaryPeriod, LocalDate.of(2024, 3, 30))).isEqualTo(
+            new Money(5_000)
+        );
+    }
+
+    private void insertLivingExpense(LocalDate transactionDate, int amount) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", transactionId)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", transactionDate)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount) VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("userId", TEST_USER_UUID)
+            .param("categoryId", TEST_CATEGORY_UUID)
+            .param("amount", amount)
+            .update();
+        jdbcClient
+            .sql(
+                "UPDATE daily_group_transaction SET total_living_expense = total_living_expense + :amount WHERE id = :transactionId AND transaction_date = :transactionDate"
+            )
+            .param("amount", amount)
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .update();
+    }
+}
@@ -55,7 +55,7 @@ class MonthlyBudgetRepositoryTest {
                     (:id, :username, :password_hash, :enabled, :version)
                 """
             )
-            .param("id", USER_UUID.toString())
+            .param("id", USER_UUID)
             .param("username", "testuser")
             .param("password_hash", "dummy_hash")
             .param("enabled", true)
@@ -72,10 +72,10 @@ class MonthlyBudgetRepositoryTest {
                     (:id, :group_name, :month_start_day, :created_by_user_id, :version)
                 """
             )
-            .param("id", USER_GRORUP_UUID.toString())
+            .param("id", USER_GRORUP_UUID)
             .param("group_name", "Test Group")
             .param("month_start_day", 1)
-            .param("created_by_user_id", USER_UUID.toString())
+            .param("created_by_user_id", USER_UUID)
             .param("version", 1)
             .update();
 
@@ -89,12 +89,12 @@ class MonthlyBudgetRepositoryTest {
                     (:id, :user_group_id, :year, :month, :budget_amount, :set_by_user_id, :created_at, :version)
                 """
             )
-            .param("id", BUDGET_UUID_1.toString())
-            .param("user_group_id", USER_GRORUP_UUID.toString())
+            .param("id", BUDGET_UUID_1)
+            .param("user_group_id", USER_GRORUP_UUID)
             .param("year", 2024)
             .param("month", 7)
             .param("budget_amount", 100000)
-            .param("set_by_user_id", USER_UUID.toString())
+            .param("set_by_user_id", USER_UUID)
             .param("created_at", LocalDateTime.of(2024, 7, 1, 10, 0, 0))
             .param("version", 1)
             .update();
@@ -108,12 +108,12 @@ class MonthlyBudgetRepositoryTest {
                     (:id, :user_group_id, :year, :month, :budget_amount, :set_by_user_id, :created_at, :version)
                 """
             )
-            .param("id", BUDGET_UUID_2.toString())
-            .param("user_group_id", USER_GRORUP_UUID.toString())
+            .param("id", BUDGET_UUID_2)
+            .param("user_group_id", USER_GRORUP_UUID)
             .param("year", 2024)
             .param("month", 11)
             .param("budget_amount", 95000)
-            .param("set_by_user_id", USER_UUID.toString())
+            .param("set_by_user_id", USER_UUID)
             .param("created_at", LocalDateTime.of(2024, 7, 1, 10, 0, 0))
             .param("version", 1)
             .update();
@@ -141,35 +141,35 @@ class MonthlyBudgetRepositoryTest {
         // DBから直接確認
         String userGroupIdFromDb = jdbcClient
             .sql("SELECT user_group_id FROM monthly_budget WHERE id = ?")
-            .param(savedMonthlyBudget.id().toString())
+            .param(savedMonthlyBudget.id().value())
             .query(String.class)
             .single();
         assertThat(userGroupIdFromDb).isEqualTo(USER_GRORUP_UUID.toString());
 
         Integer budgetAmountFromDb = jdbcClient
             .sql("SELECT budget_amount FROM monthly_budget WHERE id = ?")
-            .param(savedMonthlyBudget.id().toString())
+            .param(savedMonthlyBudget.id().value())
             .query(Integer.class)
             .single();
         assertThat(budgetAmountFromDb).isEqualTo(budgetAmount);
 
         Integer yearFromDb = jdbcClient
             .sql("SELECT year FROM monthly_budget WHERE id = ?")
-            .param(savedMonthlyBudget.id().toString())
+            .param(savedMonthlyBudget.id().value())
             .query(Integer.class)
             .single();
         assertThat(yearFromDb).isEqualTo(year);
 
         Integer monthFromDb = jdbcClient
             .sql("SELECT month FROM monthly_budget WHERE id = ?")
-            .param(savedMonthlyBudget.id().toString())
+            .param(savedMonthlyBudget.id().value())
             .query(Integer.class)
             .single();
         assertThat(monthFromDb).isEqualTo(month);
 
         String setByUserIdFromDb = jdbcClient
             .sql("SELECT set_by_user_id FROM monthly_budget WHERE id = ?")
-            .param(savedMonthlyBudget.id().toString())
+            .param(savedMonthlyBudget.id().value())
             .query(String.class)
             .single();
         assertThat(setByUserIdFromDb).isEqualTo(USER_UUID.toString());
@@ -190,7 +190,7 @@ class MonthlyBudgetRepositoryTest {
         // DBから直接確認
         Integer budgetAmountFromDb = jdbcClient
             .sql("SELECT budget_amount FROM monthly_budget WHERE id = ?")
-            .param(monthlyBudgetId.toString())
+            .param(monthlyBudgetId.value())
             .query(Integer.class)
             .single();
         assertThat(budgetAmountFromDb).isEqualTo(120000);
@@ -301,4 +301,52 @@ class MonthlyBudgetRepositoryTest {
         assertThat(actualList.get(0).userGroupId()).isEqualTo(expectedUserGroupId);
         assertThat(actualList.get(1).userGroupId()).isEqualTo(expectedUserGroupId);
     }
+
+    @Test
+    void testUpsertInsertsWhenAbsent() {
+        // Given
+        MonthlyBudget monthlyBudget = MonthlyBudget.create(
+            new UserGroupId(USER_GRORUP_UUID),
+            new Year(2024),
+            new Month(6),
+            new Money(100000),
+            new UserId(USER_UUID)
+        );
+
+        // When
+        MonthlyBudget actual = monthlyBudgetRepository.upsert(monthlyBudget);
+
+        // Then
+        assertThat(actual.id()).isEqualTo(monthlyBudget.id());
+        assertThat(actual.budgetAmount()).isEqualTo(new Money(100000));
+        assertThat(actual.version()).isEqualTo(0);
+    }
+
+    @Test
+    void testUpsertUpdatesExisting() {
+        // Given
+        MonthlyBudget monthlyBudget = MonthlyBudget.create(
+            new UserGroupId(USER_GRORUP_UUID),
+            new Year(2024),
+            new Month(7),
+            new Money(120000),
+            new UserId(USER_UUID)
+        );
+
+        // When
+        MonthlyBudget actual = monthlyBudgetRepository.upsert(monthlyBudget);
+
+        // Then
+        // 既存行の ID を保ったまま金額が上書きされる
+        assertThat(actual.id()).isEqualTo(new MonthlyBudgetId(BUDGET_UUID_1));
+        assertThat(actual.budgetAmount()).isEqualTo(new Money(120000));
+        assertThat(actual.version()).isEqualTo(2);
+
+        Long countFromDb = jdbcClient
+            .sql("SELECT COUNT(*) FROM monthly_budget WHERE user_group_id = ? AND year = 2024 AND month = 7")
+            .param(USER_GRORUP_UUID)
+            .query(Long.class)
+            .single();
+        assertThat(countFromDb).isEqualTo(1L);
+    }
 }
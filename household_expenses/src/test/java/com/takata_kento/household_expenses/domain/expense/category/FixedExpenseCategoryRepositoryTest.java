@@ -54,7 +54,7 @@ class FixedExpenseCategoryRepositoryTest {
                     (:id, :group_name, :month_start_day, :version)
                 """
             )
-            .param("id", USER_GROUP_UUID_1.toString())
+            .param("id", USER_GROUP_UUID_1)
             .param("group_name", "Test Group 1")
             .param("month_start_day", 1)
             .param("version", 0)
@@ -69,7 +69,7 @@ class FixedExpenseCategoryRepositoryTest {
                     (:id, :group_name, :month_start_day, :version)
                 """
             )
-            .param("id", USER_GROUP_UUID_2.toString())
+            .param("id", USER_GROUP_UUID_2)
             .param("group_name", "Test Group 2")
             .param("month_start_day", 1)
             .param("version", 0)
@@ -83,8 +83,8 @@ class FixedExpenseCategoryRepositoryTest {
                 VALUES (:id, :user_group_id, '家賃', '毎月の家賃', 80000, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", CATEGORY_UUID_1.toString())
-            .param("user_group_id", USER_GROUP_UUID_1.toString())
+            .param("id", CATEGORY_UUID_1)
+            .param("user_group_id", USER_GROUP_UUID_1)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -96,8 +96,8 @@ class FixedExpenseCategoryRepositoryTest {
                 VALUES (:id, :user_group_id, '光熱費', '電気・ガス・水道', 15000, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("user_group_id", USER_GROUP_UUID_1.toString())
+            .param("id", UUID.randomUUID())
+            .param("user_group_id", USER_GROUP_UUID_1)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -109,8 +109,8 @@ class FixedExpenseCategoryRepositoryTest {
                 VALUES (:id, :user_group_id, '通信費', 'インターネット・携帯', 5000, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("user_group_id", USER_GROUP_UUID_2.toString())
+            .param("id", UUID.randomUUID())
+            .param("user_group_id", USER_GROUP_UUID_2)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -153,28 +153,28 @@ class FixedExpenseCategoryRepositoryTest {
         // Then
         String userGroupIdFromDb = jdbcClient
             .sql("SELECT user_group_id FROM fixed_expense_category WHERE id = ?")
-            .param(savedCategory.id().toString())
+            .param(savedCategory.id().value())
             .query(String.class)
             .single();
         assertThat(userGroupIdFromDb).isEqualTo(USER_GROUP_UUID_1.toString());
 
         String categoryNameFromDb = jdbcClient
             .sql("SELECT category_name FROM fixed_expense_category WHERE id = ?")
-            .param(savedCategory.id().toString())
+            .param(savedCategory.id().value())
             .query(String.class)
             .single();
         assertThat(categoryNameFromDb).isEqualTo(expectedCategoryName.value());
 
         String descriptionFromDb = jdbcClient
             .sql("SELECT description FROM fixed_expense_category WHERE id = ?")
-            .param(savedCategory.id().toString())
+            .param(savedCategory.id().value())
             .query(String.class)
             .single();
         assertThat(descriptionFromDb).isEqualTo(expectedDescription.value());
 
         Integer defaultAmountFromDb = jdbcClient
             .sql("SELECT default_amount FROM fixed_expense_category WHERE id = ?")
-            .param(savedCategory.id().toString())
+            .param(savedCategory.id().value())
             .query(Integer.class)
             .single();
         assertThat(defaultAmountFromDb).isEqualTo(expectedDefaultAmount.amount());
@@ -198,21 +198,21 @@ class FixedExpenseCategoryRepositoryTest {
         // Then
         String categoryNameFromDb = jdbcClient
             .sql("SELECT category_name FROM fixed_expense_category WHERE id = ?")
-            .param(categoryId.toString())
+            .param(categoryId.value())
             .query(String.class)
             .single();
         assertThat(categoryNameFromDb).isEqualTo(newCategoryName.value());
 
         String descriptionFromDb = jdbcClient
             .sql("SELECT description FROM fixed_expense_category WHERE id = ?")
-            .param(categoryId.toString())
+            .param(categoryId.value())
             .query(String.class)
             .single();
         assertThat(descriptionFromDb).isEqualTo(newDescription.value());
 
         Integer defaultAmountFromDb = jdbcClient
             .sql("SELECT default_amount FROM fixed_expense_category WHERE id = ?")
-            .param(categoryId.toString())
+            .param(categoryId.value())
             .query(Integer.class)
             .single();
         assertThat(defaultAmountFromDb).isEqualTo(newDefaultAmount.amount());
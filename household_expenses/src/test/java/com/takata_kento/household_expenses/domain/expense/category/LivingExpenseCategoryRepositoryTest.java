@@ -51,7 +51,7 @@ class LivingExpenseCategoryRepositoryTest {
                     (:id, :group_name, :month_start_day, :version)
                 """
             )
-            .param("id", USER_GROUP_UUID_1.toString())
+            .param("id", USER_GROUP_UUID_1)
             .param("group_name", "Test Group 1")
             .param("month_start_day", 1)
             .param("version", 0)
@@ -66,7 +66,7 @@ class LivingExpenseCategoryRepositoryTest {
                     (:id, :group_name, :month_start_day, :version)
                 """
             )
-            .param("id", USER_GROUP_UUID_2.toString())
+            .param("id", USER_GROUP_UUID_2)
             .param("group_name", "Test Group 2")
             .param("month_start_day", 1)
             .param("version", 0)
@@ -79,8 +79,8 @@ class LivingExpenseCategoryRepositoryTest {
                 VALUES (:id, :user_group_id, '食費', '食材・外食費', true, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("user_group_id", USER_GROUP_UUID_1.toString())
+            .param("id", UUID.randomUUID())
+            .param("user_group_id", USER_GROUP_UUID_1)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -92,8 +92,8 @@ class LivingExpenseCategoryRepositoryTest {
                 VALUES (:id, :user_group_id, '交通費', '電車・バス代', false, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("user_group_id", USER_GROUP_UUID_1.toString())
+            .param("id", UUID.randomUUID())
+            .param("user_group_id", USER_GROUP_UUID_1)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -105,8 +105,8 @@ class LivingExpenseCategoryRepositoryTest {
                 VALUES (:id, :user_group_id, '日用品', '生活雑貨', false, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("user_group_id", USER_GROUP_UUID_2.toString())
+            .param("id", UUID.randomUUID())
+            .param("user_group_id", USER_GROUP_UUID_2)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -58,7 +58,7 @@ class FixedExpenseHistoryRepositoryTest {
                     (:id, :group_name, :month_start_day, :version)
                 """
             )
-            .param("id", USER_GROUP_UUID.toString())
+            .param("id", USER_GROUP_UUID)
             .param("group_name", "Test Group")
             .param("month_start_day", 1)
             .param("version", 0)
@@ -72,8 +72,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :user_group_id, '家賃', '毎月の家賃', 80000, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", CATEGORY_UUID_1.toString())
-            .param("user_group_id", USER_GROUP_UUID.toString())
+            .param("id", CATEGORY_UUID_1)
+            .param("user_group_id", USER_GROUP_UUID)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -86,8 +86,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :user_group_id, '光熱費', '電気・ガス・水道', 15000, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", CATEGORY_UUID_2.toString())
-            .param("user_group_id", USER_GROUP_UUID.toString())
+            .param("id", CATEGORY_UUID_2)
+            .param("user_group_id", USER_GROUP_UUID)
             .param("created_at", now)
             .param("updated_at", now)
             .update();
@@ -100,8 +100,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :fixed_expense_category_id, :year, :month, :amount, :effective_date, :memo, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", HISTORY_UUID_1.toString())
-            .param("fixed_expense_category_id", CATEGORY_UUID_1.toString())
+            .param("id", HISTORY_UUID_1)
+            .param("fixed_expense_category_id", CATEGORY_UUID_1)
             .param("year", 2026)
             .param("month", 2)
             .param("amount", 80_000)
@@ -137,42 +137,42 @@ class FixedExpenseHistoryRepositoryTest {
         // Then
         String categoryIdFromDb = jdbcClient
             .sql("SELECT fixed_expense_category_id FROM fixed_expense_history WHERE id = ?")
-            .param(savedHistory.id().toString())
+            .param(savedHistory.id().value())
             .query(String.class)
             .single();
         assertThat(categoryIdFromDb).isEqualTo(CATEGORY_UUID_1.toString());
 
         Integer yearFromDb = jdbcClient
             .sql("SELECT year FROM fixed_expense_history WHERE id = ?")
-            .param(savedHistory.id().toString())
+            .param(savedHistory.id().value())
             .query(Integer.class)
             .single();
         assertThat(yearFromDb).isEqualTo(expectedYear.value());
 
         Integer monthFromDb = jdbcClient
             .sql("SELECT month FROM fixed_expense_history WHERE id = ?")
-            .param(savedHistory.id().toString())
+            .param(savedHistory.id().value())
             .query(Integer.class)
             .single();
         assertThat(monthFromDb).isEqualTo(expectedMonth.value());
 
         Integer amountFromDb = jdbcClient
             .sql("SELECT amount FROM fixed_expense_history WHERE id = ?")
-            .param(savedHistory.id().toString())
+            .param(savedHistory.id().value())
             .query(Integer.class)
             .single();
         assertThat(amountFromDb).isEqualTo(expectedAmount.amount());
 
         LocalDate effectiveDateFromDb = jdbcClient
             .sql("SELECT effective_date FROM fixed_expense_history WHERE id = ?")
-            .param(savedHistory.id().toString())
+            .param(savedHistory.id().value())
             .query(LocalDate.class)
             .single();
         assertThat(effectiveDateFromDb).isEqualTo(expectedEffectiveDate);
 
         String memoFromDb = jdbcClient
             .sql("SELECT memo FROM fixed_expense_history WHERE id = ?")
-            .param(savedHistory.id().toString())
+            .param(savedHistory.id().value())
             .query(String.class)
             .single();
         assertThat(memoFromDb).isEqualTo(expectedMemo.get().value());
@@ -196,21 +196,21 @@ class FixedExpenseHistoryRepositoryTest {
         // Then
         Integer amountFromDb = jdbcClient
             .sql("SELECT amount FROM fixed_expense_history WHERE id = ?")
-            .param(historyId.toString())
+            .param(historyId.value())
             .query(Integer.class)
             .single();
         assertThat(amountFromDb).isEqualTo(newAmount.amount());
 
         LocalDate effectiveDateFromDb = jdbcClient
             .sql("SELECT effective_date FROM fixed_expense_history WHERE id = ?")
-            .param(historyId.toString())
+            .param(historyId.value())
             .query(LocalDate.class)
             .single();
         assertThat(effectiveDateFromDb).isEqualTo(newEffectiveDate);
 
         String memoFromDb = jdbcClient
             .sql("SELECT memo FROM fixed_expense_history WHERE id = ?")
-            .param(historyId.toString())
+            .param(historyId.value())
             .query(String.class)
             .single();
         assertThat(memoFromDb).isEqualTo(newMemo.get().value());
@@ -234,8 +234,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :fixed_expense_category_id, :year, :month, :amount, :effective_date, :memo, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", category2HistoryId.toString())
-            .param("fixed_expense_category_id", CATEGORY_UUID_2.toString())
+            .param("id", category2HistoryId)
+            .param("fixed_expense_category_id", CATEGORY_UUID_2)
             .param("year", 2026)
             .param("month", 2)
             .param("amount", 15_000)
@@ -253,8 +253,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :fixed_expense_category_id, :year, :month, :amount, :effective_date, :memo, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("fixed_expense_category_id", CATEGORY_UUID_1.toString())
+            .param("id", UUID.randomUUID())
+            .param("fixed_expense_category_id", CATEGORY_UUID_1)
             .param("year", 2026)
             .param("month", 3)
             .param("amount", 80_000)
@@ -301,8 +301,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :fixed_expense_category_id, :year, :month, :amount, :effective_date, :memo, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("fixed_expense_category_id", CATEGORY_UUID_2.toString())
+            .param("id", UUID.randomUUID())
+            .param("fixed_expense_category_id", CATEGORY_UUID_2)
             .param("year", 2026)
             .param("month", 2)
             .param("amount", 15_000)
@@ -320,8 +320,8 @@ class FixedExpenseHistoryRepositoryTest {
                 VALUES (:id, :fixed_expense_category_id, :year, :month, :amount, :effective_date, :memo, :created_at, :updated_at, 0)
                 """
             )
-            .param("id", UUID.randomUUID().toString())
-            .param("fixed_expense_category_id", CATEGORY_UUID_1.toString())
+            .param("id", UUID.randomUUID())
+            .param("fixed_expense_category_id", CATEGORY_UUID_1)
             .param("year", 2026)
             .param("month", 3)
             .param("amount", 80_000)
@@ -346,4 +346,50 @@ class FixedExpenseHistoryRepositoryTest {
         assertThat(actual.get().month()).isEqualTo(expectedMonth);
         assertThat(actual.get().amount()).isEqualTo(new Money(80_000));
     }
+
+    @Test
+    void testUpsertInsertsWhenAbsent() {
+        // Given
+        FixedExpenseHistory history = FixedExpenseHistory.create(
+            new FixedExpenseCategoryId(CATEGORY_UUID_2),
+            new Year(2026),
+            new Month(2),
+            new Money(15_000),
+            null,
+            Optional.empty()
+        );
+
+        // When
+        FixedExpenseHistory actual = fixedExpenseHistoryRepository.upsert(history);
+
+        // Then
+        assertThat(actual.id()).isEqualTo(history.id());
+        assertThat(actual.amount()).isEqualTo(new Money(15_000));
+        assertThat(actual.effectiveDate()).isNull();
+        assertThat(actual.memo()).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void testUpsertUpdatesExisting() {
+        // Given
+        FixedExpenseHistory history = FixedExpenseHistory.create(
+            new FixedExpenseCategoryId(CATEGORY_UUID_1),
+            new Year(2026),
+            new Month(2),
+            new Money(85_000),
+            LocalDate.of(2026, 2, 15),
+            Optional.of(new Description("値上げ後の家賃"))
+        );
+
+        // When
+        FixedExpenseHistory actual = fixedExpenseHistoryRepository.upsert(history);
+
+        // Then
+        // 既存行の ID を保ったまま金額・適用日・メモが上書きされる
+        assertThat(actual.id()).isEqualTo(new FixedExpenseHistoryId(HISTORY_UUID_1));
+        assertThat(actual.amount()).isEqualTo(new Money(85_000));
+        assertThat(actual.effectiveDate()).isEqualTo(LocalDate.of(2026, 2, 15));
+        assertThat(actual.memo()).isEqualTo(Optional.of(new Description("値上げ後の家賃")));
+        assertThat(actual.version()).isEqualTo(1);
+    }
 }
@@ -56,7 +56,7 @@ class MonthlySavingRepositoryTest {
                     (:id, :username, :password_hash, :enabled, :version)
                 """
             )
-            .param("id", USER_UUID_1.toString())
+            .param("id", USER_UUID_1)
             .param("username", "testuser1")
             .param("password_hash", "hashedpassword1")
             .param("enabled", true)
@@ -72,7 +72,7 @@ class MonthlySavingRepositoryTest {
                     (:id, :username, :password_hash, :enabled, :version)
                 """
             )
-            .param("id", USER_UUID_2.toString())
+            .param("id", USER_UUID_2)
             .param("username", "testuser2")
             .param("password_hash", "hashedpassword2")
             .param("enabled", true)
@@ -90,7 +90,7 @@ class MonthlySavingRepositoryTest {
                 """
             )
             .param("id", FINANCIAL_ACCOUNT_NUMBER)
-            .param("user_id", USER_UUID_1.toString())
+            .param("user_id", USER_UUID_1)
             .param("bank_name", "三菱UFJ銀行")
             .param("account_name", "テスト口座")
             .param("balance", 100000)
@@ -108,8 +108,8 @@ class MonthlySavingRepositoryTest {
                     (:id, :user_id, :year, :month, :saving_amount, :financial_account_id, :memo, :version)
                 """
             )
-            .param("id", SAVING_UUID_1.toString())
-            .param("user_id", USER_UUID_1.toString())
+            .param("id", SAVING_UUID_1)
+            .param("user_id", USER_UUID_1)
             .param("year", 2024)
             .param("month", 6)
             .param("saving_amount", 50000)
@@ -127,8 +127,8 @@ class MonthlySavingRepositoryTest {
                     (:id, :user_id, :year, :month, :saving_amount, :financial_account_id, :memo, :version)
                 """
             )
-            .param("id", SAVING_UUID_2.toString())
-            .param("user_id", USER_UUID_1.toString())
+            .param("id", SAVING_UUID_2)
+            .param("user_id", USER_UUID_1)
             .param("year", 2024)
             .param("month", 7)
             .param("saving_amount", 60000)
@@ -198,42 +198,42 @@ class MonthlySavingRepositoryTest {
         // Then
         String userIdFromDb = jdbcClient
             .sql("SELECT user_id FROM monthly_saving WHERE id = ?")
-            .param(savedSaving.id().toString())
+            .param(savedSaving.id().value())
             .query(String.class)
             .single();
         assertThat(userIdFromDb).isEqualTo(USER_UUID_1.toString());
 
         Integer yearFromDb = jdbcClient
             .sql("SELECT year FROM monthly_saving WHERE id = ?")
-            .param(savedSaving.id().toString())
+            .param(savedSaving.id().value())
             .query(Integer.class)
             .single();
         assertThat(yearFromDb).isEqualTo(2024);
 
         Integer monthFromDb = jdbcClient
             .sql("SELECT month FROM monthly_saving WHERE id = ?")
-            .param(savedSaving.id().toString())
+            .param(savedSaving.id().value())
             .query(Integer.class)
             .single();
         assertThat(monthFromDb).isEqualTo(8);
 
         Integer savingAmountFromDb = jdbcClient
             .sql("SELECT saving_amount FROM monthly_saving WHERE id = ?")
-            .param(savedSaving.id().toString())
+            .param(savedSaving.id().value())
             .query(Integer.class)
             .single();
         assertThat(savingAmountFromDb).isEqualTo(expectedSavingAmount.amount());
 
         String financialAccountIdFromDb = jdbcClient
             .sql("SELECT financial_account_id FROM monthly_saving WHERE id = ?")
-            .param(savedSaving.id().toString())
+            .param(savedSaving.id().value())
             .query(String.class)
             .single();
         assertThat(financialAccountIdFromDb).isEqualTo(FINANCIAL_ACCOUNT_NUMBER);
 
         String memoFromDb = jdbcClient
             .sql("SELECT memo FROM monthly_saving WHERE id = ?")
-            .param(savedSaving.id().toString())
+            .param(savedSaving.id().value())
             .query(String.class)
             .single();
         assertThat(memoFromDb).isEqualTo(expectedMemo.get().value());
@@ -255,23 +255,70 @@ class MonthlySavingRepositoryTest {
         // Then
         Integer savingAmountFromDb = jdbcClient
             .sql("SELECT saving_amount FROM monthly_saving WHERE id = ?")
-            .param(savingId.toString())
+            .param(savingId.value())
             .query(Integer.class)
             .single();
         assertThat(savingAmountFromDb).isEqualTo(newSavingAmount.amount());
 
         String memoFromDb = jdbcClient
             .sql("SELECT memo FROM monthly_saving WHERE id = ?")
-            .param(savingId.toString())
+            .param(savingId.value())
             .query(String.class)
             .single();
         assertThat(memoFromDb).isEqualTo(newMemo.get().value());
 
         Integer versionFromDb = jdbcClient
             .sql("SELECT version FROM monthly_saving WHERE id = ?")
-            .param(savingId.toString())
+            .param(savingId.value())
             .query(Integer.class)
             .single();
         assertThat(versionFromDb).isEqualTo(1);
     }
+
+    @Test
+    void testInsertIfAbsent() {
+        // Given
+        MonthlySaving saving = MonthlySaving.create(
+            new UserId(USER_UUID_1),
+            new Year(2024),
+            new Month(8),
+            new Money(70_000),
+            new FinancialAccountId(FINANCIAL_ACCOUNT_NUMBER),
+            Optional.empty()
+        );
+
+        // When
+        Optional<MonthlySaving> actual = monthlySavingRepository.insertIfAbsent(saving);
+
+        // Then
+        assertThat(actual).isPresent();
+        assertThat(actual.get().id()).isEqualTo(saving.id());
+        assertThat(actual.get().savingAmount()).isEqualTo(new Money(70_000));
+        assertThat(actual.get().memo()).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void testInsertIfAbsentWhenAlreadyExists() {
+        // Given
+        MonthlySaving saving = MonthlySaving.create(
+            new UserId(USER_UUID_1),
+            new Year(2024),
+            new Month(6),
+            new Money(70_000),
+            new FinancialAccountId(FINANCIAL_ACCOUNT_NUMBER),
+            Optional.of(new Description("重複"))
+        );
+
+        // When
+        Optional<MonthlySaving> actual = monthlySavingRepository.insertIfAbsent(saving);
+
+        // Then
+        assertThat(actual).isEmpty();
+        Integer savingAmountFromDb = jdbcClient
+            .sql("SELECT saving_amount FROM monthly_saving WHERE id = ?")
+            .param(SAVING_UUID_1)
+            .query(Integer.class)
+            .single();
+        assertThat(savingAmountFromDb).isEqualTo(50000);
+    }
 }
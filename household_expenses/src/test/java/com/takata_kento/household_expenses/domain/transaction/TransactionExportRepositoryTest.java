@@ -0,0 +1,185 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(TransactionExportRepository.class)
+class TransactionExportRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID OTHER_USER_UUID = UUID.randomUUID();
+    private static final UUID FOOD_CATEGORY_UUID = UUID.randomUUID();
+    private static final UserId USER_ID = new UserId(TEST_USER_UUID);
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(TEST_USER_GROUP_UUID);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private TransactionExportRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .param("groupName", "testgroup")
+            .param("monthStartDay", 1)
+            .update();
+
+        // テストユーザーと別ユーザーを挿入
+        for (UUID userUuid : List.of(TEST_USER_UUID, OTHER_USER_UUID)) {
+            jdbcClient
+                .sql(
+                    "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+                )
+                .param("id", userUuid)
+                .param("username", "user-" + userUuid)
+                .param("password", "hashedpassword")
+                .param("enabled", true)
+                .update();
+        }
+
+        // 生活費カテゴリを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
+            )
+            .param("id", FOOD_CATEGORY_UUID)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("categoryName", "食費")
+            .param("isDefault", false)
+            .update();
+    }
+
+    @Test
+    void testForEachRowStreamsRowsInTransactionDateOrder() {
+        // Given
+        UUID secondDay = insertPersonalTransaction(TEST_USER_UUID, LocalDate.of(2026, 6, 2), 0);
+        insertPersonalExpense(secondDay, LocalDate.of(2026, 6, 2), 1, 1_500, "書籍");
+        insertPersonalTransaction(TEST_USER_UUID, LocalDate.of(2026, 6, 1), 200_000);
+        insertPersonalTransaction(OTHER_USER_UUID, LocalDate.of(2026, 6, 1), 999_999);
+        insertLivingExpense(LocalDate.of(2026, 6, 1), OTHER_USER_UUID, 3_000);
+        List<TransactionExportRow> actual = new ArrayList<>();
+
+        // When
+        repository.forEachRow(USER_ID, USER_GROUP_ID, actual::add);
+
+        // Then
+        then(actual).containsExactly(
+            new TransactionExportRow(
+                TransactionExportRowType.INCOME,
+                LocalDate.of(2026, 6, 1),
+                USER_ID,
+                Optional.empty(),
+                new Money(200_000),
+                Optional.empty()
+            ),
+            new TransactionExportRow(
+                TransactionExportRowType.LIVING_EXPENSE,
+                LocalDate.of(2026, 6, 1),
+                new UserId(OTHER_USER_UUID),
+                Optional.of(new LivingExpenseCategoryId(FOOD_CATEGORY_UUID)),
+                new Money(3_000),
+                Optional.empty()
+            ),
+            new TransactionExportRow(
+                TransactionExportRowType.INCOME,
+                LocalDate.of(2026, 6, 2),
+                USER_ID,
+                Optional.empty(),
+                new Money(0),
+                Optional.empty()
+            ),
+            new TransactionExportRow(
+                TransactionExportRowType.PERSONAL_EXPENSE,
+                LocalDate.of(2026, 6, 2),
+                USER_ID,
+                Optional.empty(),
+                new Money(1_500),
+                Optional.of(new Description("書籍"))
+            )
+        );
+    }
+
+    private UUID insertPersonalTransaction(UUID userUuid, LocalDate transactionDate, int income) {
+        UUID id = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_personal_transaction (id, user_id, transaction_date, income) VALUES (:id, :userId, :transactionDate, :income)"
+            )
+            .param("id", id)
+            .param("userId", userUuid)
+            .param("transactionDate", transactionDate)
+            .param("income", income)
+            .update();
+        return id;
+    }
+
+    private void insertPersonalExpense(UUID transactionId, LocalDate transactionDate, int key, int amount, String memo) {
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_personal_expense (id, daily_personal_transaction_id, transaction_date, daily_personal_transaction_key, amount, memo) VALUES (:id, :transactionId, :transactionDate, :key, :amount, :memo)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("key", key)
+            .param("amount", amount)
+            .param("memo", memo)
+            .update();
+    }
+
+    private void insertLivingExpense(LocalDate transactionDate, UUID userUuid, int amount) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", transactionId)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", transactionDate)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount) VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("userId", userUuid)
+            .param("categoryId", FOOD_CATEGORY_UUID)
+            .param("amount", amount)
+            .update();
+    }
+}
@@ -0,0 +1,180 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.transaction.group.DailyLivingExpenseInfo;
+import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalTransaction;
+import com.takata_kento.household_expenses.domain.valueobject.DailyGroupTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyLivingExpenseId;
+import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalTransactionId;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(TransactionImportRepository.class)
+class TransactionImportRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID FOOD_CATEGORY_UUID = UUID.randomUUID();
+    private static final UserId USER_ID = new UserId(TEST_USER_UUID);
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(TEST_USER_GROUP_UUID);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private TransactionImportRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .param("groupName", "testgroup")
+            .param("monthStartDay", 1)
+            .update();
+
+        // テストユーザーを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", TEST_USER_UUID)
+            .param("username", "testuser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+
+        // 生活費カテゴリを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
+            )
+            .param("id", FOOD_CATEGORY_UUID)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("categoryName", "食費")
+            .param("isDefault", false)
+            .update();
+    }
+
+    @Test
+    void testInsertGroupTransactionsReusesExistingHeader() {
+        // Given
+        UUID existingId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", existingId)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", LocalDate.of(2026, 6, 1))
+            .update();
+
+        // When
+        Map<LocalDate, DailyGroupTransactionId> actual = repository.insertGroupTransactions(
+            USER_GROUP_ID,
+            List.of(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 2))
+        );
+
+        // Then
+        then(actual).hasSize(2);
+        then(actual.get(LocalDate.of(2026, 6, 1))).isEqualTo(new DailyGroupTransactionId(existingId));
+    }
+
+    @Test
+    void testInsertRowsAndFindRecordedDates() {
+        // Given
+        LocalDate livingOnly = LocalDate.of(2026, 6, 1);
+        LocalDate personalOnly = LocalDate.of(2026, 6, 2);
+        DailyGroupTransactionId groupTransactionId = repository
+            .insertGroupTransactions(USER_GROUP_ID, List.of(livingOnly))
+            .get(livingOnly);
+        DailyPersonalTransaction personalTransaction = new DailyPersonalTransaction(
+            new DailyPersonalTransactionId(UUID.randomUUID()),
+            USER_ID,
+            personalOnly,
+            new Money(200_000),
+            new ArrayList<>(),
+            null
+        );
+        personalTransaction.addPersonalExpense(new Money(1_500), new Description("書籍"));
+        personalTransaction.addPersonalExpense(new Money(800), new Description("昼食"));
+
+        // When
+        repository.insertLivingExpenses(
+            Map.of(livingOnly, groupTransactionId),
+            Map.of(
+                livingOnly,
+                List.of(
+                    new DailyLivingExpenseInfo(
+                        new DailyLivingExpenseId(UUID.randomUUID()),
+                        USER_ID,
+                        new LivingExpenseCategoryId(FOOD_CATEGORY_UUID),
+                        new Money(3_000),
+                        new Description("スーパー")
+                    )
+                )
+            )
+        );
+        repository.insertPersonalTransactions(List.of(personalTransaction));
+
+        // Then
+        then(
+            repository.findRecordedDates(
+                USER_ID,
+                USER_GROUP_ID,
+                List.of(livingOnly, personalOnly, personalOnly.plusDays(1))
+            )
+        ).containsExactlyInAnyOrder(livingOnly, personalOnly);
+        then(
+            jdbcClient
+                .sql(
+                    "SELECT daily_personal_transaction_key FROM daily_personal_expense WHERE daily_personal_transaction_id = :id ORDER BY daily_personal_transaction_key"
+                )
+                .param("id", personalTransaction.id().value())
+                .query(Integer.class)
+                .list()
+        ).containsExactly(0, 1);
+        then(
+            jdbcClient
+                .sql("SELECT total_living_expense FROM daily_group_transaction WHERE id = :id")
+                .param("id", groupTransactionId.value())
+                .query(Integer.class)
+                .single()
+        ).isEqualTo(3_000);
+        then(
+            jdbcClient
+                .sql("SELECT total_personal_expense FROM daily_personal_transaction WHERE id = :id")
+                .param("id", personalTransaction.id().value())
+                .query(Integer.class)
+                .single()
+        ).isEqualTo(2_300);
+    }
+}
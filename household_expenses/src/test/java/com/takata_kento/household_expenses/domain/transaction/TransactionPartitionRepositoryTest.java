@@ -0,0 +1,192 @@
+package com.takata_kento.household_expenses.domain.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Year;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Sql(
+    scripts = "/transaction_partitions.sql",
+    config = @SqlConfig(separator = ScriptUtils.EOF_STATEMENT_SEPARATOR)
+)
+@Import(TransactionPartitionRepository.class)
+class TransactionPartitionRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID TEST_CATEGORY_UUID = UUID.randomUUID();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private TransactionPartitionRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, 'testgroup', 1)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, 'testuser', 'hashedpassword', true)"
+            )
+            .param("id", TEST_USER_UUID)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, '食費', false)"
+            )
+            .param("id", TEST_CATEGORY_UUID)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .update();
+    }
+
+    @Test
+    void testCreatePartitionsOnlyOnce() {
+        // When
+        int first = repository.createPartitions(new Year(2030));
+        int second = repository.createPartitions(new Year(2030));
+
+        // Then
+        then(first).isEqualTo(4);
+        then(second).isZero();
+        then(partitionExists("daily_group_transaction_2030")).isTrue();
+        then(partitionExists("daily_living_expense_2030")).isTrue();
+        then(partitionExists("daily_personal_transaction_2030")).isTrue();
+        then(partitionExists("daily_personal_expense_2030")).isTrue();
+    }
+
+    @Test
+    void testRowsAreStoredInPartitionOfTheirYear() {
+        // Given
+        repository.createPartitions(new Year(2030));
+
+        // When
+        insertLivingExpense(LocalDate.of(2030, 6, 1));
+        insertLivingExpense(LocalDate.of(2031, 6, 1));
+
+        // Then
+        List<String> partitions = jdbcClient
+            .sql("SELECT tableoid::regclass::text FROM daily_living_expense ORDER BY transaction_date")
+            .query(String.class)
+            .list();
+        then(partitions).containsExactly("daily_living_expense_2030", "daily_living_expense_default");
+    }
+
+    @Test
+    void testMoveRowsOfTheYearOutOfDefaultPartition() {
+        // Given
+        insertLivingExpense(LocalDate.of(2031, 6, 1));
+        insertLivingExpense(LocalDate.of(2032, 6, 1));
+
+        // When
+        int actual = repository.createPartitions(new Year(2031));
+
+        // Then
+        // 2031 年の行は新しいパーティションへ移り、ほかの年の行は DEFAULT パーティションに残る
+        then(actual).isEqualTo(4);
+        then(
+            jdbcClient
+                .sql("SELECT tableoid::regclass::text FROM daily_group_transaction ORDER BY transaction_date")
+                .query(String.class)
+                .list()
+        ).containsExactly("daily_group_transaction_2031", "daily_group_transaction_default");
+        then(
+            jdbcClient
+                .sql("SELECT tableoid::regclass::text FROM daily_living_expense ORDER BY transaction_date")
+                .query(String.class)
+                .list()
+        ).containsExactly("daily_living_expense_2031", "daily_living_expense_default");
+    }
+
+    @Test
+    void testRangeQueryScansOnlyPartitionOfTheYear() {
+        // Given
+        repository.createPartitions(new Year(2029));
+        repository.createPartitions(new Year(2030));
+
+        // When
+        String plan = String.join(
+            "\n",
+            jdbcClient
+                .sql(
+                    """
+                    EXPLAIN
+                    SELECT COALESCE(SUM(e.amount), 0)
+                    FROM daily_group_transaction t
+                    JOIN daily_living_expense e
+                        ON e.daily_group_transaction_id = t.id AND e.transaction_date = t.transaction_date
+                    WHERE t.user_group_id = :userGroupId
+                      AND t.transaction_date BETWEEN DATE '2030-06-01' AND DATE '2030-06-30'
+                      AND e.transaction_date BETWEEN DATE '2030-06-01' AND DATE '2030-06-30'
+                    """
+                )
+                .param("userGroupId", TEST_USER_GROUP_UUID)
+                .query(String.class)
+                .list()
+        );
+
+        // Then
+        then(plan).contains("daily_group_transaction_2030", "daily_living_expense_2030");
+        then(plan).doesNotContain("_2029", "_default");
+    }
+
+    private boolean partitionExists(String tableName) {
+        return jdbcClient
+            .sql("SELECT to_regclass(:tableName) IS NOT NULL")
+            .param("tableName", tableName)
+            .query(Boolean.class)
+            .single();
+    }
+
+    private UUID insertGroupTransaction(LocalDate transactionDate) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", transactionId)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", transactionDate)
+            .update();
+        return transactionId;
+    }
+
+    private void insertLivingExpense(LocalDate transactionDate) {
+        UUID transactionId = insertGroupTransaction(transactionDate);
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount) VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, 1000)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("userId", TEST_USER_UUID)
+            .param("categoryId", TEST_CATEGORY_UUID)
+            .update();
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.junit.jupiter.Container;
@@ -48,7 +49,7 @@ class DailyGroupTransactionRepositoryTest {
         // テストユーザーグループを挿入
         jdbcClient
             .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
-            .param("id", TEST_USER_GROUP_UUID.toString())
+            .param("id", TEST_USER_GROUP_UUID)
             .param("groupName", "testgroup")
             .param("monthStartDay", 1)
             .update();
@@ -58,7 +59,7 @@ class DailyGroupTransactionRepositoryTest {
             .sql(
                 "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
             )
-            .param("id", TEST_USER_UUID.toString())
+            .param("id", TEST_USER_UUID)
             .param("username", "testuser")
             .param("password", "hashedpassword")
             .param("enabled", true)
@@ -69,8 +70,8 @@ class DailyGroupTransactionRepositoryTest {
             .sql(
                 "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
             )
-            .param("id", TEST_CATEGORY_UUID.toString())
-            .param("userGroupId", TEST_USER_GROUP_UUID.toString())
+            .param("id", TEST_CATEGORY_UUID)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
             .param("categoryName", "食費")
             .param("isDefault", false)
             .update();
@@ -97,21 +98,21 @@ class DailyGroupTransactionRepositoryTest {
         // Then
         String idFromDb = jdbcClient
             .sql("SELECT id FROM daily_group_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(String.class)
             .single();
         then(idFromDb).isEqualTo(transactionId.toString());
 
         String userGroupIdFromDb = jdbcClient
             .sql("SELECT user_group_id FROM daily_group_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(String.class)
             .single();
         then(userGroupIdFromDb).isEqualTo(userGroupId.toString());
 
         LocalDate transactionDateFromDb = jdbcClient
             .sql("SELECT transaction_date FROM daily_group_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(LocalDate.class)
             .single();
         then(transactionDateFromDb).isEqualTo(transactionDate);
@@ -142,19 +143,170 @@ class DailyGroupTransactionRepositoryTest {
         // Then
         Long expenseCountFromDb = jdbcClient
             .sql("SELECT COUNT(*) FROM daily_living_expense WHERE daily_group_transaction_id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(Long.class)
             .single();
         then(expenseCountFromDb).isEqualTo(2L);
 
         Integer totalAmountFromDb = jdbcClient
             .sql("SELECT SUM(amount) FROM daily_living_expense WHERE daily_group_transaction_id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(Integer.class)
             .single();
         then(totalAmountFromDb).isEqualTo(3_000);
     }
 
+    @Test
+    void testSaveUpdatesOnlyChangedLivingExpenses() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        UserId userId = new UserId(TEST_USER_UUID);
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(TEST_CATEGORY_UUID);
+        DailyGroupTransaction transaction = new DailyGroupTransaction(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            userGroupId,
+            LocalDate.of(2025, 12, 26),
+            new HashSet<>(),
+            null
+        );
+        transaction.addLivingExpense(userId, categoryId, new Money(1_000), new Description("朝食"));
+        transaction.addLivingExpense(userId, categoryId, new Money(2_000), new Description("夕食"));
+        transaction.addLivingExpense(userId, categoryId, new Money(3_000), new Description("間食"));
+        repository.save(transaction);
+        DailyGroupTransaction loaded = repository.findById(transaction.id()).orElseThrow();
+
+        // When
+        loaded.replaceLivingExpensesOf(
+            userId,
+            List.of(
+                new LivingExpenseEntry(categoryId, new Money(1_000), new Description("朝食")),
+                new LivingExpenseEntry(categoryId, new Money(2_500), new Description("夕食")),
+                new LivingExpenseEntry(categoryId, new Money(500), new Description("飲み物"))
+            )
+        );
+        repository.save(loaded);
+
+        // Then
+        // 変更のない明細は書き換えられず（version=0 のまま）、変更された明細だけが更新される
+        List<Integer> versionsFromDb = jdbcClient
+            .sql("SELECT version FROM daily_living_expense WHERE daily_group_transaction_id = ? ORDER BY amount")
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .list();
+        then(versionsFromDb).containsExactly(1, 0, 1);
+
+        Integer totalAmountFromDb = jdbcClient
+            .sql("SELECT SUM(amount) FROM daily_living_expense WHERE daily_group_transaction_id = ?")
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .single();
+        then(totalAmountFromDb).isEqualTo(4_000);
+
+        Integer parentVersionFromDb = jdbcClient
+            .sql("SELECT version FROM daily_group_transaction WHERE id = ?")
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .single();
+        then(parentVersionFromDb).isEqualTo(0);
+    }
+
+    @Test
+    void testSaveLivingExpensesOfDoesNotConflictWithOtherMembers() {
+        // Given
+        UUID otherUserUuid = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", otherUserUuid)
+            .param("username", "otheruser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+        UserId userId = new UserId(TEST_USER_UUID);
+        UserId otherUserId = new UserId(otherUserUuid);
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(TEST_CATEGORY_UUID);
+        DailyGroupTransaction transaction = new DailyGroupTransaction(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            new UserGroupId(TEST_USER_GROUP_UUID),
+            LocalDate.of(2025, 12, 26),
+            new HashSet<>(),
+            null
+        );
+        transaction.addLivingExpense(userId, categoryId, new Money(1_000), new Description("朝食"));
+        repository.save(transaction);
+        DailyGroupTransaction viewOfUser = repository.findById(transaction.id()).orElseThrow();
+        DailyGroupTransaction viewOfOtherUser = repository.findById(transaction.id()).orElseThrow();
+
+        // When
+        // 別メンバーが先に自分の明細を追加しても、古いビューからの保存は失敗しない
+        viewOfOtherUser.addLivingExpense(otherUserId, categoryId, new Money(2_000), new Description("夕食"));
+        repository.saveLivingExpensesOf(viewOfOtherUser, otherUserId);
+        viewOfUser.replaceLivingExpensesOf(
+            userId,
+            List.of(new LivingExpenseEntry(categoryId, new Money(1_500), new Description("朝食")))
+        );
+        repository.saveLivingExpensesOf(viewOfUser, userId);
+
+        // Then
+        List<Integer> amountsFromDb = jdbcClient
+            .sql("SELECT amount FROM daily_living_expense WHERE daily_group_transaction_id = ? ORDER BY amount")
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .list();
+        then(amountsFromDb).containsExactly(1_500, 2_000);
+
+        // ヘッダの合計は両メンバーの保存分を加算した値になり、保存した側の集約にも反映される
+        Integer totalFromDb = jdbcClient
+            .sql("SELECT total_living_expense FROM daily_group_transaction WHERE id = ?")
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .single();
+        then(totalFromDb).isEqualTo(3_500);
+        then(viewOfUser.calculateTotalLivingExpense()).isEqualTo(new Money(3_500));
+
+        Integer parentVersionFromDb = jdbcClient
+            .sql("SELECT version FROM daily_group_transaction WHERE id = ?")
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .single();
+        then(parentVersionFromDb).isEqualTo(0);
+    }
+
+    @Test
+    void testSaveLivingExpensesOfWithStaleRowsOfSameMember() {
+        // Given
+        UserId userId = new UserId(TEST_USER_UUID);
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(TEST_CATEGORY_UUID);
+        DailyGroupTransaction transaction = new DailyGroupTransaction(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            new UserGroupId(TEST_USER_GROUP_UUID),
+            LocalDate.of(2025, 12, 26),
+            new HashSet<>(),
+            null
+        );
+        transaction.addLivingExpense(userId, categoryId, new Money(1_000), new Description("朝食"));
+        repository.save(transaction);
+        DailyGroupTransaction firstView = repository.findById(transaction.id()).orElseThrow();
+        DailyGroupTransaction staleView = repository.findById(transaction.id()).orElseThrow();
+        firstView.replaceLivingExpensesOf(
+            userId,
+            List.of(new LivingExpenseEntry(categoryId, new Money(1_500), new Description("朝食")))
+        );
+        repository.saveLivingExpensesOf(firstView, userId);
+
+        // When
+        staleView.replaceLivingExpensesOf(
+            userId,
+            List.of(new LivingExpenseEntry(categoryId, new Money(2_000), new Description("朝食")))
+        );
+
+        // Then
+        thenThrownBy(() -> repository.saveLivingExpensesOf(staleView, userId)).isInstanceOf(
+            OptimisticLockingFailureException.class
+        );
+    }
+
     @Test
     void testFindById() {
         // Given
@@ -312,6 +464,97 @@ class DailyGroupTransactionRepositoryTest {
         then(actual).isEmpty();
     }
 
+    @Test
+    void testFindByUserGroupIdAndTransactionDateBetweenLoadsLivingExpensesAcrossYears() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        UserId userId = new UserId(TEST_USER_UUID);
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(TEST_CATEGORY_UUID);
+        DailyGroupTransaction lastDayOfYear = new DailyGroupTransaction(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            userGroupId,
+            LocalDate.of(2025, 12, 31),
+            new HashSet<>(),
+            null
+        );
+        lastDayOfYear.addLivingExpense(userId, categoryId, new Money(1_000), new Description("大晦日"));
+        repository.save(lastDayOfYear);
+        DailyGroupTransaction firstDayOfYear = new DailyGroupTransaction(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            userGroupId,
+            LocalDate.of(2026, 1, 1),
+            new HashSet<>(),
+            null
+        );
+        firstDayOfYear.addLivingExpense(userId, categoryId, new Money(2_000), new Description("元日"));
+        firstDayOfYear.addLivingExpense(userId, categoryId, new Money(3_000), null);
+        repository.save(firstDayOfYear);
+
+        // When
+        List<DailyGroupTransaction> actual = repository.findByUserGroupIdAndTransactionDateBetween(
+            userGroupId,
+            LocalDate.of(2025, 12, 1),
+            LocalDate.of(2026, 1, 31)
+        );
+
+        // Then
+        // 年をまたぐ範囲でも、明細はそれぞれのヘッダに付いて読み込まれる
+        then(actual).hasSize(2);
+        DailyGroupTransaction loadedLastDay = actual
+            .stream()
+            .filter(transaction -> transaction.id().equals(lastDayOfYear.id()))
+            .findFirst()
+            .orElseThrow();
+        DailyGroupTransaction loadedFirstDay = actual
+            .stream()
+            .filter(transaction -> transaction.id().equals(firstDayOfYear.id()))
+            .findFirst()
+            .orElseThrow();
+        then(loadedLastDay.livingExpenses())
+            .extracting(DailyLivingExpenseInfo::amount)
+            .containsExactly(new Money(1_000));
+        then(loadedFirstDay.livingExpenses())
+            .extracting(DailyLivingExpenseInfo::amount)
+            .containsExactlyInAnyOrder(new Money(2_000), new Money(3_000));
+        then(loadedFirstDay.calculateTotalLivingExpense()).isEqualTo(new Money(5_000));
+    }
+
+    @Test
+    void testDeleteRemovesLivingExpenses() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        LocalDate transactionDate = LocalDate.of(2025, 12, 26);
+        DailyGroupTransaction transaction = new DailyGroupTransaction(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            userGroupId,
+            transactionDate,
+            new HashSet<>(),
+            null
+        );
+        transaction.addLivingExpense(
+            new UserId(TEST_USER_UUID),
+            new LivingExpenseCategoryId(TEST_CATEGORY_UUID),
+            new Money(1_000),
+            new Description("朝食")
+        );
+        repository.save(transaction);
+        DailyGroupTransaction loaded = repository
+            .findByUserGroupIdAndTransactionDate(userGroupId, transactionDate)
+            .orElseThrow();
+
+        // When
+        repository.delete(loaded);
+
+        // Then
+        then(repository.findById(transaction.id())).isEmpty();
+        Long expenseCountFromDb = jdbcClient
+            .sql("SELECT COUNT(*) FROM daily_living_expense WHERE daily_group_transaction_id = ?")
+            .param(transaction.id().value())
+            .query(Long.class)
+            .single();
+        then(expenseCountFromDb).isZero();
+    }
+
     // Helper methods
     private void insertDailyGroupTransaction(
         DailyGroupTransactionId transactionId,
@@ -322,9 +565,48 @@ class DailyGroupTransactionRepositoryTest {
             .sql(
                 "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
             )
-            .param("id", transactionId.toString())
-            .param("userGroupId", userGroupId.toString())
+            .param("id", transactionId.value())
+            .param("userGroupId", userGroupId.value())
             .param("transactionDate", transactionDate)
             .update();
     }
+
+    @Test
+    void testUpsertByUserGroupIdAndTransactionDate() {
+        // Given
+        UserGroupId userGroupId = new UserGroupId(TEST_USER_GROUP_UUID);
+        LocalDate transactionDate = LocalDate.of(2025, 12, 26);
+        DailyGroupTransactionId firstId = new DailyGroupTransactionId(UUID.randomUUID());
+
+        // When
+        DailyGroupTransaction created = repository.upsertByUserGroupIdAndTransactionDate(
+            firstId,
+            userGroupId,
+            transactionDate
+        );
+        created.addLivingExpense(
+            new UserId(TEST_USER_UUID),
+            new LivingExpenseCategoryId(TEST_CATEGORY_UUID),
+            new Money(1_000),
+            new Description("朝食")
+        );
+        repository.saveLivingExpensesOf(created, new UserId(TEST_USER_UUID));
+        DailyGroupTransaction existing = repository.upsertByUserGroupIdAndTransactionDate(
+            new DailyGroupTransactionId(UUID.randomUUID()),
+            userGroupId,
+            transactionDate
+        );
+
+        // Then
+        // 2回目は新しい ID では作成されず、既存の集約（明細を含む）が返る
+        then(created.id()).isEqualTo(firstId);
+        then(existing.id()).isEqualTo(firstId);
+        then(existing.livingExpenses()).hasSize(1);
+        Long countFromDb = jdbcClient
+            .sql("SELECT COUNT(*) FROM daily_group_transaction WHERE user_group_id = ?")
+            .param(TEST_USER_GROUP_UUID)
+            .query(Long.class)
+            .single();
+        then(countFromDb).isEqualTo(1L);
+    }
 }
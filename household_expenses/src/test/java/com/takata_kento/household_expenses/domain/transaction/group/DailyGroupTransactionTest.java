@@ -206,6 +206,7 @@ class DailyGroupTransactionTest {
         List<DailyLivingExpenseInfo> actual = dailyGroupTransaction.livingExpenses();
         then(actual).hasSize(1);
         then(actual).allSatisfy(expense -> then(expense.userId()).isEqualTo(otherUserId));
+        then(dailyGroupTransaction.calculateTotalLivingExpense()).isEqualTo(new Money(3000));
     }
 
     @ParameterizedTest
@@ -240,4 +241,102 @@ class DailyGroupTransactionTest {
         // Then
         then(actual).isEqualTo(expectedTotal);
     }
+
+    @ParameterizedTest
+    @MethodSource("provideDailyGroupTransactionData")
+    void testCalculateLivingExpenseOf(
+        DailyGroupTransactionId id,
+        UserGroupId userGroupId,
+        LocalDate transactionDate,
+        Set<DailyLivingExpense> livingExpenses,
+        Integer version,
+        DailyGroupTransaction dailyGroupTransaction
+    ) {
+        // Given
+        UserId targetUserId = new UserId(UUID.randomUUID());
+        UserId otherUserId = new UserId(UUID.randomUUID());
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(UUID.randomUUID());
+        dailyGroupTransaction.addLivingExpense(targetUserId, categoryId, new Money(1000), new Description("mine 1"));
+        dailyGroupTransaction.addLivingExpense(targetUserId, categoryId, new Money(1500), new Description("mine 2"));
+        dailyGroupTransaction.addLivingExpense(otherUserId, categoryId, new Money(2000), new Description("other"));
+
+        // When
+        Money actual = dailyGroupTransaction.calculateLivingExpenseOf(targetUserId);
+
+        // Then
+        then(actual).isEqualTo(new Money(2500));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDailyGroupTransactionData")
+    void testReplaceLivingExpensesOf(
+        DailyGroupTransactionId id,
+        UserGroupId userGroupId,
+        LocalDate transactionDate,
+        Set<DailyLivingExpense> livingExpenses,
+        Integer version,
+        DailyGroupTransaction dailyGroupTransaction
+    ) {
+        // Given
+        UserId targetUserId = new UserId(UUID.randomUUID());
+        UserId otherUserId = new UserId(UUID.randomUUID());
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(UUID.randomUUID());
+        dailyGroupTransaction.addLivingExpense(targetUserId, categoryId, new Money(1000), new Description("keep"));
+        dailyGroupTransaction.addLivingExpense(targetUserId, categoryId, new Money(2000), new Description("change"));
+        dailyGroupTransaction.addLivingExpense(targetUserId, categoryId, new Money(3000), new Description("drop"));
+        dailyGroupTransaction.addLivingExpense(otherUserId, categoryId, new Money(5000), new Description("other"));
+        List<DailyLivingExpenseInfo> before = dailyGroupTransaction.livingExpenses();
+
+        // When
+        dailyGroupTransaction.replaceLivingExpensesOf(
+            targetUserId,
+            List.of(
+                new LivingExpenseEntry(categoryId, new Money(1000), new Description("keep")),
+                new LivingExpenseEntry(categoryId, new Money(2500), new Description("changed"))
+            )
+        );
+
+        // Then
+        // 内容が一致する明細と他メンバーの明細は ID を維持し、残りは既存明細を書き換えて再利用する
+        List<DailyLivingExpenseInfo> actual = dailyGroupTransaction.livingExpenses();
+        then(actual).hasSize(3);
+        then(actual)
+            .extracting(DailyLivingExpenseInfo::id)
+            .isSubsetOf(before.stream().map(DailyLivingExpenseInfo::id).toList());
+        then(actual)
+            .extracting(DailyLivingExpenseInfo::memo)
+            .containsExactlyInAnyOrder(new Description("keep"), new Description("changed"), new Description("other"));
+        then(dailyGroupTransaction.calculateTotalLivingExpense()).isEqualTo(new Money(8500));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDailyGroupTransactionData")
+    void testReplaceLivingExpensesOfAddsWhenEntriesIncrease(
+        DailyGroupTransactionId id,
+        UserGroupId userGroupId,
+        LocalDate transactionDate,
+        Set<DailyLivingExpense> livingExpenses,
+        Integer version,
+        DailyGroupTransaction dailyGroupTransaction
+    ) {
+        // Given
+        UserId userId = new UserId(UUID.randomUUID());
+        LivingExpenseCategoryId categoryId = new LivingExpenseCategoryId(UUID.randomUUID());
+        dailyGroupTransaction.addLivingExpense(userId, categoryId, new Money(1000), new Description("first"));
+
+        // When
+        dailyGroupTransaction.replaceLivingExpensesOf(
+            userId,
+            List.of(
+                new LivingExpenseEntry(categoryId, new Money(1000), new Description("first")),
+                new LivingExpenseEntry(categoryId, new Money(2000), new Description("second"))
+            )
+        );
+
+        // Then
+        List<DailyLivingExpenseInfo> actual = dailyGroupTransaction.livingExpenses();
+        then(actual).hasSize(2);
+        then(actual).allSatisfy(expense -> then(expense.userId()).isEqualTo(userId));
+        then(dailyGroupTransaction.calculateTotalLivingExpense()).isEqualTo(new Money(3000));
+    }
 }
@@ -477,4 +477,22 @@ public class DailyLivingExpenseTest {
         // Then
         then(exception).hasMessage("memo must not be null");
     }
+
+    @ParameterizedTest
+    @MethodSource("provideDailyLivingExpenseInstance")
+    void testOverwriteClearsMemo(DailyLivingExpense dailyLivingExpense) {
+        // Given
+        LivingExpenseEntry entry = new LivingExpenseEntry(
+            new LivingExpenseCategoryId(LIVING_EXPENSE_CATEGORY_UUID),
+            new Money(10_000),
+            null
+        );
+
+        // When
+        dailyLivingExpense.overwrite(entry);
+
+        // Then
+        then(dailyLivingExpense.memo()).isNull();
+        then(dailyLivingExpense.hasSameContent(entry)).isTrue();
+    }
 }
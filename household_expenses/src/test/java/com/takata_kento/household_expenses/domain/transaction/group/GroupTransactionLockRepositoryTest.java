@@ -0,0 +1,82 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Import(GroupTransactionLockRepository.class)
+class GroupTransactionLockRepositoryTest {
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+    private static final LocalDate DATE = LocalDate.of(2026, 5, 10);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private GroupTransactionLockRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * テストのトランザクションとは別の接続で同じキーのロック取得を試みる
+     */
+    private boolean tryLockFromAnotherConnection(UserGroupId userGroupId, LocalDate transactionDate)
+        throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (
+                PreparedStatement statement = connection.prepareStatement(
+                    "SELECT pg_try_advisory_xact_lock(hashtext(?), ?)"
+                )
+            ) {
+                statement.setString(1, userGroupId.toString());
+                statement.setInt(2, (int) transactionDate.toEpochDay());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getBoolean(1);
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    @Test
+    void testTryLockBlocksOtherTransactionsOnSameGroupAndDate() throws Exception {
+        // When
+        boolean acquired = repository.tryLock(USER_GROUP_ID, DATE);
+
+        // Then
+        then(acquired).isTrue();
+        then(tryLockFromAnotherConnection(USER_GROUP_ID, DATE)).isFalse();
+    }
+
+    @Test
+    void testTryLockDoesNotBlockOtherDatesOrGroups() throws Exception {
+        // Given
+        repository.lock(USER_GROUP_ID, DATE);
+
+        // When / Then
+        then(tryLockFromAnotherConnection(USER_GROUP_ID, DATE.plusDays(1))).isTrue();
+        then(tryLockFromAnotherConnection(new UserGroupId(UUID.randomUUID()), DATE)).isTrue();
+    }
+}
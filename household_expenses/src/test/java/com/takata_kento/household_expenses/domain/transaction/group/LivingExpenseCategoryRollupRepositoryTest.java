@@ -0,0 +1,172 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.DailyLivingExpenseId;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(LivingExpenseCategoryRollupRepository.class)
+class LivingExpenseCategoryRollupRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID FOOD_CATEGORY_UUID = UUID.randomUUID();
+    private static final UUID DAILY_GOODS_CATEGORY_UUID = UUID.randomUUID();
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(TEST_USER_GROUP_UUID);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private LivingExpenseCategoryRollupRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", TEST_USER_GROUP_UUID)
+            .param("groupName", "testgroup")
+            .param("monthStartDay", 1)
+            .update();
+
+        // テストユーザーを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+            )
+            .param("id", TEST_USER_UUID)
+            .param("username", "testuser")
+            .param("password", "hashedpassword")
+            .param("enabled", true)
+            .update();
+
+        // 生活費カテゴリを挿入
+        for (UUID categoryUuid : List.of(FOOD_CATEGORY_UUID, DAILY_GOODS_CATEGORY_UUID)) {
+            jdbcClient
+                .sql(
+                    "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
+                )
+                .param("id", categoryUuid)
+                .param("userGroupId", TEST_USER_GROUP_UUID)
+                .param("categoryName", "category-" + categoryUuid)
+                .param("isDefault", false)
+                .update();
+        }
+    }
+
+    @Test
+    void testSumByCategoryCombinesRollupAndEdgeDays() {
+        // Given
+        // 2026-01-10 〜 2026-03-10: 2月は集計から、1月・3月の端の日は日次生活費から求める
+        record(LocalDate.of(2026, 1, 5), FOOD_CATEGORY_UUID, 7_000);
+        record(LocalDate.of(2026, 1, 15), FOOD_CATEGORY_UUID, 1_000);
+        record(LocalDate.of(2026, 2, 10), FOOD_CATEGORY_UUID, 2_000);
+        record(LocalDate.of(2026, 2, 20), DAILY_GOODS_CATEGORY_UUID, 500);
+        record(LocalDate.of(2026, 3, 5), FOOD_CATEGORY_UUID, 300);
+        record(LocalDate.of(2026, 3, 20), FOOD_CATEGORY_UUID, 9_000);
+
+        // When
+        List<LivingExpenseCategorySpent> actual = repository.sumByCategory(
+            USER_GROUP_ID,
+            LocalDate.of(2026, 1, 10),
+            LocalDate.of(2026, 3, 10)
+        );
+
+        // Then
+        then(actual).containsExactlyInAnyOrder(
+            new LivingExpenseCategorySpent(new LivingExpenseCategoryId(FOOD_CATEGORY_UUID), new Money(3_300), 3),
+            new LivingExpenseCategorySpent(new LivingExpenseCategoryId(DAILY_GOODS_CATEGORY_UUID), new Money(500), 1)
+        );
+    }
+
+    @Test
+    void testSumByCategoryWithinSingleMonth() {
+        // Given
+        record(LocalDate.of(2026, 2, 10), FOOD_CATEGORY_UUID, 2_000);
+        record(LocalDate.of(2026, 2, 20), DAILY_GOODS_CATEGORY_UUID, 500);
+
+        // When
+        List<LivingExpenseCategorySpent> actual = repository.sumByCategory(
+            USER_GROUP_ID,
+            LocalDate.of(2026, 2, 5),
+            LocalDate.of(2026, 2, 15)
+        );
+
+        // Then
+        then(actual).containsExactly(
+            new LivingExpenseCategorySpent(new LivingExpenseCategoryId(FOOD_CATEGORY_UUID), new Money(2_000), 1)
+        );
+    }
+
+    @Test
+    void testApplyChangeSubtractsRemovedExpenses() {
+        // Given
+        DailyLivingExpenseInfo recorded = record(LocalDate.of(2026, 2, 10), FOOD_CATEGORY_UUID, 2_000);
+
+        // When
+        repository.applyChange(USER_GROUP_ID, LocalDate.of(2026, 2, 10), List.of(recorded), List.of());
+
+        // Then
+        then(repository.sumByCategory(USER_GROUP_ID, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28))).isEmpty();
+    }
+
+    /**
+     * 日次生活費を1件挿入し、集計へ反映する。
+     */
+    private DailyLivingExpenseInfo record(LocalDate transactionDate, UUID categoryUuid, int amount) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", transactionId)
+            .param("userGroupId", TEST_USER_GROUP_UUID)
+            .param("transactionDate", transactionDate)
+            .update();
+        DailyLivingExpenseInfo livingExpense = new DailyLivingExpenseInfo(
+            new DailyLivingExpenseId(UUID.randomUUID()),
+            new UserId(TEST_USER_UUID),
+            new LivingExpenseCategoryId(categoryUuid),
+            new Money(amount),
+            null
+        );
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount) VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount)"
+            )
+            .param("id", livingExpense.id().value())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("userId", TEST_USER_UUID)
+            .param("categoryId", categoryUuid)
+            .param("amount", amount)
+            .update();
+        repository.applyChange(USER_GROUP_ID, transactionDate, List.of(), List.of(livingExpense));
+        return livingExpense;
+    }
+}
@@ -0,0 +1,168 @@
+package com.takata_kento.household_expenses.domain.transaction.group;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(LivingExpenseSummaryRepository.class)
+class LivingExpenseSummaryRepositoryTest {
+
+    private static final UUID TEST_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID OTHER_USER_GROUP_UUID = UUID.randomUUID();
+    private static final UUID TEST_USER_UUID = UUID.randomUUID();
+    private static final UUID OTHER_USER_UUID = UUID.randomUUID();
+    private static final UUID FOOD_CATEGORY_UUID = UUID.randomUUID();
+    private static final UUID DAILY_GOODS_CATEGORY_UUID = UUID.randomUUID();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private LivingExpenseSummaryRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストユーザーグループを挿入
+        for (UUID groupUuid : List.of(TEST_USER_GROUP_UUID, OTHER_USER_GROUP_UUID)) {
+            jdbcClient
+                .sql(
+                    "INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)"
+                )
+                .param("id", groupUuid)
+                .param("groupName", "testgroup")
+                .param("monthStartDay", 1)
+                .update();
+        }
+
+        // テストユーザーを挿入
+        for (UUID userUuid : List.of(TEST_USER_UUID, OTHER_USER_UUID)) {
+            jdbcClient
+                .sql(
+                    "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
+                )
+                .param("id", userUuid)
+                .param("username", "user-" + userUuid)
+                .param("password", "hashedpassword")
+                .param("enabled", true)
+                .update();
+        }
+
+        // 生活費カテゴリを挿入
+        for (UUID categoryUuid : List.of(FOOD_CATEGORY_UUID, DAILY_GOODS_CATEGORY_UUID)) {
+            jdbcClient
+                .sql(
+                    "INSERT INTO living_expense_category (id, user_group_id, category_name, is_default) VALUES (:id, :userGroupId, :categoryName, :isDefault)"
+                )
+                .param("id", categoryUuid)
+                .param("userGroupId", TEST_USER_GROUP_UUID)
+                .param("categoryName", "category-" + categoryUuid)
+                .param("isDefault", false)
+                .update();
+        }
+
+        LocalDate firstDate = LocalDate.of(2025, 6, 1);
+        UUID firstDay = insertGroupTransaction(TEST_USER_GROUP_UUID, firstDate);
+        insertLivingExpense(firstDay, firstDate, TEST_USER_UUID, FOOD_CATEGORY_UUID, 1_000);
+        insertLivingExpense(firstDay, firstDate, OTHER_USER_UUID, DAILY_GOODS_CATEGORY_UUID, 500);
+        LocalDate secondDate = LocalDate.of(2025, 6, 2);
+        UUID secondDay = insertGroupTransaction(TEST_USER_GROUP_UUID, secondDate);
+        insertLivingExpense(secondDay, secondDate, TEST_USER_UUID, FOOD_CATEGORY_UUID, 2_000);
+        LocalDate outOfRangeDate = LocalDate.of(2025, 7, 1);
+        UUID outOfRange = insertGroupTransaction(TEST_USER_GROUP_UUID, outOfRangeDate);
+        insertLivingExpense(outOfRange, outOfRangeDate, TEST_USER_UUID, FOOD_CATEGORY_UUID, 9_000);
+        UUID otherGroup = insertGroupTransaction(OTHER_USER_GROUP_UUID, firstDate);
+        insertLivingExpense(otherGroup, firstDate, OTHER_USER_UUID, FOOD_CATEGORY_UUID, 7_000);
+    }
+
+    @Test
+    void testSumByDay() {
+        // When
+        List<LivingExpenseDailyTotal> actual = repository.sumByDay(
+            new UserGroupId(TEST_USER_GROUP_UUID),
+            LocalDate.of(2025, 6, 1),
+            LocalDate.of(2025, 6, 30)
+        );
+
+        // Then
+        then(actual).containsExactly(
+            new LivingExpenseDailyTotal(LocalDate.of(2025, 6, 1), new Money(1_500)),
+            new LivingExpenseDailyTotal(LocalDate.of(2025, 6, 2), new Money(2_000))
+        );
+    }
+
+    @Test
+    void testSumByDayWhenNoExpenses() {
+        // When
+        List<LivingExpenseDailyTotal> actual = repository.sumByDay(
+            new UserGroupId(TEST_USER_GROUP_UUID),
+            LocalDate.of(2025, 5, 1),
+            LocalDate.of(2025, 5, 31)
+        );
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    private UUID insertGroupTransaction(UUID userGroupUuid, LocalDate transactionDate) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :transactionDate)"
+            )
+            .param("id", transactionId)
+            .param("userGroupId", userGroupUuid)
+            .param("transactionDate", transactionDate)
+            .update();
+        return transactionId;
+    }
+
+    private void insertLivingExpense(
+        UUID transactionId,
+        LocalDate transactionDate,
+        UUID userUuid,
+        UUID categoryUuid,
+        int amount
+    ) {
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount) VALUES (:id, :transactionId, :transactionDate, :userId, :categoryId, :amount)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .param("userId", userUuid)
+            .param("categoryId", categoryUuid)
+            .param("amount", amount)
+            .update();
+        jdbcClient
+            .sql(
+                "UPDATE daily_group_transaction SET total_living_expense = total_living_expense + :amount WHERE id = :transactionId AND transaction_date = :transactionDate"
+            )
+            .param("amount", amount)
+            .param("transactionId", transactionId)
+            .param("transactionDate", transactionDate)
+            .update();
+    }
+}
@@ -46,7 +46,7 @@ class DailyPersonalTransactionRepositoryTest {
             .sql(
                 "INSERT INTO users (id, username, password_hash, enabled) VALUES (:id, :username, :password, :enabled)"
             )
-            .param("id", TEST_USER_UUID.toString())
+            .param("id", TEST_USER_UUID)
             .param("username", "testuser")
             .param("password", "hashedpassword")
             .param("enabled", true)
@@ -77,28 +77,28 @@ class DailyPersonalTransactionRepositoryTest {
         // DBから直接確認
         String idFromDb = jdbcClient
             .sql("SELECT id FROM daily_personal_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(String.class)
             .single();
         then(idFromDb).isEqualTo(transactionId.toString());
 
         String userIdFromDb = jdbcClient
             .sql("SELECT user_id FROM daily_personal_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(String.class)
             .single();
         then(userIdFromDb).isEqualTo(userId.toString());
 
         LocalDate transactionDateFromDb = jdbcClient
             .sql("SELECT transaction_date FROM daily_personal_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(LocalDate.class)
             .single();
         then(transactionDateFromDb).isEqualTo(transactionDate);
 
         Integer incomeFromDb = jdbcClient
             .sql("SELECT income FROM daily_personal_transaction WHERE id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(Integer.class)
             .single();
         then(incomeFromDb).isEqualTo(income.amount());
@@ -130,7 +130,7 @@ class DailyPersonalTransactionRepositoryTest {
         // 個人支出の数を確認
         Long expenseCountFromDb = jdbcClient
             .sql("SELECT COUNT(*) FROM daily_personal_expense WHERE daily_personal_transaction_id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(Long.class)
             .single();
         then(expenseCountFromDb).isEqualTo(2L);
@@ -138,12 +138,57 @@ class DailyPersonalTransactionRepositoryTest {
         // 個人支出の合計金額を確認
         Integer totalAmountFromDb = jdbcClient
             .sql("SELECT SUM(amount) FROM daily_personal_expense WHERE daily_personal_transaction_id = ?")
-            .param(savedTransaction.id().toString())
+            .param(savedTransaction.id().value())
             .query(Integer.class)
             .single();
         then(totalAmountFromDb).isEqualTo(3_000);
     }
 
+    @Test
+    void testSaveUpdatesOnlyChangedPersonalExpenses() {
+        // Given
+        UserId userId = new UserId(TEST_USER_UUID);
+        DailyPersonalTransaction transaction = new DailyPersonalTransaction(
+            new DailyPersonalTransactionId(UUID.randomUUID()),
+            userId,
+            LocalDate.of(2025, 12, 26),
+            new Money(10_000),
+            new ArrayList<>(),
+            null
+        );
+        transaction.addPersonalExpense(new Money(1_000), new Description("expense 1"));
+        transaction.addPersonalExpense(new Money(2_000), new Description("expense 2"));
+        transaction.addPersonalExpense(new Money(3_000), new Description("expense 3"));
+        repository.save(transaction);
+        DailyPersonalTransaction loaded = repository.findById(transaction.id()).orElseThrow();
+
+        // When
+        loaded.replacePersonalExpenses(
+            List.of(
+                new PersonalExpenseEntry(new Money(1_000), new Description("expense 1")),
+                new PersonalExpenseEntry(new Money(2_500), new Description("expense 2"))
+            )
+        );
+        repository.save(loaded);
+
+        // Then
+        // 変更のない明細は書き換えられず、変更された明細だけが更新され、余剰分は削除される
+        List<Integer> versionsFromDb = jdbcClient
+            .sql(
+                "SELECT version FROM daily_personal_expense WHERE daily_personal_transaction_id = ? ORDER BY daily_personal_transaction_key"
+            )
+            .param(transaction.id().value())
+            .query(Integer.class)
+            .list();
+        then(versionsFromDb).containsExactly(0, 1);
+
+        DailyPersonalTransaction reloaded = repository.findById(transaction.id()).orElseThrow();
+        then(reloaded.personalExpenses())
+            .extracting(DailyPersonalExpenseInfo::amount)
+            .containsExactly(new Money(1_000), new Money(2_500));
+        then(reloaded.calculateTotalPersonalExpense()).isEqualTo(new Money(3_500));
+    }
+
     @Test
     void testFindById() {
         // Given
@@ -241,6 +286,31 @@ class DailyPersonalTransactionRepositoryTest {
         then(actual).isEmpty();
     }
 
+    @Test
+    void testFindByUserIdAndTransactionDateBetween() {
+        // Given
+        UserId userId = new UserId(TEST_USER_UUID);
+        DailyPersonalTransactionId beforeRange = new DailyPersonalTransactionId(UUID.randomUUID());
+        DailyPersonalTransactionId rangeStart = new DailyPersonalTransactionId(UUID.randomUUID());
+        DailyPersonalTransactionId rangeEnd = new DailyPersonalTransactionId(UUID.randomUUID());
+        DailyPersonalTransactionId afterRange = new DailyPersonalTransactionId(UUID.randomUUID());
+
+        insertDailyPersonalTransaction(beforeRange, userId, LocalDate.of(2025, 11, 30), new Money(10_000));
+        insertDailyPersonalTransaction(rangeStart, userId, LocalDate.of(2025, 12, 1), new Money(20_000));
+        insertDailyPersonalTransaction(rangeEnd, userId, LocalDate.of(2025, 12, 31), new Money(30_000));
+        insertDailyPersonalTransaction(afterRange, userId, LocalDate.of(2026, 1, 1), new Money(40_000));
+
+        // When
+        List<DailyPersonalTransaction> actual = repository.findByUserIdAndTransactionDateBetween(
+            userId,
+            LocalDate.of(2025, 12, 1),
+            LocalDate.of(2025, 12, 31)
+        );
+
+        // Then
+        then(actual).extracting(DailyPersonalTransaction::id).containsExactlyInAnyOrder(rangeStart, rangeEnd);
+    }
+
     @Test
     void testExistsByUserIdAndTransactionDate() {
         // Given
@@ -287,6 +357,38 @@ class DailyPersonalTransactionRepositoryTest {
         then(actual).isEmpty();
     }
 
+    @Test
+    void testDeleteRemovesPersonalExpenses() {
+        // Given
+        UserId userId = new UserId(TEST_USER_UUID);
+        LocalDate transactionDate = LocalDate.of(2025, 12, 26);
+        DailyPersonalTransaction transaction = new DailyPersonalTransaction(
+            new DailyPersonalTransactionId(UUID.randomUUID()),
+            userId,
+            transactionDate,
+            new Money(10_000),
+            new ArrayList<>(),
+            null
+        );
+        transaction.addPersonalExpense(new Money(1_000), new Description("expense 1"));
+        repository.save(transaction);
+        DailyPersonalTransaction loaded = repository
+            .findByUserIdAndTransactionDate(userId, transactionDate)
+            .orElseThrow();
+
+        // When
+        repository.delete(loaded);
+
+        // Then
+        then(repository.findById(transaction.id())).isEmpty();
+        Long expenseCountFromDb = jdbcClient
+            .sql("SELECT COUNT(*) FROM daily_personal_expense WHERE daily_personal_transaction_id = ?")
+            .param(transaction.id().value())
+            .query(Long.class)
+            .single();
+        then(expenseCountFromDb).isZero();
+    }
+
     // Helper methods
     private void insertDailyPersonalTransaction(
         DailyPersonalTransactionId transactionId,
@@ -298,8 +400,8 @@ class DailyPersonalTransactionRepositoryTest {
             .sql(
                 "INSERT INTO daily_personal_transaction (id, user_id, transaction_date, income) VALUES (:id, :userId, :transactionDate, :income)"
             )
-            .param("id", transactionId.toString())
-            .param("userId", userId.toString())
+            .param("id", transactionId.value())
+            .param("userId", userId.value())
             .param("transactionDate", transactionDate)
             .param("income", income.amount())
             .update();
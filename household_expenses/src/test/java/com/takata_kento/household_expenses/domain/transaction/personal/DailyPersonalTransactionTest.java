@@ -355,6 +355,7 @@ class DailyPersonalTransactionTest {
         // Then
         List<DailyPersonalExpenseInfo> actual = dailyPersonalTransaction.personalExpenses();
         then(actual).isEmpty();
+        then(dailyPersonalTransaction.calculateTotalPersonalExpense()).isEqualTo(new Money(0));
 
         then(dailyPersonalTransaction.id()).isEqualTo(id);
         then(dailyPersonalTransaction.userId()).isEqualTo(userId);
@@ -362,6 +363,67 @@ class DailyPersonalTransactionTest {
         then(dailyPersonalTransaction.income()).isEqualTo(income);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideDailyPersonalTransactionData")
+    void testReplacePersonalExpenses(
+        DailyPersonalTransactionId id,
+        UserId userId,
+        LocalDate transactionDate,
+        Money income,
+        List<DailyPersonalExpense> personalExpenses,
+        Integer version,
+        DailyPersonalTransaction dailyPersonalTransaction
+    ) {
+        // Given
+        dailyPersonalTransaction.addPersonalExpense(new Money(500), new Description("appended"));
+        List<DailyPersonalExpenseInfo> before = dailyPersonalTransaction.personalExpenses();
+
+        // When
+        dailyPersonalTransaction.replacePersonalExpenses(
+            List.of(new PersonalExpenseEntry(new Money(700), new Description("lunch")))
+        );
+
+        // Then
+        // 先頭の明細は ID を維持したまま書き換えられ、余剰分は削除される
+        List<DailyPersonalExpenseInfo> actual = dailyPersonalTransaction.personalExpenses();
+        then(actual).hasSize(1);
+        then(actual.get(0).id()).isEqualTo(before.get(0).id());
+        then(actual.get(0).amount()).isEqualTo(new Money(700));
+        then(actual.get(0).memo()).isEqualTo(new Description("lunch"));
+        then(dailyPersonalTransaction.calculateTotalPersonalExpense()).isEqualTo(new Money(700));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDailyPersonalTransactionData")
+    void testReplacePersonalExpensesAddsWhenEntriesIncrease(
+        DailyPersonalTransactionId id,
+        UserId userId,
+        LocalDate transactionDate,
+        Money income,
+        List<DailyPersonalExpense> personalExpenses,
+        Integer version,
+        DailyPersonalTransaction dailyPersonalTransaction
+    ) {
+        // Given
+        List<PersonalExpenseEntry> entries = new ArrayList<>();
+        for (int i = 0; i <= personalExpenses.size(); i++) {
+            entries.add(new PersonalExpenseEntry(new Money(100 * (i + 1)), new Description("entry " + i)));
+        }
+
+        // When
+        dailyPersonalTransaction.replacePersonalExpenses(entries);
+
+        // Then
+        List<DailyPersonalExpenseInfo> actual = dailyPersonalTransaction.personalExpenses();
+        then(actual).hasSize(entries.size());
+        then(actual)
+            .extracting(DailyPersonalExpenseInfo::memo)
+            .containsExactlyElementsOf(entries.stream().map(PersonalExpenseEntry::memo).toList());
+        then(dailyPersonalTransaction.calculateTotalPersonalExpense()).isEqualTo(
+            entries.stream().map(PersonalExpenseEntry::amount).reduce(new Money(0), Money::add)
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("provideDailyPersonalTransactionData")
     void testCalculateTotalPersonalExpense(
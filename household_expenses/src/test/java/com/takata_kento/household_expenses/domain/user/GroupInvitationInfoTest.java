@@ -30,7 +30,8 @@ class GroupInvitationInfoTest {
             now,
             null,
             now,
-            now
+            now,
+            0
         );
 
         // When
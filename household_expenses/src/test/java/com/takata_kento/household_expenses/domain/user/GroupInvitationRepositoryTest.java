@@ -0,0 +1,283 @@
+package com.takata_kento.household_expenses.domain.user;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
+import com.takata_kento.household_expenses.domain.valueobject.InvitationStatus;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+class GroupInvitationRepositoryTest {
+
+    private static final UserId TEST_USER_ID_1 = new UserId(UUID.randomUUID());
+    private static final UserId TEST_USER_ID_2 = new UserId(UUID.randomUUID());
+    private static final UserGroupId TEST_USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private GroupInvitationRepository groupInvitationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータを挿入
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO
+                    user_group (id, group_name, month_start_day, version)
+                VALUES
+                    (:id, :group_name, :month_start_day, :version)
+                """
+            )
+            .param("id", TEST_USER_GROUP_ID.value())
+            .param("group_name", "Test Group")
+            .param("month_start_day", 1)
+            .param("version", 0)
+            .update();
+
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO
+                    users (id, username, password_hash, user_group_id, enabled, version)
+                VALUES
+                    (:id, :username, :password_hash, :user_group_id, :enabled, :version)
+                """
+            )
+            .param("id", TEST_USER_ID_1.value())
+            .param("username", "testuser")
+            .param("password_hash", "dummy_hash")
+            .param("user_group_id", TEST_USER_GROUP_ID.value())
+            .param("enabled", true)
+            .param("version", 0)
+            .update();
+
+        jdbcClient
+            .sql(
+                """
+                INSERT INTO
+                    users (id, username, password_hash, enabled, version)
+                VALUES
+                    (:id, :username, :password_hash, :enabled, :version)
+                """
+            )
+            .param("id", TEST_USER_ID_2.value())
+            .param("username", "testuser2")
+            .param("password_hash", "dummy_hash")
+            .param("enabled", true)
+            .param("version", 0)
+            .update();
+    }
+
+    private UUID insertInvitation(UserGroupId userGroupId, String status) {
+        UUID invitationId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO group_invitation (id, user_group_id, invited_user_id, invited_by_user_id, status) VALUES (?, ?, ?, ?, ?)"
+            )
+            .params(invitationId, userGroupId.value(), TEST_USER_ID_2.value(), TEST_USER_ID_1.value(), status)
+            .update();
+        return invitationId;
+    }
+
+    private UserGroupId insertUserGroup() {
+        UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (?, ?, 1)")
+            .params(userGroupId.value(), "Other Group " + userGroupId)
+            .update();
+        return userGroupId;
+    }
+
+    @Test
+    void testFindById() {
+        // Given
+        UUID invitationId = insertInvitation(TEST_USER_GROUP_ID, "PENDING");
+
+        // When
+        Optional<GroupInvitation> actual = groupInvitationRepository.findById(
+            new GroupInvitationId(invitationId)
+        );
+
+        // Then
+        assertThat(actual).isPresent();
+        assertThat(actual.get().userGroupId()).isEqualTo(TEST_USER_GROUP_ID);
+        assertThat(actual.get().invitedUserId()).isEqualTo(TEST_USER_ID_2);
+        assertThat(actual.get().invitedByUserId()).isEqualTo(TEST_USER_ID_1);
+        assertThat(actual.get().status()).isEqualTo(InvitationStatus.PENDING);
+        assertThat(actual.get().version()).isEqualTo(0);
+    }
+
+    @Test
+    void testFindByIdNotFound() {
+        // When
+        Optional<GroupInvitation> actual = groupInvitationRepository.findById(new GroupInvitationId(UUID.randomUUID()));
+
+        // Then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testFindPendingByInvitedUserId() {
+        // Given
+        UUID pendingInvitationId = insertInvitation(TEST_USER_GROUP_ID, "PENDING");
+        insertInvitation(insertUserGroup(), "ACCEPTED");
+        insertInvitation(insertUserGroup(), "REJECTED");
+
+        // When
+        List<GroupInvitation> actual = groupInvitationRepository.findPendingByInvitedUserId(TEST_USER_ID_2);
+
+        // Then
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).id()).isEqualTo(new GroupInvitationId(pendingInvitationId));
+    }
+
+    @Test
+    void testFindPendingByInvitedUserIdWithNoInvitations() {
+        // When
+        List<GroupInvitation> actual = groupInvitationRepository.findPendingByInvitedUserId(TEST_USER_ID_1);
+
+        // Then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testInviteUserAndSave() {
+        // Given
+        User inviter = userRepository.findById(TEST_USER_ID_1).orElseThrow();
+        User invitee = userRepository.findById(TEST_USER_ID_2).orElseThrow();
+
+        // When
+        GroupInvitation invitation = inviter.invite(invitee);
+        groupInvitationRepository.save(invitation);
+
+        // Then
+        // DBから直接確認
+        String status = jdbcClient
+            .sql(
+                "SELECT status FROM group_invitation WHERE id = ? AND invited_user_id = ? AND invited_by_user_id = ? AND user_group_id = ?"
+            )
+            .params(
+                invitation.id().value(),
+                TEST_USER_ID_2.value(),
+                TEST_USER_ID_1.value(),
+                TEST_USER_GROUP_ID.value()
+            )
+            .query(String.class)
+            .single();
+        assertThat(status).isEqualTo("PENDING");
+        assertThat(invitation.version()).isEqualTo(0);
+    }
+
+    @Test
+    void testAcceptInvitationAndSave() {
+        // Given
+        UUID invitationId = insertInvitation(TEST_USER_GROUP_ID, "PENDING");
+        User invitedUser = userRepository.findById(TEST_USER_ID_2).orElseThrow();
+        GroupInvitation invitation = groupInvitationRepository
+            .findById(new GroupInvitationId(invitationId))
+            .orElseThrow();
+
+        // When
+        invitedUser.accept(invitation);
+        groupInvitationRepository.save(invitation);
+        userRepository.save(invitedUser);
+
+        // Then
+        // DBから直接確認
+        String userGroupIdFromDb = jdbcClient
+            .sql("SELECT user_group_id FROM users WHERE id = ?")
+            .param(TEST_USER_ID_2.value())
+            .query(String.class)
+            .single();
+        assertThat(userGroupIdFromDb).isEqualTo(TEST_USER_GROUP_ID.toString());
+
+        String statusFromDb = jdbcClient
+            .sql("SELECT status FROM group_invitation WHERE id = ?")
+            .param(invitationId)
+            .query(String.class)
+            .single();
+        assertThat(statusFromDb).isEqualTo("ACCEPTED");
+
+        Boolean respondedAtIsNotNull = jdbcClient
+            .sql("SELECT responded_at IS NOT NULL FROM group_invitation WHERE id = ?")
+            .param(invitationId)
+            .query(Boolean.class)
+            .single();
+        assertThat(respondedAtIsNotNull).isTrue();
+        assertThat(groupInvitationRepository.findPendingByInvitedUserId(TEST_USER_ID_2)).isEmpty();
+    }
+
+    @Test
+    void testRejectInvitationAndSave() {
+        // Given
+        UUID invitationId = insertInvitation(TEST_USER_GROUP_ID, "PENDING");
+        User invitedUser = userRepository.findById(TEST_USER_ID_2).orElseThrow();
+        GroupInvitation invitation = groupInvitationRepository
+            .findById(new GroupInvitationId(invitationId))
+            .orElseThrow();
+
+        // When
+        invitedUser.reject(invitation);
+        groupInvitationRepository.save(invitation);
+
+        // Then
+        // DBから直接確認
+        String statusFromDb = jdbcClient
+            .sql("SELECT status FROM group_invitation WHERE id = ?")
+            .param(invitationId)
+            .query(String.class)
+            .single();
+        assertThat(statusFromDb).isEqualTo("REJECTED");
+
+        Boolean respondedAtIsNotNull = jdbcClient
+            .sql("SELECT responded_at IS NOT NULL FROM group_invitation WHERE id = ?")
+            .param(invitationId)
+            .query(Boolean.class)
+            .single();
+        assertThat(respondedAtIsNotNull).isTrue();
+    }
+
+    @Test
+    void testSaveWithStaleVersion() {
+        // Given
+        UUID invitationId = insertInvitation(TEST_USER_GROUP_ID, "PENDING");
+        GroupInvitationId id = new GroupInvitationId(invitationId);
+        GroupInvitation accepted = groupInvitationRepository.findById(id).orElseThrow();
+        GroupInvitation rejected = groupInvitationRepository.findById(id).orElseThrow();
+        accepted.accept();
+        groupInvitationRepository.save(accepted);
+
+        // When / Then
+        rejected.reject();
+        assertThatThrownBy(() -> groupInvitationRepository.save(rejected)).isInstanceOf(
+            OptimisticLockingFailureException.class
+        );
+    }
+}
@@ -32,7 +32,8 @@ class GroupInvitationTest {
             expectedInvitedAt,
             expectedRespondedAt,
             expectedCreatedAt,
-            expectedUpdatedAt
+            expectedUpdatedAt,
+            0
         );
 
         // Then
@@ -93,7 +94,8 @@ class GroupInvitationTest {
             expectedInvitedAt,
             null,
             expectedCreatedAt,
-            expectedUpdatedAt
+            expectedUpdatedAt,
+            0
         );
 
         // When
@@ -131,7 +133,8 @@ class GroupInvitationTest {
             expectedInvitedAt,
             null,
             expectedCreatedAt,
-            expectedUpdatedAt
+            expectedUpdatedAt,
+            0
         );
 
         // When
@@ -168,7 +171,8 @@ class GroupInvitationTest {
             expectedDateTime,
             null,
             expectedDateTime,
-            expectedDateTime
+            expectedDateTime,
+            0
         );
 
         GroupInvitation acceptedInvitation = new GroupInvitation(
@@ -180,7 +184,8 @@ class GroupInvitationTest {
             expectedDateTime,
             expectedDateTime,
             expectedDateTime,
-            expectedDateTime
+            expectedDateTime,
+            0
         );
 
         // When / Then
@@ -226,7 +231,8 @@ class GroupInvitationTest {
             expectedDateTime,
             null,
             expectedDateTime,
-            expectedDateTime
+            expectedDateTime,
+            0
         );
 
         GroupInvitation acceptedInvitation = new GroupInvitation(
@@ -238,7 +244,8 @@ class GroupInvitationTest {
             expectedDateTime,
             expectedDateTime,
             expectedDateTime,
-            expectedDateTime
+            expectedDateTime,
+            0
         );
 
         // When / Then
@@ -284,7 +291,8 @@ class GroupInvitationTest {
             expectedDateTime,
             null,
             expectedDateTime,
-            expectedDateTime
+            expectedDateTime,
+            0
         );
 
         // When / Then
@@ -0,0 +1,98 @@
+package com.takata_kento.household_expenses.domain.user;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import com.takata_kento.household_expenses.domain.valueobject.Username;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(UserMembershipRepository.class)
+class UserMembershipRepositoryTest {
+
+    private static final UserId MEMBER_ID = new UserId(UUID.randomUUID());
+    private static final UserId NON_MEMBER_ID = new UserId(UUID.randomUUID());
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private UserMembershipRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // ユーザーグループを挿入
+        jdbcClient
+            .sql("INSERT INTO user_group (id, group_name, month_start_day) VALUES (:id, :groupName, :monthStartDay)")
+            .param("id", USER_GROUP_ID.value())
+            .param("groupName", "Test Group")
+            .param("monthStartDay", 1)
+            .update();
+
+        // グループ所属ユーザーと未所属ユーザーを挿入
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, user_group_id, enabled, version) VALUES (:id, :username, 'hash', :userGroupId, true, 3)"
+            )
+            .param("id", MEMBER_ID.value())
+            .param("username", "member")
+            .param("userGroupId", USER_GROUP_ID.value())
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, enabled, version) VALUES (:id, :username, 'hash', true, 0)"
+            )
+            .param("id", NON_MEMBER_ID.value())
+            .param("username", "nonmember")
+            .update();
+    }
+
+    @Test
+    void testFindById() {
+        // When
+        Optional<UserMembership> actual = repository.findById(MEMBER_ID);
+
+        // Then
+        assertThat(actual).contains(
+            new UserMembership(MEMBER_ID, new Username("member"), Optional.of(USER_GROUP_ID), 3)
+        );
+    }
+
+    @Test
+    void testFindByIdWhenNotInGroup() {
+        // When
+        Optional<UserMembership> actual = repository.findById(NON_MEMBER_ID);
+
+        // Then
+        assertThat(actual).contains(new UserMembership(NON_MEMBER_ID, new Username("nonmember"), Optional.empty(), 0));
+    }
+
+    @Test
+    void testFindByIdNotFound() {
+        // When
+        Optional<UserMembership> actual = repository.findById(new UserId(UUID.randomUUID()));
+
+        // Then
+        assertThat(actual).isEmpty();
+    }
+}
@@ -9,7 +9,6 @@ import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
 import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
@@ -32,7 +31,6 @@ class UserTest {
             expectedUserId,
             expectedUsername,
             Optional.of(expectedUserGroupId),
-            null,
             expectedVersion
         );
 
@@ -41,7 +39,6 @@ class UserTest {
         assertThat(actual.name()).isEqualTo(expectedUsername);
         assertThat(actual.isBelongsToGroup()).isTrue();
         assertThat(actual.userGroupId()).isEqualTo(Optional.of(expectedUserGroupId));
-        assertThat(actual.receivedInvitations()).isEmpty();
         assertThat(actual.version()).isEqualTo(expectedVersion);
     }
 
@@ -54,14 +51,13 @@ class UserTest {
         Integer expectedVersion = null;
 
         // When
-        User actual = new User(expectedUserId, expectedUsername, expectedUserGroup, null, expectedVersion);
+        User actual = new User(expectedUserId, expectedUsername, expectedUserGroup, expectedVersion);
 
         // Then
         assertThat(actual.id()).isEqualTo(expectedUserId);
         assertThat(actual.name()).isEqualTo(expectedUsername);
         assertThat(actual.isBelongsToGroup()).isFalse();
         assertThat(actual.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(actual.receivedInvitations()).isEmpty();
         assertThat(actual.version()).isEqualTo(expectedVersion);
     }
 
@@ -72,7 +68,7 @@ class UserTest {
         Username expectedUsername = new Username("testuser");
         UserGroupId expectedUserGroupId = new UserGroupId(UUID.randomUUID());
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.of(expectedUserGroupId), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.of(expectedUserGroupId), expectedVersion);
 
         // When
         UserId actual = user.id();
@@ -82,7 +78,6 @@ class UserTest {
         assertThat(user.name()).isEqualTo(expectedUsername);
         assertThat(user.isBelongsToGroup()).isTrue();
         assertThat(user.userGroupId()).isEqualTo(Optional.of(expectedUserGroupId));
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -93,7 +88,7 @@ class UserTest {
         Username expectedUsername = new Username("testuser");
         UserGroupId expectedUserGroupId = new UserGroupId(UUID.randomUUID());
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.of(expectedUserGroupId), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.of(expectedUserGroupId), expectedVersion);
 
         // When
         Username actual = user.name();
@@ -103,134 +98,6 @@ class UserTest {
         assertThat(user.id()).isEqualTo(expectedUserId);
         assertThat(user.isBelongsToGroup()).isTrue();
         assertThat(user.userGroupId()).isEqualTo(Optional.of(expectedUserGroupId));
-        assertThat(user.receivedInvitations()).isEmpty();
-        assertThat(user.version()).isEqualTo(expectedVersion);
-    }
-
-    @Test
-    void testGetPendingInvitations() {
-        // Given
-        UserId expectedUserId = USER_ID_1;
-        Username expectedUsername = new Username("testuser");
-        Integer expectedVersion = null;
-        GroupInvitationId pendingInvitationId = new GroupInvitationId(UUID.randomUUID());
-        GroupInvitationId acceptedInvitationId = new GroupInvitationId(UUID.randomUUID());
-        UserGroupId pendingInvitationUserGroupId = new UserGroupId(UUID.randomUUID());
-        UserGroupId acceptedInvitationUserGroupId = new UserGroupId(UUID.randomUUID());
-
-        LocalDateTime now = LocalDateTime.now();
-        GroupInvitation pendingInvitation = new GroupInvitation(
-            pendingInvitationId,
-            pendingInvitationUserGroupId,
-            expectedUserId,
-            USER_ID_2,
-            InvitationStatus.PENDING,
-            now,
-            null,
-            now,
-            now
-        );
-
-        GroupInvitation acceptedInvitation = new GroupInvitation(
-            acceptedInvitationId,
-            acceptedInvitationUserGroupId,
-            expectedUserId,
-            USER_ID_3,
-            InvitationStatus.ACCEPTED,
-            now,
-            now,
-            now,
-            now
-        );
-
-        Set<GroupInvitation> invitations = Set.of(pendingInvitation, acceptedInvitation);
-        User user = new User(expectedUserId, expectedUsername, Optional.empty(), invitations, expectedVersion);
-
-        // When
-        Set<GroupInvitationInfo> actual = user.getPendingInvitations();
-
-        // Then
-        assertThat(actual).hasSize(1);
-        actual.forEach(info -> {
-            assertThat(info.groupInvitationId()).isEqualTo(pendingInvitationId);
-            assertThat(info.userGroupId()).isEqualTo(pendingInvitationUserGroupId);
-            assertThat(info.invitedByUserId()).isEqualTo(USER_ID_2);
-        });
-        assertThat(user.id()).isEqualTo(expectedUserId);
-        assertThat(user.name()).isEqualTo(expectedUsername);
-        assertThat(user.isBelongsToGroup()).isFalse();
-        assertThat(user.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(user.version()).isEqualTo(expectedVersion);
-    }
-
-    @Test
-    void testReceivedInvitations() {
-        // Given
-        UserId expectedUserId = USER_ID_1;
-        Username expectedUsername = new Username("testuser");
-        Integer expectedVersion = null;
-        GroupInvitationId invitationId1 = new GroupInvitationId(UUID.randomUUID());
-        GroupInvitationId invitationId2 = new GroupInvitationId(UUID.randomUUID());
-        UserGroupId userGroupId1 = new UserGroupId(UUID.randomUUID());
-        UserGroupId userGroupId2 = new UserGroupId(UUID.randomUUID());
-
-        LocalDateTime now = LocalDateTime.now();
-        GroupInvitation invitation1 = new GroupInvitation(
-            invitationId1,
-            userGroupId1,
-            expectedUserId,
-            USER_ID_2,
-            InvitationStatus.PENDING,
-            now,
-            null,
-            now,
-            now
-        );
-
-        GroupInvitation invitation2 = new GroupInvitation(
-            invitationId2,
-            userGroupId2,
-            expectedUserId,
-            USER_ID_3,
-            InvitationStatus.ACCEPTED,
-            now,
-            now,
-            now,
-            now
-        );
-
-        Set<GroupInvitation> invitations = Set.of(invitation1, invitation2);
-        User user = new User(expectedUserId, expectedUsername, Optional.empty(), invitations, expectedVersion);
-
-        // When
-        Set<GroupInvitationInfo> actual = user.receivedInvitations();
-
-        // Then
-        assertThat(actual).hasSize(2);
-        assertThat(
-            actual
-                .stream()
-                .anyMatch(
-                    info ->
-                        info.groupInvitationId().equals(invitationId1) &&
-                        info.userGroupId().equals(userGroupId1) &&
-                        info.invitedByUserId().equals(USER_ID_2)
-                )
-        ).isTrue();
-        assertThat(
-            actual
-                .stream()
-                .anyMatch(
-                    info ->
-                        info.groupInvitationId().equals(invitationId2) &&
-                        info.userGroupId().equals(userGroupId2) &&
-                        info.invitedByUserId().equals(USER_ID_3)
-                )
-        ).isTrue();
-        assertThat(user.id()).isEqualTo(expectedUserId);
-        assertThat(user.name()).isEqualTo(expectedUsername);
-        assertThat(user.isBelongsToGroup()).isFalse();
-        assertThat(user.userGroupId()).isEqualTo(Optional.empty());
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -241,7 +108,7 @@ class UserTest {
         Username expectedUsername = new Username("testuser");
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.of(userGroupId), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.of(userGroupId), expectedVersion);
 
         // When
         user.leaveGroup();
@@ -251,7 +118,6 @@ class UserTest {
         assertThat(user.name()).isEqualTo(expectedUsername);
         assertThat(user.isBelongsToGroup()).isFalse();
         assertThat(user.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -261,7 +127,7 @@ class UserTest {
         UserId expectedUserId = USER_ID_1;
         Username expectedUsername = new Username("testuser");
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.empty(), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.empty(), expectedVersion);
 
         // When
         boolean actual = user.canCreateGroup();
@@ -272,7 +138,6 @@ class UserTest {
         assertThat(user.name()).isEqualTo(expectedUsername);
         assertThat(user.isBelongsToGroup()).isFalse();
         assertThat(user.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -283,7 +148,7 @@ class UserTest {
         Username expectedUsername = new Username("testuser");
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.of(userGroupId), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.of(userGroupId), expectedVersion);
 
         // When
         boolean actual = user.canCreateGroup();
@@ -294,7 +159,6 @@ class UserTest {
         assertThat(user.name()).isEqualTo(expectedUsername);
         assertThat(user.isBelongsToGroup()).isTrue();
         assertThat(user.userGroupId()).isEqualTo(Optional.of(userGroupId));
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -305,7 +169,7 @@ class UserTest {
         Username expectedUsername = new Username("testuser");
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.of(userGroupId), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.of(userGroupId), expectedVersion);
 
         // When
         boolean actual = user.canLeaveGroup();
@@ -316,7 +180,6 @@ class UserTest {
         assertThat(user.name()).isEqualTo(expectedUsername);
         assertThat(user.isBelongsToGroup()).isTrue();
         assertThat(user.userGroupId()).isEqualTo(Optional.of(userGroupId));
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -326,7 +189,7 @@ class UserTest {
         UserId expectedUserId = USER_ID_1;
         Username expectedUsername = new Username("testuser");
         Integer expectedVersion = null;
-        User user = new User(expectedUserId, expectedUsername, Optional.empty(), null, expectedVersion);
+        User user = new User(expectedUserId, expectedUsername, Optional.empty(), expectedVersion);
 
         // When
         boolean actual = user.canLeaveGroup();
@@ -337,7 +200,6 @@ class UserTest {
         assertThat(user.name()).isEqualTo(expectedUsername);
         assertThat(user.isBelongsToGroup()).isFalse();
         assertThat(user.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isEqualTo(expectedVersion);
     }
 
@@ -349,7 +211,7 @@ class UserTest {
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
         UserId inviteeUserId = USER_ID_2;
         Integer expectedVersion = null;
-        User inviter = new User(inviterUserId, inviterUsername, Optional.of(userGroupId), null, expectedVersion);
+        User inviter = new User(inviterUserId, inviterUsername, Optional.of(userGroupId), expectedVersion);
 
         // When
         boolean actual = inviter.canInvite(inviteeUserId);
@@ -360,7 +222,6 @@ class UserTest {
         assertThat(inviter.name()).isEqualTo(inviterUsername);
         assertThat(inviter.isBelongsToGroup()).isTrue();
         assertThat(inviter.userGroupId()).isEqualTo(Optional.of(userGroupId));
-        assertThat(inviter.receivedInvitations()).isEmpty();
         assertThat(inviter.version()).isEqualTo(expectedVersion);
     }
 
@@ -371,7 +232,7 @@ class UserTest {
         Username inviterUsername = new Username("inviter");
         UserId inviteeUserId = USER_ID_2;
         Integer expectedVersion = null;
-        User inviter = new User(inviterUserId, inviterUsername, Optional.empty(), null, expectedVersion);
+        User inviter = new User(inviterUserId, inviterUsername, Optional.empty(), expectedVersion);
 
         // When
         boolean actual = inviter.canInvite(inviteeUserId);
@@ -382,7 +243,6 @@ class UserTest {
         assertThat(inviter.name()).isEqualTo(inviterUsername);
         assertThat(inviter.isBelongsToGroup()).isFalse();
         assertThat(inviter.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(inviter.receivedInvitations()).isEmpty();
         assertThat(inviter.version()).isEqualTo(expectedVersion);
     }
 
@@ -394,12 +254,12 @@ class UserTest {
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
         UserId inviteeUserId = USER_ID_2;
         Username inviteeUsername = new Username("invitee");
-        User invitee = new User(inviteeUserId, inviteeUsername, Optional.empty(), null, null);
+        User invitee = new User(inviteeUserId, inviteeUsername, Optional.empty(), null);
         Integer expectedVersion = null;
-        User inviter = new User(inviterUserId, inviterUsername, Optional.of(userGroupId), null, expectedVersion);
+        User inviter = new User(inviterUserId, inviterUsername, Optional.of(userGroupId), expectedVersion);
 
         // When
-        inviter.invite(invitee);
+        GroupInvitation actual = inviter.invite(invitee);
 
         // Then
         // 招待者（inviter）の状態確認
@@ -407,7 +267,6 @@ class UserTest {
         assertThat(inviter.name()).isEqualTo(inviterUsername);
         assertThat(inviter.isBelongsToGroup()).isTrue();
         assertThat(inviter.userGroupId()).isEqualTo(Optional.of(userGroupId));
-        assertThat(inviter.receivedInvitations()).isEmpty();
         assertThat(inviter.version()).isEqualTo(expectedVersion);
 
         // 招待を受けたユーザー（invitee）の状態確認
@@ -415,14 +274,14 @@ class UserTest {
         assertThat(invitee.name()).isEqualTo(inviteeUsername);
         assertThat(invitee.isBelongsToGroup()).isFalse();
         assertThat(invitee.userGroupId()).isEqualTo(Optional.empty());
-        assertThat(invitee.receivedInvitations()).hasSize(1);
         assertThat(invitee.version()).isNull();
 
-        // 追加された招待の詳細確認
-        Set<GroupInvitationInfo> receivedInvitations = invitee.receivedInvitations();
-        GroupInvitationInfo invitation = receivedInvitations.iterator().next();
-        assertThat(invitation.userGroupId()).isEqualTo(userGroupId);
-        assertThat(invitation.invitedByUserId()).isEqualTo(inviterUserId);
+        // 作成された招待の詳細確認
+        assertThat(actual.userGroupId()).isEqualTo(userGroupId);
+        assertThat(actual.invitedUserId()).isEqualTo(inviteeUserId);
+        assertThat(actual.invitedByUserId()).isEqualTo(inviterUserId);
+        assertThat(actual.isPending()).isTrue();
+        assertThat(actual.version()).isNull();
     }
 
     @Test
@@ -442,22 +301,46 @@ class UserTest {
             now,
             null,
             now,
-            now
+            now,
+            0
         );
-        Set<GroupInvitation> invitations = Set.of(pendingInvitation);
         Integer expectedVersion = null;
-        User invitedUser = new User(invitedUserId, invitedUsername, Optional.empty(), invitations, expectedVersion);
+        User invitedUser = new User(invitedUserId, invitedUsername, Optional.empty(), expectedVersion);
 
         // When
-        invitedUser.accept(invitationId);
+        invitedUser.accept(pendingInvitation);
 
         // Then
         assertThat(invitedUser.id()).isEqualTo(invitedUserId);
         assertThat(invitedUser.name()).isEqualTo(invitedUsername);
         assertThat(invitedUser.isBelongsToGroup()).isTrue(); // 招待を受け入れてグループに所属
         assertThat(invitedUser.userGroupId()).isEqualTo(Optional.of(expectedUserGroupId)); // グループIDが設定される
-        assertThat(invitedUser.receivedInvitations()).hasSize(1);
         assertThat(invitedUser.version()).isEqualTo(expectedVersion);
+        assertThat(pendingInvitation.status()).isEqualTo(InvitationStatus.ACCEPTED);
+    }
+
+    @Test
+    void testAcceptInvitationForAnotherUser() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        GroupInvitation invitation = new GroupInvitation(
+            new GroupInvitationId(UUID.randomUUID()),
+            new UserGroupId(UUID.randomUUID()),
+            USER_ID_2,
+            USER_ID_3,
+            InvitationStatus.PENDING,
+            now,
+            null,
+            now,
+            now,
+            0
+        );
+        User user = new User(USER_ID_1, new Username("testuser"), Optional.empty(), null);
+
+        // When / Then
+        assertThatThrownBy(() -> user.accept(invitation)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(user.isBelongsToGroup()).isFalse();
+        assertThat(invitation.isPending()).isTrue();
     }
 
     @Test
@@ -466,7 +349,7 @@ class UserTest {
         UserId expectedUserId = USER_ID_1;
         Username expectedUsername = new Username("testuser");
         UserGroupId userGroupId = new UserGroupId(UUID.randomUUID());
-        User user = new User(expectedUserId, expectedUsername, Optional.empty(), null, null);
+        User user = new User(expectedUserId, expectedUsername, Optional.empty(), null);
 
         // When
         user.joinGroup(userGroupId);
@@ -476,7 +359,6 @@ class UserTest {
         assertThat(user.isBelongsToGroup()).isTrue();
         assertThat(user.id()).isEqualTo(expectedUserId);
         assertThat(user.name()).isEqualTo(expectedUsername);
-        assertThat(user.receivedInvitations()).isEmpty();
         assertThat(user.version()).isNull();
     }
 
@@ -485,7 +367,7 @@ class UserTest {
         // Given
         UserGroupId existingGroupId = new UserGroupId(UUID.randomUUID());
         UserGroupId newGroupId = new UserGroupId(UUID.randomUUID());
-        User user = new User(USER_ID_1, new Username("testuser"), Optional.of(existingGroupId), null, null);
+        User user = new User(USER_ID_1, new Username("testuser"), Optional.of(existingGroupId), null);
 
         // When / Then
         assertThatThrownBy(() -> user.joinGroup(newGroupId)).isInstanceOf(IllegalStateException.class);
@@ -508,21 +390,44 @@ class UserTest {
             now,
             null,
             now,
-            now
+            now,
+            0
         );
-        Set<GroupInvitation> invitations = Set.of(pendingInvitation);
         Integer expectedVersion = null;
-        User invitedUser = new User(invitedUserId, invitedUsername, Optional.empty(), invitations, expectedVersion);
+        User invitedUser = new User(invitedUserId, invitedUsername, Optional.empty(), expectedVersion);
 
         // When
-        invitedUser.reject(invitationId);
+        invitedUser.reject(pendingInvitation);
 
         // Then
         assertThat(invitedUser.id()).isEqualTo(invitedUserId);
         assertThat(invitedUser.name()).isEqualTo(invitedUsername);
         assertThat(invitedUser.isBelongsToGroup()).isFalse(); // 招待を拒否したのでグループに所属しない
         assertThat(invitedUser.userGroupId()).isEqualTo(Optional.empty()); // グループIDは設定されない
-        assertThat(invitedUser.receivedInvitations()).hasSize(1);
         assertThat(invitedUser.version()).isEqualTo(expectedVersion);
+        assertThat(pendingInvitation.status()).isEqualTo(InvitationStatus.REJECTED);
+    }
+
+    @Test
+    void testRejectInvitationForAnotherUser() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        GroupInvitation invitation = new GroupInvitation(
+            new GroupInvitationId(UUID.randomUUID()),
+            new UserGroupId(UUID.randomUUID()),
+            USER_ID_2,
+            USER_ID_3,
+            InvitationStatus.PENDING,
+            now,
+            null,
+            now,
+            now,
+            0
+        );
+        User user = new User(USER_ID_1, new Username("testuser"), Optional.empty(), null);
+
+        // When / Then
+        assertThatThrownBy(() -> user.reject(invitation)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(invitation.isPending()).isTrue();
     }
 }
@@ -0,0 +1,281 @@
+package com.takata_kento.household_expenses.domain.usergroup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.domain.valueobject.UserId;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(UserGroupBackupRepository.class)
+class UserGroupBackupRepositoryTest {
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+    private static final UserGroupId OTHER_USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+    private static final UserId OWNER_ID = new UserId(UUID.randomUUID());
+    private static final UserId MEMBER_ID = new UserId(UUID.randomUUID());
+    private static final UserId OTHER_USER_ID = new UserId(UUID.randomUUID());
+    private static final LocalDate DATE = LocalDate.of(2026, 6, 1);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private UserGroupBackupRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // 2人のグループ（別グループのユーザーへの招待・生活費・個人収支・口座あり）と、1人の別グループを挿入
+        insertUserGroup(USER_GROUP_ID, 2);
+        insertUserGroup(OTHER_USER_GROUP_ID, 1);
+        insertUser(OWNER_ID, "owner", USER_GROUP_ID);
+        insertUser(MEMBER_ID, "member", USER_GROUP_ID);
+        insertUser(OTHER_USER_ID, "other", OTHER_USER_GROUP_ID);
+        jdbcClient
+            .sql("UPDATE user_group SET created_by_user_id = :ownerId WHERE id = :userGroupId")
+            .param("ownerId", OWNER_ID.value())
+            .param("userGroupId", USER_GROUP_ID.value())
+            .update();
+
+        UUID categoryId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO living_expense_category (id, user_group_id, category_name, description, is_default) VALUES (:id, :userGroupId, '食費', '食材, 外食', false)"
+            )
+            .param("id", categoryId)
+            .param("userGroupId", USER_GROUP_ID.value())
+            .update();
+        UUID groupTransactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_group_transaction (id, user_group_id, transaction_date) VALUES (:id, :userGroupId, :date)"
+            )
+            .param("id", groupTransactionId)
+            .param("userGroupId", USER_GROUP_ID.value())
+            .param("date", DATE)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_living_expense (id, daily_group_transaction_id, transaction_date, user_id, living_expense_category_id, amount, memo) VALUES (:id, :transactionId, :date, :userId, :categoryId, 3000, NULL)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", groupTransactionId)
+            .param("date", DATE)
+            .param("userId", MEMBER_ID.value())
+            .param("categoryId", categoryId)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO group_invitation (id, user_group_id, invited_user_id, invited_by_user_id) VALUES (:id, :userGroupId, :invitedUserId, :invitedByUserId)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("userGroupId", USER_GROUP_ID.value())
+            .param("invitedUserId", OTHER_USER_ID.value())
+            .param("invitedByUserId", OWNER_ID.value())
+            .update();
+        insertPersonalTransaction(MEMBER_ID);
+        insertPersonalTransaction(OTHER_USER_ID);
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account) VALUES ('123456', :userId, 'テスト銀行', 100000, true)"
+            )
+            .param("userId", OWNER_ID.value())
+            .update();
+    }
+
+    private void insertUserGroup(UserGroupId userGroupId, int memberCount) {
+        jdbcClient
+            .sql(
+                "INSERT INTO user_group (id, group_name, month_start_day, member_count) VALUES (:id, :groupName, 1, :memberCount)"
+            )
+            .param("id", userGroupId.value())
+            .param("groupName", "Group " + userGroupId)
+            .param("memberCount", memberCount)
+            .update();
+    }
+
+    private void insertUser(UserId userId, String username, UserGroupId userGroupId) {
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, user_group_id, enabled) VALUES (:id, :username, 'hash', :userGroupId, true)"
+            )
+            .param("id", userId.value())
+            .param("username", username)
+            .param("userGroupId", userGroupId.value())
+            .update();
+    }
+
+    private void insertPersonalTransaction(UserId userId) {
+        UUID transactionId = UUID.randomUUID();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_personal_transaction (id, user_id, transaction_date, income) VALUES (:id, :userId, :date, 1000)"
+            )
+            .param("id", transactionId)
+            .param("userId", userId.value())
+            .param("date", DATE)
+            .update();
+        jdbcClient
+            .sql(
+                "INSERT INTO daily_personal_expense (id, daily_personal_transaction_id, transaction_date, daily_personal_transaction_key, amount, memo) VALUES (:id, :transactionId, :date, 0, 500, '書籍')"
+            )
+            .param("id", UUID.randomUUID())
+            .param("transactionId", transactionId)
+            .param("date", DATE)
+            .update();
+    }
+
+    private Map<String, byte[]> backupAll() {
+        Map<String, byte[]> archive = new LinkedHashMap<>();
+        for (String tableName : UserGroupBackupRepository.TABLES) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            repository.copyOut(USER_GROUP_ID, tableName, outputStream);
+            archive.put(tableName, outputStream.toByteArray());
+        }
+        return archive;
+    }
+
+    @Test
+    void testCopyOutWritesOnlyRowsOfUserGroup() {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long actual = repository.copyOut(USER_GROUP_ID, "daily_personal_transaction", outputStream);
+
+        // Then
+        assertThat(actual).isEqualTo(1);
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,user_id,transaction_date,income,").contains(MEMBER_ID.toString());
+        assertThat(csv).doesNotContain(OTHER_USER_ID.toString());
+    }
+
+    @Test
+    void testCopyOutRejectsUnknownTable() {
+        // When / Then
+        assertThatThrownBy(() ->
+            repository.copyOut(USER_GROUP_ID, "authorities", new ByteArrayOutputStream())
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void deleteUserGroupWithMembers() {
+        jdbcClient.sql("DELETE FROM users WHERE user_group_id = :id").param("id", USER_GROUP_ID.value()).update();
+        jdbcClient.sql("DELETE FROM user_group WHERE id = :id").param("id", USER_GROUP_ID.value()).update();
+    }
+
+    private void stage(Map<String, byte[]> archive) {
+        repository.createStagingTables();
+        archive.forEach((tableName, csv) -> repository.copyIn(tableName, new ByteArrayInputStream(csv)));
+    }
+
+    @Test
+    void testFindConflictingTablesWhenMembersStillExist() {
+        // Given
+        Map<String, byte[]> archive = backupAll();
+        jdbcClient.sql("DELETE FROM user_group WHERE id = :id").param("id", USER_GROUP_ID.value()).update();
+        stage(archive);
+
+        // When
+        List<String> actual = repository.findConflictingTables();
+
+        // Then
+        assertThat(actual).containsExactly(
+            "users",
+            "daily_personal_transaction",
+            "daily_personal_expense",
+            "financial_account"
+        );
+    }
+
+    @Test
+    void testFindConflictingTablesWhenAccountNumberIsUsedByAnotherGroup() {
+        // Given
+        Map<String, byte[]> archive = backupAll();
+        deleteUserGroupWithMembers();
+        jdbcClient
+            .sql(
+                "INSERT INTO financial_account (id, user_id, bank_name, balance, is_main_account) VALUES ('123456', :userId, '別の銀行', 0, true)"
+            )
+            .param("userId", OTHER_USER_ID.value())
+            .update();
+        stage(archive);
+
+        // When
+        List<String> actual = repository.findConflictingTables();
+
+        // Then
+        assertThat(actual).containsExactly("financial_account");
+    }
+
+    @Test
+    void testRestoreDeletedUserGroup() {
+        // Given
+        Map<String, byte[]> archive = backupAll();
+        deleteUserGroupWithMembers();
+
+        // When
+        stage(archive);
+        List<String> conflictingTables = repository.findConflictingTables();
+        Map<String, Integer> actual = repository.restoreFromStaging();
+
+        // Then
+        assertThat(conflictingTables).isEmpty();
+        assertThat(repository.findStagedUserGroupIds()).containsExactly(USER_GROUP_ID);
+        assertThat(repository.findStagedUserIds()).containsExactlyInAnyOrder(OWNER_ID, MEMBER_ID);
+        assertThat(actual)
+            .containsEntry("user_group", 1)
+            .containsEntry("users", 2)
+            .containsEntry("group_invitation", 1)
+            .containsEntry("living_expense_category", 1)
+            .containsEntry("daily_group_transaction", 1)
+            .containsEntry("daily_living_expense", 1)
+            .containsEntry("daily_personal_transaction", 1)
+            .containsEntry("daily_personal_expense", 1)
+            .containsEntry("financial_account", 1);
+        assertThat(
+            jdbcClient
+                .sql("SELECT created_by_user_id FROM user_group WHERE id = :id")
+                .param("id", USER_GROUP_ID.value())
+                .query(String.class)
+                .single()
+        ).isEqualTo(OWNER_ID.toString());
+        assertThat(
+            jdbcClient
+                .sql("SELECT COUNT(*) FROM users WHERE user_group_id = :id")
+                .param("id", USER_GROUP_ID.value())
+                .query(Integer.class)
+                .single()
+        ).isEqualTo(2);
+        assertThat(
+            jdbcClient
+                .sql("SELECT memo IS NULL FROM daily_living_expense WHERE user_id = :userId")
+                .param("userId", MEMBER_ID.value())
+                .query(Boolean.class)
+                .single()
+        ).isTrue();
+    }
+}
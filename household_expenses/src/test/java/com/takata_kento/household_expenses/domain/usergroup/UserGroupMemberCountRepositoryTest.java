@@ -0,0 +1,117 @@
+package com.takata_kento.household_expenses.domain.usergroup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@DataJdbcTest
+@Testcontainers
+@Sql("/schema.sql")
+@Import(UserGroupMemberCountRepository.class)
+class UserGroupMemberCountRepositoryTest {
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+    private static final UserGroupId OTHER_USER_GROUP_ID = new UserGroupId(UUID.randomUUID());
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private UserGroupMemberCountRepository repository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // 所属人数 2 のグループ（実際の所属は 2 人）と所属人数 5 のグループ（実際の所属は 1 人）を挿入
+        insertUserGroup(USER_GROUP_ID, 2);
+        insertUserGroup(OTHER_USER_GROUP_ID, 5);
+        insertUser("member1", USER_GROUP_ID);
+        insertUser("member2", USER_GROUP_ID);
+        insertUser("member3", OTHER_USER_GROUP_ID);
+    }
+
+    private void insertUserGroup(UserGroupId userGroupId, int memberCount) {
+        jdbcClient
+            .sql(
+                "INSERT INTO user_group (id, group_name, month_start_day, member_count) VALUES (:id, :groupName, 1, :memberCount)"
+            )
+            .param("id", userGroupId.value())
+            .param("groupName", "Group " + userGroupId)
+            .param("memberCount", memberCount)
+            .update();
+    }
+
+    private void insertUser(String username, UserGroupId userGroupId) {
+        jdbcClient
+            .sql(
+                "INSERT INTO users (id, username, password_hash, user_group_id, enabled) VALUES (:id, :username, 'hash', :userGroupId, true)"
+            )
+            .param("id", UUID.randomUUID())
+            .param("username", username)
+            .param("userGroupId", userGroupId.value())
+            .update();
+    }
+
+    @Test
+    void testIncrementAndDecrement() {
+        // When
+        repository.increment(USER_GROUP_ID);
+        repository.increment(USER_GROUP_ID);
+        repository.decrement(USER_GROUP_ID);
+
+        // Then
+        assertThat(repository.findMemberCount(USER_GROUP_ID)).contains(3);
+    }
+
+    @Test
+    void testIncrementWhenGroupNotFound() {
+        // When / Then
+        assertThatThrownBy(() -> repository.increment(new UserGroupId(UUID.randomUUID()))).isInstanceOf(
+            IllegalStateException.class
+        );
+    }
+
+    @Test
+    void testFindMemberCountWhenGroupNotFound() {
+        // When / Then
+        assertThat(repository.findMemberCount(new UserGroupId(UUID.randomUUID()))).isEmpty();
+    }
+
+    @Test
+    void testCountMembers() {
+        // When / Then
+        assertThat(repository.countMembers(OTHER_USER_GROUP_ID)).isEqualTo(1);
+        assertThat(repository.countMembers(new UserGroupId(UUID.randomUUID()))).isZero();
+    }
+
+    @Test
+    void testFindDrifts() {
+        // When / Then
+        assertThat(repository.findDrifts()).containsExactly(new UserGroupMemberCountDrift(OTHER_USER_GROUP_ID, 5, 1));
+    }
+
+    @Test
+    void testRecalculate() {
+        // When
+        repository.recalculate(OTHER_USER_GROUP_ID);
+
+        // Then
+        assertThat(repository.findMemberCount(OTHER_USER_GROUP_ID)).contains(1);
+        assertThat(repository.findDrifts()).isEmpty();
+    }
+}
@@ -49,7 +49,7 @@ class UserGroupRepositoryTest {
                     (:id, :username, :password_hash, :enabled, :version)
                 """
             )
-            .param("id", TEST_USER_ID.toString())
+            .param("id", TEST_USER_ID.value())
             .param("username", "creator")
             .param("password_hash", "dummy_hash")
             .param("enabled", true)
@@ -65,10 +65,10 @@ class UserGroupRepositoryTest {
                     (:id, :group_name, :month_start_day, :created_by_user_id, :version)
                 """
             )
-            .param("id", TEST_USER_GROUP_ID.toString())
+            .param("id", TEST_USER_GROUP_ID.value())
             .param("group_name", "Test Group")
             .param("month_start_day", 10)
-            .param("created_by_user_id", TEST_USER_ID.toString())
+            .param("created_by_user_id", TEST_USER_ID.value())
             .param("version", 1)
             .update();
     }
@@ -89,21 +89,21 @@ class UserGroupRepositoryTest {
         // DBから直接確認
         String groupNameFromDb = jdbcClient
             .sql("SELECT group_name FROM user_group WHERE id = ?")
-            .param(savedUserGroup.id().toString())
+            .param(savedUserGroup.id().value())
             .query(String.class)
             .single();
         assertThat(groupNameFromDb).isEqualTo(groupName);
 
         Integer monthStartDayFromDb = jdbcClient
             .sql("SELECT month_start_day FROM user_group WHERE id = ?")
-            .param(savedUserGroup.id().toString())
+            .param(savedUserGroup.id().value())
             .query(Integer.class)
             .single();
         assertThat(monthStartDayFromDb).isEqualTo(monthStartDay);
 
         String createdByUserIdFromDb = jdbcClient
             .sql("SELECT created_by_user_id FROM user_group WHERE id = ?")
-            .param(savedUserGroup.id().toString())
+            .param(savedUserGroup.id().value())
             .query(String.class)
             .single();
         assertThat(createdByUserIdFromDb).isEqualTo(createdByUserId);
@@ -171,21 +171,21 @@ class UserGroupRepositoryTest {
         // DBから直接確認
         String groupNameFromDb = jdbcClient
             .sql("SELECT group_name FROM user_group WHERE id = ?")
-            .param(TEST_USER_GROUP_ID.toString())
+            .param(TEST_USER_GROUP_ID.value())
             .query(String.class)
             .single();
         assertThat(groupNameFromDb).isEqualTo(updatedGroupName);
 
         Integer monthStartDayFromDb = jdbcClient
             .sql("SELECT month_start_day FROM user_group WHERE id = ?")
-            .param(TEST_USER_GROUP_ID.toString())
+            .param(TEST_USER_GROUP_ID.value())
             .query(Integer.class)
             .single();
         assertThat(monthStartDayFromDb).isEqualTo(updatedMonthStartDay);
 
         Boolean updatedAtIsNotNull = jdbcClient
             .sql("SELECT updated_at IS NOT NULL FROM user_group WHERE id = ?")
-            .param(TEST_USER_GROUP_ID.toString())
+            .param(TEST_USER_GROUP_ID.value())
             .query(Boolean.class)
             .single();
         assertThat(updatedAtIsNotNull).isTrue();
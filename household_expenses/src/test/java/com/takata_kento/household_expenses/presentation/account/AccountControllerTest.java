@@ -1,6 +1,7 @@
 package com.takata_kento.household_expenses.presentation.account;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -13,17 +14,24 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.takata_kento.household_expenses.application.account.AccountService;
+import com.takata_kento.household_expenses.application.account.BalanceEditHistoryPage;
+import com.takata_kento.household_expenses.application.account.BalancePoint;
 import com.takata_kento.household_expenses.application.exception.ConflictException;
 import com.takata_kento.household_expenses.config.WithMockCognitoUser;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryCursor;
+import com.takata_kento.household_expenses.domain.account.BalanceEditHistoryInfo;
 import com.takata_kento.household_expenses.domain.account.FinancialAccount;
 import com.takata_kento.household_expenses.domain.valueobject.AccountName;
+import com.takata_kento.household_expenses.domain.valueobject.Balance;
+import com.takata_kento.household_expenses.domain.valueobject.BalanceEditHistoryId;
 import com.takata_kento.household_expenses.domain.valueobject.BankName;
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.FinancialAccountId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.presentation.common.GlobalExceptionHandler;
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -61,9 +69,8 @@ class AccountControllerTest {
             userId,
             new BankName("三菱UFJ銀行"),
             accountName,
-            balance,
+            new Balance(balance.amount()),
             isMainAccount,
-            new HashSet<>(),
             null
         );
     }
@@ -272,4 +279,120 @@ class AccountControllerTest {
             new Description("実残高に合わせて修正")
         );
     }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetEditHistory() throws Exception {
+        // Given
+        BalanceEditHistoryId historyId = new BalanceEditHistoryId(UUID.fromString("00000000-0000-0000-0000-0000000000e1"));
+        LocalDateTime createdAt = LocalDateTime.of(2026, 6, 23, 10, 0, 0, 123_456_000);
+        BalanceEditHistoryInfo history = new BalanceEditHistoryInfo(
+            historyId,
+            new FinancialAccountId("1234567"),
+            new Balance(100_000),
+            new Money(120_000),
+            Optional.of(new Description("実残高に合わせて修正")),
+            LocalDate.of(2026, 6, 23),
+            createdAt
+        );
+        BalanceEditHistoryCursor nextCursor = new BalanceEditHistoryCursor(createdAt, historyId);
+        when(accountService.getEditHistory(CURRENT_USER_ID, new FinancialAccountId("1234567"), Optional.empty(), 1)).thenReturn(
+            new BalanceEditHistoryPage(List.of(history), Optional.of(nextCursor))
+        );
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/accounts/1234567/history").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.histories.length()").value(1))
+            .andExpect(jsonPath("$.histories[0].id").value("00000000-0000-0000-0000-0000000000e1"))
+            .andExpect(jsonPath("$.histories[0].oldBalance").value(100_000))
+            .andExpect(jsonPath("$.histories[0].newBalance").value(120_000))
+            .andExpect(jsonPath("$.histories[0].editReason").value("実残高に合わせて修正"))
+            .andExpect(jsonPath("$.nextCursor").value(BalanceEditHistoryPageResponse.encodeCursor(nextCursor)));
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetEditHistoryWithCursor() throws Exception {
+        // Given
+        BalanceEditHistoryCursor cursor = new BalanceEditHistoryCursor(
+            LocalDateTime.of(2026, 6, 23, 10, 0, 0, 123_456_000),
+            new BalanceEditHistoryId(UUID.fromString("00000000-0000-0000-0000-0000000000e1"))
+        );
+        when(
+            accountService.getEditHistory(CURRENT_USER_ID, new FinancialAccountId("1234567"), Optional.of(cursor), 20)
+        ).thenReturn(new BalanceEditHistoryPage(List.of(), Optional.empty()));
+
+        // When / Then
+        mockMvc
+            .perform(
+                get("/api/accounts/1234567/history").param("cursor", BalanceEditHistoryPageResponse.encodeCursor(cursor))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.histories.length()").value(0))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        verify(accountService).getEditHistory(
+            CURRENT_USER_ID,
+            new FinancialAccountId("1234567"),
+            Optional.of(cursor),
+            20
+        );
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetEditHistoryWithInvalidCursorReturnsBadRequest() throws Exception {
+        // When / Then
+        mockMvc
+            .perform(get("/api/accounts/1234567/history").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+        verify(accountService, never()).getEditHistory(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetBalanceTimeline() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 6, 30);
+        when(accountService.getBalanceTimeline(CURRENT_USER_ID, new FinancialAccountId("1234567"), from, to, 100)).thenReturn(
+            List.of(new BalancePoint(from, 100_000), new BalancePoint(to, 80_000))
+        );
+
+        // When / Then
+        mockMvc
+            .perform(
+                get("/api/accounts/1234567/timeline")
+                    .param("from", "2026-01-01")
+                    .param("to", "2026-06-30")
+                    .param("points", "100")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.points.length()").value(2))
+            .andExpect(jsonPath("$.points[0].date").value("2026-01-01"))
+            .andExpect(jsonPath("$.points[0].balance").value(100_000))
+            .andExpect(jsonPath("$.points[1].date").value("2026-06-30"))
+            .andExpect(jsonPath("$.points[1].balance").value(80_000));
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetBalanceTimelineWithInvalidRangeReturnsBadRequest() throws Exception {
+        // Given
+        when(
+            accountService.getBalanceTimeline(
+                CURRENT_USER_ID,
+                new FinancialAccountId("1234567"),
+                LocalDate.of(2026, 6, 30),
+                LocalDate.of(2026, 1, 1),
+                300
+            )
+        ).thenThrow(new IllegalArgumentException("from must not be after to"));
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/accounts/1234567/timeline").param("from", "2026-06-30").param("to", "2026-01-01"))
+            .andExpect(status().isBadRequest());
+    }
 }
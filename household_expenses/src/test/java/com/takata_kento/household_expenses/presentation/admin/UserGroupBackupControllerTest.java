@@ -0,0 +1,122 @@
+package com.takata_kento.household_expenses.presentation.admin;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.takata_kento.household_expenses.application.exception.ConflictException;
+import com.takata_kento.household_expenses.application.exception.ResourceNotFoundException;
+import com.takata_kento.household_expenses.application.usergroup.UserGroupBackupService;
+import com.takata_kento.household_expenses.application.usergroup.UserGroupRestoreResult;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
+import com.takata_kento.household_expenses.presentation.common.GlobalExceptionHandler;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(UserGroupBackupController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class UserGroupBackupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserGroupBackupService userGroupBackupService;
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-0000000000ff")
+    );
+
+    @Test
+    void testBackup() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(new byte[] { 'P', 'K' });
+            return null;
+        })
+            .when(userGroupBackupService)
+            .backup(eq(USER_GROUP_ID), any());
+
+        // When
+        MvcResult result = mockMvc
+            .perform(get("/admin/user-groups/{id}/backup", USER_GROUP_ID.toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/zip"))
+            .andExpect(
+                header().string(
+                    "Content-Disposition",
+                    "attachment; filename=\"user-group-00000000-0000-0000-0000-0000000000ff.zip\""
+                )
+            )
+            .andExpect(content().bytes(new byte[] { 'P', 'K' }));
+    }
+
+    @Test
+    void testBackupWhenUserGroupNotFound() throws Exception {
+        // Given
+        doThrow(new ResourceNotFoundException("UserGroup not found"))
+            .when(userGroupBackupService)
+            .ensureUserGroupExists(USER_GROUP_ID);
+
+        // When / Then
+        mockMvc
+            .perform(get("/admin/user-groups/{id}/backup", USER_GROUP_ID.toString()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testRestore() throws Exception {
+        // Given
+        when(userGroupBackupService.restore(any(InputStream.class))).thenReturn(
+            new UserGroupRestoreResult(USER_GROUP_ID, Map.of("user_group", 1, "daily_group_transaction", 30))
+        );
+
+        // When / Then
+        mockMvc
+            .perform(post("/admin/user-groups/restore").contentType("application/zip").content(new byte[] { 'P', 'K' }))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.userGroupId").value(USER_GROUP_ID.toString()))
+            .andExpect(jsonPath("$.restoredRows.user_group").value(1))
+            .andExpect(jsonPath("$.restoredRows.daily_group_transaction").value(30));
+    }
+
+    @Test
+    void testRestoreWhenUserGroupAlreadyExists() throws Exception {
+        // Given
+        when(userGroupBackupService.restore(any(InputStream.class))).thenThrow(
+            new ConflictException("UserGroup already exists")
+        );
+
+        // When / Then
+        mockMvc
+            .perform(post("/admin/user-groups/restore").contentType("application/zip").content(new byte[] { 'P', 'K' }))
+            .andExpect(status().isConflict());
+    }
+}
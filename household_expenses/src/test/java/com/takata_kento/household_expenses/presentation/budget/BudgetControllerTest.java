@@ -6,9 +6,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.takata_kento.household_expenses.application.budget.BudgetPeriodReport;
 import com.takata_kento.household_expenses.application.budget.BudgetService;
 import com.takata_kento.household_expenses.application.budget.SetMonthlyBudgetResult;
 import com.takata_kento.household_expenses.config.WithMockCognitoUser;
+import com.takata_kento.household_expenses.domain.budget.BudgetPeriod;
 import com.takata_kento.household_expenses.domain.budget.MonthlyBudget;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
 import com.takata_kento.household_expenses.domain.valueobject.Month;
@@ -16,7 +18,9 @@ import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Year;
 import com.takata_kento.household_expenses.presentation.common.GlobalExceptionHandler;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -137,4 +141,40 @@ class BudgetControllerTest {
             .andExpect(jsonPath("$[0].month").value(5))
             .andExpect(jsonPath("$[1].month").value(6));
     }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetYearlyBudgetReport() throws Exception {
+        // Given
+        BudgetPeriodReport withBudget = new BudgetPeriodReport(
+            new BudgetPeriod(LocalDate.of(2026, 5, 25), LocalDate.of(2026, 6, 24)),
+            Optional.of(buildBudget(2026, 5, 100_000)),
+            new Money(120_000)
+        );
+        BudgetPeriodReport withoutBudget = new BudgetPeriodReport(
+            new BudgetPeriod(LocalDate.of(2026, 6, 25), LocalDate.of(2026, 7, 24)),
+            Optional.empty(),
+            new Money(5_000)
+        );
+        when(budgetService.getYearlyBudgetReport(CURRENT_USER_ID, new Year(2026))).thenReturn(
+            List.of(withBudget, withoutBudget)
+        );
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/budgets/2026/report"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.year").value(2026))
+            .andExpect(jsonPath("$.periods.length()").value(2))
+            .andExpect(jsonPath("$.periods[0].month").value(5))
+            .andExpect(jsonPath("$.periods[0].startDate").value("2026-05-25"))
+            .andExpect(jsonPath("$.periods[0].endDate").value("2026-06-24"))
+            .andExpect(jsonPath("$.periods[0].budgetAmount").value(100_000))
+            .andExpect(jsonPath("$.periods[0].spentAmount").value(120_000))
+            .andExpect(jsonPath("$.periods[0].remainingAmount").value(-20_000))
+            .andExpect(jsonPath("$.periods[0].overBudget").value(true))
+            .andExpect(jsonPath("$.periods[1].budgetAmount").isEmpty())
+            .andExpect(jsonPath("$.periods[1].remainingAmount").isEmpty())
+            .andExpect(jsonPath("$.periods[1].overBudget").value(false));
+    }
 }
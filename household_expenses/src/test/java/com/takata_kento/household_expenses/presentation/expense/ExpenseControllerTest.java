@@ -12,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.expense.ExpenseService;
+import com.takata_kento.household_expenses.application.expense.LivingExpenseCategoryBreakdown;
 import com.takata_kento.household_expenses.config.WithMockCognitoUser;
 import com.takata_kento.household_expenses.domain.expense.category.FixedExpenseCategory;
 import com.takata_kento.household_expenses.domain.expense.category.LivingExpenseCategory;
@@ -235,6 +236,55 @@ class ExpenseControllerTest {
             .andExpect(jsonPath("$[1].isDefault").value(true));
     }
 
+    @Test
+    @WithMockCognitoUser
+    void testGetLivingExpenseCategoryBreakdown() throws Exception {
+        // Given
+        LivingExpenseCategory category = new LivingExpenseCategory(
+            new LivingExpenseCategoryId(UUID.fromString(CATEGORY_ID)),
+            USER_GROUP_ID,
+            new CategoryName("食費"),
+            new Description("食材費"),
+            false,
+            1
+        );
+        when(
+            expenseService.getLivingExpenseCategoryBreakdown(
+                CURRENT_USER_ID,
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 3, 31)
+            )
+        ).thenReturn(List.of(new LivingExpenseCategoryBreakdown(category, new Money(12_000), 4)));
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/expenses/living-categories/breakdown").param("from", "2026-01-01").param("to", "2026-03-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].categoryId").value(CATEGORY_ID))
+            .andExpect(jsonPath("$[0].categoryName").value("食費"))
+            .andExpect(jsonPath("$[0].totalAmount").value(12_000))
+            .andExpect(jsonPath("$[0].count").value(4));
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testGetLivingExpenseCategoryBreakdownWhenFromIsAfterToReturnsBadRequest() throws Exception {
+        // Given
+        when(
+            expenseService.getLivingExpenseCategoryBreakdown(
+                CURRENT_USER_ID,
+                LocalDate.of(2026, 3, 31),
+                LocalDate.of(2026, 1, 1)
+            )
+        ).thenThrow(new IllegalArgumentException("from must not be after to"));
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/expenses/living-categories/breakdown").param("from", "2026-03-31").param("to", "2026-01-01"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockCognitoUser
     void testGetFixedExpenseCategories() throws Exception {
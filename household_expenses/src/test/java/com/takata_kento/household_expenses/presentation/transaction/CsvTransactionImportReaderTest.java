@@ -0,0 +1,109 @@
+package com.takata_kento.household_expenses.presentation.transaction;
+
+import static org.assertj.core.api.BDDAssertions.*;
+
+import com.takata_kento.household_expenses.application.transaction.LivingExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.PersonalExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportDay;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportError;
+import com.takata_kento.household_expenses.domain.valueobject.Description;
+import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
+import com.takata_kento.household_expenses.domain.valueobject.Money;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CsvTransactionImportReaderTest {
+
+    private static final String CATEGORY_ID = "00000000-0000-0000-0000-0000000000aa";
+
+    private CsvTransactionImportReader reader(String csv) {
+        return new CsvTransactionImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<TransactionImportDay> readAll(CsvTransactionImportReader reader) {
+        List<TransactionImportDay> days = new ArrayList<>();
+        reader.forEachRemaining(days::add);
+        return days;
+    }
+
+    @Test
+    void testReadGroupsConsecutiveLinesByTransactionDate() {
+        // Given
+        CsvTransactionImportReader reader = reader(
+            """
+            transactionDate,type,categoryId,amount,memo
+            2026-06-01,INCOME,,200000,
+            2026-06-01,LIVING_EXPENSE,%s,3000,"スーパー, 夕食"
+            2026-06-01,PERSONAL_EXPENSE,,1500,書籍
+            2026-06-02,PERSONAL_EXPENSE,,800,"昼食 ""定食"" セット"
+            """.formatted(CATEGORY_ID)
+        );
+
+        // When
+        List<TransactionImportDay> actual = readAll(reader);
+
+        // Then
+        then(actual).containsExactly(
+            new TransactionImportDay(
+                2,
+                LocalDate.of(2026, 6, 1),
+                new Money(200_000),
+                List.of(
+                    new LivingExpenseInput(
+                        new LivingExpenseCategoryId(UUID.fromString(CATEGORY_ID)),
+                        new Money(3_000),
+                        new Description("スーパー, 夕食")
+                    )
+                ),
+                List.of(new PersonalExpenseInput(new Money(1_500), new Description("書籍")))
+            ),
+            new TransactionImportDay(
+                5,
+                LocalDate.of(2026, 6, 2),
+                new Money(0),
+                List.of(),
+                List.of(new PersonalExpenseInput(new Money(800), new Description("昼食 \"定食\" セット")))
+            )
+        );
+        then(reader.errors()).isEmpty();
+    }
+
+    @Test
+    void testReadRejectsWholeDayWithInvalidLine() {
+        // Given
+        CsvTransactionImportReader reader = reader(
+            """
+            transactionDate,type,categoryId,amount,memo
+            2026-06-01,INCOME,,200000,
+            2026-06-01,PERSONAL_EXPENSE,,-1,書籍
+            2026-06-02,INCOME,,1000,
+            2026-13-01,INCOME,,1000,
+            2026-06-03,REFUND,,1000,
+            """
+        );
+
+        // When
+        List<TransactionImportDay> actual = readAll(reader);
+
+        // Then
+        then(actual).extracting(TransactionImportDay::rowNumber).containsExactly(4);
+        then(reader.errors()).extracting(TransactionImportError::rowNumber).containsExactly(3, 5, 6);
+    }
+
+    @Test
+    void testReaderRequiresHeader() {
+        // When / Then
+        thenThrownBy(() -> reader("2026-06-01,INCOME,,200000,\n")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testParseFields() {
+        // When / Then
+        then(CsvTransactionImportReader.parseFields("a,\"b,c\",\"d\"\"e\",")).containsExactly("a", "b,c", "d\"e", "");
+    }
+}
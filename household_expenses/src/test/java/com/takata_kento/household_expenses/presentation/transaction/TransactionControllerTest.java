@@ -1,21 +1,35 @@
 package com.takata_kento.household_expenses.presentation.transaction;
 
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.takata_kento.household_expenses.application.exception.GroupMembershipRequiredException;
 import com.takata_kento.household_expenses.application.transaction.DailyTransactionInfo;
 import com.takata_kento.household_expenses.application.transaction.LivingExpenseInput;
 import com.takata_kento.household_expenses.application.transaction.PersonalExpenseInput;
+import com.takata_kento.household_expenses.application.transaction.TransactionExportScope;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportDay;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportError;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportResult;
+import com.takata_kento.household_expenses.application.transaction.TransactionImportService;
 import com.takata_kento.household_expenses.application.transaction.TransactionService;
 import com.takata_kento.household_expenses.config.WithMockCognitoUser;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRow;
+import com.takata_kento.household_expenses.domain.transaction.TransactionExportRowType;
 import com.takata_kento.household_expenses.domain.transaction.group.DailyLivingExpenseInfo;
 import com.takata_kento.household_expenses.domain.transaction.personal.DailyPersonalExpenseInfo;
 import com.takata_kento.household_expenses.domain.valueobject.DailyLivingExpenseId;
@@ -23,11 +37,17 @@ import com.takata_kento.household_expenses.domain.valueobject.DailyPersonalExpen
 import com.takata_kento.household_expenses.domain.valueobject.Description;
 import com.takata_kento.household_expenses.domain.valueobject.LivingExpenseCategoryId;
 import com.takata_kento.household_expenses.domain.valueobject.Money;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.presentation.common.GlobalExceptionHandler;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -36,6 +56,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(TransactionController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -48,6 +69,9 @@ class TransactionControllerTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoBean
+    private TransactionImportService transactionImportService;
+
     private static final UserId CURRENT_USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
     private static final UUID CATEGORY_ID = UUID.fromString("00000000-0000-0000-0000-0000000000aa");
 
@@ -154,6 +178,26 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.income").value(200_000));
     }
 
+    @Test
+    @WithMockCognitoUser
+    void testGetTransactions() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2026, 6, 1);
+        LocalDate to = LocalDate.of(2026, 6, 2);
+        when(transactionService.getDailyTransactions(CURRENT_USER_ID, from, to)).thenReturn(
+            List.of(buildInfo(from), buildInfo(to))
+        );
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/transactions").param("from", "2026-06-01").param("to", "2026-06-02"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].transactionDate").value("2026-06-01"))
+            .andExpect(jsonPath("$[1].transactionDate").value("2026-06-02"))
+            .andExpect(jsonPath("$[1].budgetBalance").value(47_000));
+    }
+
     @Test
     @WithMockCognitoUser
     void testUpdateTransaction() throws Exception {
@@ -188,4 +232,208 @@ class TransactionControllerTest {
         mockMvc.perform(delete("/api/transactions/2026-06-23")).andExpect(status().isNoContent());
         verify(transactionService).deleteDailyTransaction(CURRENT_USER_ID, date);
     }
+
+    private TransactionExportScope stubExport() {
+        TransactionExportScope scope = new TransactionExportScope(
+            CURRENT_USER_ID,
+            new UserGroupId(UUID.fromString("00000000-0000-0000-0000-000000000100"))
+        );
+        when(transactionService.resolveExportScope(CURRENT_USER_ID)).thenReturn(scope);
+        List<TransactionExportRow> rows = List.of(
+            new TransactionExportRow(
+                TransactionExportRowType.INCOME,
+                LocalDate.of(2026, 6, 1),
+                CURRENT_USER_ID,
+                Optional.empty(),
+                new Money(200_000),
+                Optional.empty()
+            ),
+            new TransactionExportRow(
+                TransactionExportRowType.LIVING_EXPENSE,
+                LocalDate.of(2026, 6, 1),
+                CURRENT_USER_ID,
+                Optional.of(new LivingExpenseCategoryId(CATEGORY_ID)),
+                new Money(3000),
+                Optional.of(new Description("スーパー, 夕食"))
+            )
+        );
+        doAnswer(invocation -> {
+            Consumer<TransactionExportRow> action = invocation.getArgument(1);
+            rows.forEach(action);
+            return null;
+        })
+            .when(transactionService)
+            .exportTransactions(eq(scope), any());
+        return scope;
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testExportTransactionsAsNdjson() throws Exception {
+        // Given
+        stubExport();
+
+        // When
+        MvcResult result = mockMvc
+            .perform(get("/api/transactions/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions.ndjson\""))
+            .andExpect(
+                content().bytes(
+                    """
+                    {"type":"INCOME","transactionDate":"2026-06-01","userId":"00000000-0000-0000-0000-000000000001","categoryId":null,"amount":200000,"memo":null}
+                    {"type":"LIVING_EXPENSE","transactionDate":"2026-06-01","userId":"00000000-0000-0000-0000-000000000001","categoryId":"00000000-0000-0000-0000-0000000000aa","amount":3000,"memo":"スーパー, 夕食"}
+                    """.getBytes(StandardCharsets.UTF_8)
+                )
+            );
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testExportTransactionsAsCsv() throws Exception {
+        // Given
+        stubExport();
+
+        // When
+        MvcResult result = mockMvc
+            .perform(get("/api/transactions/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions.csv\""))
+            .andExpect(
+                content().string(
+                    """
+                    type,transactionDate,userId,categoryId,amount,memo
+                    INCOME,2026-06-01,00000000-0000-0000-0000-000000000001,,200000,
+                    LIVING_EXPENSE,2026-06-01,00000000-0000-0000-0000-000000000001,00000000-0000-0000-0000-0000000000aa,3000,"スーパー, 夕食"
+                    """
+                )
+            );
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testExportTransactionsWithUnsupportedFormat() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/transactions/export").param("format", "xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testExportTransactionsWhenUserHasNoGroup() throws Exception {
+        // Given
+        when(transactionService.resolveExportScope(CURRENT_USER_ID)).thenThrow(
+            new GroupMembershipRequiredException("User does not belong to any group")
+        );
+
+        // When / Then
+        mockMvc.perform(get("/api/transactions/export")).andExpect(status().isBadRequest());
+    }
+
+    private static final UserGroupId USER_GROUP_ID = new UserGroupId(
+        UUID.fromString("00000000-0000-0000-0000-000000000100")
+    );
+
+    /**
+     * 取り込み処理のモックが受け取った日を読み込み、エラーなしで取り込んだ結果を返すようにする。
+     */
+    private List<TransactionImportDay> stubImport() {
+        when(transactionImportService.resolveImportGroup(CURRENT_USER_ID)).thenReturn(USER_GROUP_ID);
+        List<TransactionImportDay> received = new ArrayList<>();
+        when(transactionImportService.importTransactions(eq(CURRENT_USER_ID), eq(USER_GROUP_ID), any())).thenAnswer(
+            invocation -> {
+                Iterator<TransactionImportDay> days = invocation.getArgument(2);
+                days.forEachRemaining(received::add);
+                return new TransactionImportResult(
+                    received.size(),
+                    List.of(new TransactionImportError(2, "DailyPersonalTransaction already exists for 2026-06-02"))
+                );
+            }
+        );
+        return received;
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testImportTransactionsFromJson() throws Exception {
+        // Given
+        List<TransactionImportDay> received = stubImport();
+        String body =
+            """
+            [
+              {
+                "transactionDate": "2026-06-01",
+                "income": 200000,
+                "livingExpenses": [ { "categoryId": "00000000-0000-0000-0000-0000000000aa", "amount": 3000, "memo": "スーパー" } ],
+                "personalExpenses": [ { "amount": 1500, "memo": "書籍" } ]
+              },
+              { "transactionDate": "2026-06-02", "income": 0 },
+              { "transactionDate": "2026-06-03", "income": -1 }
+            ]
+            """;
+
+        // When / Then
+        mockMvc
+            .perform(post("/api/transactions/import").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importedCount").value(2))
+            .andExpect(jsonPath("$.errors[0].row").value(2))
+            .andExpect(jsonPath("$.errors[1].row").value(3))
+            .andExpect(jsonPath("$.errors[1].message").value("Money must not be negative value"));
+        then(received).extracting(TransactionImportDay::transactionDate).containsExactly(
+            LocalDate.of(2026, 6, 1),
+            LocalDate.of(2026, 6, 2)
+        );
+        then(received.getFirst().livingExpenses()).hasSize(1);
+        then(received.getFirst().personalExpenses()).hasSize(1);
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testImportTransactionsFromCsv() throws Exception {
+        // Given
+        List<TransactionImportDay> received = stubImport();
+        String body =
+            """
+            transactionDate,type,categoryId,amount,memo
+            2026-06-01,INCOME,,200000,
+            2026-06-01,LIVING_EXPENSE,00000000-0000-0000-0000-0000000000aa,3000,スーパー
+            """;
+
+        // When / Then
+        mockMvc
+            .perform(
+                post("/api/transactions/import")
+                    .contentType("text/csv")
+                    .content(body.getBytes(StandardCharsets.UTF_8))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importedCount").value(1));
+        then(received).extracting(TransactionImportDay::income).containsExactly(new Money(200_000));
+    }
+
+    @Test
+    @WithMockCognitoUser
+    void testImportTransactionsWithNonArrayJson() throws Exception {
+        // Given
+        when(transactionImportService.resolveImportGroup(CURRENT_USER_ID)).thenReturn(USER_GROUP_ID);
+
+        // When / Then
+        mockMvc
+            .perform(post("/api/transactions/import").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isBadRequest());
+    }
 }
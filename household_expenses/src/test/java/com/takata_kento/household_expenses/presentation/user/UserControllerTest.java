@@ -2,14 +2,20 @@ package com.takata_kento.household_expenses.presentation.user;
 
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.takata_kento.household_expenses.application.user.UserService;
 import com.takata_kento.household_expenses.config.WithMockCognitoUser;
+import com.takata_kento.household_expenses.domain.user.GroupInvitationInfo;
 import com.takata_kento.household_expenses.domain.valueobject.GroupInvitationId;
+import com.takata_kento.household_expenses.domain.valueobject.UserGroupId;
 import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.presentation.common.GlobalExceptionHandler;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +39,27 @@ class UserControllerTest {
     private static final UserId CURRENT_USER_ID = new UserId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
     private static final String INVITATION_ID = "00000000-0000-0000-0000-0000000000e1";
 
+    @Test
+    @WithMockCognitoUser
+    void testGetPendingInvitations() throws Exception {
+        // Given
+        GroupInvitationInfo invitation = new GroupInvitationInfo(
+            new GroupInvitationId(UUID.fromString(INVITATION_ID)),
+            new UserGroupId(UUID.fromString("00000000-0000-0000-0000-000000000010")),
+            new UserId(UUID.fromString("00000000-0000-0000-0000-000000000002"))
+        );
+        when(userService.getPendingInvitations(CURRENT_USER_ID)).thenReturn(List.of(invitation));
+
+        // When / Then
+        mockMvc
+            .perform(get("/api/users/invitations"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].invitationId").value(INVITATION_ID))
+            .andExpect(jsonPath("$[0].userGroupId").value("00000000-0000-0000-0000-000000000010"))
+            .andExpect(jsonPath("$[0].invitedByUserId").value("00000000-0000-0000-0000-000000000002"));
+    }
+
     @Test
     @WithMockCognitoUser
     void testAcceptGroupInvitation() throws Exception {
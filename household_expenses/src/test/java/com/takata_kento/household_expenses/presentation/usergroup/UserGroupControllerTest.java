@@ -21,7 +21,6 @@ import com.takata_kento.household_expenses.domain.valueobject.UserId;
 import com.takata_kento.household_expenses.domain.valueobject.Username;
 import com.takata_kento.household_expenses.presentation.common.GlobalExceptionHandler;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -103,14 +102,12 @@ class UserGroupControllerTest {
             CURRENT_USER_ID,
             new Username("takata"),
             Optional.of(USER_GROUP_ID),
-            Set.of(),
             null
         );
         User member2 = new User(
             MEMBER_USER_ID,
             new Username("partner"),
             Optional.of(USER_GROUP_ID),
-            Set.of(),
             null
         );
         when(userGroupService.getGroupMembers(CURRENT_USER_ID)).thenReturn(java.util.List.of(member1, member2));
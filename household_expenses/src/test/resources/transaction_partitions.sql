@@ -0,0 +1,96 @@
+-- テスト用の日次収支パーティション作成関数（database/init.sql と同じ定義）
+-- 関数本体に ; を含むため、schema.sql とは別に1文として実行する
+
+CREATE OR REPLACE FUNCTION create_transaction_partitions(partition_year INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    table_pair TEXT[];
+    parent_table TEXT;
+    year_start DATE := make_date(partition_year, 1, 1);
+    year_end DATE := make_date(partition_year + 1, 1, 1);
+    move_header BOOLEAN;
+    move_expense BOOLEAN;
+    moved_rows BIGINT;
+    created INTEGER := 0;
+BEGIN
+    -- 複数のインスタンスから同時に呼ばれても同じパーティションを二重に作成しない
+    PERFORM pg_advisory_xact_lock(hashtext('create_transaction_partitions'));
+    -- ヘッダと、ヘッダを外部キーで参照する明細の組ごとに、ヘッダを先に作成する
+    FOREACH table_pair SLICE 1 IN ARRAY ARRAY[
+        ['daily_group_transaction', 'daily_living_expense'],
+        ['daily_personal_transaction', 'daily_personal_expense']
+    ] LOOP
+        -- DEFAULT パーティションに同じ年の行があるとパーティションを作成できないため、作成の間だけ
+        -- 一時テーブルへ退避し、作成後に親テーブルへ戻して新しいパーティションへ入れる
+        EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_date >= %L AND transaction_date < %L)',
+            table_pair[1] || '_default',
+            year_start,
+            year_end
+        ) INTO move_header;
+        move_header := move_header AND to_regclass(table_pair[1] || '_' || partition_year) IS NULL;
+        EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_date >= %L AND transaction_date < %L)',
+            table_pair[2] || '_default',
+            year_start,
+            year_end
+        ) INTO move_expense;
+        move_expense := move_expense AND to_regclass(table_pair[2] || '_' || partition_year) IS NULL;
+        -- ヘッダを消すと ON DELETE CASCADE で明細も消えるため、ヘッダを退避するときはその年の明細も退避する
+        IF move_header OR move_expense THEN
+            EXECUTE format(
+                'CREATE TEMP TABLE moving_expense ON COMMIT DROP AS SELECT * FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[2],
+                year_start,
+                year_end
+            );
+            EXECUTE format(
+                'DELETE FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[2],
+                year_start,
+                year_end
+            );
+        END IF;
+        IF move_header THEN
+            EXECUTE format(
+                'CREATE TEMP TABLE moving_header ON COMMIT DROP AS SELECT * FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[1],
+                year_start,
+                year_end
+            );
+            EXECUTE format(
+                'DELETE FROM %I WHERE transaction_date >= %L AND transaction_date < %L',
+                table_pair[1],
+                year_start,
+                year_end
+            );
+        END IF;
+
+        FOREACH parent_table IN ARRAY table_pair LOOP
+            CONTINUE WHEN to_regclass(parent_table || '_' || partition_year) IS NOT NULL;
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent_table || '_' || partition_year,
+                parent_table,
+                year_start,
+                year_end
+            );
+            created := created + 1;
+        END LOOP;
+
+        IF move_header THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM moving_header', table_pair[1]);
+            GET DIAGNOSTICS moved_rows = ROW_COUNT;
+            RAISE NOTICE 'moved % rows of % from % to %', moved_rows, partition_year, table_pair[1] || '_default', table_pair[1] || '_' || partition_year;
+            DROP TABLE moving_header;
+        END IF;
+        IF move_header OR move_expense THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM moving_expense', table_pair[2]);
+            GET DIAGNOSTICS moved_rows = ROW_COUNT;
+            RAISE NOTICE 'moved % rows of % to %', moved_rows, partition_year, table_pair[2] || '_' || partition_year;
+            DROP TABLE moving_expense;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ language 'plpgsql';